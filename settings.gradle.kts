@@ -4,6 +4,7 @@ include("yrs4j-bindings")
 include("yrs4j-native-linux")
 include("yrs4j-native-windows")
 include("yrs4j-native-mac")
+include("yrs4j-foreign")
 include("yrs4j-examples")
 include("yrs4j-tests")
 include("yrs4j-websocket")
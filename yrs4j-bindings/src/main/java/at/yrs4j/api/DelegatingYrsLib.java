@@ -0,0 +1,1118 @@
+package at.yrs4j.api;
+
+import at.yrs4j.yrslib.*;
+import com.sun.jna.Pointer;
+import com.sun.jna.ptr.DoubleByReference;
+import com.sun.jna.ptr.IntByReference;
+import com.sun.jna.ptr.LongByReference;
+
+import java.nio.IntBuffer;
+import java.util.Objects;
+
+/**
+ * {@link YrsLibNativeInterface} forwarding every call to another instance, usually the JNA library proxy.
+ * <br>
+ * Alternative backends extend this class and override only the functions they bind on their own,
+ * all other functions keep going through the delegate.
+ */
+public class DelegatingYrsLib implements YrsLibNativeInterface {
+    protected final YrsLibNativeInterface delegate;
+
+    public DelegatingYrsLib(YrsLibNativeInterface delegate) {
+        this.delegate = Objects.requireNonNull(delegate);
+    }
+
+    public YrsLibNativeInterface getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public YrsOptions.ByValue yoptions() {
+        return delegate.yoptions();
+    }
+
+    @Override
+    public void ydoc_destroy(YrsDoc value) {
+        delegate.ydoc_destroy(value);
+    }
+
+    @Override
+    public void ymap_entry_destroy(YrsMapEntry value) {
+        delegate.ymap_entry_destroy(value);
+    }
+
+    @Override
+    public void yxmlattr_destroy(YrsXmlAttr attr) {
+        delegate.yxmlattr_destroy(attr);
+    }
+
+    @Override
+    public void ystring_destroy(Pointer str) {
+        delegate.ystring_destroy(str);
+    }
+
+    @Override
+    public void ybinary_destroy(Pointer ptr, int len) {
+        delegate.ybinary_destroy(ptr, len);
+    }
+
+    @Override
+    public YrsDoc ydoc_new() {
+        return delegate.ydoc_new();
+    }
+
+    @Override
+    public YrsDoc ydoc_clone(YrsDoc doc) {
+        return delegate.ydoc_clone(doc);
+    }
+
+    @Override
+    public YrsDoc ydoc_new_with_options(YrsOptions.ByValue options) {
+        return delegate.ydoc_new_with_options(options);
+    }
+
+    @Override
+    public long ydoc_id(YrsDoc doc) {
+        return delegate.ydoc_id(doc);
+    }
+
+    @Override
+    public Pointer ydoc_guid(YrsDoc doc) {
+        return delegate.ydoc_guid(doc);
+    }
+
+    @Override
+    public Pointer ydoc_collection_id(YrsDoc doc) {
+        return delegate.ydoc_collection_id(doc);
+    }
+
+    @Override
+    public byte ydoc_should_load(YrsDoc doc) {
+        return delegate.ydoc_should_load(doc);
+    }
+
+    @Override
+    public byte ydoc_auto_load(YrsDoc doc) {
+        return delegate.ydoc_auto_load(doc);
+    }
+
+    @Override
+    public YrsSubscription ydoc_observe_updates_v1(YrsDoc doc, Pointer state, ydoc_observe_updates_v1_cb_callback cb) {
+        return delegate.ydoc_observe_updates_v1(doc, state, cb);
+    }
+
+    @Override
+    public YrsSubscription ydoc_observe_updates_v2(YrsDoc doc, Pointer state, ydoc_observe_updates_v2_cb_callback cb) {
+        return delegate.ydoc_observe_updates_v2(doc, state, cb);
+    }
+
+    @Override
+    public YrsSubscription ydoc_observe_after_transaction(YrsDoc doc, Pointer state, ydoc_observe_after_transaction_cb_callback cb) {
+        return delegate.ydoc_observe_after_transaction(doc, state, cb);
+    }
+
+    @Override
+    public YrsSubscription ydoc_observe_subdocs(YrsDoc doc, Pointer state, ydoc_observe_subdocs_cb_callback cb) {
+        return delegate.ydoc_observe_subdocs(doc, state, cb);
+    }
+
+    @Override
+    public YrsSubscription ydoc_observe_clear(YrsDoc doc, Pointer state, ydoc_observe_clear_cb_callback cb) {
+        return delegate.ydoc_observe_clear(doc, state, cb);
+    }
+
+    @Override
+    public void ydoc_load(YrsDoc doc, YrsTransaction parent_txn) {
+        delegate.ydoc_load(doc, parent_txn);
+    }
+
+    @Override
+    public void ydoc_clear(YrsDoc doc, YrsTransaction parent_txn) {
+        delegate.ydoc_clear(doc, parent_txn);
+    }
+
+    @Override
+    public YrsTransaction ydoc_read_transaction(YrsDoc doc) {
+        return delegate.ydoc_read_transaction(doc);
+    }
+
+    @Override
+    public YrsTransaction ydoc_write_transaction(YrsDoc doc, int origin_len, String origin) {
+        return delegate.ydoc_write_transaction(doc, origin_len, origin);
+    }
+
+    @Override
+    public YrsDoc.ByReference[] ytransaction_subdocs(YrsTransaction txn, IntBuffer len) {
+        return delegate.ytransaction_subdocs(txn, len);
+    }
+
+    @Override
+    public YrsDoc.ByReference[] ytransaction_subdocs(YrsTransaction txn, IntByReference len) {
+        return delegate.ytransaction_subdocs(txn, len);
+    }
+
+    @Override
+    public void ytransaction_commit(YrsTransaction txn) {
+        delegate.ytransaction_commit(txn);
+    }
+
+    @Override
+    public byte ytransaction_writeable(YrsTransaction txn) {
+        return delegate.ytransaction_writeable(txn);
+    }
+
+    @Override
+    public YrsBranch ytype_get(YrsTransaction txn, String name) {
+        return delegate.ytype_get(txn, name);
+    }
+
+    @Override
+    public YrsBranch ytype_get(YrsTransaction txn, Pointer name) {
+        return delegate.ytype_get(txn, name);
+    }
+
+    @Override
+    public YrsBranch ytext(YrsDoc doc, String name) {
+        return delegate.ytext(doc, name);
+    }
+
+    @Override
+    public YrsBranch yarray(YrsDoc doc, String name) {
+        return delegate.yarray(doc, name);
+    }
+
+    @Override
+    public YrsBranch ymap(YrsDoc doc, String name) {
+        return delegate.ymap(doc, name);
+    }
+
+    @Override
+    public YrsBranch yxmlfragment(YrsDoc doc, String name) {
+        return delegate.yxmlfragment(doc, name);
+    }
+
+    @Override
+    public Pointer ytransaction_state_vector_v1(YrsTransaction txn, IntBuffer len) {
+        return delegate.ytransaction_state_vector_v1(txn, len);
+    }
+
+    @Override
+    public Pointer ytransaction_state_vector_v1(YrsTransaction txn, IntByReference len) {
+        return delegate.ytransaction_state_vector_v1(txn, len);
+    }
+
+    @Override
+    public Pointer ytransaction_state_diff_v1(YrsTransaction txn, String sv, int sv_len, IntBuffer len) {
+        return delegate.ytransaction_state_diff_v1(txn, sv, sv_len, len);
+    }
+
+    @Override
+    public Pointer ytransaction_state_diff_v1(YrsTransaction txn, byte[] sv, int sv_len, IntByReference len) {
+        return delegate.ytransaction_state_diff_v1(txn, sv, sv_len, len);
+    }
+
+    @Override
+    public Pointer ytransaction_state_diff_v1(YrsTransaction txn, Pointer sv, int sv_len, IntByReference len) {
+        return delegate.ytransaction_state_diff_v1(txn, sv, sv_len, len);
+    }
+
+    @Override
+    public Pointer ytransaction_state_diff_v2(YrsTransaction txn, String sv, int sv_len, IntBuffer len) {
+        return delegate.ytransaction_state_diff_v2(txn, sv, sv_len, len);
+    }
+
+    @Override
+    public Pointer ytransaction_state_diff_v2(YrsTransaction txn, byte[] sv, int sv_len, IntByReference len) {
+        return delegate.ytransaction_state_diff_v2(txn, sv, sv_len, len);
+    }
+
+    @Override
+    public Pointer ytransaction_state_diff_v2(YrsTransaction txn, Pointer sv, int sv_len, IntByReference len) {
+        return delegate.ytransaction_state_diff_v2(txn, sv, sv_len, len);
+    }
+
+    @Override
+    public Pointer ytransaction_snapshot(YrsTransaction txn, IntBuffer len) {
+        return delegate.ytransaction_snapshot(txn, len);
+    }
+
+    @Override
+    public Pointer ytransaction_snapshot(YrsTransaction txn, IntByReference len) {
+        return delegate.ytransaction_snapshot(txn, len);
+    }
+
+    @Override
+    public Pointer ytransaction_encode_state_from_snapshot_v1(YrsTransaction txn, String snapshot, int snapshot_len, IntBuffer len) {
+        return delegate.ytransaction_encode_state_from_snapshot_v1(txn, snapshot, snapshot_len, len);
+    }
+
+    @Override
+    public Pointer ytransaction_encode_state_from_snapshot_v1(YrsTransaction txn, byte[] snapshot, int snapshot_len, IntByReference len) {
+        return delegate.ytransaction_encode_state_from_snapshot_v1(txn, snapshot, snapshot_len, len);
+    }
+
+    @Override
+    public Pointer ytransaction_encode_state_from_snapshot_v2(YrsTransaction txn, String snapshot, int snapshot_len, IntBuffer len) {
+        return delegate.ytransaction_encode_state_from_snapshot_v2(txn, snapshot, snapshot_len, len);
+    }
+
+    @Override
+    public Pointer ytransaction_encode_state_from_snapshot_v2(YrsTransaction txn, byte[] snapshot, int snapshot_len, IntByReference len) {
+        return delegate.ytransaction_encode_state_from_snapshot_v2(txn, snapshot, snapshot_len, len);
+    }
+
+    @Override
+    public YrsDeleteSet ytransaction_pending_ds(YrsTransaction txn) {
+        return delegate.ytransaction_pending_ds(txn);
+    }
+
+    @Override
+    public void ydelete_set_destroy(YrsDeleteSet ds) {
+        delegate.ydelete_set_destroy(ds);
+    }
+
+    @Override
+    public YrsPendingUpdate ytransaction_pending_update(YrsTransaction txn) {
+        return delegate.ytransaction_pending_update(txn);
+    }
+
+    @Override
+    public void ypending_update_destroy(YrsPendingUpdate update) {
+        delegate.ypending_update_destroy(update);
+    }
+
+    @Override
+    public Pointer yupdate_debug_v1(Pointer update, int update_len) {
+        return delegate.yupdate_debug_v1(update, update_len);
+    }
+
+    @Override
+    public Pointer yupdate_debug_v2(Pointer update, int update_len) {
+        return delegate.yupdate_debug_v2(update, update_len);
+    }
+
+    @Override
+    public byte ytransaction_apply(YrsTransaction txn, byte[] diff, int diff_len) {
+        return delegate.ytransaction_apply(txn, diff, diff_len);
+    }
+
+    @Override
+    public byte ytransaction_apply(YrsTransaction txn, Pointer diff, int diff_len) {
+        return delegate.ytransaction_apply(txn, diff, diff_len);
+    }
+
+    @Override
+    public byte ytransaction_apply_v2(YrsTransaction txn, byte[] diff, int diff_len) {
+        return delegate.ytransaction_apply_v2(txn, diff, diff_len);
+    }
+
+    @Override
+    public byte ytransaction_apply_v2(YrsTransaction txn, Pointer diff, int diff_len) {
+        return delegate.ytransaction_apply_v2(txn, diff, diff_len);
+    }
+
+    @Override
+    public int ytext_len(YrsBranch txt, YrsTransaction txn) {
+        return delegate.ytext_len(txt, txn);
+    }
+
+    @Override
+    public Pointer ytext_string(YrsBranch txt, YrsTransaction txn) {
+        return delegate.ytext_string(txt, txn);
+    }
+
+    @Override
+    public void ytext_insert(YrsBranch txt, YrsTransaction txn, int index, String value, YrsInput attrs) {
+        delegate.ytext_insert(txt, txn, index, value, attrs);
+    }
+
+    @Override
+    public void ytext_insert(YrsBranch txt, YrsTransaction txn, int index, Pointer value, YrsInput attrs) {
+        delegate.ytext_insert(txt, txn, index, value, attrs);
+    }
+
+    @Override
+    public void ytext_format(YrsBranch txt, YrsTransaction txn, int index, int len, YrsInput attrs) {
+        delegate.ytext_format(txt, txn, index, len, attrs);
+    }
+
+    @Override
+    public void ytext_insert_embed(YrsBranch txt, YrsTransaction txn, int index, YrsInput content, YrsInput attrs) {
+        delegate.ytext_insert_embed(txt, txn, index, content, attrs);
+    }
+
+    @Override
+    public void ytext_remove_range(YrsBranch txt, YrsTransaction txn, int index, int length) {
+        delegate.ytext_remove_range(txt, txn, index, length);
+    }
+
+    @Override
+    public int yarray_len(YrsBranch array) {
+        return delegate.yarray_len(array);
+    }
+
+    @Override
+    public YrsOutput yarray_get(YrsBranch array, YrsTransaction txn, int index) {
+        return delegate.yarray_get(array, txn, index);
+    }
+
+    @Override
+    public void yarray_insert_range(YrsBranch array, YrsTransaction txn, int index, YrsInput[] items, int items_len) {
+        delegate.yarray_insert_range(array, txn, index, items, items_len);
+    }
+
+    @Override
+    public void yarray_insert_range(YrsBranch array, YrsTransaction txn, int index, Pointer items, int items_len) {
+        delegate.yarray_insert_range(array, txn, index, items, items_len);
+    }
+
+    @Override
+    public void yarray_remove_range(YrsBranch array, YrsTransaction txn, int index, int len) {
+        delegate.yarray_remove_range(array, txn, index, len);
+    }
+
+    @Override
+    public void yarray_move(YrsBranch array, YrsTransaction txn, int source, int target) {
+        delegate.yarray_move(array, txn, source, target);
+    }
+
+    @Override
+    public YrsArrayIter yarray_iter(YrsBranch array, YrsTransaction txn) {
+        return delegate.yarray_iter(array, txn);
+    }
+
+    @Override
+    public void yarray_iter_destroy(YrsArrayIter iter) {
+        delegate.yarray_iter_destroy(iter);
+    }
+
+    @Override
+    public YrsOutput yarray_iter_next(YrsArrayIter iterator) {
+        return delegate.yarray_iter_next(iterator);
+    }
+
+    @Override
+    public YrsMapIter ymap_iter(YrsBranch map, YrsTransaction txn) {
+        return delegate.ymap_iter(map, txn);
+    }
+
+    @Override
+    public void ymap_iter_destroy(YrsMapIter iter) {
+        delegate.ymap_iter_destroy(iter);
+    }
+
+    @Override
+    public YrsMapEntry ymap_iter_next(YrsMapIter iter) {
+        return delegate.ymap_iter_next(iter);
+    }
+
+    @Override
+    public int ymap_len(YrsBranch map, YrsTransaction txn) {
+        return delegate.ymap_len(map, txn);
+    }
+
+    @Override
+    public void ymap_insert(YrsBranch map, YrsTransaction txn, String key, YrsInput value) {
+        delegate.ymap_insert(map, txn, key, value);
+    }
+
+    @Override
+    public void ymap_insert(YrsBranch map, YrsTransaction txn, Pointer key, YrsInput value) {
+        delegate.ymap_insert(map, txn, key, value);
+    }
+
+    @Override
+    public void ymap_insert(YrsBranch map, YrsTransaction txn, Pointer key, Pointer value) {
+        delegate.ymap_insert(map, txn, key, value);
+    }
+
+    @Override
+    public byte ymap_remove(YrsBranch map, YrsTransaction txn, String key) {
+        return delegate.ymap_remove(map, txn, key);
+    }
+
+    @Override
+    public byte ymap_remove(YrsBranch map, YrsTransaction txn, Pointer key) {
+        return delegate.ymap_remove(map, txn, key);
+    }
+
+    @Override
+    public YrsOutput ymap_get(YrsBranch map, YrsTransaction txn, String key) {
+        return delegate.ymap_get(map, txn, key);
+    }
+
+    @Override
+    public YrsOutput ymap_get(YrsBranch map, YrsTransaction txn, Pointer key) {
+        return delegate.ymap_get(map, txn, key);
+    }
+
+    @Override
+    public void ymap_remove_all(YrsBranch map, YrsTransaction txn) {
+        delegate.ymap_remove_all(map, txn);
+    }
+
+    @Override
+    public Pointer yxmlelem_tag(YrsBranch xml) {
+        return delegate.yxmlelem_tag(xml);
+    }
+
+    @Override
+    public Pointer yxmlelem_string(YrsBranch xml, YrsTransaction txn) {
+        return delegate.yxmlelem_string(xml, txn);
+    }
+
+    @Override
+    public void yxmlelem_insert_attr(YrsBranch xml, YrsTransaction txn, String attr_name, String attr_value) {
+        delegate.yxmlelem_insert_attr(xml, txn, attr_name, attr_value);
+    }
+
+    @Override
+    public void yxmlelem_insert_attr(YrsBranch xml, YrsTransaction txn, Pointer attr_name, String attr_value) {
+        delegate.yxmlelem_insert_attr(xml, txn, attr_name, attr_value);
+    }
+
+    @Override
+    public void yxmlelem_remove_attr(YrsBranch xml, YrsTransaction txn, String attr_name) {
+        delegate.yxmlelem_remove_attr(xml, txn, attr_name);
+    }
+
+    @Override
+    public void yxmlelem_remove_attr(YrsBranch xml, YrsTransaction txn, Pointer attr_name) {
+        delegate.yxmlelem_remove_attr(xml, txn, attr_name);
+    }
+
+    @Override
+    public Pointer yxmlelem_get_attr(YrsBranch xml, YrsTransaction txn, String attr_name) {
+        return delegate.yxmlelem_get_attr(xml, txn, attr_name);
+    }
+
+    @Override
+    public Pointer yxmlelem_get_attr(YrsBranch xml, YrsTransaction txn, Pointer attr_name) {
+        return delegate.yxmlelem_get_attr(xml, txn, attr_name);
+    }
+
+    @Override
+    public YrsXmlAttrIter yxmlelem_attr_iter(YrsBranch xml, YrsTransaction txn) {
+        return delegate.yxmlelem_attr_iter(xml, txn);
+    }
+
+    @Override
+    public YrsXmlAttrIter yxmltext_attr_iter(YrsBranch xml, YrsTransaction txn) {
+        return delegate.yxmltext_attr_iter(xml, txn);
+    }
+
+    @Override
+    public void yxmlattr_iter_destroy(YrsXmlAttrIter iterator) {
+        delegate.yxmlattr_iter_destroy(iterator);
+    }
+
+    @Override
+    public YrsXmlAttr yxmlattr_iter_next(YrsXmlAttrIter iterator) {
+        return delegate.yxmlattr_iter_next(iterator);
+    }
+
+    @Override
+    public YrsOutput yxml_next_sibling(YrsBranch xml, YrsTransaction txn) {
+        return delegate.yxml_next_sibling(xml, txn);
+    }
+
+    @Override
+    public YrsOutput yxml_prev_sibling(YrsBranch xml, YrsTransaction txn) {
+        return delegate.yxml_prev_sibling(xml, txn);
+    }
+
+    @Override
+    public YrsBranch yxmlelem_parent(YrsBranch xml) {
+        return delegate.yxmlelem_parent(xml);
+    }
+
+    @Override
+    public int yxmlelem_child_len(YrsBranch xml, YrsTransaction txn) {
+        return delegate.yxmlelem_child_len(xml, txn);
+    }
+
+    @Override
+    public YrsOutput yxmlelem_first_child(YrsBranch xml) {
+        return delegate.yxmlelem_first_child(xml);
+    }
+
+    @Override
+    public YrsXmlTreeWalker yxmlelem_tree_walker(YrsBranch xml, YrsTransaction txn) {
+        return delegate.yxmlelem_tree_walker(xml, txn);
+    }
+
+    @Override
+    public void yxmlelem_tree_walker_destroy(YrsXmlTreeWalker iter) {
+        delegate.yxmlelem_tree_walker_destroy(iter);
+    }
+
+    @Override
+    public YrsOutput yxmlelem_tree_walker_next(YrsXmlTreeWalker iterator) {
+        return delegate.yxmlelem_tree_walker_next(iterator);
+    }
+
+    @Override
+    public YrsBranch yxmlelem_insert_elem(YrsBranch xml, YrsTransaction txn, int index, String name) {
+        return delegate.yxmlelem_insert_elem(xml, txn, index, name);
+    }
+
+    @Override
+    public YrsBranch yxmlelem_insert_text(YrsBranch xml, YrsTransaction txn, int index) {
+        return delegate.yxmlelem_insert_text(xml, txn, index);
+    }
+
+    @Override
+    public void yxmlelem_remove_range(YrsBranch xml, YrsTransaction txn, int index, int len) {
+        delegate.yxmlelem_remove_range(xml, txn, index, len);
+    }
+
+    @Override
+    public YrsOutput yxmlelem_get(YrsBranch xml, YrsTransaction txn, int index) {
+        return delegate.yxmlelem_get(xml, txn, index);
+    }
+
+    @Override
+    public int yxmltext_len(YrsBranch txt, YrsTransaction txn) {
+        return delegate.yxmltext_len(txt, txn);
+    }
+
+    @Override
+    public Pointer yxmltext_string(YrsBranch txt, YrsTransaction txn) {
+        return delegate.yxmltext_string(txt, txn);
+    }
+
+    @Override
+    public void yxmltext_insert(YrsBranch txt, YrsTransaction txn, int index, String str, YrsInput attrs) {
+        delegate.yxmltext_insert(txt, txn, index, str, attrs);
+    }
+
+    @Override
+    public void yxmltext_insert_embed(YrsBranch txt, YrsTransaction txn, int index, YrsInput content, YrsInput attrs) {
+        delegate.yxmltext_insert_embed(txt, txn, index, content, attrs);
+    }
+
+    @Override
+    public void yxmltext_format(YrsBranch txt, YrsTransaction txn, int index, int len, YrsInput attrs) {
+        delegate.yxmltext_format(txt, txn, index, len, attrs);
+    }
+
+    @Override
+    public void yxmltext_remove_range(YrsBranch txt, YrsTransaction txn, int idx, int len) {
+        delegate.yxmltext_remove_range(txt, txn, idx, len);
+    }
+
+    @Override
+    public void yxmltext_insert_attr(YrsBranch txt, YrsTransaction txn, String attr_name, String attr_value) {
+        delegate.yxmltext_insert_attr(txt, txn, attr_name, attr_value);
+    }
+
+    @Override
+    public void yxmltext_insert_attr(YrsBranch txt, YrsTransaction txn, Pointer attr_name, String attr_value) {
+        delegate.yxmltext_insert_attr(txt, txn, attr_name, attr_value);
+    }
+
+    @Override
+    public void yxmltext_remove_attr(YrsBranch txt, YrsTransaction txn, String attr_name) {
+        delegate.yxmltext_remove_attr(txt, txn, attr_name);
+    }
+
+    @Override
+    public void yxmltext_remove_attr(YrsBranch txt, YrsTransaction txn, Pointer attr_name) {
+        delegate.yxmltext_remove_attr(txt, txn, attr_name);
+    }
+
+    @Override
+    public Pointer yxmltext_get_attr(YrsBranch txt, YrsTransaction txn, String attr_name) {
+        return delegate.yxmltext_get_attr(txt, txn, attr_name);
+    }
+
+    @Override
+    public Pointer yxmltext_get_attr(YrsBranch txt, YrsTransaction txn, Pointer attr_name) {
+        return delegate.yxmltext_get_attr(txt, txn, attr_name);
+    }
+
+    @Override
+    public YrsChunk ytext_chunks(YrsBranch txt, YrsTransaction txn, IntBuffer chunks_len) {
+        return delegate.ytext_chunks(txt, txn, chunks_len);
+    }
+
+    @Override
+    public void ychunks_destroy(YrsChunk chunks, int len) {
+        delegate.ychunks_destroy(chunks, len);
+    }
+
+    @Override
+    public void youtput_destroy(YrsOutput val) {
+        delegate.youtput_destroy(val);
+    }
+
+    @Override
+    public YrsInput.ByValue yinput_null() {
+        return delegate.yinput_null();
+    }
+
+    @Override
+    public YrsInput.ByValue yinput_undefined() {
+        return delegate.yinput_undefined();
+    }
+
+    @Override
+    public YrsInput.ByValue yinput_bool(byte flag) {
+        return delegate.yinput_bool(flag);
+    }
+
+    @Override
+    public YrsInput.ByValue yinput_float(double num) {
+        return delegate.yinput_float(num);
+    }
+
+    @Override
+    public YrsInput.ByValue yinput_long(long integer) {
+        return delegate.yinput_long(integer);
+    }
+
+    @Override
+    public YrsInput.ByValue yinput_string(String str) {
+        return delegate.yinput_string(str);
+    }
+
+    @Override
+    public YrsInput.ByValue yinput_binary(byte[] buf, int len) {
+        return delegate.yinput_binary(buf, len);
+    }
+
+    @Override
+    public YrsInput.ByValue yinput_json_array(YrsInput[] values, int len) {
+        return delegate.yinput_json_array(values, len);
+    }
+
+    @Override
+    public YrsInput.ByValue yinput_json_map(String[] keys, YrsInput[] values, int len) {
+        return delegate.yinput_json_map(keys, values, len);
+    }
+
+    @Override
+    public YrsInput.ByValue yinput_yarray(YrsInput[] array, int len) {
+        return delegate.yinput_yarray(array, len);
+    }
+
+    @Override
+    public YrsInput.ByValue yinput_ymap(String[] keys, YrsInput[] values, int len) {
+        return delegate.yinput_ymap(keys, values, len);
+    }
+
+    @Override
+    public YrsInput.ByValue yinput_ytext(String str) {
+        return delegate.yinput_ytext(str);
+    }
+
+    @Override
+    public YrsInput.ByValue yinput_yxmlelem(String name) {
+        return delegate.yinput_yxmlelem(name);
+    }
+
+    @Override
+    public YrsInput.ByValue yinput_yxmltext(String str) {
+        return delegate.yinput_yxmltext(str);
+    }
+
+    @Override
+    public YrsInput.ByValue yinput_ydoc(YrsDoc doc) {
+        return delegate.yinput_ydoc(doc);
+    }
+
+    @Override
+    public YrsInput.ByValue yinput_weak(YrsLinkSource weak) {
+        return delegate.yinput_weak(weak);
+    }
+
+    @Override
+    public YrsDoc youtput_read_ydoc(YrsOutput val) {
+        return delegate.youtput_read_ydoc(val);
+    }
+
+    @Override
+    public Pointer youtput_read_bool(YrsOutput val) {
+        return delegate.youtput_read_bool(val);
+    }
+
+    @Override
+    public DoubleByReference youtput_read_float(YrsOutput val) {
+        return delegate.youtput_read_float(val);
+    }
+
+    @Override
+    public LongByReference youtput_read_long(YrsOutput val) {
+        return delegate.youtput_read_long(val);
+    }
+
+    @Override
+    public Pointer youtput_read_string(YrsOutput val) {
+        return delegate.youtput_read_string(val);
+    }
+
+    @Override
+    public Pointer youtput_read_binary(YrsOutput val) {
+        return delegate.youtput_read_binary(val);
+    }
+
+    @Override
+    public YrsOutput youtput_read_json_array(YrsOutput val) {
+        return delegate.youtput_read_json_array(val);
+    }
+
+    @Override
+    public YrsMapEntry youtput_read_json_map(YrsOutput val) {
+        return delegate.youtput_read_json_map(val);
+    }
+
+    @Override
+    public YrsBranch youtput_read_yarray(YrsOutput val) {
+        return delegate.youtput_read_yarray(val);
+    }
+
+    @Override
+    public YrsBranch youtput_read_yxmlelem(YrsOutput val) {
+        return delegate.youtput_read_yxmlelem(val);
+    }
+
+    @Override
+    public YrsBranch youtput_read_ymap(YrsOutput val) {
+        return delegate.youtput_read_ymap(val);
+    }
+
+    @Override
+    public YrsBranch youtput_read_ytext(YrsOutput val) {
+        return delegate.youtput_read_ytext(val);
+    }
+
+    @Override
+    public YrsBranch youtput_read_yxmltext(YrsOutput val) {
+        return delegate.youtput_read_yxmltext(val);
+    }
+
+    @Override
+    public YrsBranch youtput_read_yweak(YrsOutput val) {
+        return delegate.youtput_read_yweak(val);
+    }
+
+    @Override
+    public void yunobserve(YrsSubscription subscription) {
+        delegate.yunobserve(subscription);
+    }
+
+    @Override
+    public YrsSubscription ytext_observe(YrsBranch txt, Pointer state, ytext_observe_cb_callback cb) {
+        return delegate.ytext_observe(txt, state, cb);
+    }
+
+    @Override
+    public YrsSubscription ymap_observe(YrsBranch map, Pointer state, ymap_observe_cb_callback cb) {
+        return delegate.ymap_observe(map, state, cb);
+    }
+
+    @Override
+    public YrsSubscription yarray_observe(YrsBranch array, Pointer state, yarray_observe_cb_callback cb) {
+        return delegate.yarray_observe(array, state, cb);
+    }
+
+    @Override
+    public YrsSubscription yxmlelem_observe(YrsBranch xml, Pointer state, yxmlelem_observe_cb_callback cb) {
+        return delegate.yxmlelem_observe(xml, state, cb);
+    }
+
+    @Override
+    public YrsSubscription yxmltext_observe(YrsBranch xml, Pointer state, yxmltext_observe_cb_callback cb) {
+        return delegate.yxmltext_observe(xml, state, cb);
+    }
+
+    @Override
+    public YrsSubscription yobserve_deep(YrsBranch ytype, Pointer state, yobserve_deep_cb_callback cb) {
+        return delegate.yobserve_deep(ytype, state, cb);
+    }
+
+    @Override
+    public YrsBranch ytext_event_target(YrsTextEvent e) {
+        return delegate.ytext_event_target(e);
+    }
+
+    @Override
+    public YrsBranch yarray_event_target(YrsArrayEvent e) {
+        return delegate.yarray_event_target(e);
+    }
+
+    @Override
+    public YrsBranch ymap_event_target(YrsMapEvent e) {
+        return delegate.ymap_event_target(e);
+    }
+
+    @Override
+    public YrsBranch yxmlelem_event_target(YrsXmlEvent e) {
+        return delegate.yxmlelem_event_target(e);
+    }
+
+    @Override
+    public YrsBranch yxmltext_event_target(YrsXmlTextEvent e) {
+        return delegate.yxmltext_event_target(e);
+    }
+
+    @Override
+    public YrsPathSegment ytext_event_path(YrsTextEvent e, IntBuffer len) {
+        return delegate.ytext_event_path(e, len);
+    }
+
+    @Override
+    public YrsPathSegment ymap_event_path(YrsMapEvent e, IntBuffer len) {
+        return delegate.ymap_event_path(e, len);
+    }
+
+    @Override
+    public YrsPathSegment yxmlelem_event_path(YrsXmlEvent e, IntBuffer len) {
+        return delegate.yxmlelem_event_path(e, len);
+    }
+
+    @Override
+    public YrsPathSegment yxmltext_event_path(YrsXmlTextEvent e, IntBuffer len) {
+        return delegate.yxmltext_event_path(e, len);
+    }
+
+    @Override
+    public YrsPathSegment yarray_event_path(YrsArrayEvent e, IntBuffer len) {
+        return delegate.yarray_event_path(e, len);
+    }
+
+    @Override
+    public void ypath_destroy(YrsPathSegment path, int len) {
+        delegate.ypath_destroy(path, len);
+    }
+
+    @Override
+    public YrsDelta ytext_event_delta(YrsTextEvent e, IntBuffer len) {
+        return delegate.ytext_event_delta(e, len);
+    }
+
+    @Override
+    public YrsDelta yxmltext_event_delta(YrsXmlTextEvent e, IntBuffer len) {
+        return delegate.yxmltext_event_delta(e, len);
+    }
+
+    @Override
+    public YrsEventChange yarray_event_delta(YrsArrayEvent e, IntBuffer len) {
+        return delegate.yarray_event_delta(e, len);
+    }
+
+    @Override
+    public YrsEventChange yxmlelem_event_delta(YrsXmlEvent e, IntBuffer len) {
+        return delegate.yxmlelem_event_delta(e, len);
+    }
+
+    @Override
+    public void ytext_delta_destroy(YrsDelta delta, int len) {
+        delegate.ytext_delta_destroy(delta, len);
+    }
+
+    @Override
+    public void yevent_delta_destroy(YrsEventChange delta, int len) {
+        delegate.yevent_delta_destroy(delta, len);
+    }
+
+    @Override
+    public YrsEventKeyChange ymap_event_keys(YrsMapEvent e, IntBuffer len) {
+        return delegate.ymap_event_keys(e, len);
+    }
+
+    @Override
+    public YrsEventKeyChange yxmlelem_event_keys(YrsXmlEvent e, IntBuffer len) {
+        return delegate.yxmlelem_event_keys(e, len);
+    }
+
+    @Override
+    public YrsEventKeyChange yxmltext_event_keys(YrsXmlTextEvent e, IntBuffer len) {
+        return delegate.yxmltext_event_keys(e, len);
+    }
+
+    @Override
+    public void yevent_keys_destroy(YrsEventKeyChange keys, int len) {
+        delegate.yevent_keys_destroy(keys, len);
+    }
+
+    @Override
+    public YrsUndoManager yundo_manager(YrsDoc doc, YrsBranch ytype, YrsUndoManagerOptions options) {
+        return delegate.yundo_manager(doc, ytype, options);
+    }
+
+    @Override
+    public void yundo_manager_destroy(YrsUndoManager mgr) {
+        delegate.yundo_manager_destroy(mgr);
+    }
+
+    @Override
+    public void yundo_manager_add_origin(YrsUndoManager mgr, int origin_len, String origin) {
+        delegate.yundo_manager_add_origin(mgr, origin_len, origin);
+    }
+
+    @Override
+    public void yundo_manager_remove_origin(YrsUndoManager mgr, int origin_len, String origin) {
+        delegate.yundo_manager_remove_origin(mgr, origin_len, origin);
+    }
+
+    @Override
+    public void yundo_manager_add_scope(YrsUndoManager mgr, YrsBranch ytype) {
+        delegate.yundo_manager_add_scope(mgr, ytype);
+    }
+
+    @Override
+    public byte yundo_manager_clear(YrsUndoManager mgr) {
+        return delegate.yundo_manager_clear(mgr);
+    }
+
+    @Override
+    public void yundo_manager_stop(YrsUndoManager mgr) {
+        delegate.yundo_manager_stop(mgr);
+    }
+
+    @Override
+    public byte yundo_manager_undo(YrsUndoManager mgr) {
+        return delegate.yundo_manager_undo(mgr);
+    }
+
+    @Override
+    public byte yundo_manager_redo(YrsUndoManager mgr) {
+        return delegate.yundo_manager_redo(mgr);
+    }
+
+    @Override
+    public byte yundo_manager_can_undo(YrsUndoManager mgr) {
+        return delegate.yundo_manager_can_undo(mgr);
+    }
+
+    @Override
+    public byte yundo_manager_can_redo(YrsUndoManager mgr) {
+        return delegate.yundo_manager_can_redo(mgr);
+    }
+
+    @Override
+    public YrsSubscription yundo_manager_observe_added(YrsUndoManager mgr, Pointer state, yundo_manager_observe_added_cb_callback cb) {
+        return delegate.yundo_manager_observe_added(mgr, state, cb);
+    }
+
+    @Override
+    public YrsSubscription yundo_manager_observe_popped(YrsUndoManager mgr, Pointer state, yundo_manager_observe_popped_cb_callback cb) {
+        return delegate.yundo_manager_observe_popped(mgr, state, cb);
+    }
+
+    @Override
+    public byte ytype_kind(YrsBranch yrsBranch) {
+        return delegate.ytype_kind(yrsBranch);
+    }
+
+    @Override
+    public void ysticky_index_destroy(YrsStickyIndex pos) {
+        delegate.ysticky_index_destroy(pos);
+    }
+
+    @Override
+    public byte ysticky_index_assoc(YrsStickyIndex pos) {
+        return delegate.ysticky_index_assoc(pos);
+    }
+
+    @Override
+    public YrsStickyIndex ysticky_index_from_index(YrsBranch yrsBranch, YrsTransaction txn, int index, byte assoc) {
+        return delegate.ysticky_index_from_index(yrsBranch, txn, index, assoc);
+    }
+
+    @Override
+    public Pointer ysticky_index_encode(YrsStickyIndex pos, IntBuffer len) {
+        return delegate.ysticky_index_encode(pos, len);
+    }
+
+    @Override
+    public YrsStickyIndex ysticky_index_decode(String binary, int len) {
+        return delegate.ysticky_index_decode(binary, len);
+    }
+
+    @Override
+    public void ysticky_index_read(YrsStickyIndex pos, YrsTransaction txn, YrsBranch.ByReference[] out_branch, IntBuffer out_index) {
+        delegate.ysticky_index_read(pos, txn, out_branch, out_index);
+    }
+
+    @Override
+    public void ysticky_index_read(YrsStickyIndex pos, YrsTransaction txn, YrsBranch.ByReference[] out_branch, IntByReference out_index) {
+        delegate.ysticky_index_read(pos, txn, out_branch, out_index);
+    }
+
+    @Override
+    public void yweak_destroy(YrsLinkSource weak) {
+        delegate.yweak_destroy(weak);
+    }
+
+    @Override
+    public YrsOutput yweak_deref(YrsBranch map_link, YrsTransaction txn) {
+        return delegate.yweak_deref(map_link, txn);
+    }
+
+    @Override
+    public YrsWeakIter yweak_iter(YrsBranch array_link, YrsTransaction txn) {
+        return delegate.yweak_iter(array_link, txn);
+    }
+
+    @Override
+    public void yweak_iter_destroy(YrsWeakIter iter) {
+        delegate.yweak_iter_destroy(iter);
+    }
+
+    @Override
+    public YrsOutput yweak_iter_next(YrsWeakIter iter) {
+        return delegate.yweak_iter_next(iter);
+    }
+
+    @Override
+    public Pointer yweak_string(YrsBranch text_link, YrsTransaction txn) {
+        return delegate.yweak_string(text_link, txn);
+    }
+
+    @Override
+    public Pointer yweak_xml_string(YrsBranch xml_text_link, YrsTransaction txn) {
+        return delegate.yweak_xml_string(xml_text_link, txn);
+    }
+
+    @Override
+    public YrsSubscription yweak_observe(YrsBranch weak, Pointer state, yweak_observe_cb_callback cb) {
+        return delegate.yweak_observe(weak, state, cb);
+    }
+
+    @Override
+    public YrsLinkSource ymap_link(YrsBranch map, YrsTransaction txn, String key) {
+        return delegate.ymap_link(map, txn, key);
+    }
+
+    @Override
+    public YrsLinkSource ymap_link(YrsBranch map, YrsTransaction txn, Pointer key) {
+        return delegate.ymap_link(map, txn, key);
+    }
+
+    @Override
+    public YrsLinkSource ytext_quote(YrsBranch text, YrsTransaction txn, int start_index, int end_index, byte start_exclusive, byte end_exclusive) {
+        return delegate.ytext_quote(text, txn, start_index, end_index, start_exclusive, end_exclusive);
+    }
+
+    @Override
+    public YrsLinkSource yarray_quote(YrsBranch array, YrsTransaction txn, int start_index, int end_index, byte start_exclusive, byte end_exclusive) {
+        return delegate.yarray_quote(array, txn, start_index, end_index, start_exclusive, end_exclusive);
+    }
+
+    @Override
+    public YrsBranchId.ByValue ybranch_id(YrsBranch yrsBranch) {
+        return delegate.ybranch_id(yrsBranch);
+    }
+
+    @Override
+    public YrsBranch ybranch_get(YrsBranchId branch_id, YrsTransaction txn) {
+        return delegate.ybranch_get(branch_id, txn);
+    }
+
+    @Override
+    public byte ybranch_alive(YrsBranch yrsBranch) {
+        return delegate.ybranch_alive(yrsBranch);
+    }
+}
@@ -0,0 +1,201 @@
+package at.yrs4j.api;
+
+import at.yrs4j.utils.JNAUtils;
+import at.yrs4j.yrslib.*;
+import com.sun.jna.Native;
+import com.sun.jna.NativeLibrary;
+import com.sun.jna.Pointer;
+import com.sun.jna.ptr.IntByReference;
+
+import java.nio.IntBuffer;
+
+/**
+ * Routes the functions called for every document update through JNA direct mapping ({@link Native#register}) instead
+ * of the {@link java.lang.reflect.Proxy} based interface mapping, which skips the reflective {@code invoke} path. <br>
+ * All other functions keep going through the proxy passed as delegate. <br>
+ * <br>
+ * {@link Yrs4J#init(LibLoader)} installs this automatically for JNA loaders, it can be disabled with
+ * {@code -Dyrs4j.directMapping=false}.
+ */
+public class DirectMappedYrsLib extends DelegatingYrsLib {
+    private static NativeLibrary registeredLibrary;
+
+    /**
+     * @param delegate JNA proxy of libyrs, used to resolve the directly mapped symbols and for all other functions
+     */
+    public DirectMappedYrsLib(YrsLibNativeInterface delegate) {
+        super(delegate);
+        register(JNAUtils.getNativeLibrary(delegate));
+    }
+
+    private static synchronized void register(NativeLibrary library) {
+        if (registeredLibrary == null) {
+            Native.register(Natives.class, library);
+            registeredLibrary = library;
+        } else if (!registeredLibrary.getFile().equals(library.getFile())) {
+            throw new IllegalStateException("Direct mapping is already registered to " + registeredLibrary.getFile());
+        }
+    }
+
+    @Override
+    public YrsTransaction ydoc_read_transaction(YrsDoc doc) {
+        return Natives.ydoc_read_transaction(doc);
+    }
+
+    @Override
+    public YrsTransaction ydoc_write_transaction(YrsDoc doc, int origin_len, String origin) {
+        return Natives.ydoc_write_transaction(doc, origin_len, origin);
+    }
+
+    @Override
+    public void ytransaction_commit(YrsTransaction txn) {
+        Natives.ytransaction_commit(txn);
+    }
+
+    @Override
+    public byte ytransaction_apply(YrsTransaction txn, byte[] diff, int diff_len) {
+        return Natives.ytransaction_apply(txn, diff, diff_len);
+    }
+
+    @Override
+    public byte ytransaction_apply(YrsTransaction txn, Pointer diff, int diff_len) {
+        return Natives.ytransaction_apply(txn, diff, diff_len);
+    }
+
+    @Override
+    public Pointer ytransaction_state_vector_v1(YrsTransaction txn, IntBuffer len) {
+        return Natives.ytransaction_state_vector_v1(txn, len);
+    }
+
+    @Override
+    public Pointer ytransaction_state_vector_v1(YrsTransaction txn, IntByReference len) {
+        return Natives.ytransaction_state_vector_v1(txn, len);
+    }
+
+    @Override
+    public Pointer ytransaction_state_diff_v1(YrsTransaction txn, String sv, int sv_len, IntBuffer len) {
+        return Natives.ytransaction_state_diff_v1(txn, sv, sv_len, len);
+    }
+
+    @Override
+    public Pointer ytransaction_state_diff_v1(YrsTransaction txn, byte[] sv, int sv_len, IntByReference len) {
+        return Natives.ytransaction_state_diff_v1(txn, sv, sv_len, len);
+    }
+
+    @Override
+    public Pointer ytransaction_state_diff_v1(YrsTransaction txn, Pointer sv, int sv_len, IntByReference len) {
+        return Natives.ytransaction_state_diff_v1(txn, sv, sv_len, len);
+    }
+
+    @Override
+    public void ybinary_destroy(Pointer ptr, int len) {
+        Natives.ybinary_destroy(ptr, len);
+    }
+
+    @Override
+    public void ytext_insert(YrsBranch txt, YrsTransaction txn, int index, String value, YrsInput attrs) {
+        Natives.ytext_insert(txt, txn, index, value, attrs);
+    }
+
+    @Override
+    public void ytext_insert(YrsBranch txt, YrsTransaction txn, int index, Pointer value, YrsInput attrs) {
+        Natives.ytext_insert(txt, txn, index, value, attrs);
+    }
+
+    @Override
+    public void ytext_remove_range(YrsBranch txt, YrsTransaction txn, int index, int length) {
+        Natives.ytext_remove_range(txt, txn, index, length);
+    }
+
+    @Override
+    public YrsOutput ymap_get(YrsBranch map, YrsTransaction txn, String key) {
+        return Natives.ymap_get(map, txn, key);
+    }
+
+    @Override
+    public YrsOutput ymap_get(YrsBranch map, YrsTransaction txn, Pointer key) {
+        return Natives.ymap_get(map, txn, key);
+    }
+
+    @Override
+    public void ymap_insert(YrsBranch map, YrsTransaction txn, String key, YrsInput value) {
+        Natives.ymap_insert(map, txn, key, value);
+    }
+
+    @Override
+    public void ymap_insert(YrsBranch map, YrsTransaction txn, Pointer key, YrsInput value) {
+        Natives.ymap_insert(map, txn, key, value);
+    }
+
+    @Override
+    public void ymap_insert(YrsBranch map, YrsTransaction txn, Pointer key, Pointer value) {
+        Natives.ymap_insert(map, txn, key, value);
+    }
+
+    @Override
+    public byte ymap_remove(YrsBranch map, YrsTransaction txn, String key) {
+        return Natives.ymap_remove(map, txn, key);
+    }
+
+    @Override
+    public byte ymap_remove(YrsBranch map, YrsTransaction txn, Pointer key) {
+        return Natives.ymap_remove(map, txn, key);
+    }
+
+    @Override
+    public void yarray_insert_range(YrsBranch array, YrsTransaction txn, int index, Pointer items, int items_len) {
+        Natives.yarray_insert_range(array, txn, index, items, items_len);
+    }
+
+    /**
+     * Native methods bound by {@link Native#register}, signatures mirror {@link YrsLibNativeInterface}
+     */
+    static final class Natives {
+        private Natives() {
+        }
+
+        static native YrsTransaction ydoc_read_transaction(YrsDoc doc);
+
+        static native YrsTransaction ydoc_write_transaction(YrsDoc doc, int origin_len, String origin);
+
+        static native void ytransaction_commit(YrsTransaction txn);
+
+        static native byte ytransaction_apply(YrsTransaction txn, byte[] diff, int diff_len);
+
+        static native byte ytransaction_apply(YrsTransaction txn, Pointer diff, int diff_len);
+
+        static native Pointer ytransaction_state_vector_v1(YrsTransaction txn, IntBuffer len);
+
+        static native Pointer ytransaction_state_vector_v1(YrsTransaction txn, IntByReference len);
+
+        static native Pointer ytransaction_state_diff_v1(YrsTransaction txn, String sv, int sv_len, IntBuffer len);
+
+        static native Pointer ytransaction_state_diff_v1(YrsTransaction txn, byte[] sv, int sv_len, IntByReference len);
+
+        static native Pointer ytransaction_state_diff_v1(YrsTransaction txn, Pointer sv, int sv_len, IntByReference len);
+
+        static native void ybinary_destroy(Pointer ptr, int len);
+
+        static native void ytext_insert(YrsBranch txt, YrsTransaction txn, int index, String value, YrsInput attrs);
+
+        static native void ytext_insert(YrsBranch txt, YrsTransaction txn, int index, Pointer value, YrsInput attrs);
+
+        static native void ytext_remove_range(YrsBranch txt, YrsTransaction txn, int index, int length);
+
+        static native YrsOutput ymap_get(YrsBranch map, YrsTransaction txn, String key);
+
+        static native YrsOutput ymap_get(YrsBranch map, YrsTransaction txn, Pointer key);
+
+        static native void ymap_insert(YrsBranch map, YrsTransaction txn, String key, YrsInput value);
+
+        static native void ymap_insert(YrsBranch map, YrsTransaction txn, Pointer key, YrsInput value);
+
+        static native void ymap_insert(YrsBranch map, YrsTransaction txn, Pointer key, Pointer value);
+
+        static native byte ymap_remove(YrsBranch map, YrsTransaction txn, String key);
+
+        static native byte ymap_remove(YrsBranch map, YrsTransaction txn, Pointer key);
+
+        static native void yarray_insert_range(YrsBranch array, YrsTransaction txn, int index, Pointer items, int items_len);
+    }
+}
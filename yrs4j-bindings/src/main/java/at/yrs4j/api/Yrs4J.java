@@ -1,15 +1,25 @@
 package at.yrs4j.api;
 
 import at.yrs4j.wrapper.Destroyable;
+import at.yrs4j.wrapper.NativeResource;
 
+import java.lang.reflect.Proxy;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
 
 public class Yrs4J {
+    /**
+     * System property disabling {@link DirectMappedYrsLib} when set to {@code false}
+     */
+    public static final String DIRECT_MAPPING_PROPERTY = "yrs4j.directMapping";
+
     public static YrsLibNativeInterface YRS_INSTANCE;
     private final YrsLibNativeInterface yrsInstance;
 
-    private final static List<Destroyable> destroyables = new ArrayList<>(512);
+    private final static Set<Destroyable> destroyables = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
 
 
     private Yrs4J(YrsLibNativeInterface yrsInstance) {
@@ -17,12 +27,30 @@ public class Yrs4J {
     }
 
     public static void init(LibLoader loader) {
-        Yrs4J INSTANCE = new Yrs4J(loader.get());
+        Yrs4J INSTANCE = new Yrs4J(directMapped(loader.get()));
         YRS_INSTANCE = INSTANCE.yrsInstance;
     }
 
     /**
-     * Add a Destroyable object to the destoyable cache.
+     * Routes the hot functions of a plain JNA proxy through {@link DirectMappedYrsLib}. Other backends are used as they
+     * are, and the proxy is kept if direct mapping is disabled or cannot be registered.
+     */
+    private static YrsLibNativeInterface directMapped(YrsLibNativeInterface lib) {
+        if (!Boolean.parseBoolean(System.getProperty(DIRECT_MAPPING_PROPERTY, "true")) || !Proxy.isProxyClass(lib.getClass())) {
+            return lib;
+        }
+
+        try {
+            return new DirectMappedYrsLib(lib);
+        } catch (LinkageError | RuntimeException e) {
+            return lib;
+        }
+    }
+
+    /**
+     * Add a Destroyable object to the destoyable cache. <br>
+     * Only needed for own Destroyable implementations, the wrappers of this library are tracked by
+     * {@link NativeResource}. Objects are held weakly and are not kept alive by the cache.
      *
      * @param d
      */
@@ -35,7 +63,12 @@ public class Yrs4J {
      * This method frees all memory allocated by the yrs library
      */
     public static void cleanup() {
-        destroyables.stream().filter(d -> !d.isDestroyed()).forEach(Destroyable::destroy);
-        destroyables.clear();
+        List<Destroyable> registered;
+        synchronized (destroyables) {
+            registered = new ArrayList<>(destroyables);
+            destroyables.clear();
+        }
+        registered.stream().filter(d -> !d.isDestroyed()).forEach(Destroyable::destroy);
+        NativeResource.releaseAll();
     }
 }
@@ -728,6 +728,35 @@ public interface YrsLibNativeInterface extends Library {
      */
     Pointer ytransaction_state_diff_v1(YrsTransaction txn, byte[] sv, int sv_len, IntByReference len);
 
+    /**
+     * Returns a delta difference between current state of a transaction's document and a state vector
+     * <br>
+     * `sv` encoded as a binary payload using lib0 version 1 encoding (which could be generated using
+     * <br>
+     * [ytransaction_state_vector_v1]). Such delta can be send back to the state vector's sender in
+     * <br>
+     * order to propagate and apply (using [ytransaction_apply]) all updates known to a current
+     * <br>
+     * document, which remote peer was not aware of.
+     * <br>
+     * <br>
+     * If passed `sv` pointer is null, the generated diff will be a snapshot containing entire state of
+     * <br>
+     * the document.
+     * <br>
+     * <br>
+     * A length of an encoded state vector payload must be passed as `sv_len` parameter.
+     * <br>
+     * <br>
+     * A length of generated delta diff binary will be passed within a `len` out parameter.
+     * <br>
+     * <br>
+     * Once no longer needed, a returned binary can be disposed using [ybinary_destroy] function.<br>
+     * Original signature : <code>char* ytransaction_state_diff_v1(const YrsTransaction*, const char*, uint32_t, uint32_t*)</code><br>
+     * <i>native declaration : libyrs.h:938</i>
+     */
+    Pointer ytransaction_state_diff_v1(YrsTransaction txn, Pointer sv, int sv_len, IntByReference len);
+
     /**
      * Returns a delta difference between current state of a transaction's document and a state vector
      * <br>
@@ -786,6 +815,35 @@ public interface YrsLibNativeInterface extends Library {
      */
     Pointer ytransaction_state_diff_v2(YrsTransaction txn, byte[] sv, int sv_len, IntByReference len);
 
+    /**
+     * Returns a delta difference between current state of a transaction's document and a state vector
+     * <br>
+     * `sv` encoded as a binary payload using lib0 version 1 encoding (which could be generated using
+     * <br>
+     * [ytransaction_state_vector_v1]). Such delta can be send back to the state vector's sender in
+     * <br>
+     * order to propagate and apply (using [ytransaction_apply_v2]) all updates known to a current
+     * <br>
+     * document, which remote peer was not aware of.
+     * <br>
+     * <br>
+     * If passed `sv` pointer is null, the generated diff will be a snapshot containing entire state of
+     * <br>
+     * the document.
+     * <br>
+     * <br>
+     * A length of an encoded state vector payload must be passed as `sv_len` parameter.
+     * <br>
+     * <br>
+     * A length of generated delta diff binary will be passed within a `len` out parameter.
+     * <br>
+     * <br>
+     * Once no longer needed, a returned binary can be disposed using [ybinary_destroy] function.<br>
+     * Original signature : <code>char* ytransaction_state_diff_v2(const YrsTransaction*, const char*, uint32_t, uint32_t*)</code><br>
+     * <i>native declaration : libyrs.h:956</i>
+     */
+    Pointer ytransaction_state_diff_v2(YrsTransaction txn, Pointer sv, int sv_len, IntByReference len);
+
     /**
      * Returns a snapshot descriptor of a current state of the document. This snapshot information
      * <br>
@@ -981,6 +1039,35 @@ public interface YrsLibNativeInterface extends Library {
      */
     byte ytransaction_apply(YrsTransaction txn, byte[] diff, int diff_len);
 
+    /**
+     * Applies an diff update (generated by `ytransaction_state_diff_v1`) to a local transaction's
+     * <br>
+     * document.
+     * <br>
+     * <br>
+     * A length of generated `diff` binary must be passed within a `diff_len` out parameter.
+     * <br>
+     * <br>
+     * Returns an error code in case if transaction succeeded failed:
+     * <br>
+     * - **0**: success
+     * <br>
+     * - `ERR_CODE_IO` (**1**): couldn't read data from input stream.
+     * <br>
+     * - `ERR_CODE_VAR_INT` (**2**): decoded variable integer outside of the expected integer size bounds.
+     * <br>
+     * - `ERR_CODE_EOS` (**3**): end of stream found when more data was expected.
+     * <br>
+     * - `ERR_CODE_UNEXPECTED_VALUE` (**4**): decoded enum tag value was not among known cases.
+     * <br>
+     * - `ERR_CODE_INVALID_JSON` (**5**): failure when trying to decode JSON content.
+     * <br>
+     * - `ERR_CODE_OTHER` (**6**): other error type than the one specified.<br>
+     * Original signature : <code>uint8_t ytransaction_apply(YrsTransaction*, const char*, uint32_t)</code><br>
+     * <i>native declaration : libyrs.h:1043</i>
+     */
+    byte ytransaction_apply(YrsTransaction txn, Pointer diff, int diff_len);
+
     /**
      * Applies a diff update (generated by [ytransaction_state_diff_v2]) to a local transaction's
      * <br>
@@ -1010,6 +1097,35 @@ public interface YrsLibNativeInterface extends Library {
      */
     byte ytransaction_apply_v2(YrsTransaction txn, byte[] diff, int diff_len);
 
+    /**
+     * Applies a diff update (generated by [ytransaction_state_diff_v2]) to a local transaction's
+     * <br>
+     * document.
+     * <br>
+     * <br>
+     * A length of generated `diff` binary must be passed within a `diff_len` out parameter.
+     * <br>
+     * <br>
+     * Returns an error code in case if transaction succeeded failed:
+     * <br>
+     * - **0**: success
+     * <br>
+     * - `ERR_CODE_IO` (**1**): couldn't read data from input stream.
+     * <br>
+     * - `ERR_CODE_VAR_INT` (**2**): decoded variable integer outside of the expected integer size bounds.
+     * <br>
+     * - `ERR_CODE_EOS` (**3**): end of stream found when more data was expected.
+     * <br>
+     * - `ERR_CODE_UNEXPECTED_VALUE` (**4**): decoded enum tag value was not among known cases.
+     * <br>
+     * - `ERR_CODE_INVALID_JSON` (**5**): failure when trying to decode JSON content.
+     * <br>
+     * - `ERR_CODE_OTHER` (**6**): other error type than the one specified.<br>
+     * Original signature : <code>uint8_t ytransaction_apply_v2(YrsTransaction*, const char*, uint32_t)</code><br>
+     * <i>native declaration : libyrs.h:1060</i>
+     */
+    byte ytransaction_apply_v2(YrsTransaction txn, Pointer diff, int diff_len);
+
     /**
      * Returns the length of the `YText` string content in bytes (without the null terminator character)<br>
      * Original signature : <code>uint32_t ytext_len(const YrsBranch*, const YrsTransaction*)</code><br>
@@ -1166,6 +1282,29 @@ public interface YrsLibNativeInterface extends Library {
      */
     void yarray_insert_range(YrsBranch array, YrsTransaction txn, int index, YrsInput[] items, int items_len);
 
+    /**
+     * Inserts a range of `items` into current `YArray`, starting at given `index`. An `items_len`
+     * <br>
+     * parameter is used to determine the size of `items` array - it can also be used to insert
+     * <br>
+     * a single element given its pointer.
+     * <br>
+     * <br>
+     * An `index` value must be between 0 and (inclusive) length of a current array (use [yarray_len]
+     * <br>
+     * to determine its length), otherwise it will panic at runtime.
+     * <br>
+     * <br>
+     * `YArray` doesn't take ownership over the inserted `items` data - their contents are being copied
+     * <br>
+     * into array structure - therefore caller is responsible for freeing all memory associated with
+     * <br>
+     * input params.<br>
+     * Original signature : <code>void yarray_insert_range(const YrsBranch*, YrsTransaction*, uint32_t, YrsInput*, uint32_t)</code><br>
+     * <i>native declaration : libyrs.h:1145</i>
+     */
+    void yarray_insert_range(YrsBranch array, YrsTransaction txn, int index, Pointer items, int items_len);
+
     /**
      * Removes a `len` of consecutive range of elements from current `array` instance, starting at
      * <br>
@@ -1275,6 +1414,44 @@ public interface YrsLibNativeInterface extends Library {
      */
     void ymap_insert(YrsBranch map, YrsTransaction txn, String key, YrsInput value);
 
+    /**
+     * Inserts a new entry (specified as `key`-`value` pair) into a current `map`. If entry under such
+     * <br>
+     * given `key` already existed, its corresponding value will be replaced.
+     * <br>
+     * <br>
+     * A `key` must be a null-terminated UTF-8 encoded string, which contents will be copied into
+     * <br>
+     * a `map` (therefore it must be freed by the function caller).
+     * <br>
+     * <br>
+     * A `value` content is being copied into a `map`, therefore any of its content must be freed by
+     * <br>
+     * the function caller.<br>
+     * Original signature : <code>void ymap_insert(const YrsBranch*, YrsTransaction*, const char*, YrsInput*)</code><br>
+     * <i>native declaration : libyrs.h:1215</i>
+     */
+    void ymap_insert(YrsBranch map, YrsTransaction txn, Pointer key, YrsInput value);
+
+    /**
+     * Inserts a new entry (specified as `key`-`value` pair) into a current `map`. If entry under such
+     * <br>
+     * given `key` already existed, its corresponding value will be replaced.
+     * <br>
+     * <br>
+     * A `key` must be a null-terminated UTF-8 encoded string, which contents will be copied into
+     * <br>
+     * a `map` (therefore it must be freed by the function caller).
+     * <br>
+     * <br>
+     * A `value` content is being copied into a `map`, therefore any of its content must be freed by
+     * <br>
+     * the function caller.<br>
+     * Original signature : <code>void ymap_insert(const YrsBranch*, YrsTransaction*, const char*, YrsInput*)</code><br>
+     * <i>native declaration : libyrs.h:1215</i>
+     */
+    void ymap_insert(YrsBranch map, YrsTransaction txn, Pointer key, Pointer value);
+
     /**
      * Removes a `map` entry, given its `key`. Returns `1` if the corresponding entry was successfully
      * <br>
@@ -1287,6 +1464,18 @@ public interface YrsLibNativeInterface extends Library {
      */
     byte ymap_remove(YrsBranch map, YrsTransaction txn, String key);
 
+    /**
+     * Removes a `map` entry, given its `key`. Returns `1` if the corresponding entry was successfully
+     * <br>
+     * removed or `0` if no entry with a provided `key` has been found inside of a `map`.
+     * <br>
+     * <br>
+     * A `key` must be a null-terminated UTF-8 encoded string.<br>
+     * Original signature : <code>uint8_t ymap_remove(const YrsBranch*, YrsTransaction*, const char*)</code><br>
+     * <i>native declaration : libyrs.h:1223</i>
+     */
+    byte ymap_remove(YrsBranch map, YrsTransaction txn, Pointer key);
+
     /**
      * Returns a value stored under the provided `key`, or a null pointer if no entry with such `key`
      * <br>
@@ -1301,6 +1490,20 @@ public interface YrsLibNativeInterface extends Library {
      */
     YrsOutput ymap_get(YrsBranch map, YrsTransaction txn, String key);
 
+    /**
+     * Returns a value stored under the provided `key`, or a null pointer if no entry with such `key`
+     * <br>
+     * has been found in a current `map`. A returned value is allocated by this function and therefore
+     * <br>
+     * should be eventually released using [youtput_destroy] function.
+     * <br>
+     * <br>
+     * A `key` must be a null-terminated UTF-8 encoded string.<br>
+     * Original signature : <code>YrsOutput* ymap_get(const YrsBranch*, const YrsTransaction*, const char*)</code><br>
+     * <i>native declaration : libyrs.h:1232</i>
+     */
+    YrsOutput ymap_get(YrsBranch map, YrsTransaction txn, Pointer key);
+
     /**
      * Removes all entries from a current `map`.<br>
      * Original signature : <code>void ymap_remove_all(const YrsBranch*, YrsTransaction*)</code><br>
@@ -1350,6 +1553,20 @@ public interface YrsLibNativeInterface extends Library {
      */
     void yxmlelem_insert_attr(YrsBranch xml, YrsTransaction txn, String attr_name, String attr_value);
 
+    /**
+     * Inserts an XML attribute described using `attr_name` and `attr_value`. If another attribute with
+     * <br>
+     * the same name already existed, its value will be replaced with a provided one.
+     * <br>
+     * <br>
+     * Both `attr_name` and `attr_value` must be a null-terminated UTF-8 encoded strings. Their
+     * <br>
+     * contents are being copied, therefore it's up to a function caller to properly release them.<br>
+     * Original signature : <code>void yxmlelem_insert_attr(const YrsBranch*, YrsTransaction*, const char*, const char*)</code><br>
+     * <i>native declaration : libyrs.h:1264</i>
+     */
+    void yxmlelem_insert_attr(YrsBranch xml, YrsTransaction txn, Pointer attr_name, String attr_value);
+
     /**
      * Removes an attribute from a current `YXmlElement`, given its name.
      * <br>
@@ -1360,6 +1577,16 @@ public interface YrsLibNativeInterface extends Library {
      */
     void yxmlelem_remove_attr(YrsBranch xml, YrsTransaction txn, String attr_name);
 
+    /**
+     * Removes an attribute from a current `YXmlElement`, given its name.
+     * <br>
+     * <br>
+     * An `attr_name`must be a null-terminated UTF-8 encoded string.<br>
+     * Original signature : <code>void yxmlelem_remove_attr(const YrsBranch*, YrsTransaction*, const char*)</code><br>
+     * <i>native declaration : libyrs.h:1271</i>
+     */
+    void yxmlelem_remove_attr(YrsBranch xml, YrsTransaction txn, Pointer attr_name);
+
 
     /**
      * Returns the value of a current `YXmlElement`, given its name, or a null pointer if not attribute
@@ -1375,6 +1602,20 @@ public interface YrsLibNativeInterface extends Library {
      */
     Pointer yxmlelem_get_attr(YrsBranch xml, YrsTransaction txn, String attr_name);
 
+    /**
+     * Returns the value of a current `YXmlElement`, given its name, or a null pointer if not attribute
+     * <br>
+     * with such name has been found. Returned pointer is a null-terminated UTF-8 encoded string, which
+     * <br>
+     * should be released using [ystring_destroy] function.
+     * <br>
+     * <br>
+     * An `attr_name` must be a null-terminated UTF-8 encoded string.<br>
+     * Original signature : <code>char* yxmlelem_get_attr(const YrsBranch*, const YrsTransaction*, const char*)</code><br>
+     * <i>native declaration : libyrs.h:1280</i>
+     */
+    Pointer yxmlelem_get_attr(YrsBranch xml, YrsTransaction txn, Pointer attr_name);
+
     /**
      * Returns an iterator over the `YXmlElement` attributes.
      * <br>
@@ -1682,6 +1923,20 @@ public interface YrsLibNativeInterface extends Library {
      */
     void yxmltext_insert_attr(YrsBranch txt, YrsTransaction txn, String attr_name, String attr_value);
 
+    /**
+     * Inserts an XML attribute described using `attr_name` and `attr_value`. If another attribute with
+     * <br>
+     * the same name already existed, its value will be replaced with a provided one.
+     * <br>
+     * <br>
+     * Both `attr_name` and `attr_value` must be a null-terminated UTF-8 encoded strings. Their
+     * <br>
+     * contents are being copied, therefore it's up to a function caller to properly release them.<br>
+     * Original signature : <code>void yxmltext_insert_attr(const YrsBranch*, YrsTransaction*, const char*, const char*)</code><br>
+     * <i>native declaration : libyrs.h:1478</i>
+     */
+    void yxmltext_insert_attr(YrsBranch txt, YrsTransaction txn, Pointer attr_name, String attr_value);
+
     /**
      * Removes an attribute from a current `YXmlText`, given its name.
      * <br>
@@ -1692,6 +1947,16 @@ public interface YrsLibNativeInterface extends Library {
      */
     void yxmltext_remove_attr(YrsBranch txt, YrsTransaction txn, String attr_name);
 
+    /**
+     * Removes an attribute from a current `YXmlText`, given its name.
+     * <br>
+     * <br>
+     * An `attr_name`must be a null-terminated UTF-8 encoded string.<br>
+     * Original signature : <code>void yxmltext_remove_attr(const YrsBranch*, YrsTransaction*, const char*)</code><br>
+     * <i>native declaration : libyrs.h:1485</i>
+     */
+    void yxmltext_remove_attr(YrsBranch txt, YrsTransaction txn, Pointer attr_name);
+
 
     /**
      * Returns the value of a current `YXmlText`, given its name, or a null pointer if not attribute
@@ -1707,6 +1972,20 @@ public interface YrsLibNativeInterface extends Library {
      */
     Pointer yxmltext_get_attr(YrsBranch txt, YrsTransaction txn, String attr_name);
 
+    /**
+     * Returns the value of a current `YXmlText`, given its name, or a null pointer if not attribute
+     * <br>
+     * with such name has been found. Returned pointer is a null-terminated UTF-8 encoded string, which
+     * <br>
+     * should be released using [ystring_destroy] function.
+     * <br>
+     * <br>
+     * An `attr_name` must be a null-terminated UTF-8 encoded string.<br>
+     * Original signature : <code>char* yxmltext_get_attr(const YrsBranch*, const YrsTransaction*, const char*)</code><br>
+     * <i>native declaration : libyrs.h:1494</i>
+     */
+    Pointer yxmltext_get_attr(YrsBranch txt, YrsTransaction txn, Pointer attr_name);
+
 
     /**
      * Returns a collection of chunks representing pieces of `YText` rich text string grouped together
@@ -0,0 +1,297 @@
+package at.yrs4j.utils;
+
+import at.yrs4j.api.Yrs4J;
+import at.yrs4j.wrapper.interfaces.EncodingType;
+import at.yrs4j.wrapper.interfaces.YInput;
+import at.yrs4j.yrslib.YrsBranch;
+import at.yrs4j.yrslib.YrsInput;
+import at.yrs4j.yrslib.YrsTransaction;
+import com.sun.jna.Pointer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Sequence of text edits in the shape of a Quill delta: a cursor walks the text from the start, {@code retain} moves it
+ * forward (formatting the retained range if attributes are given), {@code insert} inserts at the cursor and moves it
+ * behind the inserted content, {@code delete} removes text at the cursor. <br>
+ * Operations are coalesced while they are appended: consecutive retains, deletes and inserts with the same attributes
+ * become a single operation. Attributes are the same if they are the same {@link YInput} instance, {@link #fromDelta}
+ * reuses the instance for equal attribute maps and {@link at.yrs4j.wrapper.interfaces.YAttributes#of} interns them.
+ * All inserted text is kept as one UTF-8 block that is copied to native memory at once when the script is applied,
+ * plain retains never reach native code. <br>
+ * <br>
+ * Lengths are counted in the offset encoding of the document ({@link EncodingType}), which has to be passed if the
+ * document does not use the default {@link EncodingType#Y_OFFSET_BYTES}.
+ */
+public final class EditScript {
+    private static final byte RETAIN = 0;
+    private static final byte INSERT = 1;
+    private static final byte EMBED = 2;
+    private static final byte DELETE = 3;
+
+    private final EncodingType encoding;
+
+    private byte[] kinds = new byte[8];
+    private int[] counts = new int[8];
+    private int[] textOffsets = new int[8];
+    private YInput[] inputs = new YInput[8];
+    private YInput[] attributes = new YInput[8];
+    private int size;
+
+    private byte[] text = new byte[64];
+    private int textLength;
+
+    public EditScript() {
+        this(EncodingType.Y_OFFSET_BYTES);
+    }
+
+    public EditScript(EncodingType encoding) {
+        this.encoding = Objects.requireNonNull(encoding);
+    }
+
+    /**
+     * Builds a script from a Quill delta: a list of {@code {"insert": String|Map, "attributes": Map}},
+     * {@code {"retain": int, "attributes": Map}} and {@code {"delete": int}} operations. Attribute values may be
+     * strings, numbers, booleans or {@code null} (removing the attribute), embeds are inserted as json maps.
+     *
+     * @throws IllegalArgumentException for malformed operations
+     */
+    public static EditScript fromDelta(List<? extends Map<String, ?>> delta, EncodingType encoding) {
+        EditScript script = new EditScript(encoding);
+        Map<?, ?> previous = null;
+        YInput attrs = null;
+        for (Map<String, ?> op : delta) {
+            Map<?, ?> map = op.get("attributes") instanceof Map<?, ?> m ? m : null;
+            if (!Objects.equals(map, previous)) {
+                // equal attributes of consecutive operations share the input, so the operations can be coalesced
+                attrs = map == null ? null : jsonMap(map);
+                previous = map;
+            }
+            Object insert = op.get("insert");
+            if (insert instanceof String str) {
+                script.insert(str, attrs);
+            } else if (insert instanceof Map<?, ?> embed) {
+                script.insertEmbed(jsonMap(embed), attrs);
+            } else if (op.get("retain") instanceof Number count) {
+                script.retain(count.intValue(), attrs);
+            } else if (op.get("delete") instanceof Number count) {
+                script.delete(count.intValue());
+            } else {
+                throw new IllegalArgumentException("Unsupported delta operation: " + op);
+            }
+        }
+        return script;
+    }
+
+    public EditScript retain(int count) {
+        return retain(count, null);
+    }
+
+    /**
+     * @param attrs json map of attributes to apply to the retained range, {@code null} to only move the cursor
+     */
+    public EditScript retain(int count, YInput attrs) {
+        checkCount(count);
+        if (count == 0) {
+            return this;
+        }
+        if (last() == RETAIN && attributes[size - 1] == attrs) {
+            counts[size - 1] += count;
+            return this;
+        }
+
+        add(RETAIN, count, -1, null, attrs);
+        return this;
+    }
+
+    public EditScript insert(String value) {
+        return insert(value, null);
+    }
+
+    /**
+     * @param attrs json map of formatting attributes, {@code null} for none
+     * @throws IllegalArgumentException if the text contains a NUL character, ytext_insert would cut it off there
+     */
+    public EditScript insert(String value, YInput attrs) {
+        if (value.indexOf('\0') >= 0) {
+            throw new IllegalArgumentException("Text must not contain NUL characters");
+        }
+        if (value.isEmpty()) {
+            return this;
+        }
+
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        int length = encoding == EncodingType.Y_OFFSET_UTF16 ? value.length() : bytes.length;
+        if (last() == INSERT && attributes[size - 1] == attrs) {
+            // overwrite the terminator of the previous insert
+            textLength--;
+            appendText(bytes);
+            counts[size - 1] += length;
+            return this;
+        }
+
+        int offset = textLength;
+        appendText(bytes);
+        add(INSERT, length, offset, null, attrs);
+        return this;
+    }
+
+    /**
+     * Inserts embedded content, which takes up a single position
+     */
+    public EditScript insertEmbed(YInput content, YInput attrs) {
+        add(EMBED, 1, -1, Objects.requireNonNull(content), attrs);
+        return this;
+    }
+
+    public EditScript delete(int count) {
+        checkCount(count);
+        if (count == 0) {
+            return this;
+        }
+        if (last() == DELETE) {
+            counts[size - 1] += count;
+            return this;
+        }
+
+        add(DELETE, count, -1, null, null);
+        return this;
+    }
+
+    /**
+     * @return number of operations after coalescing
+     */
+    public int size() {
+        return size;
+    }
+
+    public EncodingType encoding() {
+        return encoding;
+    }
+
+    /**
+     * Removes all operations, the buffers are kept for reuse
+     */
+    public void clear() {
+        Arrays.fill(inputs, 0, size, null);
+        Arrays.fill(attributes, 0, size, null);
+        size = 0;
+        textLength = 0;
+    }
+
+    /**
+     * Runs the script on a text branch, called by {@code YText.applyEdits}
+     */
+    public void apply(YrsBranch branch, YrsTransaction txn) {
+        int end = size;
+        // a trailing plain retain does not change anything
+        while (end > 0 && kinds[end - 1] == RETAIN && attributes[end - 1] == null) {
+            end--;
+        }
+        if (end == 0) {
+            return;
+        }
+
+        try (ScratchArena arena = ScratchArena.open()) {
+            Pointer block = null;
+            if (textLength > 0) {
+                block = arena.allocate(textLength);
+                block.write(0, text, 0, textLength);
+            }
+
+            int index = 0;
+            for (int i = 0; i < end; i++) {
+                YrsInput attrs = attributes[i] == null ? null : attributes[i].getWrappedObject();
+                switch (kinds[i]) {
+                    case RETAIN -> {
+                        if (attrs != null) {
+                            Yrs4J.YRS_INSTANCE.ytext_format(branch, txn, index, counts[i], attrs);
+                        }
+                        index += counts[i];
+                    }
+                    case INSERT -> {
+                        Yrs4J.YRS_INSTANCE.ytext_insert(branch, txn, index, block.share(textOffsets[i]), attrs);
+                        index += counts[i];
+                    }
+                    case EMBED -> {
+                        Yrs4J.YRS_INSTANCE.ytext_insert_embed(branch, txn, index, inputs[i].getWrappedObject(), attrs);
+                        index += counts[i];
+                    }
+                    case DELETE -> Yrs4J.YRS_INSTANCE.ytext_remove_range(branch, txn, index, counts[i]);
+                    default -> throw new IllegalStateException("Unknown operation: " + kinds[i]);
+                }
+            }
+        }
+    }
+
+    private int last() {
+        return size == 0 ? -1 : kinds[size - 1];
+    }
+
+    private void add(byte kind, int count, int textOffset, YInput input, YInput attrs) {
+        if (size == kinds.length) {
+            int capacity = size * 2;
+            kinds = Arrays.copyOf(kinds, capacity);
+            counts = Arrays.copyOf(counts, capacity);
+            textOffsets = Arrays.copyOf(textOffsets, capacity);
+            inputs = Arrays.copyOf(inputs, capacity);
+            attributes = Arrays.copyOf(attributes, capacity);
+        }
+
+        kinds[size] = kind;
+        counts[size] = count;
+        textOffsets[size] = textOffset;
+        inputs[size] = input;
+        attributes[size] = attrs;
+        size++;
+    }
+
+    private void appendText(byte[] bytes) {
+        int required = textLength + bytes.length + 1;
+        if (required > text.length) {
+            text = Arrays.copyOf(text, Math.max(required, text.length * 2));
+        }
+
+        System.arraycopy(bytes, 0, text, textLength, bytes.length);
+        text[textLength + bytes.length] = 0;
+        textLength = required;
+    }
+
+    private static void checkCount(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+    }
+
+    private static YInput jsonMap(Map<?, ?> map) {
+        String[] keys = new String[map.size()];
+        YInput[] values = new YInput[map.size()];
+        int i = 0;
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            keys[i] = String.valueOf(entry.getKey());
+            values[i++] = jsonValue(entry.getValue());
+        }
+        return YInput.createJsonMap(keys, values);
+    }
+
+    private static YInput jsonValue(Object value) {
+        if (value == null) {
+            return YInput.createNull();
+        } else if (value instanceof String str) {
+            return YInput.createString(str);
+        } else if (value instanceof Boolean flag) {
+            return YInput.createBool(flag);
+        } else if (value instanceof Double || value instanceof Float) {
+            return YInput.createFloat(((Number) value).doubleValue());
+        } else if (value instanceof Number number) {
+            return YInput.createLong(number.longValue());
+        } else if (value instanceof Map<?, ?> map) {
+            return jsonMap(map);
+        }
+        throw new IllegalArgumentException("Unsupported attribute value: " + value);
+    }
+}
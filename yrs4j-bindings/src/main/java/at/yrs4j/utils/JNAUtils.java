@@ -1,27 +1,63 @@
 package at.yrs4j.utils;
 
+import at.yrs4j.api.DelegatingYrsLib;
 import at.yrs4j.api.Yrs4J;
+import at.yrs4j.api.YrsLibNativeInterface;
 import at.yrs4j.wrapper.impl.YInputImpl;
 import at.yrs4j.wrapper.interfaces.YInput;
 import at.yrs4j.yrslib.YrsInput;
+import com.sun.jna.Library;
 import com.sun.jna.Memory;
+import com.sun.jna.Native;
+import com.sun.jna.NativeLibrary;
 import com.sun.jna.Pointer;
 
+import java.lang.reflect.Proxy;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 
 public class JNAUtils {
+    private static final Memory EMPTY = new Memory(1);
+
+    /**
+     * Copies the string as null-terminated UTF-8 into native memory. Inside an open {@link ScratchArena} scope the
+     * memory is taken from the arena and only valid until the scope is closed.
+     */
     public static Pointer stringToPointer(String s) {
-        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);  // Convert string to bytes
-        Memory memory = new Memory(bytes.length + 1);       // Allocate memory (plus one for the null terminator)
-        memory.write(0, bytes, 0, bytes.length);            // Write bytes to memory
-        memory.setByte(bytes.length, (byte) 0);             // Null-terminate the C string
-        return memory;                                      // Return the pointer to the memory
+        return ScratchArena.current().utf8(s);
     }
 
+    /**
+     * Copies the array into native memory. Inside an open {@link ScratchArena} scope the memory is taken from the
+     * arena and only valid until the scope is closed.
+     */
     public static Memory memoryFromByteArray(byte[] arr) {
-        Memory buffer = new Memory(arr.length);
-        buffer.write(0, arr, 0, arr.length);
-        return buffer;
+        return ScratchArena.current().bytes(arr);
+    }
+
+    /**
+     * Returns a pointer to the remaining bytes of the buffer, its position is not changed.
+     * Direct buffers are passed without copying, heap buffers are copied into native memory
+     * (from the {@link ScratchArena} if a scope is open).
+     */
+    public static Pointer bufferToPointer(ByteBuffer buffer) {
+        return bufferToPointer(ScratchArena.current(), buffer);
+    }
+
+    /**
+     * Same as {@link #bufferToPointer(ByteBuffer)}, heap buffers are copied into memory of the given arena
+     */
+    public static Pointer bufferToPointer(ScratchArena arena, ByteBuffer buffer) {
+        if (!buffer.hasRemaining()) {
+            return EMPTY;
+        }
+        if (buffer.isDirect()) {
+            return Native.getDirectBufferPointer(buffer).share(buffer.position());
+        }
+
+        Memory memory = arena.allocate(buffer.remaining());
+        memory.getByteBuffer(0, buffer.remaining()).put(buffer.duplicate());
+        return memory;
     }
 
     public static byte[] readByteArrayFromPointer(Pointer pointer, int length) {
@@ -54,11 +90,30 @@ public class JNAUtils {
     /**
      * Returuns the String from the pointer and destroys the underlying YString which is not needed anymore
      * @param stringPointer
-     * @return
+     * @return the string, null if the pointer is null (e.g. a missing attribute)
      */
     public static String getYrsString(Pointer stringPointer) {
+        if (stringPointer == null) {
+            return null;
+        }
         String str = stringPointer.getString(0);
         Yrs4J.YRS_INSTANCE.ystring_destroy(stringPointer);
         return str;
     }
+
+    /**
+     * Returns the JNA library backing the given instance, unwrapping {@link DelegatingYrsLib}s on the way
+     * @param lib instance returned by a {@link at.yrs4j.api.LibLoader}
+     * @return the loaded native library
+     */
+    public static NativeLibrary getNativeLibrary(YrsLibNativeInterface lib) {
+        while (lib instanceof DelegatingYrsLib delegating) {
+            lib = delegating.getDelegate();
+        }
+        if (lib == null || !Proxy.isProxyClass(lib.getClass())
+                || !(Proxy.getInvocationHandler(lib) instanceof Library.Handler handler)) {
+            throw new IllegalArgumentException("Not a JNA library instance: " + lib);
+        }
+        return handler.getNativeLibrary();
+    }
 }
@@ -0,0 +1,102 @@
+package at.yrs4j.utils;
+
+import com.sun.jna.Memory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Thread-local bump-pointer arena for short lived native arguments (keys, strings, update buffers). <br>
+ * Each thread owns one fixed native block, allocations made between {@link #open()} and {@link #close()} are handed
+ * out from it and all of them are released at once when the scope is closed. Scopes nest, so a callback running inside
+ * a native call can open its own scope without clobbering the arguments of the outer one. <br>
+ * <br>
+ * Allocations outside a scope, or larger than what is left in the block, fall back to a regular {@link Memory}. <br>
+ * <br>
+ * Usage:
+ * <pre>{@code
+ * try (ScratchArena arena = ScratchArena.open()) {
+ *     Yrs4J.YRS_INSTANCE.ymap_get(map, txn, arena.utf8(key));
+ * }
+ * }</pre>
+ * Pointers handed out by the arena must not be used after the scope is closed.
+ */
+public final class ScratchArena implements AutoCloseable {
+    /**
+     * Size of the per thread block in bytes, can be set with {@code -Dyrs4j.scratchArenaSize}
+     */
+    public static final int CAPACITY = Integer.getInteger("yrs4j.scratchArenaSize", 16 * 1024);
+    private static final ThreadLocal<ScratchArena> ARENAS = ThreadLocal.withInitial(ScratchArena::new);
+
+    private Memory block;
+    private long offset;
+    private long[] marks = new long[8];
+    private int depth;
+
+    private ScratchArena() {
+    }
+
+    /**
+     * Opens a scope on the arena of the current thread
+     */
+    public static ScratchArena open() {
+        ScratchArena arena = ARENAS.get();
+        if (arena.depth == arena.marks.length) {
+            arena.marks = Arrays.copyOf(arena.marks, arena.depth * 2);
+        }
+        arena.marks[arena.depth++] = arena.offset;
+        return arena;
+    }
+
+    /**
+     * Returns the arena of the current thread without opening a scope
+     */
+    public static ScratchArena current() {
+        return ARENAS.get();
+    }
+
+    /**
+     * Allocates {@code size} bytes, 8 byte aligned and not zeroed
+     */
+    public Memory allocate(long size) {
+        long start = (offset + 7) & ~7L;
+        if (depth == 0 || start + size > CAPACITY) {
+            return new Memory(Math.max(size, 1));
+        }
+        if (block == null) {
+            block = new Memory(CAPACITY);
+        }
+
+        offset = start + size;
+        // Memory.share hands out a Memory view keeping the block reachable
+        return (Memory) block.share(start, Math.max(size, 1));
+    }
+
+    /**
+     * Copies the string as null-terminated UTF-8
+     */
+    public Memory utf8(String s) {
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        Memory pointer = allocate(bytes.length + 1L);
+        pointer.write(0, bytes, 0, bytes.length);
+        pointer.setByte(bytes.length, (byte) 0);
+        return pointer;
+    }
+
+    public Memory bytes(byte[] arr) {
+        Memory pointer = allocate(arr.length);
+        pointer.write(0, arr, 0, arr.length);
+        return pointer;
+    }
+
+    /**
+     * Closes the innermost scope, releasing everything allocated since it was opened
+     */
+    @Override
+    public void close() {
+        if (depth == 0) {
+            throw new IllegalStateException("No open scratch arena scope");
+        }
+        offset = marks[--depth];
+    }
+}
@@ -0,0 +1,142 @@
+package at.yrs4j.utils;
+
+import at.yrs4j.wrapper.interfaces.YDoc;
+import com.sun.jna.Pointer;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Serial lanes for document access. <br>
+ * A {@link YDoc} is not thread-safe. Instead of locking, every document (or any other key, e.g. a room name) is bound
+ * to one of a fixed number of single threaded lanes, chosen by the hash of the key. All tasks of a key run one after
+ * the other in submission order, while tasks of keys on different lanes run in parallel. <br>
+ * <br>
+ * Tasks submitted from within the lane of their key run inline, so a task may submit and join further work for its own
+ * document without deadlocking. Tasks should not block on other lanes, two lanes waiting for each other deadlock.
+ */
+public final class YDocLanes implements AutoCloseable {
+    private static final ThreadLocal<Lane> CURRENT = new ThreadLocal<>();
+
+    private final Lane[] lanes;
+
+    /**
+     * One lane per available processor
+     */
+    public YDocLanes() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public YDocLanes(int laneCount) {
+        if (laneCount < 1) {
+            throw new IllegalArgumentException("At least one lane is needed: " + laneCount);
+        }
+
+        this.lanes = new Lane[laneCount];
+        for (int i = 0; i < laneCount; i++) {
+            lanes[i] = new Lane("yrs4j-lane-" + i);
+        }
+    }
+
+    public int laneCount() {
+        return lanes.length;
+    }
+
+    /**
+     * Runs {@code task} on the lane of {@code key}
+     */
+    public <T> CompletableFuture<T> submit(Object key, Supplier<T> task) {
+        Lane lane = laneOf(key);
+        if (CURRENT.get() == lane) {
+            try {
+                return CompletableFuture.completedFuture(task.get());
+            } catch (Throwable t) {
+                return CompletableFuture.failedFuture(t);
+            }
+        }
+
+        return CompletableFuture.supplyAsync(task, lane.executor);
+    }
+
+    /**
+     * Runs {@code task} on the lane of {@code key}
+     */
+    public CompletableFuture<Void> execute(Object key, Runnable task) {
+        return submit(key, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * Runs {@code task} on the lane of the document. The lane is chosen by the native document, so different wrappers
+     * of the same document share their lane.
+     */
+    public <T> CompletableFuture<T> submit(YDoc doc, Function<YDoc, T> task) {
+        return submit(keyOf(doc), () -> task.apply(doc));
+    }
+
+    /**
+     * @return true if the current thread is the lane of {@code key}
+     */
+    public boolean inLane(Object key) {
+        return CURRENT.get() == laneOf(key);
+    }
+
+    /**
+     * Stops accepting tasks, already submitted tasks are still run
+     */
+    @Override
+    public void close() {
+        for (Lane lane : lanes) {
+            lane.executor.shutdown();
+        }
+    }
+
+    /**
+     * Waits for the submitted tasks after {@link #close()}
+     *
+     * @return true if all lanes terminated in time
+     */
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (Lane lane : lanes) {
+            if (!lane.executor.awaitTermination(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Lane laneOf(Object key) {
+        Object k = key instanceof YDoc doc ? keyOf(doc) : Objects.requireNonNull(key);
+        int h = k.hashCode();
+        return lanes[Math.floorMod(h ^ (h >>> 16), lanes.length)];
+    }
+
+    private static Object keyOf(YDoc doc) {
+        return Pointer.nativeValue(doc.getWrappedObject().getPointer());
+    }
+
+    private static final class Lane {
+        private final ExecutorService executor;
+
+        private Lane(String name) {
+            // the thread is only started with the first task
+            this.executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), r -> {
+                Thread thread = new Thread(() -> {
+                    CURRENT.set(this);
+                    r.run();
+                }, name);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+}
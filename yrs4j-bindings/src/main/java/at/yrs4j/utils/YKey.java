@@ -0,0 +1,70 @@
+package at.yrs4j.utils;
+
+import com.sun.jna.Memory;
+import com.sun.jna.Pointer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Map key or XML attribute name encoded once as null-terminated UTF-8 in native memory. <br>
+ * The overloads of {@code YMap} and {@code YXml} taking a key pass the cached pointer straight to libyrs, so a lookup
+ * does neither encode the string nor allocate. <br>
+ * <br>
+ * Keys created with {@link #of(String)} are interned and live as long as the class loader, which is meant for the
+ * fixed keys of a schema (held in constants). Keys computed at runtime should use the {@code String} overloads.
+ */
+public final class YKey {
+    private static final ConcurrentHashMap<String, YKey> INTERNED = new ConcurrentHashMap<>();
+
+    private final String name;
+    private final Memory utf8;
+
+    private YKey(String name) {
+        if (name.indexOf('\0') >= 0) {
+            throw new IllegalArgumentException("Key must not contain NUL characters");
+        }
+
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        this.name = name;
+        this.utf8 = new Memory(bytes.length + 1L);
+        utf8.write(0, bytes, 0, bytes.length);
+        utf8.setByte(bytes.length, (byte) 0);
+    }
+
+    /**
+     * @return the interned key for {@code name}, the same instance for equal names
+     * @throws IllegalArgumentException if the name contains a NUL character
+     */
+    public static YKey of(String name) {
+        YKey key = INTERNED.get(Objects.requireNonNull(name));
+        return key != null ? key : INTERNED.computeIfAbsent(name, YKey::new);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    /**
+     * @return the null-terminated UTF-8 of the name, valid as long as this key is reachable
+     */
+    public Pointer pointer() {
+        return utf8;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o instanceof YKey other && name.equals(other.name);
+    }
+
+    @Override
+    public int hashCode() {
+        return name.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
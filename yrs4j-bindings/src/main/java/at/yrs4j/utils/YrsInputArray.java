@@ -0,0 +1,239 @@
+package at.yrs4j.utils;
+
+import at.yrs4j.wrapper.interfaces.ValueType;
+import at.yrs4j.wrapper.interfaces.YInput;
+import at.yrs4j.yrslib.YrsInput;
+import com.sun.jna.Memory;
+import com.sun.jna.Native;
+import com.sun.jna.Pointer;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes contiguous native {@code YrsInput} arrays for runs of primitive values. <br>
+ * The cells are written straight into native memory with the layout of {@link YrsInput}, instead of creating one
+ * input per value through {@code yinput_*} and copying it field by field into a JNA structure array. The memory is
+ * taken from the {@link ScratchArena} of the current thread, the arrays must only be used within the open scope.
+ */
+public final class YrsInputArray {
+    /**
+     * Size of one {@code YrsInput} cell in bytes
+     */
+    public static final int CELL_SIZE;
+    private static final int TAG_OFFSET;
+    private static final int LEN_OFFSET;
+    private static final int VALUE_OFFSET;
+
+    static {
+        Layout layout = new Layout();
+        CELL_SIZE = layout.size();
+        TAG_OFFSET = layout.offset("tag");
+        LEN_OFFSET = layout.offset("len");
+        VALUE_OFFSET = layout.offset("value");
+    }
+
+    private YrsInputArray() {
+    }
+
+    public static Pointer longs(ScratchArena arena, long[] values) {
+        Pointer cells = cells(arena, values.length);
+        for (int i = 0; i < values.length; i++) {
+            long offset = (long) i * CELL_SIZE;
+            header(cells, offset, ValueType.Y_JSON_INT, 1);
+            cells.setLong(offset + VALUE_OFFSET, values[i]);
+        }
+        return cells;
+    }
+
+    public static Pointer doubles(ScratchArena arena, double[] values) {
+        Pointer cells = cells(arena, values.length);
+        for (int i = 0; i < values.length; i++) {
+            long offset = (long) i * CELL_SIZE;
+            header(cells, offset, ValueType.Y_JSON_NUM, 1);
+            cells.setDouble(offset + VALUE_OFFSET, values[i]);
+        }
+        return cells;
+    }
+
+    public static Pointer booleans(ScratchArena arena, boolean[] values) {
+        Pointer cells = cells(arena, values.length);
+        for (int i = 0; i < values.length; i++) {
+            long offset = (long) i * CELL_SIZE;
+            header(cells, offset, ValueType.Y_JSON_BOOL, 1);
+            // the value is a union, clear the bytes behind the flag
+            cells.setLong(offset + VALUE_OFFSET, 0);
+            cells.setByte(offset + VALUE_OFFSET, values[i] ? (byte) 1 : (byte) 0);
+        }
+        return cells;
+    }
+
+    /**
+     * The null-terminated UTF-8 strings are stored in the same block behind the cells. {@code null} elements are
+     * inserted as json null.
+     */
+    public static Pointer strings(ScratchArena arena, String[] values) {
+        byte[][] encoded = new byte[values.length][];
+        long stringBytes = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                encoded[i] = values[i].getBytes(StandardCharsets.UTF_8);
+                stringBytes += encoded[i].length + 1;
+            }
+        }
+
+        long cellBytes = (long) values.length * CELL_SIZE;
+        Pointer cells = arena.allocate(Math.max(1, cellBytes + stringBytes));
+        long stringOffset = cellBytes;
+        for (int i = 0; i < values.length; i++) {
+            long offset = (long) i * CELL_SIZE;
+            if (encoded[i] == null) {
+                header(cells, offset, ValueType.Y_JSON_NULL, 0);
+                cells.setPointer(offset + VALUE_OFFSET, null);
+                continue;
+            }
+
+            header(cells, offset, ValueType.Y_JSON_STR, 1);
+            cells.write(stringOffset, encoded[i], 0, encoded[i].length);
+            cells.setByte(stringOffset + encoded[i].length, (byte) 0);
+            cells.setPointer(offset + VALUE_OFFSET, cells.share(stringOffset));
+            stringOffset += encoded[i].length + 1;
+        }
+        return cells;
+    }
+
+    /**
+     * Mixed values: {@link Long}/{@link Integer}/{@link Short}/{@link Byte} as json integers, {@link Double}/
+     * {@link Float} as json numbers, {@link Boolean}, {@link String}, {@code byte[]} as json binary, {@code null} as json
+     * null and {@link YInput}s as they are. Strings and binaries are copied into the same block behind the cells.
+     *
+     * @throws IllegalArgumentException for values of other types
+     */
+    public static Pointer values(ScratchArena arena, Object[] values) {
+        byte[][] data = new byte[values.length][];
+        long dataBytes = encode(values, data);
+
+        long cellBytes = (long) values.length * CELL_SIZE;
+        Pointer cells = arena.allocate(Math.max(1, cellBytes + dataBytes));
+        write(cells, 0, cellBytes, values, data);
+        return cells;
+    }
+
+    /**
+     * Writes a json map cell together with its keys and values into one block owned by the caller, the block starts
+     * with the map cell and is freed when it is closed or garbage collected. Values are written like
+     * {@link #values(ScratchArena, Object[])}, {@link YInput}s are not supported as their memory is owned elsewhere.
+     *
+     * @throws IllegalArgumentException for values of unsupported types
+     */
+    public static Memory jsonMap(String[] keys, Object[] values) {
+        if (keys.length != values.length) {
+            throw new IllegalArgumentException("Got " + keys.length + " keys for " + values.length + " values");
+        }
+
+        int size = keys.length;
+        byte[][] data = new byte[size][];
+        long dataBytes = encode(values, data);
+        byte[][] names = new byte[size][];
+        for (int i = 0; i < size; i++) {
+            if (values[i] instanceof YInput) {
+                throw new IllegalArgumentException("Unsupported value type: " + values[i].getClass().getName());
+            }
+            names[i] = keys[i].getBytes(StandardCharsets.UTF_8);
+            dataBytes += names[i].length + 1;
+        }
+
+        long cellsOffset = CELL_SIZE;
+        long keysOffset = cellsOffset + (long) size * CELL_SIZE;
+        long dataOffset = keysOffset + (long) size * Native.POINTER_SIZE;
+        Memory block = new Memory(dataOffset + dataBytes);
+
+        long keyData = write(block, cellsOffset, dataOffset, values, data);
+        for (int i = 0; i < size; i++) {
+            block.write(keyData, names[i], 0, names[i].length);
+            block.setByte(keyData + names[i].length, (byte) 0);
+            block.setPointer(keysOffset + (long) i * Native.POINTER_SIZE, block.share(keyData));
+            keyData += names[i].length + 1;
+        }
+
+        header(block, 0, ValueType.Y_JSON_MAP, size);
+        block.setPointer(VALUE_OFFSET, block.share(keysOffset));
+        block.setPointer(VALUE_OFFSET + Native.POINTER_SIZE, block.share(cellsOffset));
+        return block;
+    }
+
+    /**
+     * Encodes strings and binaries into {@code data}
+     *
+     * @return bytes needed behind the cells
+     */
+    private static long encode(Object[] values, byte[][] data) {
+        long dataBytes = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] instanceof String str) {
+                data[i] = str.getBytes(StandardCharsets.UTF_8);
+                dataBytes += data[i].length + 1;
+            } else if (values[i] instanceof byte[] bytes) {
+                data[i] = bytes;
+                dataBytes += bytes.length;
+            }
+        }
+        return dataBytes;
+    }
+
+    /**
+     * @return offset behind the written data
+     */
+    private static long write(Pointer cells, long cellsOffset, long dataOffset, Object[] values, byte[][] data) {
+        for (int i = 0; i < values.length; i++) {
+            long offset = cellsOffset + (long) i * CELL_SIZE;
+            Object value = values[i];
+            if (value == null) {
+                header(cells, offset, ValueType.Y_JSON_NULL, 0);
+                cells.setPointer(offset + VALUE_OFFSET, null);
+            } else if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                header(cells, offset, ValueType.Y_JSON_INT, 1);
+                cells.setLong(offset + VALUE_OFFSET, ((Number) value).longValue());
+            } else if (value instanceof Double || value instanceof Float) {
+                header(cells, offset, ValueType.Y_JSON_NUM, 1);
+                cells.setDouble(offset + VALUE_OFFSET, ((Number) value).doubleValue());
+            } else if (value instanceof Boolean flag) {
+                header(cells, offset, ValueType.Y_JSON_BOOL, 1);
+                cells.setLong(offset + VALUE_OFFSET, 0);
+                cells.setByte(offset + VALUE_OFFSET, flag ? (byte) 1 : (byte) 0);
+            } else if (value instanceof String) {
+                header(cells, offset, ValueType.Y_JSON_STR, 1);
+                cells.write(dataOffset, data[i], 0, data[i].length);
+                cells.setByte(dataOffset + data[i].length, (byte) 0);
+                cells.setPointer(offset + VALUE_OFFSET, cells.share(dataOffset));
+                dataOffset += data[i].length + 1;
+            } else if (value instanceof byte[]) {
+                header(cells, offset, ValueType.Y_JSON_BUF, data[i].length);
+                cells.write(dataOffset, data[i], 0, data[i].length);
+                cells.setPointer(offset + VALUE_OFFSET, cells.share(dataOffset));
+                dataOffset += data[i].length;
+            } else if (value instanceof YInput input) {
+                YrsInput cell = input.getWrappedObject();
+                cell.write();
+                cells.write(offset, cell.getPointer().getByteArray(0, CELL_SIZE), 0, CELL_SIZE);
+            } else {
+                throw new IllegalArgumentException("Unsupported value type: " + value.getClass().getName());
+            }
+        }
+        return dataOffset;
+    }
+
+    private static Pointer cells(ScratchArena arena, int count) {
+        return arena.allocate(Math.max(1, (long) count * CELL_SIZE));
+    }
+
+    private static void header(Pointer cells, long offset, ValueType type, int len) {
+        cells.setByte(offset + TAG_OFFSET, (byte) type.getValue());
+        cells.setInt(offset + LEN_OFFSET, len);
+    }
+
+    private static final class Layout extends YrsInput {
+        int offset(String field) {
+            return fieldOffset(field);
+        }
+    }
+}
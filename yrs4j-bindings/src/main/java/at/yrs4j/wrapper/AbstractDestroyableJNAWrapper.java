@@ -1,22 +1,37 @@
 package at.yrs4j.wrapper;
 
+import java.util.function.Consumer;
+
+/**
+ * Wrapper owning native memory. The memory is freed when the wrapper is closed/destroyed or, at the latest, after it
+ * became unreachable (see {@link NativeResource}).
+ */
 public abstract class AbstractDestroyableJNAWrapper<T> extends AbstractJNAWrapper<T> implements Destroyable {
 
-    protected boolean destroyed = false;
+    private final NativeResource resource;
+    private volatile boolean destroyed = false;
 
-    public AbstractDestroyableJNAWrapper(T wrappedObject) {
+    /**
+     * @param wrappedObject native object
+     * @param release       frees the native object, must not reference the wrapper. {@code null} for borrowed objects
+     *                      which are owned by someone else and must not be freed by this wrapper
+     */
+    public AbstractDestroyableJNAWrapper(T wrappedObject, Consumer<? super T> release) {
         super(wrappedObject);
-        registerDestroyable(this);
+        this.resource = release == null || wrappedObject == null ? null : NativeResource.register(this, wrappedObject, release);
     }
 
     @Override
     public void destroy() {
         this.destroyed = true;
+        if (resource != null) {
+            resource.release();
+        }
     }
 
     @Override
     public boolean isDestroyed() {
-        return destroyed;
+        return destroyed || resource != null && resource.isReleased();
     }
 
 }
@@ -1,14 +1,17 @@
 package at.yrs4j.wrapper;
 
-import at.yrs4j.api.Yrs4J;
-
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.WeakHashMap;
 
 public class AbstractJNAWrapper<T> implements JNAWrapper<T> {
     protected final T wrappedObject;
-    private final List<Destroyable> destroyables = new ArrayList<>(100);
+    // allocated on the first registered child, most wrappers (outputs, branches returned by get) never have one
+    private volatile Set<Destroyable> destroyables;
+    private Object owner;
 
     public AbstractJNAWrapper(T wrappedObject) {
         this.wrappedObject = wrappedObject;
@@ -20,15 +23,50 @@ public class AbstractJNAWrapper<T> implements JNAWrapper<T> {
 
     @Override
     public void cleanup() {
-        destroyables.stream().filter(d -> !d.isDestroyed()).forEach(Destroyable::destroy);
-        destroyables.clear();
+        Set<Destroyable> tracked = destroyables;
+        if (tracked == null) {
+            return;
+        }
+
+        List<Destroyable> children;
+        synchronized (tracked) {
+            children = new ArrayList<>(tracked);
+            tracked.clear();
+        }
+        children.stream().filter(d -> !d.isDestroyed()).forEach(Destroyable::destroy);
     }
 
+    /**
+     * Registers a child to be destroyed by {@link #cleanup()}. Children are only referenced weakly, one that becomes
+     * unreachable is freed on its own.
+     */
     protected void registerDestroyable(Destroyable destroyable) {
         Objects.requireNonNull(destroyable);
-        this.destroyables.add(destroyable);
-        Yrs4J.registerDestroyable(destroyable);
+        Set<Destroyable> tracked = destroyables;
+        if (tracked == null) {
+            synchronized (this) {
+                tracked = destroyables;
+                if (tracked == null) {
+                    tracked = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+                    destroyables = tracked;
+                }
+            }
+        }
+        tracked.add(destroyable);
     }
 
+    /**
+     * Keeps {@code owner} reachable as long as {@code wrapper} is. Native objects pointing into memory of another
+     * wrapper (branches of a document, the value of a map entry...) are tied to it this way, so the owner cannot be
+     * freed by the garbage collector while they are still in use.
+     *
+     * @return the given wrapper
+     */
+    public static <W> W ownedBy(W wrapper, Object owner) {
+        if (wrapper instanceof AbstractJNAWrapper<?> w) {
+            w.owner = owner;
+        }
+        return wrapper;
+    }
 
 }
@@ -0,0 +1,31 @@
+package at.yrs4j.wrapper;
+
+import java.nio.BufferOverflowException;
+
+/**
+ * Thrown when an encoded state does not fit into the destination buffer, carries the number of bytes needed so the
+ * caller can retry with a large enough buffer
+ */
+public class BufferTooSmallException extends BufferOverflowException {
+    private static final long serialVersionUID = 1L;
+
+    private final int requiredLength;
+    private final int remaining;
+
+    public BufferTooSmallException(int requiredLength, int remaining) {
+        this.requiredLength = requiredLength;
+        this.remaining = remaining;
+    }
+
+    /**
+     * @return number of bytes the destination needs to have remaining
+     */
+    public int requiredLength() {
+        return requiredLength;
+    }
+
+    @Override
+    public String getMessage() {
+        return "Destination has " + remaining + " bytes remaining, " + requiredLength + " required";
+    }
+}
@@ -2,9 +2,16 @@ package at.yrs4j.wrapper;
 
 /**
  * Destroyable Interface denoting a wrapped YRS struct that has a destroy() function which has to be called to deallocate memory
+ * <br>
+ * Destroying is idempotent, {@link #close()} is an alias so destroyables can be used with try-with-resources.
  */
-public interface Destroyable {
+public interface Destroyable extends AutoCloseable {
     void destroy();
 
     boolean isDestroyed();
+
+    @Override
+    default void close() {
+        destroy();
+    }
 }
@@ -0,0 +1,71 @@
+package at.yrs4j.wrapper;
+
+import java.lang.ref.Cleaner;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Native memory owned by a wrapper. <br>
+ * The memory is released exactly once: either explicitly (close/destroy of the wrapper), by the shared
+ * {@link Cleaner} once the wrapper became unreachable, or by {@link at.yrs4j.api.Yrs4J#cleanup()}. <br>
+ * <br>
+ * The release action only references the native object, never the wrapper, so registration does not keep wrappers
+ * alive.
+ */
+public final class NativeResource {
+    private static final Cleaner CLEANER = Cleaner.create();
+    private static final Set<NativeResource> LIVE = ConcurrentHashMap.newKeySet();
+
+    private final AtomicBoolean released = new AtomicBoolean();
+    private final Runnable release;
+    private final Cleaner.Cleanable cleanable;
+
+    private NativeResource(Object wrapper, Runnable release) {
+        this.release = release;
+        LIVE.add(this);
+        this.cleanable = CLEANER.register(wrapper, this::run);
+    }
+
+    /**
+     * @param wrapper      wrapper whose reachability decides when the memory is freed
+     * @param nativeObject native object to free
+     * @param release      frees the native object, must not reference the wrapper
+     */
+    public static <T> NativeResource register(Object wrapper, T nativeObject, Consumer<? super T> release) {
+        return new NativeResource(wrapper, () -> release.accept(nativeObject));
+    }
+
+    /**
+     * Frees the native memory now, subsequent calls do nothing
+     */
+    public void release() {
+        cleanable.clean();
+    }
+
+    public boolean isReleased() {
+        return released.get();
+    }
+
+    /**
+     * Frees all native memory that has not been released yet
+     */
+    public static void releaseAll() {
+        LIVE.forEach(NativeResource::release);
+    }
+
+    /**
+     * @return number of native objects currently allocated through wrappers
+     */
+    public static int liveCount() {
+        return LIVE.size();
+    }
+
+    private void run() {
+        if (released.compareAndSet(false, true)) {
+            LIVE.remove(this);
+            release.run();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package at.yrs4j.wrapper;
+
+import java.lang.ref.Cleaner;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Debug helper finding transactions which are never committed or closed. <br>
+ * An open read transaction blocks every write transaction of its document, so a leaked one stalls the document
+ * forever. When enabled (system property {@value #DEBUG_PROPERTY} or {@link #setEnabled(boolean)}), every transaction
+ * records the stack trace of the place it was opened at. Transactions that become unreachable without being ended are
+ * reported to the leak handler with that stack trace, which logs a warning by default. <br>
+ * <br>
+ * Recording a stack trace per transaction is expensive, only enable this while debugging.
+ */
+public final class TransactionTracker {
+    public static final String DEBUG_PROPERTY = "yrs4j.debugTransactions";
+
+    private static final Cleaner CLEANER = Cleaner.create();
+    private static final Set<Site> OPEN = ConcurrentHashMap.newKeySet();
+    private static final Consumer<Throwable> LOG_LEAK = site -> System.getLogger(TransactionTracker.class.getName())
+            .log(System.Logger.Level.WARNING, "Transaction was never committed or closed", site);
+
+    private static volatile boolean enabled = Boolean.getBoolean(DEBUG_PROPERTY);
+    private static volatile Consumer<? super Throwable> leakHandler = LOG_LEAK;
+
+    private TransactionTracker() {
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean enabled) {
+        TransactionTracker.enabled = enabled;
+    }
+
+    /**
+     * @param handler receives the allocation site of every leaked transaction, {@code null} restores the default
+     *                handler logging a warning
+     */
+    public static void setLeakHandler(Consumer<? super Throwable> handler) {
+        leakHandler = handler == null ? LOG_LEAK : handler;
+    }
+
+    /**
+     * @return allocation sites of all tracked transactions that have not been ended yet
+     */
+    public static List<Throwable> openTransactions() {
+        return OPEN.stream().map(site -> site.openedAt).toList();
+    }
+
+    /**
+     * Starts tracking a transaction
+     *
+     * @param transaction wrapper of the transaction, only referenced weakly
+     * @return the site to end once the transaction is committed, {@code null} if tracking is disabled
+     */
+    public static Site opened(Object transaction) {
+        if (!enabled) {
+            return null;
+        }
+
+        Objects.requireNonNull(transaction);
+        Site site = new Site(new Throwable("Transaction opened in thread " + Thread.currentThread().getName()));
+        OPEN.add(site);
+        site.cleanable = CLEANER.register(transaction, site::leaked);
+        return site;
+    }
+
+    public static final class Site {
+        private final Throwable openedAt;
+        private Cleaner.Cleanable cleanable;
+        private volatile boolean ended;
+
+        private Site(Throwable openedAt) {
+            this.openedAt = openedAt;
+        }
+
+        /**
+         * Marks the transaction as committed/closed
+         */
+        public void ended() {
+            ended = true;
+            cleanable.clean();
+        }
+
+        private void leaked() {
+            OPEN.remove(this);
+            if (!ended) {
+                leakHandler.accept(openedAt);
+            }
+        }
+    }
+}
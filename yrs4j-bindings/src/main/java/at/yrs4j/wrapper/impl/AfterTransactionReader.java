@@ -0,0 +1,72 @@
+package at.yrs4j.wrapper.impl;
+
+import at.yrs4j.wrapper.interfaces.YTransactionChange;
+import at.yrs4j.yrslib.YrsAfterTransactionEvent;
+import at.yrs4j.yrslib.YrsDeleteSet;
+import at.yrs4j.yrslib.YrsStateVector;
+import at.yrs4j.yrslib.YrsdRangeSeq;
+import com.sun.jna.Pointer;
+
+/**
+ * Copies an after transaction event into a {@link YTransactionChange}. Must be called inside the observer callback,
+ * the event is only valid until the callback returns.
+ */
+final class AfterTransactionReader {
+    private static final long[] NO_CLIENTS = new long[0];
+    private static final int[] NO_INTS = new int[0];
+    private static final int SEQ_SIZE;
+    private static final int SEQ_LEN_OFFSET;
+    private static final int SEQ_RANGES_OFFSET;
+
+    static {
+        SeqLayout seq = new SeqLayout();
+        SEQ_SIZE = seq.size();
+        SEQ_LEN_OFFSET = seq.offset("len");
+        SEQ_RANGES_OFFSET = seq.offset("seq");
+    }
+
+    private AfterTransactionReader() {
+    }
+
+    static YTransactionChange read(YrsAfterTransactionEvent event) {
+        return new YTransactionChange(stateVector(event.before_state), stateVector(event.after_state), deleteSet(event.delete_set));
+    }
+
+    private static YTransactionChange.StateVector stateVector(YrsStateVector sv) {
+        int count = sv.entries_count;
+        if (count == 0) {
+            return new YTransactionChange.StateVector(NO_CLIENTS, NO_INTS);
+        }
+        return new YTransactionChange.StateVector(sv.client_ids.getPointer().getLongArray(0, count), sv.clocks.getPointer().getIntArray(0, count));
+    }
+
+    private static YTransactionChange.DeleteSet deleteSet(YrsDeleteSet ds) {
+        int count = ds.entries_count;
+        if (count == 0) {
+            return new YTransactionChange.DeleteSet(NO_CLIENTS, new int[]{0}, NO_INTS);
+        }
+
+        long[] clients = ds.client_ids.getPointer().getLongArray(0, count);
+        Pointer seqs = ds.ranges.getPointer();
+        int[] offsets = new int[count + 1];
+        for (int i = 0; i < count; i++) {
+            offsets[i + 1] = offsets[i] + seqs.getInt((long) i * SEQ_SIZE + SEQ_LEN_OFFSET);
+        }
+
+        // YrsIdRange is two consecutive uint32 (start, end), the sequences are copied as they are
+        int[] ranges = new int[2 * offsets[count]];
+        for (int i = 0; i < count; i++) {
+            int len = offsets[i + 1] - offsets[i];
+            if (len > 0) {
+                seqs.getPointer((long) i * SEQ_SIZE + SEQ_RANGES_OFFSET).read(0, ranges, 2 * offsets[i], 2 * len);
+            }
+        }
+        return new YTransactionChange.DeleteSet(clients, offsets, ranges);
+    }
+
+    private static final class SeqLayout extends YrsdRangeSeq {
+        int offset(String field) {
+            return fieldOffset(field);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package at.yrs4j.wrapper.impl;
+
+import at.yrs4j.wrapper.Destroyable;
+import at.yrs4j.wrapper.interfaces.YIterator;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * Spliterator over a native iterator, pulling {@code chunkSize} elements at a time into a reusable buffer. <br>
+ * Elements are handed out from the buffer, the native iterator is only touched when refilling. Splitting hands off
+ * the elements already fetched as an array spliterator, so parallel streams never call into the native iterator from
+ * more than one thread. The native iterator is destroyed once exhausted or when the spliterator is closed.
+ */
+final class ChunkedSpliterator<T> implements Spliterator<T>, Destroyable {
+    private final YIterator<T> iter;
+    private final Object[] chunk;
+    private final int characteristics;
+    private long remaining;
+    private int position;
+    private int limit;
+    private boolean exhausted;
+
+    /**
+     * @param size number of elements, {@code -1} if unknown
+     */
+    ChunkedSpliterator(YIterator<T> iter, long size, int characteristics, int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+        }
+
+        this.iter = Objects.requireNonNull(iter);
+        this.chunk = new Object[chunkSize];
+        this.remaining = size < 0 ? Long.MAX_VALUE : size;
+        this.characteristics = size < 0
+                ? characteristics & ~(SIZED | SUBSIZED)
+                : characteristics | SIZED | SUBSIZED;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (position == limit && !fill()) {
+            return false;
+        }
+
+        action.accept(take());
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        while (position < limit || fill()) {
+            while (position < limit) {
+                action.accept(take());
+            }
+        }
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        if (position == limit && !fill()) {
+            return null;
+        }
+
+        Object[] prefix = Arrays.copyOfRange(chunk, position, limit);
+        Arrays.fill(chunk, position, limit, null);
+        position = limit;
+        if (remaining != Long.MAX_VALUE) {
+            remaining -= prefix.length;
+        }
+        return Spliterators.spliterator(prefix, characteristics);
+    }
+
+    @Override
+    public long estimateSize() {
+        return remaining;
+    }
+
+    @Override
+    public int characteristics() {
+        return characteristics;
+    }
+
+    @Override
+    public void destroy() {
+        exhausted = true;
+        Arrays.fill(chunk, position, limit, null);
+        position = limit = 0;
+        iter.destroy();
+    }
+
+    @Override
+    public boolean isDestroyed() {
+        return iter.isDestroyed();
+    }
+
+    @SuppressWarnings("unchecked")
+    private T take() {
+        T element = (T) chunk[position];
+        chunk[position++] = null;
+        if (remaining != Long.MAX_VALUE) {
+            remaining--;
+        }
+        return element;
+    }
+
+    private boolean fill() {
+        if (exhausted) {
+            return false;
+        }
+
+        int count = 0;
+        T element;
+        while (count < chunk.length && (element = iter.next()) != null) {
+            chunk[count++] = element;
+        }
+        position = 0;
+        limit = count;
+
+        if (count < chunk.length) {
+            exhausted = true;
+            iter.destroy();
+            if (remaining != Long.MAX_VALUE) {
+                remaining = count;
+            }
+        }
+        return count > 0;
+    }
+}
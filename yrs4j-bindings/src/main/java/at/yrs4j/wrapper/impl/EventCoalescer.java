@@ -0,0 +1,246 @@
+package at.yrs4j.wrapper.impl;
+
+import at.yrs4j.wrapper.interfaces.YEvent.Change;
+import at.yrs4j.wrapper.interfaces.YEvent.KeyChange;
+import at.yrs4j.wrapper.interfaces.YTextOffsetIndex.Unit;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Merges two consecutive events of the same shared type into one with the same net effect. <br>
+ * Deltas are composed like Quill deltas: the second delta is applied to the result of the first one. For texts the
+ * lengths are counted in the offset encoding of the document, strings are cut at code point boundaries (offsets
+ * inside a code point are rounded down, like {@link TextRope} does).
+ */
+final class EventCoalescer {
+
+    private EventCoalescer() {
+    }
+
+    /**
+     * @param unit offset encoding of a text, {@code null} for sequences where every value takes one position
+     */
+    static List<Change> compose(List<Change> first, List<Change> second, Unit unit) {
+        Ops a = new Ops(first, unit);
+        Ops b = new Ops(second, unit);
+        List<Change> result = new ArrayList<>(first.size() + second.size());
+
+        while (a.hasNext() || b.hasNext()) {
+            if (b.hasNext() && b.kind() == Change.Kind.INSERT) {
+                push(result, b.next(Long.MAX_VALUE), unit);
+            } else if (a.hasNext() && a.kind() == Change.Kind.DELETE) {
+                push(result, a.next(Long.MAX_VALUE), unit);
+            } else if (!b.hasNext()) {
+                push(result, a.next(Long.MAX_VALUE), unit);
+            } else if (!a.hasNext()) {
+                // beyond the first delta everything was retained
+                push(result, b.next(Long.MAX_VALUE), unit);
+            } else {
+                long length = Math.min(a.length(), b.length());
+                Change x = a.next(length);
+                Change y = b.next(length);
+                if (y.kind() == Change.Kind.RETAIN) {
+                    if (x.kind() == Change.Kind.RETAIN) {
+                        push(result, new Change(Change.Kind.RETAIN, x.len(), List.of(), attributes(x.attributes(), y.attributes(), true)), unit);
+                    } else {
+                        push(result, new Change(Change.Kind.INSERT, x.len(), x.values(), attributes(x.attributes(), y.attributes(), false)), unit);
+                    }
+                } else if (x.kind() == Change.Kind.RETAIN) {
+                    push(result, y, unit);
+                }
+                // deleting inserted content cancels out
+            }
+        }
+
+        // a trailing plain retain changes nothing
+        int last = result.size() - 1;
+        if (last >= 0 && result.get(last).kind() == Change.Kind.RETAIN && result.get(last).attributes().isEmpty()) {
+            result.remove(last);
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    static Map<String, KeyChange> merge(Map<String, KeyChange> first, Map<String, KeyChange> second) {
+        Map<String, KeyChange> merged = new LinkedHashMap<>(first);
+        second.forEach((key, next) -> {
+            KeyChange previous = merged.get(key);
+            if (previous == null) {
+                merged.put(key, next);
+                return;
+            }
+
+            boolean existedBefore = previous.kind() != KeyChange.Kind.INSERT;
+            boolean existsAfter = next.kind() != KeyChange.Kind.DELETE;
+            if (!existedBefore && !existsAfter) {
+                merged.remove(key);
+            } else {
+                KeyChange.Kind kind = !existedBefore ? KeyChange.Kind.INSERT : existsAfter ? KeyChange.Kind.UPDATE : KeyChange.Kind.DELETE;
+                merged.put(key, new KeyChange(kind, previous.oldValue(), next.newValue()));
+            }
+        });
+        return Collections.unmodifiableMap(merged);
+    }
+
+    private static Map<String, Object> attributes(Map<String, Object> first, Map<String, Object> second, boolean keepNull) {
+        if (second.isEmpty() && (keepNull || !hasNull(first))) {
+            return first;
+        }
+
+        Map<String, Object> merged = new LinkedHashMap<>(first);
+        merged.putAll(second);
+        if (!keepNull) {
+            merged.values().removeIf(value -> value == null);
+        }
+        return Collections.unmodifiableMap(merged);
+    }
+
+    private static boolean hasNull(Map<String, Object> attributes) {
+        for (Object value : attributes.values()) {
+            if (value == null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Appends the change, merging it into the last one if both are of the same kind with the same attributes
+     */
+    private static void push(List<Change> result, Change change, Unit unit) {
+        int last = result.size() - 1;
+        Change previous = last < 0 ? null : result.get(last);
+        if (previous == null || previous.kind() != change.kind() || !previous.attributes().equals(change.attributes())) {
+            result.add(change);
+            return;
+        }
+
+        if (change.kind() != Change.Kind.INSERT) {
+            result.set(last, new Change(change.kind(), previous.len() + change.len(), List.of(), change.attributes()));
+            return;
+        }
+
+        List<Object> values = new ArrayList<>(previous.values());
+        for (Object value : change.values()) {
+            int end = values.size() - 1;
+            // neighbouring strings of a text become one
+            if (unit != null && value instanceof String s && end >= 0 && values.get(end) instanceof String p) {
+                values.set(end, p + s);
+            } else {
+                values.add(value);
+            }
+        }
+        result.set(last, new Change(Change.Kind.INSERT, values.size(), Collections.unmodifiableList(values), change.attributes()));
+    }
+
+    /**
+     * Cursor over the changes of a delta, handing out pieces of them
+     */
+    private static final class Ops {
+        private final List<Change> changes;
+        private final Unit unit;
+        private int index;
+        // consumed length of the current change
+        private long offset;
+
+        private Ops(List<Change> changes, Unit unit) {
+            this.changes = changes;
+            this.unit = unit;
+        }
+
+        boolean hasNext() {
+            return index < changes.size();
+        }
+
+        Change.Kind kind() {
+            return changes.get(index).kind();
+        }
+
+        long length() {
+            return length(changes.get(index)) - offset;
+        }
+
+        /**
+         * @return the next piece of at most {@code max} positions
+         */
+        Change next(long max) {
+            Change change = changes.get(index);
+            long total = length(change);
+            long take = Math.min(max, total - offset);
+            Change piece;
+            if (offset == 0 && take == total) {
+                piece = change;
+            } else if (change.kind() == Change.Kind.INSERT) {
+                List<Object> values = slice(change.values(), offset, offset + take);
+                piece = new Change(Change.Kind.INSERT, values.size(), values, change.attributes());
+            } else {
+                piece = new Change(change.kind(), (int) take, List.of(), change.attributes());
+            }
+
+            offset += take;
+            if (offset == total) {
+                index++;
+                offset = 0;
+            }
+            return piece;
+        }
+
+        private long length(Change change) {
+            if (change.kind() != Change.Kind.INSERT) {
+                return change.len();
+            }
+
+            long length = 0;
+            for (Object value : change.values()) {
+                length += length(value);
+            }
+            return length;
+        }
+
+        private long length(Object value) {
+            return unit != null && value instanceof String s ? TextDeltas.length(s, unit) : 1;
+        }
+
+        private List<Object> slice(List<Object> values, long from, long to) {
+            List<Object> slice = new ArrayList<>();
+            long position = 0;
+            for (Object value : values) {
+                long length = length(value);
+                long start = Math.max(from, position);
+                long end = Math.min(to, position + length);
+                if (start < end) {
+                    if (start == position && end == position + length) {
+                        slice.add(value);
+                    } else {
+                        String s = (String) value;
+                        slice.add(s.substring(charIndex(s, start - position), charIndex(s, end - position)));
+                    }
+                }
+                position += length;
+            }
+            return Collections.unmodifiableList(slice);
+        }
+
+        /**
+         * @return index of the char at {@code units} into the string, rounded down to a code point boundary
+         */
+        private int charIndex(String s, long units) {
+            long count = 0;
+            int i = 0;
+            while (i < s.length()) {
+                int cp = s.codePointAt(i);
+                long width = unit == Unit.CODE_POINTS ? 1 : unit == Unit.UTF16 ? Character.charCount(cp)
+                        : cp < 0x80 ? 1 : cp < 0x800 ? 2 : cp < 0x10000 ? 3 : 4;
+                if (count + width > units) {
+                    break;
+                }
+                count += width;
+                i += Character.charCount(cp);
+            }
+            return i;
+        }
+    }
+}
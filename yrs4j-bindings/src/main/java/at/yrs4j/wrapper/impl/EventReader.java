@@ -0,0 +1,233 @@
+package at.yrs4j.wrapper.impl;
+
+import at.yrs4j.api.Yrs4J;
+import at.yrs4j.api.YrsLibNativeInterface;
+import at.yrs4j.wrapper.interfaces.YArray;
+import at.yrs4j.wrapper.interfaces.YEvent;
+import at.yrs4j.wrapper.interfaces.YEvent.Change;
+import at.yrs4j.wrapper.interfaces.YEvent.KeyChange;
+import at.yrs4j.wrapper.interfaces.YMap;
+import at.yrs4j.wrapper.interfaces.YText;
+import at.yrs4j.wrapper.interfaces.YXmlElement;
+import at.yrs4j.wrapper.interfaces.YXmlText;
+import at.yrs4j.yrslib.YrsArrayEvent;
+import at.yrs4j.yrslib.YrsDelta;
+import at.yrs4j.yrslib.YrsDeltaAttr;
+import at.yrs4j.yrslib.YrsEvent;
+import at.yrs4j.yrslib.YrsEventChange;
+import at.yrs4j.yrslib.YrsEventKeyChange;
+import at.yrs4j.yrslib.YrsMapEvent;
+import at.yrs4j.yrslib.YrsTextEvent;
+import at.yrs4j.yrslib.YrsXmlEvent;
+import at.yrs4j.yrslib.YrsXmlTextEvent;
+import com.sun.jna.Pointer;
+import com.sun.jna.Structure;
+
+import java.nio.IntBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Copies change events out of native memory into {@link YEvent} records. Must be called inside the observer callback,
+ * the event and everything it points to is only valid until the callback returns.
+ */
+final class EventReader {
+    private static final int ATTR_SIZE;
+    private static final int ATTR_KEY_OFFSET;
+    private static final int ATTR_VALUE_OFFSET;
+    private static final int EVENT_SIZE;
+    private static final int EVENT_CONTENT_OFFSET;
+
+    static {
+        AttrLayout attr = new AttrLayout();
+        ATTR_SIZE = attr.size();
+        ATTR_KEY_OFFSET = attr.offset("key");
+        ATTR_VALUE_OFFSET = attr.offset("value");
+
+        EventLayout event = new EventLayout();
+        EVENT_SIZE = event.size();
+        EVENT_CONTENT_OFFSET = event.offset("content");
+    }
+
+    private EventReader() {
+    }
+
+    static YEvent.TextEvent text(YText target, YrsTextEvent event) {
+        IntBuffer len = IntBuffer.allocate(1);
+        return new YEvent.TextEvent(target, delta(Yrs4J.YRS_INSTANCE.ytext_event_delta(event, len), len.get(0)));
+    }
+
+    static YEvent.ArrayEvent array(YArray target, YrsArrayEvent event) {
+        IntBuffer len = IntBuffer.allocate(1);
+        return new YEvent.ArrayEvent(target, changes(Yrs4J.YRS_INSTANCE.yarray_event_delta(event, len), len.get(0)));
+    }
+
+    static YEvent.MapEvent map(YMap target, YrsMapEvent event) {
+        IntBuffer len = IntBuffer.allocate(1);
+        return new YEvent.MapEvent(target, keys(Yrs4J.YRS_INSTANCE.ymap_event_keys(event, len), len.get(0)));
+    }
+
+    static YEvent.XmlEvent xml(YXmlElement target, YrsXmlEvent event) {
+        IntBuffer len = IntBuffer.allocate(1);
+        List<Change> delta = changes(Yrs4J.YRS_INSTANCE.yxmlelem_event_delta(event, len), len.get(0));
+        return new YEvent.XmlEvent(target, delta, keys(Yrs4J.YRS_INSTANCE.yxmlelem_event_keys(event, len), len.get(0)));
+    }
+
+    static YEvent.XmlTextEvent xmlText(YXmlText target, YrsXmlTextEvent event) {
+        IntBuffer len = IntBuffer.allocate(1);
+        List<Change> delta = delta(Yrs4J.YRS_INSTANCE.yxmltext_event_delta(event, len), len.get(0));
+        return new YEvent.XmlTextEvent(target, delta, keys(Yrs4J.YRS_INSTANCE.yxmltext_event_keys(event, len), len.get(0)));
+    }
+
+    /**
+     * Events of a deep observer, targets are the changed shared types. Weak link events are left out.
+     */
+    static List<YEvent> deep(int count, YrsEvent first) {
+        if (first == null || count == 0) {
+            return List.of();
+        }
+
+        List<YEvent> events = new ArrayList<>(count);
+        Pointer base = first.getPointer();
+        for (int i = 0; i < count; i++) {
+            Pointer event = base.share((long) i * EVENT_SIZE);
+            Pointer content = event.share(EVENT_CONTENT_OFFSET);
+            switch (event.getByte(0)) {
+                case YrsLibNativeInterface.Y_TEXT -> {
+                    YrsTextEvent e = at(YrsTextEvent.class, content);
+                    events.add(text(new YTextImpl(Yrs4J.YRS_INSTANCE.ytext_event_target(e)), e));
+                }
+                case YrsLibNativeInterface.Y_ARRAY -> {
+                    YrsArrayEvent e = at(YrsArrayEvent.class, content);
+                    events.add(array(new YArrayImpl(Yrs4J.YRS_INSTANCE.yarray_event_target(e)), e));
+                }
+                case YrsLibNativeInterface.Y_MAP -> {
+                    YrsMapEvent e = at(YrsMapEvent.class, content);
+                    events.add(map(new YMapImpl(Yrs4J.YRS_INSTANCE.ymap_event_target(e)), e));
+                }
+                case YrsLibNativeInterface.Y_XML_ELEM -> {
+                    YrsXmlEvent e = at(YrsXmlEvent.class, content);
+                    events.add(xml(new YXmlElementImpl(Yrs4J.YRS_INSTANCE.yxmlelem_event_target(e)), e));
+                }
+                case YrsLibNativeInterface.Y_XML_TEXT -> {
+                    YrsXmlTextEvent e = at(YrsXmlTextEvent.class, content);
+                    events.add(xmlText(new YXmlTextImpl(Yrs4J.YRS_INSTANCE.yxmltext_event_target(e)), e));
+                }
+                default -> {
+                }
+            }
+        }
+        return events;
+    }
+
+    /**
+     * Event structure on native memory, passed back to libyrs as it is
+     */
+    private static <T extends Structure> T at(Class<T> type, Pointer pointer) {
+        T event = Structure.newInstance(type, pointer);
+        event.setAutoSynch(false);
+        return event;
+    }
+
+    private static List<Change> delta(YrsDelta delta, int count) {
+        if (delta == null || count == 0) {
+            return List.of();
+        }
+
+        try {
+            List<Change> changes = new ArrayList<>(count);
+            for (YrsDelta d : (YrsDelta[]) delta.toArray(count)) {
+                Map<String, Object> attributes = d.attributes_len == 0 ? Map.of() : attributes(d.attributes.getPointer(), d.attributes_len);
+                List<Object> values = d.tag == YrsLibNativeInterface.Y_EVENT_CHANGE_ADD ? values(d.insert.getPointer(), d.len) : List.of();
+                changes.add(new Change(kind(d.tag), d.len, values, attributes));
+            }
+            return Collections.unmodifiableList(changes);
+        } finally {
+            Yrs4J.YRS_INSTANCE.ytext_delta_destroy(delta, count);
+        }
+    }
+
+    private static List<Change> changes(YrsEventChange delta, int count) {
+        if (delta == null || count == 0) {
+            return List.of();
+        }
+
+        try {
+            List<Change> changes = new ArrayList<>(count);
+            for (YrsEventChange c : (YrsEventChange[]) delta.toArray(count)) {
+                List<Object> values = c.tag == YrsLibNativeInterface.Y_EVENT_CHANGE_ADD ? values(c.values.getPointer(), c.len) : List.of();
+                changes.add(new Change(kind(c.tag), c.len, values, Map.of()));
+            }
+            return Collections.unmodifiableList(changes);
+        } finally {
+            Yrs4J.YRS_INSTANCE.yevent_delta_destroy(delta, count);
+        }
+    }
+
+    private static Map<String, KeyChange> keys(YrsEventKeyChange keys, int count) {
+        if (keys == null || count == 0) {
+            return Map.of();
+        }
+
+        try {
+            Map<String, KeyChange> changes = new LinkedHashMap<>();
+            for (YrsEventKeyChange c : (YrsEventKeyChange[]) keys.toArray(count)) {
+                KeyChange.Kind kind = switch (c.tag) {
+                    case YrsLibNativeInterface.Y_EVENT_KEY_CHANGE_ADD -> KeyChange.Kind.INSERT;
+                    case YrsLibNativeInterface.Y_EVENT_KEY_CHANGE_DELETE -> KeyChange.Kind.DELETE;
+                    default -> KeyChange.Kind.UPDATE;
+                };
+                changes.put(c.key.getString(0, StandardCharsets.UTF_8.name()), new KeyChange(kind, value(c.old_value), value(c.new_value)));
+            }
+            return Collections.unmodifiableMap(changes);
+        } finally {
+            Yrs4J.YRS_INSTANCE.yevent_keys_destroy(keys, count);
+        }
+    }
+
+    private static Change.Kind kind(byte tag) {
+        return switch (tag) {
+            case YrsLibNativeInterface.Y_EVENT_CHANGE_ADD -> Change.Kind.INSERT;
+            case YrsLibNativeInterface.Y_EVENT_CHANGE_DELETE -> Change.Kind.DELETE;
+            default -> Change.Kind.RETAIN;
+        };
+    }
+
+    private static List<Object> values(Pointer outputs, int count) {
+        List<Object> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            values.add(OutputReader.read(outputs.share((long) i * OutputReader.OUTPUT_SIZE), OutputReader.WRAPPERS));
+        }
+        return Collections.unmodifiableList(values);
+    }
+
+    private static Object value(Structure output) {
+        return output == null ? null : OutputReader.read(output.getPointer(), OutputReader.WRAPPERS);
+    }
+
+    private static Map<String, Object> attributes(Pointer attrs, int count) {
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        for (int i = 0; i < count; i++) {
+            Pointer attr = attrs.share((long) i * ATTR_SIZE);
+            String key = attr.getPointer(ATTR_KEY_OFFSET).getString(0, StandardCharsets.UTF_8.name());
+            attributes.put(key, OutputReader.read(attr.share(ATTR_VALUE_OFFSET), OutputReader.WRAPPERS));
+        }
+        return Collections.unmodifiableMap(attributes);
+    }
+
+    private static final class AttrLayout extends YrsDeltaAttr {
+        int offset(String field) {
+            return fieldOffset(field);
+        }
+    }
+
+    private static final class EventLayout extends YrsEvent {
+        int offset(String field) {
+            return fieldOffset(field);
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package at.yrs4j.wrapper.impl;
+
+import at.yrs4j.wrapper.interfaces.YTextOffsetIndex.Unit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Length of a text in UTF-8 bytes, UTF-16 units and code points, kept as a treap of runs of code points with the same
+ * UTF-8 width. Every node knows the totals of its subtree, so offsets are converted, and text inserted or deleted, in
+ * O(log n) of the number of runs. <br>
+ * Embedded content counts as one unit in every encoding, like a single byte character. Offsets inside a code point are
+ * rounded down to its start.
+ */
+final class OffsetTree {
+    private Node root;
+    // nodes after the last compaction, runs split by edits are merged again once the tree doubled
+    private int compactedNodes;
+
+    OffsetTree(CharSequence text) {
+        root = build(runs(text));
+        compactedNodes = nodes(root);
+    }
+
+    long length(Unit unit) {
+        return units(root, unit);
+    }
+
+    long convert(long offset, Unit from, Unit to) {
+        if (offset < 0 || offset > units(root, from)) {
+            throw new IndexOutOfBoundsException("Offset " + offset + " outside of text with length " + units(root, from));
+        }
+
+        long result = 0;
+        long x = offset;
+        Node node = root;
+        while (node != null) {
+            long left = units(node.left, from);
+            if (x < left) {
+                node = node.left;
+                continue;
+            }
+
+            long own = (long) node.count * width(node, from);
+            if (x <= left + own) {
+                return result + units(node.left, to) + (x - left) / width(node, from) * width(node, to);
+            }
+
+            result += units(node.left, to) + (long) node.count * width(node, to);
+            x -= left + own;
+            node = node.right;
+        }
+        return result;
+    }
+
+    void insert(long offset, Unit unit, CharSequence text) {
+        Node inserted = build(runs(text));
+        if (inserted == null) {
+            return;
+        }
+
+        Node[] parts = split(root, unit, offset);
+        root = merge(merge(parts[0], inserted), parts[1]);
+        compactIfFragmented();
+    }
+
+    /**
+     * Embedded content, one unit in every encoding
+     */
+    void insertEmbed(long offset, Unit unit) {
+        Node[] parts = split(root, unit, offset);
+        root = merge(merge(parts[0], new Node(1, 1)), parts[1]);
+        compactIfFragmented();
+    }
+
+    void delete(long offset, Unit unit, long length) {
+        Node[] head = split(root, unit, offset);
+        Node[] tail = split(head[1], unit, length);
+        root = merge(head[0], tail[1]);
+        compactIfFragmented();
+    }
+
+    int nodeCount() {
+        return nodes(root);
+    }
+
+    private void compactIfFragmented() {
+        int count = nodes(root);
+        if (count > 2 * compactedNodes + 64) {
+            List<Node> runs = new ArrayList<>(count);
+            collect(root, runs);
+            root = build(runs);
+            compactedNodes = nodes(root);
+        }
+    }
+
+    private static void collect(Node node, List<Node> runs) {
+        if (node == null) {
+            return;
+        }
+
+        collect(node.left, runs);
+        Node last = runs.isEmpty() ? null : runs.get(runs.size() - 1);
+        if (last != null && last.width == node.width) {
+            last.count += node.count;
+        } else {
+            runs.add(new Node(node.width, node.count));
+        }
+        collect(node.right, runs);
+    }
+
+    private static List<Node> runs(CharSequence text) {
+        List<Node> runs = new ArrayList<>();
+        Node run = null;
+        for (int i = 0; i < text.length(); ) {
+            int cp = Character.codePointAt(text, i);
+            int width = cp < 0x80 ? 1 : cp < 0x800 ? 2 : cp < 0x10000 ? 3 : 4;
+            if (run != null && run.width == width) {
+                run.count++;
+            } else {
+                run = new Node(width, 1);
+                runs.add(run);
+            }
+            i += Character.charCount(cp);
+        }
+        return runs;
+    }
+
+    private static Node build(List<Node> runs) {
+        Node tree = null;
+        for (Node run : runs) {
+            run.left = run.right = null;
+            update(run);
+            tree = merge(tree, run);
+        }
+        return tree;
+    }
+
+    /**
+     * @return the nodes before {@code offset} and the nodes from {@code offset}, a run containing it is split
+     */
+    private static Node[] split(Node node, Unit unit, long offset) {
+        if (node == null) {
+            return new Node[2];
+        }
+
+        long left = units(node.left, unit);
+        long own = (long) node.count * width(node, unit);
+        int inRun = offset <= left ? 0 : (int) Math.min(node.count, (offset - left) / width(node, unit));
+
+        if (inRun == 0) {
+            Node[] parts = split(node.left, unit, offset);
+            node.left = parts[1];
+            update(node);
+            return new Node[]{parts[0], node};
+        }
+        if (inRun == node.count) {
+            Node[] parts = split(node.right, unit, offset - left - own);
+            node.right = parts[0];
+            update(node);
+            return new Node[]{node, parts[1]};
+        }
+
+        // same priority, the tail is the root of the former right subtree
+        Node tail = new Node(node.width, node.count - inRun, node.priority);
+        tail.right = node.right;
+        node.count = inRun;
+        node.right = null;
+        update(node);
+        update(tail);
+        return new Node[]{node, tail};
+    }
+
+    private static Node merge(Node a, Node b) {
+        if (a == null) {
+            return b;
+        }
+        if (b == null) {
+            return a;
+        }
+
+        if (a.priority >= b.priority) {
+            a.right = merge(a.right, b);
+            update(a);
+            return a;
+        }
+        b.left = merge(a, b.left);
+        update(b);
+        return b;
+    }
+
+    private static long units(Node node, Unit unit) {
+        if (node == null) {
+            return 0;
+        }
+
+        return switch (unit) {
+            case BYTES -> node.bytes;
+            case UTF16 -> node.utf16;
+            case CODE_POINTS -> node.codePoints;
+        };
+    }
+
+    private static int width(Node node, Unit unit) {
+        return switch (unit) {
+            case BYTES -> node.width;
+            case UTF16 -> node.width == 4 ? 2 : 1;
+            case CODE_POINTS -> 1;
+        };
+    }
+
+    private static int nodes(Node node) {
+        return node == null ? 0 : node.nodes;
+    }
+
+    private static void update(Node node) {
+        node.codePoints = node.count + units(node.left, Unit.CODE_POINTS) + units(node.right, Unit.CODE_POINTS);
+        node.utf16 = (long) node.count * width(node, Unit.UTF16) + units(node.left, Unit.UTF16) + units(node.right, Unit.UTF16);
+        node.bytes = (long) node.count * node.width + units(node.left, Unit.BYTES) + units(node.right, Unit.BYTES);
+        node.nodes = 1 + nodes(node.left) + nodes(node.right);
+    }
+
+    private static final class Node {
+        // UTF-8 bytes per code point
+        private final int width;
+        private final int priority;
+        private int count;
+        private Node left;
+        private Node right;
+        private long codePoints;
+        private long utf16;
+        private long bytes;
+        private int nodes;
+
+        private Node(int width, int count) {
+            this(width, count, ThreadLocalRandom.current().nextInt());
+        }
+
+        private Node(int width, int count, int priority) {
+            this.width = width;
+            this.count = count;
+            this.priority = priority;
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package at.yrs4j.wrapper.impl;
+
+import at.yrs4j.wrapper.interfaces.ValueType;
+import at.yrs4j.wrapper.interfaces.YOutputVisitor;
+import at.yrs4j.wrapper.interfaces.YTransaction;
+import at.yrs4j.yrslib.YrsBranch;
+import at.yrs4j.yrslib.YrsDoc;
+import at.yrs4j.yrslib.YrsMapEntry;
+import at.yrs4j.yrslib.YrsOutput;
+import com.sun.jna.Native;
+import com.sun.jna.Pointer;
+import com.sun.jna.Structure;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads {@code YrsOutput} trees straight from native memory into plain Java objects. <br>
+ * Every level (the output itself, the elements of a json array, the entries of a json map) is copied with a single
+ * bulk read and decoded from the copy, instead of creating a JNA structure and a wrapper per node. Strings and binaries
+ * still need one read each. <br>
+ * Json maps become {@link LinkedHashMap}s, json arrays {@link ArrayList}s, json null/undefined {@code null}. Shared
+ * types are handed to a {@link SharedTypes} converter.
+ */
+final class OutputReader {
+    static final int OUTPUT_SIZE;
+    static final int TAG_OFFSET;
+    static final int LEN_OFFSET;
+    static final int VALUE_OFFSET;
+    static final int ENTRY_SIZE;
+    static final int ENTRY_KEY_OFFSET;
+    static final int ENTRY_VALUE_OFFSET;
+
+    // base for absolute reads, getX(address) reads from the address itself
+    private static final Pointer ABSOLUTE = new Pointer(0);
+
+    static {
+        OutputLayout output = new OutputLayout();
+        OUTPUT_SIZE = output.size();
+        TAG_OFFSET = output.offset("tag");
+        LEN_OFFSET = output.offset("len");
+        VALUE_OFFSET = output.offset("value");
+
+        EntryLayout entry = new EntryLayout();
+        ENTRY_SIZE = entry.size();
+        ENTRY_KEY_OFFSET = entry.offset("key");
+        ENTRY_VALUE_OFFSET = entry.offset("value");
+    }
+
+    /**
+     * Converts shared types (texts, arrays, maps, xml nodes, documents) found in an output
+     */
+    interface SharedTypes {
+        Object convert(ValueType type, Pointer value);
+    }
+
+    /**
+     * Shared types are returned as (borrowed) wrappers
+     */
+    static final SharedTypes WRAPPERS = (type, value) -> switch (type) {
+        case Y_DOC -> new YDocImpl(Structure.newInstance(YrsDoc.class, value));
+        case Y_TEXT -> new YTextImpl(branch(value));
+        case Y_ARRAY -> new YArrayImpl(branch(value));
+        case Y_MAP -> new YMapImpl(branch(value));
+        case Y_XML_ELEM -> new YXmlElementImpl(branch(value));
+        case Y_XML_TEXT -> new YXmlTextImpl(branch(value));
+        default -> null;
+    };
+
+    private OutputReader() {
+    }
+
+    /**
+     * Shared types are materialized as well: arrays and maps recursively, texts and xml nodes as their string
+     * representation. Documents are returned as (borrowed) wrappers.
+     */
+    static SharedTypes materialized(YTransaction transaction) {
+        return (type, value) -> switch (type) {
+            case Y_TEXT -> new YTextImpl(branch(value)).string(transaction);
+            case Y_ARRAY -> new YArrayImpl(branch(value)).toJava(transaction);
+            case Y_MAP -> new YMapImpl(branch(value)).toJava(transaction);
+            case Y_XML_ELEM -> new YXmlElementImpl(branch(value)).string(transaction);
+            case Y_XML_TEXT -> new YXmlTextImpl(branch(value)).string(transaction);
+            default -> WRAPPERS.convert(type, value);
+        };
+    }
+
+    /**
+     * @param output address of a {@code YrsOutput}
+     */
+    static Object read(Pointer output, SharedTypes sharedTypes) {
+        return cell(buffer(output, OUTPUT_SIZE), 0, sharedTypes);
+    }
+
+    /**
+     * Walks the output with absolute reads on the native memory, nothing is copied or wrapped
+     *
+     * @param output address of a {@code YrsOutput}
+     */
+    static void accept(Pointer output, YOutputVisitor visitor) {
+        visit(Pointer.nativeValue(output), visitor);
+    }
+
+    private static void visit(long output, YOutputVisitor visitor) {
+        ValueType type = ValueType.findByValue(ABSOLUTE.getByte(output + TAG_OFFSET));
+        int len = ABSOLUTE.getInt(output + LEN_OFFSET);
+        long value = output + VALUE_OFFSET;
+
+        switch (type) {
+            case Y_JSON_NULL -> visitor.onNull();
+            case Y_JSON_UNDEF -> visitor.onUndefined();
+            case Y_JSON_BOOL -> visitor.onBool(ABSOLUTE.getByte(value) != 0);
+            case Y_JSON_INT -> visitor.onLong(ABSOLUTE.getLong(value));
+            case Y_JSON_NUM -> visitor.onDouble(ABSOLUTE.getDouble(value));
+            case Y_JSON_STR -> visitor.onString(ABSOLUTE.getString(address(value), StandardCharsets.UTF_8.name()));
+            case Y_JSON_BUF -> visitor.onBinary(ABSOLUTE.getByteBuffer(address(value), len).asReadOnlyBuffer());
+            case Y_JSON_ARR -> {
+                long elements = address(value);
+                visitor.startArray(len);
+                for (int i = 0; i < len; i++) {
+                    visit(elements + (long) i * OUTPUT_SIZE, visitor);
+                }
+                visitor.endArray();
+            }
+            case Y_JSON_MAP -> {
+                long entries = address(value);
+                visitor.startMap(len);
+                for (int i = 0; i < len; i++) {
+                    long entry = entries + (long) i * ENTRY_SIZE;
+                    visitor.onKey(ABSOLUTE.getString(address(entry + ENTRY_KEY_OFFSET), StandardCharsets.UTF_8.name()));
+                    visit(entry + ENTRY_VALUE_OFFSET, visitor);
+                }
+                visitor.endMap();
+            }
+            default -> visitor.onSharedType(type, new Pointer(address(value)));
+        }
+    }
+
+    private static long address(long location) {
+        return Native.POINTER_SIZE == 8 ? ABSOLUTE.getLong(location) : ABSOLUTE.getInt(location) & 0xFFFFFFFFL;
+    }
+
+    static ValueType type(Pointer output) {
+        return ValueType.findByValue(output.getByte(TAG_OFFSET));
+    }
+
+    static long longValue(Pointer output) {
+        return output.getLong(VALUE_OFFSET);
+    }
+
+    static double doubleValue(Pointer output) {
+        return output.getDouble(VALUE_OFFSET);
+    }
+
+    static boolean boolValue(Pointer output) {
+        return output.getByte(VALUE_OFFSET) != 0;
+    }
+
+    static String stringValue(Pointer output) {
+        return string(output.getPointer(VALUE_OFFSET));
+    }
+
+    static YrsBranch branch(Pointer value) {
+        return Structure.newInstance(YrsBranch.class, value);
+    }
+
+    private static Object cell(ByteBuffer level, int base, SharedTypes sharedTypes) {
+        ValueType type = ValueType.findByValue(level.get(base + TAG_OFFSET));
+        int len = level.getInt(base + LEN_OFFSET);
+        int value = base + VALUE_OFFSET;
+
+        return switch (type) {
+            case Y_JSON_NULL, Y_JSON_UNDEF -> null;
+            case Y_JSON_BOOL -> level.get(value) != 0;
+            case Y_JSON_INT -> level.getLong(value);
+            case Y_JSON_NUM -> level.getDouble(value);
+            case Y_JSON_STR -> string(pointer(level, value));
+            case Y_JSON_BUF -> pointer(level, value).getByteArray(0, len);
+            case Y_JSON_ARR -> array(pointer(level, value), len, sharedTypes);
+            case Y_JSON_MAP -> map(pointer(level, value), len, sharedTypes);
+            default -> sharedTypes.convert(type, pointer(level, value));
+        };
+    }
+
+    private static List<Object> array(Pointer elements, int len, SharedTypes sharedTypes) {
+        if (len == 0) {
+            return new ArrayList<>(0);
+        }
+
+        ByteBuffer level = buffer(elements, (long) len * OUTPUT_SIZE);
+        List<Object> list = new ArrayList<>(len);
+        for (int i = 0; i < len; i++) {
+            list.add(cell(level, i * OUTPUT_SIZE, sharedTypes));
+        }
+        return list;
+    }
+
+    private static Map<String, Object> map(Pointer entries, int len, SharedTypes sharedTypes) {
+        if (len == 0) {
+            return new LinkedHashMap<>(0);
+        }
+
+        ByteBuffer level = buffer(entries, (long) len * ENTRY_SIZE);
+        Map<String, Object> map = new LinkedHashMap<>(Math.max(16, (int) (len / 0.75f) + 1));
+        for (int i = 0; i < len; i++) {
+            int base = i * ENTRY_SIZE;
+            map.put(string(pointer(level, base + ENTRY_KEY_OFFSET)), cell(level, base + ENTRY_VALUE_OFFSET, sharedTypes));
+        }
+        return map;
+    }
+
+    private static ByteBuffer buffer(Pointer pointer, long size) {
+        return ByteBuffer.wrap(pointer.getByteArray(0, Math.toIntExact(size))).order(ByteOrder.nativeOrder());
+    }
+
+    private static Pointer pointer(ByteBuffer level, int offset) {
+        long address = Native.POINTER_SIZE == 8 ? level.getLong(offset) : level.getInt(offset) & 0xFFFFFFFFL;
+        return address == 0 ? null : new Pointer(address);
+    }
+
+    private static String string(Pointer str) {
+        return str == null ? null : str.getString(0, StandardCharsets.UTF_8.name());
+    }
+
+    private static final class OutputLayout extends YrsOutput {
+        int offset(String field) {
+            return fieldOffset(field);
+        }
+    }
+
+    private static final class EntryLayout extends YrsMapEntry {
+        int offset(String field) {
+            return fieldOffset(field);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package at.yrs4j.wrapper.impl;
+
+import at.yrs4j.api.Yrs4J;
+import at.yrs4j.api.YrsLibNativeInterface;
+import at.yrs4j.wrapper.interfaces.ValueType;
+import at.yrs4j.wrapper.interfaces.YTextOffsetIndex.Unit;
+import at.yrs4j.yrslib.YrsDelta;
+import at.yrs4j.yrslib.YrsTextEvent;
+import com.sun.jna.Pointer;
+
+import java.nio.IntBuffer;
+
+/**
+ * Replays the delta of a text change event as positional edits. Positions and lengths are counted in the offset
+ * encoding of the document.
+ */
+final class TextDeltas {
+
+    interface Edits {
+        void insert(long index, String text);
+
+        /**
+         * Embedded content, one unit long
+         */
+        void insertEmbed(long index);
+
+        void delete(long index, long length);
+    }
+
+    private TextDeltas() {
+    }
+
+    static void replay(YrsTextEvent event, Unit unit, Edits edits) {
+        IntBuffer len = IntBuffer.allocate(1);
+        YrsDelta delta = Yrs4J.YRS_INSTANCE.ytext_event_delta(event, len);
+        int count = len.get(0);
+        if (delta == null || count == 0) {
+            return;
+        }
+
+        try {
+            long index = 0;
+            for (YrsDelta change : (YrsDelta[]) delta.toArray(count)) {
+                switch (change.tag) {
+                    case YrsLibNativeInterface.Y_EVENT_CHANGE_RETAIN -> index += change.len;
+                    case YrsLibNativeInterface.Y_EVENT_CHANGE_DELETE -> edits.delete(index, change.len);
+                    case YrsLibNativeInterface.Y_EVENT_CHANGE_ADD -> {
+                        Pointer values = change.insert.getPointer();
+                        for (int i = 0; i < change.len; i++) {
+                            Pointer value = values.share((long) i * OutputReader.OUTPUT_SIZE);
+                            if (OutputReader.type(value) == ValueType.Y_JSON_STR) {
+                                String text = OutputReader.stringValue(value);
+                                edits.insert(index, text);
+                                index += length(text, unit);
+                            } else {
+                                edits.insertEmbed(index);
+                                index++;
+                            }
+                        }
+                    }
+                    default -> {
+                    }
+                }
+            }
+        } finally {
+            Yrs4J.YRS_INSTANCE.ytext_delta_destroy(delta, count);
+        }
+    }
+
+    static long length(CharSequence text, Unit unit) {
+        return switch (unit) {
+            case UTF16 -> text.length();
+            case CODE_POINTS -> Character.codePointCount(text, 0, text.length());
+            case BYTES -> {
+                long bytes = 0;
+                for (int i = 0; i < text.length(); i++) {
+                    char c = text.charAt(i);
+                    if (c < 0x80) {
+                        bytes++;
+                    } else if (c < 0x800) {
+                        bytes += 2;
+                    } else if (Character.isHighSurrogate(c) && i + 1 < text.length() && Character.isLowSurrogate(text.charAt(i + 1))) {
+                        bytes += 4;
+                        i++;
+                    } else {
+                        bytes += 3;
+                    }
+                }
+                yield bytes;
+            }
+        };
+    }
+}
@@ -0,0 +1,201 @@
+package at.yrs4j.wrapper.impl;
+
+import at.yrs4j.api.Yrs4J;
+import at.yrs4j.wrapper.interfaces.EncodingType;
+import at.yrs4j.yrslib.YrsBranch;
+import at.yrs4j.yrslib.YrsTransaction;
+import com.sun.jna.Memory;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SelectableChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.MalformedInputException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Streams large texts into a text branch in bounded chunks. <br>
+ * The UTF-8 is written into one native buffer which is reused for every chunk, each chunk is inserted behind the
+ * previous one with {@code ytext_insert}. Neither the whole text nor a native copy of it is ever held in memory. <br>
+ * ytext_insert takes null-terminated strings and aborts on invalid UTF-8, so NUL characters are rejected and channel
+ * input is validated before it is handed over.
+ */
+final class TextLoader {
+    static final int CHUNK_BYTES = 64 * 1024;
+
+    private final YrsBranch branch;
+    private final YrsTransaction txn;
+    private final EncodingType encoding;
+    private final Memory buffer = new Memory(CHUNK_BYTES);
+    private int index;
+    private long inserted;
+
+    private TextLoader(YrsBranch branch, YrsTransaction txn, int index, EncodingType encoding) {
+        this.branch = branch;
+        this.txn = txn;
+        this.index = index;
+        this.encoding = encoding;
+    }
+
+    /**
+     * @return inserted length in the offset encoding
+     */
+    static long insert(YrsBranch branch, YrsTransaction txn, int index, Reader reader, EncodingType encoding) throws IOException {
+        TextLoader loader = new TextLoader(branch, txn, index, encoding);
+        loader.load(reader);
+        return loader.inserted;
+    }
+
+    /**
+     * @param channel blocking channel delivering UTF-8
+     * @return inserted length in the offset encoding
+     */
+    static long insert(YrsBranch branch, YrsTransaction txn, int index, ReadableByteChannel channel, EncodingType encoding) throws IOException {
+        if (channel instanceof SelectableChannel selectable && !selectable.isBlocking()) {
+            throw new IllegalArgumentException("Channel must be blocking");
+        }
+
+        TextLoader loader = new TextLoader(branch, txn, index, encoding);
+        loader.load(channel);
+        return loader.inserted;
+    }
+
+    private void load(Reader reader) throws IOException {
+        // at most 3 bytes per char, a char pair needs 4, leave room for the terminator
+        CharBuffer chars = CharBuffer.allocate((CHUNK_BYTES - 1) / 3);
+        ByteBuffer out = buffer.getByteBuffer(0, CHUNK_BYTES - 1);
+        CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPORT)
+                .onUnmappableCharacter(CodingErrorAction.REPORT);
+
+        boolean eof = false;
+        while (!eof) {
+            int read = 0;
+            while (chars.hasRemaining() && (read = reader.read(chars)) >= 0) {
+                // fill the chunk
+            }
+            eof = read < 0;
+            chars.flip();
+
+            out.clear();
+            CoderResult result = encoder.encode(chars, out, eof);
+            if (result.isError()) {
+                result.throwException();
+            }
+            if (eof) {
+                encoder.flush(out);
+            }
+
+            int consumed = chars.position();
+            for (int i = 0; i < consumed; i++) {
+                if (chars.get(i) == 0) {
+                    throw new IllegalArgumentException("Text must not contain NUL characters");
+                }
+            }
+
+            insertChunk(out.position(), consumed);
+            chars.compact();
+        }
+    }
+
+    private void load(ReadableByteChannel channel) throws IOException {
+        ByteBuffer in = buffer.getByteBuffer(0, CHUNK_BYTES - 1);
+        byte[] carry = new byte[3];
+
+        boolean eof = false;
+        while (!eof) {
+            int read = 0;
+            while (in.hasRemaining() && (read = channel.read(in)) >= 0) {
+                // fill the chunk
+            }
+            eof = read < 0;
+
+            int filled = in.position();
+            long units = 0;
+            int i = 0;
+            while (i < filled) {
+                int length = sequenceLength(in, i, filled);
+                if (length < 0) {
+                    break;
+                }
+                units += length == 4 ? 2 : 1;
+                i += length;
+            }
+
+            int rest = filled - i;
+            if (eof && rest > 0) {
+                throw new MalformedInputException(rest);
+            }
+
+            in.get(i, carry, 0, rest);
+            insertChunk(i, units);
+            in.clear();
+            in.put(carry, 0, rest);
+        }
+    }
+
+    private void insertChunk(int bytes, long utf16Units) {
+        if (bytes == 0) {
+            return;
+        }
+
+        buffer.setByte(bytes, (byte) 0);
+        Yrs4J.YRS_INSTANCE.ytext_insert(branch, txn, index, buffer, null);
+
+        long length = encoding == EncodingType.Y_OFFSET_UTF16 ? utf16Units : bytes;
+        index = Math.toIntExact(index + length);
+        inserted += length;
+    }
+
+    /**
+     * @return length of the UTF-8 sequence at {@code i}, {@code -1} if it is cut off at {@code limit}
+     */
+    private static int sequenceLength(ByteBuffer in, int i, int limit) throws CharacterCodingException {
+        int lead = in.get(i) & 0xFF;
+        int length;
+        int min = 0x80;
+        int max = 0xBF;
+        if (lead == 0) {
+            throw new IllegalArgumentException("Text must not contain NUL characters");
+        } else if (lead < 0x80) {
+            return 1;
+        } else if (lead >= 0xC2 && lead <= 0xDF) {
+            length = 2;
+        } else if (lead >= 0xE0 && lead <= 0xEF) {
+            length = 3;
+            if (lead == 0xE0) {
+                min = 0xA0;
+            } else if (lead == 0xED) {
+                // surrogates
+                max = 0x9F;
+            }
+        } else if (lead >= 0xF0 && lead <= 0xF4) {
+            length = 4;
+            if (lead == 0xF0) {
+                min = 0x90;
+            } else if (lead == 0xF4) {
+                max = 0x8F;
+            }
+        } else {
+            throw new MalformedInputException(1);
+        }
+
+        for (int k = 1; k < length; k++) {
+            if (i + k >= limit) {
+                return -1;
+            }
+
+            int next = in.get(i + k) & 0xFF;
+            if (next < (k == 1 ? min : 0x80) || next > (k == 1 ? max : 0xBF)) {
+                throw new MalformedInputException(k);
+            }
+        }
+        return length;
+    }
+}
@@ -0,0 +1,307 @@
+package at.yrs4j.wrapper.impl;
+
+import at.yrs4j.wrapper.interfaces.YTextOffsetIndex.Unit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Rope of a text, a treap of string chunks of at most {@value #CHUNK} chars addressed by offsets in the encoding of
+ * the document (UTF-8 bytes or UTF-16 units). Edits split and merge chunks in O(log n), the flattened string is built
+ * once after every change and then shared by all reads. <br>
+ * Embedded content is one unit long but not part of the string, just like for {@code ytext_string}.
+ */
+final class TextRope {
+    static final int CHUNK = 512;
+
+    private final Unit unit;
+    private Node root;
+    private int compactedNodes;
+    private String flat;
+
+    TextRope(String text, Unit unit) {
+        this.unit = unit;
+        this.root = build(chunks(text));
+        this.compactedNodes = nodes(root);
+        this.flat = text;
+    }
+
+    /**
+     * @return length in the offset encoding of the document
+     */
+    long length() {
+        return units(root);
+    }
+
+    @Override
+    public String toString() {
+        String s = flat;
+        if (s == null) {
+            StringBuilder builder = new StringBuilder((int) chars(root));
+            append(root, builder);
+            flat = s = builder.toString();
+        }
+        return s;
+    }
+
+    String substring(long from, long to) {
+        if (from < 0 || to < from || to > units(root)) {
+            throw new IndexOutOfBoundsException("Range [" + from + ", " + to + ") outside of text with length " + units(root));
+        }
+
+        return toString().substring(charOffset(from), charOffset(to));
+    }
+
+    void insert(long index, String text) {
+        if (text.isEmpty()) {
+            return;
+        }
+
+        Node[] parts = split(root, index);
+        root = merge(merge(parts[0], build(chunks(text))), parts[1]);
+        changed();
+    }
+
+    void insertEmbed(long index) {
+        Node[] parts = split(root, index);
+        root = merge(merge(parts[0], build(List.of(new Node(null)))), parts[1]);
+        changed();
+    }
+
+    void delete(long index, long length) {
+        Node[] head = split(root, index);
+        Node[] tail = split(head[1], length);
+        root = merge(head[0], tail[1]);
+        changed();
+    }
+
+    private void changed() {
+        flat = null;
+        if (nodes(root) > 2 * compactedNodes + 64) {
+            List<Node> nodes = new ArrayList<>();
+            collect(root, nodes, new StringBuilder());
+            root = build(nodes);
+            compactedNodes = nodes(root);
+        }
+    }
+
+    /**
+     * @return index in the string of the given offset, offsets inside a character are rounded down
+     */
+    private int charOffset(long offset) {
+        long chars = 0;
+        long x = offset;
+        Node node = root;
+        while (node != null) {
+            long left = units(node.left);
+            if (x < left) {
+                node = node.left;
+                continue;
+            }
+
+            if (x <= left + node.units) {
+                return (int) (chars + chars(node.left) + node.charsAt(x - left, unit));
+            }
+
+            chars += chars(node.left) + node.chars();
+            x -= left + node.units;
+            node = node.right;
+        }
+        return (int) chars;
+    }
+
+    private Node[] split(Node node, long offset) {
+        if (node == null) {
+            return new Node[2];
+        }
+
+        long left = units(node.left);
+        int at = offset <= left || offset >= left + node.units ? -1 : node.charsAt(offset - left, unit);
+        if (offset <= left || at == 0) {
+            Node[] parts = split(node.left, offset);
+            node.left = parts[1];
+            update(node);
+            return new Node[]{parts[0], node};
+        }
+        if (offset >= left + node.units) {
+            Node[] parts = split(node.right, offset - left - node.units);
+            node.right = parts[0];
+            update(node);
+            return new Node[]{node, parts[1]};
+        }
+
+        Node tail = new Node(node.text.substring(at), unit, node.priority);
+        tail.right = node.right;
+        node.setText(node.text.substring(0, at), unit);
+        node.right = null;
+        update(node);
+        update(tail);
+        return new Node[]{node, tail};
+    }
+
+    private static Node merge(Node a, Node b) {
+        if (a == null) {
+            return b;
+        }
+        if (b == null) {
+            return a;
+        }
+
+        if (a.priority >= b.priority) {
+            a.right = merge(a.right, b);
+            update(a);
+            return a;
+        }
+        b.left = merge(a, b.left);
+        update(b);
+        return b;
+    }
+
+    private Node build(List<Node> nodes) {
+        Node tree = null;
+        for (Node node : nodes) {
+            if (node.text != null) {
+                node.setText(node.text, unit);
+            }
+            node.left = node.right = null;
+            update(node);
+            tree = merge(tree, node);
+        }
+        return tree;
+    }
+
+    private List<Node> chunks(String text) {
+        List<Node> nodes = new ArrayList<>(text.length() / CHUNK + 1);
+        int start = 0;
+        while (start < text.length()) {
+            int end = Math.min(text.length(), start + CHUNK);
+            // keep surrogate pairs together
+            if (end < text.length() && Character.isHighSurrogate(text.charAt(end - 1))) {
+                end--;
+            }
+            nodes.add(new Node(text.substring(start, end)));
+            start = end;
+        }
+        return nodes;
+    }
+
+    /**
+     * Merges neighbouring text chunks up to the chunk size again
+     */
+    private void collect(Node node, List<Node> nodes, StringBuilder pending) {
+        if (node == null) {
+            return;
+        }
+
+        collect(node.left, nodes, pending);
+        if (node.text == null) {
+            flush(nodes, pending);
+            nodes.add(new Node(null));
+        } else {
+            if (pending.length() + node.text.length() > CHUNK) {
+                flush(nodes, pending);
+            }
+            pending.append(node.text);
+        }
+        collect(node.right, nodes, pending);
+
+        if (node == root) {
+            flush(nodes, pending);
+        }
+    }
+
+    private static void flush(List<Node> nodes, StringBuilder pending) {
+        if (pending.length() > 0) {
+            nodes.add(new Node(pending.toString()));
+            pending.setLength(0);
+        }
+    }
+
+    private static void append(Node node, StringBuilder builder) {
+        if (node == null) {
+            return;
+        }
+
+        append(node.left, builder);
+        if (node.text != null) {
+            builder.append(node.text);
+        }
+        append(node.right, builder);
+    }
+
+    private static long units(Node node) {
+        return node == null ? 0 : node.subtreeUnits;
+    }
+
+    private static long chars(Node node) {
+        return node == null ? 0 : node.subtreeChars;
+    }
+
+    private static int nodes(Node node) {
+        return node == null ? 0 : node.nodes;
+    }
+
+    private static void update(Node node) {
+        node.subtreeUnits = node.units + units(node.left) + units(node.right);
+        node.subtreeChars = node.chars() + chars(node.left) + chars(node.right);
+        node.nodes = 1 + nodes(node.left) + nodes(node.right);
+    }
+
+    private static final class Node {
+        private final int priority;
+        // null for embedded content
+        private String text;
+        private int units = 1;
+        private Node left;
+        private Node right;
+        private long subtreeUnits;
+        private long subtreeChars;
+        private int nodes;
+
+        private Node(String text) {
+            this.text = text;
+            this.priority = ThreadLocalRandom.current().nextInt();
+        }
+
+        private Node(String text, Unit unit, int priority) {
+            this.priority = priority;
+            setText(text, unit);
+        }
+
+        private void setText(String text, Unit unit) {
+            this.text = text;
+            this.units = (int) TextDeltas.length(text, unit);
+        }
+
+        private int chars() {
+            return text == null ? 0 : text.length();
+        }
+
+        /**
+         * @return number of chars making up the first {@code offset} units
+         */
+        private int charsAt(long offset, Unit unit) {
+            if (text == null) {
+                return 0;
+            }
+            if (unit == Unit.UTF16) {
+                int i = (int) Math.min(offset, text.length());
+                return i > 0 && i < text.length() && Character.isLowSurrogate(text.charAt(i)) ? i - 1 : i;
+            }
+
+            long units = 0;
+            int i = 0;
+            while (i < text.length()) {
+                int cp = text.codePointAt(i);
+                int width = unit == Unit.CODE_POINTS ? 1 : cp < 0x80 ? 1 : cp < 0x800 ? 2 : cp < 0x10000 ? 3 : 4;
+                if (units + width > offset) {
+                    break;
+                }
+                units += width;
+                i += Character.charCount(cp);
+            }
+            return i;
+        }
+    }
+}
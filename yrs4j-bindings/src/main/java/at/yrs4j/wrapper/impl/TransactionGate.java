@@ -0,0 +1,201 @@
+package at.yrs4j.wrapper.impl;
+
+import at.yrs4j.wrapper.interfaces.YTransactionMetrics;
+import at.yrs4j.yrslib.YrsTransaction;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Fair reader/writer gate in front of the native transactions of a document. <br>
+ * Readers take one permit, writers all of them. The semaphore is fair, so a waiting writer is not starved by a stream
+ * of readers, and waiting threads are parked (virtual threads unmount instead of pinning their carrier). Unlike a
+ * {@link java.util.concurrent.locks.ReadWriteLock} the permits are not bound to a thread, a transaction may be committed
+ * by another thread than the one that opened it. <br>
+ * Transactions opened without the gate ({@link YDocImpl#readTransaction()}...) still make yrs return NULL, in that
+ * case opening is retried with exponential backoff. <br>
+ * The gate is not reentrant, it remembers which thread holds which transactions instead. Waiting without limit, a read
+ * in a read of the same thread is let past waiting writers and everything else that could only be served once the
+ * thread releases its own transaction (also one opened without the gate) fails with an {@link IllegalStateException}
+ * instead of waiting forever. Acquisitions with a timeout keep waiting and time out.
+ */
+final class TransactionGate implements YTransactionMetrics {
+    private static final int WRITE_PERMITS = Integer.MAX_VALUE;
+    private static final long MIN_BACKOFF_NANOS = TimeUnit.MICROSECONDS.toNanos(10);
+    private static final long MAX_BACKOFF_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final Semaphore permits = new Semaphore(WRITE_PERMITS, true);
+    private final LongAdder acquisitions = new LongAdder();
+    private final LongAdder contended = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder totalWait = new LongAdder();
+    private final LongAccumulator maxWait = new LongAccumulator(Math::max, 0);
+    // transactions of this document held per thread, updated atomically through compute
+    private final ConcurrentHashMap<Thread, Holds> holders = new ConcurrentHashMap<>();
+
+    static int permits(boolean write) {
+        return write ? WRITE_PERMITS : 1;
+    }
+
+    /**
+     * @param timeoutNanos negative to wait without limit, 0 to only try once
+     * @return the opened transaction, null if it could not be opened within the timeout. It has to be released with
+     * {@link #release(int, Thread)} passing the calling thread.
+     * @throws IllegalStateException if waiting without limit while the calling thread holds a transaction of the
+     *                               document blocking this one
+     */
+    YrsTransaction acquire(int count, long timeoutNanos, Supplier<YrsTransaction> open) throws InterruptedException {
+        long start = System.nanoTime();
+        long deadline = start + timeoutNanos;
+        Thread self = Thread.currentThread();
+        boolean write = count == WRITE_PERMITS;
+
+        // a timed acquisition ends by itself, only one without limit could wait for the own thread forever
+        Holds held = timeoutNanos < 0 ? holders.get(self) : null;
+        if (held != null && (held.writes > 0 || write && held.reads > 0)) {
+            throw new IllegalStateException("Cannot acquire a " + (write ? "write" : "read") + " transaction, the current thread holds a "
+                    + (held.writes > 0 ? "write" : "read") + " transaction of this document");
+        }
+
+        // a nested read barges past waiting writers, they wait for the outer read of this thread anyway
+        boolean nested = held != null && held.reads > 0 && permits.tryAcquire(count);
+        // tryAcquire with a timeout respects fairness, the plain tryAcquire() would barge in front of waiting writers
+        boolean waited = !nested && !permits.tryAcquire(count, 0, TimeUnit.NANOSECONDS);
+        if (waited) {
+            contended.increment();
+            if (held != null && held.unmanaged > 0) {
+                // the writer ahead can only open its transaction once this thread closes its own
+                throw unmanagedHeld();
+            }
+            if (timeoutNanos < 0) {
+                permits.acquire(count);
+            } else if (!permits.tryAcquire(count, Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                timeouts.increment();
+                return null;
+            }
+        }
+
+        YrsTransaction txn;
+        try {
+            txn = openWithBackoff(timeoutNanos, deadline, waited, open);
+        } catch (InterruptedException | RuntimeException | Error e) {
+            permits.release(count);
+            throw e;
+        }
+        if (txn == null) {
+            permits.release(count);
+            timeouts.increment();
+            return null;
+        }
+
+        holders.compute(self, (thread, holds) -> Holds.add(holds, write ? 0 : 1, write ? 1 : 0, 0));
+        long waitNanos = System.nanoTime() - start;
+        acquisitions.increment();
+        totalWait.add(waitNanos);
+        maxWait.accumulate(waitNanos);
+        return txn;
+    }
+
+    /**
+     * @param owner thread that acquired the transaction, it may be released by another one
+     */
+    void release(int count, Thread owner) {
+        boolean write = count == WRITE_PERMITS;
+        holders.compute(owner, (thread, holds) -> Holds.add(holds, write ? 0 : -1, write ? -1 : 0, 0));
+        permits.release(count);
+    }
+
+    /**
+     * Records a transaction the current thread opened without the gate
+     *
+     * @return releases the record again
+     */
+    Runnable openedUnmanaged() {
+        Thread owner = Thread.currentThread();
+        holders.compute(owner, (thread, holds) -> Holds.add(holds, 0, 0, 1));
+        return () -> holders.compute(owner, (thread, holds) -> Holds.add(holds, 0, 0, -1));
+    }
+
+    private YrsTransaction openWithBackoff(long timeoutNanos, long deadline, boolean counted, Supplier<YrsTransaction> open) throws InterruptedException {
+        long backoff = MIN_BACKOFF_NANOS;
+        YrsTransaction txn = open.get();
+
+        while (txn == null) {
+            Holds held = timeoutNanos < 0 ? holders.get(Thread.currentThread()) : null;
+            if (held != null && held.unmanaged > 0) {
+                // only this thread can end the transaction blocking yrs
+                throw unmanagedHeld();
+            }
+            if (!counted) {
+                contended.increment();
+                counted = true;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (timeoutNanos >= 0 && remaining <= 0) {
+                return null;
+            }
+            LockSupport.parkNanos(this, timeoutNanos < 0 ? backoff : Math.min(backoff, remaining));
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            backoff = Math.min(backoff * 2, MAX_BACKOFF_NANOS);
+            txn = open.get();
+        }
+
+        return txn;
+    }
+
+    private static IllegalStateException unmanagedHeld() {
+        return new IllegalStateException("Cannot open a transaction, the current thread holds a transaction of this document opened without the gate");
+    }
+
+    @Override
+    public long acquisitions() {
+        return acquisitions.sum();
+    }
+
+    @Override
+    public long contended() {
+        return contended.sum();
+    }
+
+    @Override
+    public long timeouts() {
+        return timeouts.sum();
+    }
+
+    @Override
+    public long totalWaitNanos() {
+        return totalWait.sum();
+    }
+
+    @Override
+    public long maxWaitNanos() {
+        return maxWait.get();
+    }
+
+    @Override
+    public int queueLength() {
+        return permits.getQueueLength();
+    }
+
+    /**
+     * Number of transactions a thread holds
+     */
+    private record Holds(int reads, int writes, int unmanaged) {
+
+        /**
+         * @return the updated holds, null once the thread holds nothing so the entry is removed
+         */
+        static Holds add(Holds holds, int reads, int writes, int unmanaged) {
+            Holds updated = holds == null ? new Holds(reads, writes, unmanaged)
+                    : new Holds(holds.reads + reads, holds.writes + writes, holds.unmanaged + unmanaged);
+            return updated.reads == 0 && updated.writes == 0 && updated.unmanaged == 0 ? null : updated;
+        }
+    }
+}
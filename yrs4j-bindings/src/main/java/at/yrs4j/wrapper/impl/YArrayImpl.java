@@ -2,14 +2,21 @@ package at.yrs4j.wrapper.impl;
 
 import at.yrs4j.api.Yrs4J;
 import at.yrs4j.utils.JNAUtils;
+import at.yrs4j.utils.ScratchArena;
+import at.yrs4j.utils.YrsInputArray;
 import at.yrs4j.wrapper.AbstractJNAWrapper;
 import at.yrs4j.wrapper.interfaces.*;
+import at.yrs4j.yrslib.YrsArrayIter;
 import at.yrs4j.yrslib.YrsBranch;
 import at.yrs4j.yrslib.YrsInput;
 import at.yrs4j.yrslib.YrsOutput;
 import at.yrs4j.yrslib.YrsTransaction;
+import com.sun.jna.Pointer;
 
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Consumer;
 
@@ -40,7 +47,15 @@ public class YArrayImpl extends AbstractJNAWrapper<YrsBranch> implements YArray
         YrsTransaction txn = transaction.getWrappedObject();
 
         YrsOutput output = Yrs4J.YRS_INSTANCE.yarray_get(wrappedObject, txn, index);
-        return YOutput.wrap(output);
+        return ownedBy(YOutput.wrap(output), this);
+    }
+
+    @Override
+    public YOutput get(YTransaction transaction, int index, YOutputCursor cursor) {
+        YrsTransaction txn = transaction.getWrappedObject();
+
+        YrsOutput output = Yrs4J.YRS_INSTANCE.yarray_get(wrappedObject, txn, index);
+        return ownedBy(cursor.moveTo(output), this);
     }
 
     @Override
@@ -51,6 +66,131 @@ public class YArrayImpl extends AbstractJNAWrapper<YrsBranch> implements YArray
         Yrs4J.YRS_INSTANCE.yarray_insert_range(wrappedObject, txn, index, nativeArray, nativeArray.length);
     }
 
+    @Override
+    public void insertLongs(YTransaction transaction, int index, long[] values) {
+        try (ScratchArena arena = ScratchArena.open()) {
+            insertCells(transaction, index, YrsInputArray.longs(arena, values), values.length);
+        }
+    }
+
+    @Override
+    public void insertDoubles(YTransaction transaction, int index, double[] values) {
+        try (ScratchArena arena = ScratchArena.open()) {
+            insertCells(transaction, index, YrsInputArray.doubles(arena, values), values.length);
+        }
+    }
+
+    @Override
+    public void insertBooleans(YTransaction transaction, int index, boolean[] values) {
+        try (ScratchArena arena = ScratchArena.open()) {
+            insertCells(transaction, index, YrsInputArray.booleans(arena, values), values.length);
+        }
+    }
+
+    @Override
+    public void insertStrings(YTransaction transaction, int index, String[] values) {
+        try (ScratchArena arena = ScratchArena.open()) {
+            insertCells(transaction, index, YrsInputArray.strings(arena, values), values.length);
+        }
+    }
+
+    private void insertCells(YTransaction transaction, int index, Pointer cells, int count) {
+        if (count == 0) {
+            return;
+        }
+
+        Yrs4J.YRS_INSTANCE.yarray_insert_range(wrappedObject, transaction.getWrappedObject(), index, cells, count);
+    }
+
+    @Override
+    public int getLongs(YTransaction transaction, int from, int len, long[] dst, boolean lenient) {
+        return readRange(transaction, from, len, dst.length, (i, type, output) -> {
+            if (type == ValueType.Y_JSON_INT) {
+                dst[i] = OutputReader.longValue(output);
+            } else if (lenient && type == ValueType.Y_JSON_NUM) {
+                dst[i] = (long) OutputReader.doubleValue(output);
+            } else {
+                throw unexpected(from + i, type, "integer");
+            }
+        });
+    }
+
+    @Override
+    public int getDoubles(YTransaction transaction, int from, int len, double[] dst, boolean lenient) {
+        return readRange(transaction, from, len, dst.length, (i, type, output) -> {
+            if (type == ValueType.Y_JSON_NUM) {
+                dst[i] = OutputReader.doubleValue(output);
+            } else if (lenient && type == ValueType.Y_JSON_INT) {
+                dst[i] = OutputReader.longValue(output);
+            } else {
+                throw unexpected(from + i, type, "number");
+            }
+        });
+    }
+
+    @Override
+    public int getStrings(YTransaction transaction, int from, int len, String[] dst, boolean lenient) {
+        return readRange(transaction, from, len, dst.length, (i, type, output) -> {
+            if (type == ValueType.Y_JSON_STR) {
+                dst[i] = OutputReader.stringValue(output);
+            } else if (lenient && (type == ValueType.Y_JSON_NULL || type == ValueType.Y_JSON_UNDEF)) {
+                dst[i] = null;
+            } else if (lenient && type == ValueType.Y_JSON_INT) {
+                dst[i] = Long.toString(OutputReader.longValue(output));
+            } else if (lenient && type == ValueType.Y_JSON_NUM) {
+                dst[i] = Double.toString(OutputReader.doubleValue(output));
+            } else if (lenient && type == ValueType.Y_JSON_BOOL) {
+                dst[i] = Boolean.toString(OutputReader.boolValue(output));
+            } else {
+                throw unexpected(from + i, type, "string");
+            }
+        });
+    }
+
+    private interface ElementReader {
+        void read(int dstIndex, ValueType type, Pointer output);
+    }
+
+    /**
+     * Walks the array once with a native iterator, the elements before {@code from} are skipped
+     */
+    private int readRange(YTransaction transaction, int from, int len, int dstLength, ElementReader reader) {
+        Objects.checkFromIndexSize(0, len, dstLength);
+        if (from < 0) {
+            throw new IndexOutOfBoundsException("Negative start index: " + from);
+        }
+
+        int end = (int) Math.min((long) from + len, len());
+        if (from >= end) {
+            return 0;
+        }
+
+        YrsArrayIter iter = Yrs4J.YRS_INSTANCE.yarray_iter(wrappedObject, transaction.getWrappedObject());
+        int index = 0;
+        try {
+            YrsOutput output;
+            while (index < end && (output = Yrs4J.YRS_INSTANCE.yarray_iter_next(iter)) != null) {
+                try {
+                    if (index >= from) {
+                        Pointer pointer = output.getPointer();
+                        reader.read(index - from, OutputReader.type(pointer), pointer);
+                    }
+                } finally {
+                    Yrs4J.YRS_INSTANCE.youtput_destroy(output);
+                }
+                index++;
+            }
+        } finally {
+            Yrs4J.YRS_INSTANCE.yarray_iter_destroy(iter);
+        }
+
+        return Math.max(0, index - from);
+    }
+
+    private static IllegalStateException unexpected(int index, ValueType type, String expected) {
+        return new IllegalStateException("Element " + index + " is not a json " + expected + ": " + type);
+    }
+
     @Override
     public void removeRange(YTransaction transaction, int index, int len) {
         YrsTransaction txn = transaction.getWrappedObject();
@@ -69,21 +209,50 @@ public class YArrayImpl extends AbstractJNAWrapper<YrsBranch> implements YArray
     public YArrayIter iter(YTransaction transaction) {
         YrsTransaction txn = transaction.getWrappedObject();
 
-        YArrayIter iter = YArrayIter.wrap(Yrs4J.YRS_INSTANCE.yarray_iter(wrappedObject, txn));
+        YArrayIter iter = ownedBy(YArrayIter.wrap(Yrs4J.YRS_INSTANCE.yarray_iter(wrappedObject, txn)), this);
         registerDestroyable(iter);
         return iter;
     }
 
     @Override
+    public List<Object> toJava(YTransaction transaction) {
+        YrsTransaction txn = transaction.getWrappedObject();
+        OutputReader.SharedTypes sharedTypes = OutputReader.materialized(transaction);
+        List<Object> values = new ArrayList<>(len());
+
+        YrsArrayIter iter = Yrs4J.YRS_INSTANCE.yarray_iter(wrappedObject, txn);
+        try {
+            YrsOutput output;
+            while ((output = Yrs4J.YRS_INSTANCE.yarray_iter_next(iter)) != null) {
+                try {
+                    values.add(OutputReader.read(output.getPointer(), sharedTypes));
+                } finally {
+                    Yrs4J.YRS_INSTANCE.youtput_destroy(output);
+                }
+            }
+        } finally {
+            Yrs4J.YRS_INSTANCE.yarray_iter_destroy(iter);
+        }
+
+        return values;
+    }
+
+    @Override
+    @Deprecated
     public void setTransaction(YTransaction transaction) {
         this.transaction = transaction;
     }
 
+    @Override
+    public Spliterator<YOutput> spliterator(YTransaction transaction, int chunkSize) {
+        return new ChunkedSpliterator<>(iter(transaction), len(), Spliterator.ORDERED | Spliterator.NONNULL, chunkSize);
+    }
+
     @Override
     public Iterator<YOutput> iterator() {
         if (this.transaction == null) throw new RuntimeException(new IllegalStateException("Transaction is not set"));
 
-        return new YIteratorImpl<>(iter(transaction));
+        return iterator(transaction);
     }
 
     @Override
@@ -5,29 +5,30 @@ import at.yrs4j.wrapper.AbstractDestroyableJNAWrapper;
 import at.yrs4j.wrapper.AbstractJNAWrapper;
 import at.yrs4j.wrapper.interfaces.YArrayIter;
 import at.yrs4j.wrapper.interfaces.YOutput;
+import at.yrs4j.wrapper.interfaces.YOutputCursor;
 import at.yrs4j.yrslib.YrsArrayIter;
 import at.yrs4j.yrslib.YrsOutput;
 
 public class YArrayIterImpl extends AbstractDestroyableJNAWrapper<YrsArrayIter> implements YArrayIter {
 
     public YArrayIterImpl(YrsArrayIter wrappedObject) {
-        super(wrappedObject);
+        super(wrappedObject, Yrs4J.YRS_INSTANCE::yarray_iter_destroy);
     }
 
-    @Override
-    public void destroy() {
-        Yrs4J.YRS_INSTANCE.yarray_iter_destroy(wrappedObject);
-        super.destroy();
-    }
 
     @Override
     public YOutput next() {
         YrsOutput output = Yrs4J.YRS_INSTANCE.yarray_iter_next(wrappedObject);
         if (output != null) {
-            return YOutput.wrap(output);
+            return ownedBy(YOutput.wrap(output), this);
         }
 
         return null;
     }
 
+    @Override
+    public YOutput next(YOutputCursor cursor) {
+        return ownedBy(cursor.moveTo(Yrs4J.YRS_INSTANCE.yarray_iter_next(wrappedObject)), this);
+    }
+
 }
@@ -0,0 +1,113 @@
+package at.yrs4j.wrapper.impl;
+
+import at.yrs4j.utils.YrsInputArray;
+import at.yrs4j.wrapper.AbstractDestroyableJNAWrapper;
+import at.yrs4j.wrapper.interfaces.ValueType;
+import at.yrs4j.wrapper.interfaces.YAttributes;
+import at.yrs4j.yrslib.YrsInput;
+import com.sun.jna.Memory;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+public class YAttributesImpl extends AbstractDestroyableJNAWrapper<YrsInput> implements YAttributes {
+    // guards the reference counts as well
+    private static final Map<Map<String, Object>, YAttributesImpl> INTERNED = new HashMap<>();
+
+    private final Map<String, Object> attributes;
+    private int references;
+
+    private YAttributesImpl(Map<String, Object> attributes, Memory block) {
+        super(new Cell(block, attributes.size()), cell -> block.close());
+        this.attributes = attributes;
+    }
+
+    public static YAttributes of(Map<String, ?> attributes) {
+        Map<String, Object> normalized = normalize(attributes);
+
+        synchronized (INTERNED) {
+            YAttributesImpl interned = INTERNED.get(normalized);
+            if (interned == null || interned.isDestroyed()) {
+                String[] keys = normalized.keySet().toArray(String[]::new);
+                Memory block = YrsInputArray.jsonMap(keys, normalized.values().toArray());
+                interned = new YAttributesImpl(normalized, block);
+                INTERNED.put(normalized, interned);
+            }
+            interned.references++;
+            return interned;
+        }
+    }
+
+    @Override
+    public Map<String, Object> attributes() {
+        return attributes;
+    }
+
+    @Override
+    public YrsInput getWrappedObject() {
+        if (isDestroyed()) {
+            throw new IllegalStateException("Attributes " + attributes + " have been destroyed");
+        }
+        return wrappedObject;
+    }
+
+    @Override
+    public ValueType getTagValueType() {
+        return ValueType.Y_JSON_MAP;
+    }
+
+    @Override
+    public int length() {
+        return attributes.size();
+    }
+
+    /**
+     * Gives one reference back, the native memory is freed with the last one
+     */
+    @Override
+    public void destroy() {
+        synchronized (INTERNED) {
+            if (references == 0 || --references > 0) {
+                return;
+            }
+            INTERNED.remove(attributes, this);
+        }
+        super.destroy();
+    }
+
+    @Override
+    public String toString() {
+        return attributes.toString();
+    }
+
+    private static Map<String, Object> normalize(Map<String, ?> attributes) {
+        Map<String, Object> normalized = new LinkedHashMap<>();
+        for (Map.Entry<String, ?> entry : attributes.entrySet()) {
+            Object value = entry.getValue();
+            if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                value = ((Number) value).longValue();
+            } else if (value instanceof Float f) {
+                value = f.doubleValue();
+            } else if (value != null && !(value instanceof Long || value instanceof Double || value instanceof Boolean || value instanceof String)) {
+                throw new IllegalArgumentException("Unsupported attribute value: " + value.getClass().getName());
+            }
+            normalized.put(Objects.requireNonNull(entry.getKey()), value);
+        }
+        return Collections.unmodifiableMap(normalized);
+    }
+
+    /**
+     * Input cell at the start of the block, never synchronized with Java fields as the block is written up front
+     */
+    private static final class Cell extends YrsInput {
+        private Cell(Memory block, int size) {
+            useMemory(block);
+            setAutoSynch(false);
+            tag = (byte) ValueType.Y_JSON_MAP.getValue();
+            len = size;
+        }
+    }
+}
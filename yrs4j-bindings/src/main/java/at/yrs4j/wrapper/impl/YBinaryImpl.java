@@ -0,0 +1,45 @@
+package at.yrs4j.wrapper.impl;
+
+import at.yrs4j.api.Yrs4J;
+import at.yrs4j.wrapper.AbstractDestroyableJNAWrapper;
+import at.yrs4j.wrapper.interfaces.YBinary;
+import com.sun.jna.Pointer;
+
+import java.nio.ByteBuffer;
+
+public class YBinaryImpl extends AbstractDestroyableJNAWrapper<Pointer> implements YBinary {
+    private final int length;
+
+    public YBinaryImpl(Pointer wrappedObject, int length) {
+        super(wrappedObject, data -> Yrs4J.YRS_INSTANCE.ybinary_destroy(data, length));
+        this.length = length;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public ByteBuffer asByteBuffer() {
+        checkNotDestroyed();
+        return wrappedObject.getByteBuffer(0, length).asReadOnlyBuffer();
+    }
+
+    @Override
+    public byte[] toByteArray() {
+        checkNotDestroyed();
+        return wrappedObject.getByteArray(0, length);
+    }
+
+    @Override
+    public void close() {
+        destroy();
+    }
+
+    private void checkNotDestroyed() {
+        if (isDestroyed()) {
+            throw new IllegalStateException("Binary has already been released");
+        }
+    }
+}
@@ -8,15 +8,16 @@ import at.yrs4j.yrslib.YrsChunk;
 
 public class YChunkImpl extends AbstractDestroyableJNAWrapper<YrsChunk> implements YChunk {
 
-    private int length = 0;
+    private final int length;
 
-    public YChunkImpl(YrsChunk wrappedObject) {
-        super(wrappedObject);
+    public YChunkImpl(YrsChunk wrappedObject, int length) {
+        super(wrappedObject, chunks -> Yrs4J.YRS_INSTANCE.ychunks_destroy(chunks, length));
+        this.length = length;
     }
 
     @Override
     public YOutput getData() {
-        return YOutput.wrap(wrappedObject.data);
+        return ownedBy(YOutput.wrap(wrappedObject.data), this);
     }
 
     @Override
@@ -28,13 +29,4 @@ public class YChunkImpl extends AbstractDestroyableJNAWrapper<YrsChunk> implemen
     public int getLength() {
         return length;
     }
-
-    @Override
-    public void destroy() {
-        Yrs4J.YRS_INSTANCE.ychunks_destroy(wrappedObject, length);
-    }
-
-    void setLength(int length) {
-        this.length = length;
-    }
 }
@@ -1,37 +1,55 @@
 package at.yrs4j.wrapper.impl;
 
 import at.yrs4j.api.Yrs4J;
+import at.yrs4j.api.YrsLibNativeInterface;
 import at.yrs4j.utils.JNAUtils;
 import at.yrs4j.wrapper.AbstractDestroyableJNAWrapper;
+import at.yrs4j.wrapper.TransactionTracker;
+import at.yrs4j.wrapper.interfaces.EncodingVersion;
 import at.yrs4j.wrapper.interfaces.YDoc;
+import at.yrs4j.wrapper.interfaces.YSubscription;
 import at.yrs4j.wrapper.interfaces.YTransaction;
+import at.yrs4j.wrapper.interfaces.YTransactionChange;
+import at.yrs4j.wrapper.interfaces.YTransactionMetrics;
 import at.yrs4j.yrslib.YrsDoc;
 import at.yrs4j.yrslib.YrsOptions;
 import at.yrs4j.yrslib.YrsTransaction;
 
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
 public class YDocImpl extends AbstractDestroyableJNAWrapper<YrsDoc> implements YDoc{
+    // created on first managed acquisition, documents wrapped again (subdocuments, outputs) get their own gate
+    private volatile TransactionGate gate;
 
     public YDocImpl() {
-        super(Yrs4J.YRS_INSTANCE.ydoc_new());
+        this(Yrs4J.YRS_INSTANCE.ydoc_new(), true);
     }
 
     public YDocImpl(YrsOptions.ByValue options) {
-        super(Yrs4J.YRS_INSTANCE.ydoc_new_with_options(options));
+        this(Yrs4J.YRS_INSTANCE.ydoc_new_with_options(options), true);
     }
 
+    /**
+     * Wraps a document owned by yrs (subdocuments, documents read from an output), it is not destroyed by this wrapper
+     */
     public YDocImpl(YrsDoc doc) {
-        super(doc);
+        this(doc, false);
     }
-    @Override
-    public void destroy() {
-        Yrs4J.YRS_INSTANCE.ydoc_destroy(super.wrappedObject);
-        super.destroy();
+
+    private YDocImpl(YrsDoc doc, boolean owned) {
+        super(doc, owned ? Yrs4J.YRS_INSTANCE::ydoc_destroy : null);
     }
 
     @Override
     public YDoc clone(YDoc YDoc) {
         YrsDoc docCloned = Yrs4J.YRS_INSTANCE.ydoc_clone(((YDocImpl) YDoc).wrappedObject);
-        return new YDocImpl(docCloned);
+        return new YDocImpl(docCloned, true);
     }
 
     @Override
@@ -71,16 +89,132 @@ public class YDocImpl extends AbstractDestroyableJNAWrapper<YrsDoc> implements Y
 
     @Override
     public YTransaction readTransaction() {
-        return new YTransactionImpl(Yrs4J.YRS_INSTANCE.ydoc_read_transaction(super.wrappedObject));
+        return unmanaged(Yrs4J.YRS_INSTANCE.ydoc_read_transaction(super.wrappedObject));
     }
 
     @Override
     public YTransaction writeTransaction(Integer origin_len, String origin) {
-        return new YTransactionImpl(Yrs4J.YRS_INSTANCE.ydoc_write_transaction(super.wrappedObject, origin_len, origin));
+        return unmanaged(Yrs4J.YRS_INSTANCE.ydoc_write_transaction(super.wrappedObject, origin_len, origin));
     }
 
     @Override
     public YTransaction writeTransaction() {
-        return new YTransactionImpl(Yrs4J.YRS_INSTANCE.ydoc_write_transaction(super.wrappedObject, 0, null));
+        return unmanaged(Yrs4J.YRS_INSTANCE.ydoc_write_transaction(super.wrappedObject, 0, null));
+    }
+
+    @Override
+    public YTransaction acquireReadTransaction() throws InterruptedException {
+        return acquire(false, -1);
+    }
+
+    @Override
+    public YTransaction acquireWriteTransaction() throws InterruptedException {
+        return acquire(true, -1);
+    }
+
+    @Override
+    public YTransaction tryReadTransaction(long timeout, TimeUnit unit) throws InterruptedException {
+        return acquire(false, Math.max(0, unit.toNanos(timeout)));
+    }
+
+    @Override
+    public YTransaction tryWriteTransaction(long timeout, TimeUnit unit) throws InterruptedException {
+        return acquire(true, Math.max(0, unit.toNanos(timeout)));
+    }
+
+    @Override
+    public YTransaction tryReadTransaction() {
+        return tryAcquire(false);
+    }
+
+    @Override
+    public YTransaction tryWriteTransaction() {
+        return tryAcquire(true);
+    }
+
+    @Override
+    public YTransactionMetrics transactionMetrics() {
+        return gate();
+    }
+
+    @Override
+    public <T> T read(Function<YTransaction, T> function) {
+        try (YTransaction txn = acquireUninterrupted(false)) {
+            return function.apply(txn);
+        }
+    }
+
+    @Override
+    public void write(Consumer<YTransaction> action) {
+        try (YTransaction txn = acquireUninterrupted(true)) {
+            action.accept(txn);
+        }
+    }
+
+    @Override
+    public Flow.Publisher<ByteBuffer> updates(EncodingVersion version, Executor executor) {
+        return new YUpdatePublisher(this, version, executor);
+    }
+
+    @Override
+    public YSubscription observeAfterTransaction(Consumer<? super YTransactionChange> listener) {
+        Objects.requireNonNull(listener);
+        YrsLibNativeInterface.ydoc_observe_after_transaction_cb_callback callback = (state, event) -> listener.accept(AfterTransactionReader.read(event));
+        return new YSubscriptionImpl(Yrs4J.YRS_INSTANCE.ydoc_observe_after_transaction(super.wrappedObject, null, callback), callback);
+    }
+
+    private YTransaction acquireUninterrupted(boolean write) {
+        try {
+            return acquire(write, -1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            IllegalStateException ex = new IllegalStateException("Interrupted while waiting for a " + (write ? "write" : "read") + " transaction", e);
+            // the sites are only recorded with TransactionTracker enabled
+            TransactionTracker.openTransactions().forEach(ex::addSuppressed);
+            throw ex;
+        }
+    }
+
+    private YTransaction tryAcquire(boolean write) {
+        try {
+            return acquire(write, 0);
+        } catch (InterruptedException e) {
+            // a try acquisition never waits for permits, only the backoff of a conflicting native transaction parks
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private YTransaction acquire(boolean write, long timeoutNanos) throws InterruptedException {
+        TransactionGate gate = gate();
+        int permits = TransactionGate.permits(write);
+        YrsTransaction txn = gate.acquire(permits, timeoutNanos, write
+                ? () -> Yrs4J.YRS_INSTANCE.ydoc_write_transaction(super.wrappedObject, 0, null)
+                : () -> Yrs4J.YRS_INSTANCE.ydoc_read_transaction(super.wrappedObject));
+
+        Thread owner = Thread.currentThread();
+        return txn == null ? null : ownedBy(new YTransactionImpl(txn, () -> gate.release(permits, owner)), this);
+    }
+
+    /**
+     * Transaction opened without the gate, recorded so managed acquisitions of the same thread fail instead of waiting
+     * for it
+     */
+    private YTransaction unmanaged(YrsTransaction txn) {
+        return ownedBy(new YTransactionImpl(txn, txn == null ? null : gate().openedUnmanaged()), this);
+    }
+
+    private TransactionGate gate() {
+        TransactionGate current = gate;
+        if (current == null) {
+            synchronized (this) {
+                current = gate;
+                if (current == null) {
+                    current = new TransactionGate();
+                    gate = current;
+                }
+            }
+        }
+        return current;
     }
 }
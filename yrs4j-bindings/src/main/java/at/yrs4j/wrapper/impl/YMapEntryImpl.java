@@ -10,15 +10,18 @@ import at.yrs4j.yrslib.YrsMapEntry;
 public class YMapEntryImpl extends AbstractDestroyableJNAWrapper<YrsMapEntry> implements YMapEntry {
 
     public YMapEntryImpl(YrsMapEntry wrappedObject) {
-        super(wrappedObject);
+        this(wrappedObject, true);
     }
 
-    @Override
-    public void destroy() {
-        Yrs4J.YRS_INSTANCE.ymap_entry_destroy(super.wrappedObject);
-        super.destroy();
+    /**
+     * @param owned false for entries pointing into memory owned by yrs (e.g. entries of a json map output), those are
+     *              not destroyed by this wrapper
+     */
+    YMapEntryImpl(YrsMapEntry wrappedObject, boolean owned) {
+        super(wrappedObject, owned ? Yrs4J.YRS_INSTANCE::ymap_entry_destroy : null);
     }
 
+
     @Override
     public String getKey() {
         return wrappedObject.key;
@@ -26,6 +29,6 @@ public class YMapEntryImpl extends AbstractDestroyableJNAWrapper<YrsMapEntry> im
 
     @Override
     public YOutput getValue() {
-        return YOutput.wrap(wrappedObject.value);
+        return ownedBy(YOutput.wrap(wrappedObject.value), this);
     }
 }
@@ -1,13 +1,21 @@
 package at.yrs4j.wrapper.impl;
 
 import at.yrs4j.api.Yrs4J;
+import at.yrs4j.utils.ScratchArena;
+import at.yrs4j.utils.YKey;
+import at.yrs4j.utils.YrsInputArray;
 import at.yrs4j.wrapper.AbstractJNAWrapper;
 import at.yrs4j.wrapper.interfaces.*;
 import at.yrs4j.yrslib.*;
+import com.sun.jna.Pointer;
 
+import java.util.Collection;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Spliterator;
 import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
 
 public class YMapImpl extends AbstractJNAWrapper<YrsBranch> implements YMap {
 
@@ -29,7 +37,36 @@ public class YMapImpl extends AbstractJNAWrapper<YrsBranch> implements YMap {
         YrsTransaction txn = transaction.getWrappedObject();
         YrsInput in = input.getWrappedObject();
 
-        Yrs4J.YRS_INSTANCE.ymap_insert(wrappedObject, txn, key, in);
+        try (ScratchArena arena = ScratchArena.open()) {
+            Yrs4J.YRS_INSTANCE.ymap_insert(wrappedObject, txn, arena.utf8(key), in);
+        }
+    }
+
+    @Override
+    public void insert(YTransaction transaction, YKey key, YInput input) {
+        YrsTransaction txn = transaction.getWrappedObject();
+        Yrs4J.YRS_INSTANCE.ymap_insert(wrappedObject, txn, key.pointer(), input.getWrappedObject());
+    }
+
+    @Override
+    public void putAll(YTransaction transaction, Map<String, ?> entries) {
+        YrsTransaction txn = transaction.getWrappedObject();
+        int size = entries.size();
+        Object[] values = new Object[size];
+
+        try (ScratchArena arena = ScratchArena.open()) {
+            Pointer[] keys = new Pointer[size];
+            int i = 0;
+            for (Map.Entry<String, ?> entry : entries.entrySet()) {
+                keys[i] = arena.utf8(entry.getKey());
+                values[i++] = entry.getValue();
+            }
+
+            Pointer cells = YrsInputArray.values(arena, values);
+            for (i = 0; i < size; i++) {
+                Yrs4J.YRS_INSTANCE.ymap_insert(wrappedObject, txn, keys[i], cells.share((long) i * YrsInputArray.CELL_SIZE));
+            }
+        }
     }
 
     @Override
@@ -38,11 +75,65 @@ public class YMapImpl extends AbstractJNAWrapper<YrsBranch> implements YMap {
         Yrs4J.YRS_INSTANCE.ymap_remove(wrappedObject, txn, key);
     }
 
+    @Override
+    public void remove(YTransaction transaction, YKey key) {
+        YrsTransaction txn = transaction.getWrappedObject();
+        Yrs4J.YRS_INSTANCE.ymap_remove(wrappedObject, txn, key.pointer());
+    }
+
     @Override
     public YOutput get(YTransaction transaction, String key) {
         YrsTransaction txn = transaction.getWrappedObject();
-        YrsOutput out = Yrs4J.YRS_INSTANCE.ymap_get(wrappedObject, txn, key);
-        return YOutput.wrap(out);
+        try (ScratchArena arena = ScratchArena.open()) {
+            YrsOutput out = Yrs4J.YRS_INSTANCE.ymap_get(wrappedObject, txn, arena.utf8(key));
+            return out == null ? null : ownedBy(YOutput.wrap(out), this);
+        }
+    }
+
+    @Override
+    public YOutput get(YTransaction transaction, String key, YOutputCursor cursor) {
+        YrsTransaction txn = transaction.getWrappedObject();
+        try (ScratchArena arena = ScratchArena.open()) {
+            YrsOutput out = Yrs4J.YRS_INSTANCE.ymap_get(wrappedObject, txn, arena.utf8(key));
+            return ownedBy(cursor.moveTo(out), this);
+        }
+    }
+
+    @Override
+    public YOutput get(YTransaction transaction, YKey key) {
+        YrsTransaction txn = transaction.getWrappedObject();
+        YrsOutput out = Yrs4J.YRS_INSTANCE.ymap_get(wrappedObject, txn, key.pointer());
+        return out == null ? null : ownedBy(YOutput.wrap(out), this);
+    }
+
+    @Override
+    public YOutput get(YTransaction transaction, YKey key, YOutputCursor cursor) {
+        YrsTransaction txn = transaction.getWrappedObject();
+        YrsOutput out = Yrs4J.YRS_INSTANCE.ymap_get(wrappedObject, txn, key.pointer());
+        return ownedBy(cursor.moveTo(out), this);
+    }
+
+    @Override
+    public Map<String, YOutput> getAll(YTransaction transaction, Collection<String> keys) {
+        YrsTransaction txn = transaction.getWrappedObject();
+        Map<String, YOutput> result = new LinkedHashMap<>();
+
+        try (ScratchArena arena = ScratchArena.open()) {
+            String[] names = keys.toArray(String[]::new);
+            Pointer[] encoded = new Pointer[names.length];
+            for (int i = 0; i < names.length; i++) {
+                encoded[i] = arena.utf8(names[i]);
+            }
+
+            for (int i = 0; i < names.length; i++) {
+                YrsOutput out = Yrs4J.YRS_INSTANCE.ymap_get(wrappedObject, txn, encoded[i]);
+                if (out != null) {
+                    result.put(names[i], ownedBy(YOutput.wrap(out), this));
+                }
+            }
+        }
+
+        return result;
     }
 
     @Override
@@ -55,21 +146,60 @@ public class YMapImpl extends AbstractJNAWrapper<YrsBranch> implements YMap {
     public YMapIter iter(YTransaction transaction) {
         YrsTransaction txn = transaction.getWrappedObject();
 
-        YMapIter iter = YMapIter.wrap(Yrs4J.YRS_INSTANCE.ymap_iter(wrappedObject, txn));
+        YMapIter iter = ownedBy(YMapIter.wrap(Yrs4J.YRS_INSTANCE.ymap_iter(wrappedObject, txn)), this);
         registerDestroyable(iter);
         return iter;
     }
 
     @Override
+    public Map<String, Object> toJava(YTransaction transaction) {
+        YrsTransaction txn = transaction.getWrappedObject();
+        OutputReader.SharedTypes sharedTypes = OutputReader.materialized(transaction);
+        Map<String, Object> values = new LinkedHashMap<>();
+
+        YrsMapIter iter = Yrs4J.YRS_INSTANCE.ymap_iter(wrappedObject, txn);
+        try {
+            YrsMapEntry entry;
+            while ((entry = Yrs4J.YRS_INSTANCE.ymap_iter_next(iter)) != null) {
+                try {
+                    values.put(entry.key, OutputReader.read(entry.getPointer().share(OutputReader.ENTRY_VALUE_OFFSET), sharedTypes));
+                } finally {
+                    Yrs4J.YRS_INSTANCE.ymap_entry_destroy(entry);
+                }
+            }
+        } finally {
+            Yrs4J.YRS_INSTANCE.ymap_iter_destroy(iter);
+        }
+
+        return values;
+    }
+
+    @Override
+    public YMapView cachedView(YDoc doc, int maxEntries) {
+        return new YMapViewImpl(wrappedObject, doc, maxEntries);
+    }
+
+    @Override
+    public YMapView cachedView(YDoc doc, long maxWeight, ToLongFunction<Object> weigher) {
+        return new YMapViewImpl(wrappedObject, doc, maxWeight, weigher);
+    }
+
+    @Override
+    @Deprecated
     public void setTransaction(YTransaction transaction) {
         this.transaction = transaction;
     }
 
+    @Override
+    public Spliterator<YMapEntry> spliterator(YTransaction transaction, int chunkSize) {
+        return new ChunkedSpliterator<>(iter(transaction), len(transaction), Spliterator.DISTINCT | Spliterator.NONNULL, chunkSize);
+    }
+
     @Override
     public Iterator<YMapEntry> iterator() {
         if (this.transaction == null) throw new RuntimeException(new IllegalStateException("Transaction is not set"));
 
-        return new YIteratorImpl<>(iter(transaction));
+        return iterator(transaction);
     }
 
     @Override
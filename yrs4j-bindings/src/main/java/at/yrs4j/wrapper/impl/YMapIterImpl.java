@@ -10,20 +10,15 @@ import at.yrs4j.yrslib.YrsMapIter;
 
 public class YMapIterImpl extends AbstractDestroyableJNAWrapper<YrsMapIter> implements YMapIter {
     public YMapIterImpl(YrsMapIter wrappedObject) {
-        super(wrappedObject);
+        super(wrappedObject, Yrs4J.YRS_INSTANCE::ymap_iter_destroy);
     }
 
-    @Override
-    public void destroy() {
-        Yrs4J.YRS_INSTANCE.ymap_iter_destroy(wrappedObject);
-        super.destroy();
-    }
 
     @Override
     public YMapEntry next() {
         YrsMapEntry output = Yrs4J.YRS_INSTANCE.ymap_iter_next(wrappedObject);
         if (output != null) {
-            return YMapEntry.wrap(output);
+            return ownedBy(YMapEntry.wrap(output), this);
         }
 
         return null;
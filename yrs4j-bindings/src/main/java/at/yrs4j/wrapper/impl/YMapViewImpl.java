@@ -0,0 +1,217 @@
+package at.yrs4j.wrapper.impl;
+
+import at.yrs4j.api.Yrs4J;
+import at.yrs4j.api.YrsLibNativeInterface;
+import at.yrs4j.utils.ScratchArena;
+import at.yrs4j.wrapper.interfaces.YDoc;
+import at.yrs4j.wrapper.interfaces.YMapView;
+import at.yrs4j.wrapper.interfaces.YSubscription;
+import at.yrs4j.wrapper.interfaces.YTransaction;
+import at.yrs4j.yrslib.YrsBranch;
+import at.yrs4j.yrslib.YrsEventKeyChange;
+import at.yrs4j.yrslib.YrsMapEvent;
+import at.yrs4j.yrslib.YrsOutput;
+
+import java.nio.IntBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+
+public class YMapViewImpl implements YMapView {
+    private final YrsBranch branch;
+    private final YDoc doc;
+    private final long maxWeight;
+    private final ToLongFunction<Object> weigher;
+    // access ordered, the eldest entry is the least recently used
+    private final LinkedHashMap<String, Cached> cache = new LinkedHashMap<>(16, 0.75f, true);
+    private final YSubscription subscription;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    // bumped by every invalidation, values read before are not cached
+    private long generation;
+    private long weight;
+
+    public YMapViewImpl(YrsBranch branch, YDoc doc, int maxEntries) {
+        this(branch, doc, maxEntries, value -> 1);
+    }
+
+    public YMapViewImpl(YrsBranch branch, YDoc doc, long maxWeight, ToLongFunction<Object> weigher) {
+        if (maxWeight < 1) {
+            throw new IllegalArgumentException("The maximum weight must be positive: " + maxWeight);
+        }
+
+        this.branch = branch;
+        this.doc = doc;
+        this.maxWeight = maxWeight;
+        this.weigher = Objects.requireNonNull(weigher);
+
+        YrsLibNativeInterface.ymap_observe_cb_callback callback = (state, event) -> applyEvent(event);
+        this.subscription = new YSubscriptionImpl(Yrs4J.YRS_INSTANCE.ymap_observe(branch, null, callback), callback);
+    }
+
+    @Override
+    public Object get(String key) {
+        Cached cached = cached(key);
+        if (cached != null) {
+            return cached.value();
+        }
+
+        return doc.read(transaction -> load(transaction, key));
+    }
+
+    @Override
+    public Object get(YTransaction transaction, String key) {
+        if (transaction.writeable()) {
+            // the transaction may have changed the key, the cache is only invalidated when it commits
+            return read(transaction, key);
+        }
+
+        Cached cached = cached(key);
+        if (cached != null) {
+            return cached.value();
+        }
+
+        return load(transaction, key);
+    }
+
+    @Override
+    public synchronized void invalidate(String key) {
+        generation++;
+        remove(key);
+    }
+
+    @Override
+    public synchronized void invalidateAll() {
+        generation++;
+        clear();
+    }
+
+    @Override
+    public synchronized int size() {
+        return cache.size();
+    }
+
+    @Override
+    public synchronized long weight() {
+        return weight;
+    }
+
+    @Override
+    public long hits() {
+        return hits.sum();
+    }
+
+    @Override
+    public long misses() {
+        return misses.sum();
+    }
+
+    @Override
+    public void destroy() {
+        subscription.destroy();
+        synchronized (this) {
+            clear();
+        }
+    }
+
+    @Override
+    public boolean isDestroyed() {
+        return subscription.isDestroyed();
+    }
+
+    private synchronized Cached cached(String key) {
+        Cached cached = cache.get(key);
+        if (cached != null) {
+            hits.increment();
+        }
+        return cached;
+    }
+
+    private Object load(YTransaction transaction, String key) {
+        misses.increment();
+        long loadedAt;
+        synchronized (this) {
+            loadedAt = generation;
+        }
+
+        Object value = read(transaction, key);
+        long valueWeight = weigher.applyAsLong(value);
+        if (valueWeight < 0) {
+            throw new IllegalStateException("Negative weight " + valueWeight + " for key " + key);
+        }
+        synchronized (this) {
+            // a value heavier than the whole cache would only evict everything else
+            if (generation == loadedAt && !subscription.isDestroyed() && valueWeight <= maxWeight) {
+                put(key, new Cached(value, valueWeight));
+            }
+        }
+        return value;
+    }
+
+    private Object read(YTransaction transaction, String key) {
+        try (ScratchArena arena = ScratchArena.open()) {
+            YrsOutput output = Yrs4J.YRS_INSTANCE.ymap_get(branch, transaction.getWrappedObject(), arena.utf8(key));
+            if (output == null) {
+                return null;
+            }
+            try {
+                return OutputReader.read(output.getPointer(), OutputReader.WRAPPERS);
+            } finally {
+                Yrs4J.YRS_INSTANCE.youtput_destroy(output);
+            }
+        }
+    }
+
+    private void put(String key, Cached cached) {
+        Cached previous = cache.put(key, cached);
+        weight += cached.weight() - (previous == null ? 0 : previous.weight());
+
+        Iterator<Cached> eldest = cache.values().iterator();
+        while (weight > maxWeight) {
+            weight -= eldest.next().weight();
+            eldest.remove();
+        }
+    }
+
+    private void remove(String key) {
+        Cached removed = cache.remove(key);
+        if (removed != null) {
+            weight -= removed.weight();
+        }
+    }
+
+    private void clear() {
+        cache.clear();
+        weight = 0;
+    }
+
+    private void applyEvent(YrsMapEvent event) {
+        IntBuffer len = IntBuffer.allocate(1);
+        YrsEventKeyChange keys = Yrs4J.YRS_INSTANCE.ymap_event_keys(event, len);
+        int count = len.get(0);
+        if (keys == null || count == 0) {
+            return;
+        }
+
+        try {
+            synchronized (this) {
+                generation++;
+                for (YrsEventKeyChange change : (YrsEventKeyChange[]) keys.toArray(count)) {
+                    remove(change.key.getString(0, StandardCharsets.UTF_8.name()));
+                }
+            }
+        } finally {
+            Yrs4J.YRS_INSTANCE.yevent_keys_destroy(keys, count);
+        }
+    }
+
+    /**
+     * Cached value, {@code null} for keys which are not present
+     */
+    private record Cached(Object value, long weight) {
+    }
+}
@@ -0,0 +1,246 @@
+package at.yrs4j.wrapper.impl;
+
+import at.yrs4j.api.Yrs4J;
+import at.yrs4j.api.YrsLibNativeInterface;
+import at.yrs4j.wrapper.JNAWrapper;
+import at.yrs4j.wrapper.interfaces.EncodingType;
+import at.yrs4j.wrapper.interfaces.YArray;
+import at.yrs4j.wrapper.interfaces.YEvent;
+import at.yrs4j.wrapper.interfaces.YMap;
+import at.yrs4j.wrapper.interfaces.YObserverHub;
+import at.yrs4j.wrapper.interfaces.YSubscription;
+import at.yrs4j.wrapper.interfaces.YText;
+import at.yrs4j.wrapper.interfaces.YTextOffsetIndex.Unit;
+import at.yrs4j.wrapper.interfaces.YXmlElement;
+import at.yrs4j.wrapper.interfaces.YXmlText;
+import at.yrs4j.yrslib.YrsBranch;
+import at.yrs4j.yrslib.YrsSubscription;
+import com.sun.jna.Callback;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+
+public class YObserverHubImpl implements YObserverHub {
+    private final Executor executor;
+    private final boolean coalesce;
+    private final Set<YSubscription> subscriptions = ConcurrentHashMap.newKeySet();
+    private final LongAdder dropped = new LongAdder();
+
+    // ring buffer of waiting events and their observers, guarded by this
+    private final Object[] events;
+    private final Observer<?>[] observers;
+    private int head;
+    private int size;
+    private boolean scheduled;
+    private volatile boolean destroyed;
+
+    public YObserverHubImpl(Executor executor, int capacity, boolean coalesce) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+
+        this.executor = Objects.requireNonNull(executor);
+        this.coalesce = coalesce;
+        this.events = new Object[capacity];
+        this.observers = new Observer<?>[capacity];
+    }
+
+    @Override
+    public YSubscription observe(YText text, EncodingType encoding, Consumer<? super YEvent.TextEvent> listener) {
+        Unit unit = Unit.of(encoding);
+        Observer<YEvent.TextEvent> observer = new Observer<>(listener,
+                (a, b) -> new YEvent.TextEvent(a.target(), EventCoalescer.compose(a.delta(), b.delta(), unit)));
+        YrsLibNativeInterface.ytext_observe_cb_callback callback = (state, event) -> enqueue(observer, EventReader.text(text, event));
+        return register(observer, Yrs4J.YRS_INSTANCE.ytext_observe(text.getWrappedObject(), null, callback), callback);
+    }
+
+    @Override
+    public YSubscription observe(YArray array, Consumer<? super YEvent.ArrayEvent> listener) {
+        Observer<YEvent.ArrayEvent> observer = new Observer<>(listener,
+                (a, b) -> new YEvent.ArrayEvent(a.target(), EventCoalescer.compose(a.delta(), b.delta(), null)));
+        YrsLibNativeInterface.yarray_observe_cb_callback callback = (state, event) -> enqueue(observer, EventReader.array(array, event));
+        return register(observer, Yrs4J.YRS_INSTANCE.yarray_observe(array.getWrappedObject(), null, callback), callback);
+    }
+
+    @Override
+    public YSubscription observe(YMap map, Consumer<? super YEvent.MapEvent> listener) {
+        Observer<YEvent.MapEvent> observer = new Observer<>(listener,
+                (a, b) -> new YEvent.MapEvent(a.target(), EventCoalescer.merge(a.keys(), b.keys())));
+        YrsLibNativeInterface.ymap_observe_cb_callback callback = (state, event) -> enqueue(observer, EventReader.map(map, event));
+        return register(observer, Yrs4J.YRS_INSTANCE.ymap_observe(map.getWrappedObject(), null, callback), callback);
+    }
+
+    @Override
+    public YSubscription observe(YXmlElement xml, Consumer<? super YEvent.XmlEvent> listener) {
+        Observer<YEvent.XmlEvent> observer = new Observer<>(listener, (a, b) -> new YEvent.XmlEvent(a.target(),
+                EventCoalescer.compose(a.delta(), b.delta(), null), EventCoalescer.merge(a.attributes(), b.attributes())));
+        YrsLibNativeInterface.yxmlelem_observe_cb_callback callback = (state, event) -> enqueue(observer, EventReader.xml(xml, event));
+        return register(observer, Yrs4J.YRS_INSTANCE.yxmlelem_observe(xml.getWrappedObject(), null, callback), callback);
+    }
+
+    @Override
+    public YSubscription observe(YXmlText xml, EncodingType encoding, Consumer<? super YEvent.XmlTextEvent> listener) {
+        Unit unit = Unit.of(encoding);
+        Observer<YEvent.XmlTextEvent> observer = new Observer<>(listener, (a, b) -> new YEvent.XmlTextEvent(a.target(),
+                EventCoalescer.compose(a.delta(), b.delta(), unit), EventCoalescer.merge(a.attributes(), b.attributes())));
+        YrsLibNativeInterface.yxmltext_observe_cb_callback callback = (state, event) -> enqueue(observer, EventReader.xmlText(xml, event));
+        return register(observer, Yrs4J.YRS_INSTANCE.yxmltext_observe(xml.getWrappedObject(), null, callback), callback);
+    }
+
+    @Override
+    public YSubscription observeDeep(JNAWrapper<YrsBranch> branch, Consumer<? super List<YEvent>> listener) {
+        Observer<List<YEvent>> observer = new Observer<>(listener, (a, b) -> {
+            List<YEvent> all = new ArrayList<>(a.size() + b.size());
+            all.addAll(a);
+            all.addAll(b);
+            return List.copyOf(all);
+        });
+        YrsLibNativeInterface.yobserve_deep_cb_callback callback = (state, len, first) -> enqueue(observer, EventReader.deep(len, first));
+        return register(observer, Yrs4J.YRS_INSTANCE.yobserve_deep(branch.getWrappedObject(), null, callback), callback);
+    }
+
+    @Override
+    public long dropped() {
+        return dropped.sum();
+    }
+
+    @Override
+    public synchronized int pending() {
+        return size;
+    }
+
+    @Override
+    public void destroy() {
+        destroyed = true;
+        subscriptions.forEach(YSubscription::destroy);
+        subscriptions.clear();
+        synchronized (this) {
+            for (int i = 0; i < size; i++) {
+                int slot = (head + i) % events.length;
+                events[slot] = null;
+                observers[slot] = null;
+            }
+            size = 0;
+        }
+    }
+
+    @Override
+    public boolean isDestroyed() {
+        return destroyed;
+    }
+
+    private <E> YSubscription register(Observer<E> observer, YrsSubscription subscription, Callback callback) {
+        YSubscriptionImpl wrapper = new YSubscriptionImpl(subscription, callback);
+        observer.subscription = wrapper;
+        subscriptions.removeIf(YSubscription::isDestroyed);
+        subscriptions.add(wrapper);
+        if (destroyed) {
+            wrapper.destroy();
+        }
+        return wrapper;
+    }
+
+    /**
+     * Called on the native callback thread, must not block
+     */
+    private <E> void enqueue(Observer<E> observer, E event) {
+        synchronized (this) {
+            if (destroyed) {
+                return;
+            }
+
+            int tail = (head + size - 1) % events.length;
+            if (coalesce && size > 0 && observers[tail] == observer) {
+                @SuppressWarnings("unchecked")
+                E waiting = (E) events[tail];
+                events[tail] = observer.merge.apply(waiting, event);
+                return;
+            }
+            if (size == events.length) {
+                dropped.increment();
+                return;
+            }
+
+            int slot = (head + size) % events.length;
+            events[slot] = event;
+            observers[slot] = observer;
+            size++;
+            if (scheduled) {
+                return;
+            }
+            scheduled = true;
+        }
+        schedule();
+    }
+
+    private void schedule() {
+        try {
+            executor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            // the events stay queued, the next one tries again
+            synchronized (this) {
+                scheduled = false;
+            }
+        }
+    }
+
+    private void drain() {
+        for (int dispatched = 0; ; dispatched++) {
+            Observer<?> observer;
+            Object event;
+            synchronized (this) {
+                if (size == 0) {
+                    scheduled = false;
+                    return;
+                }
+                // give the executor thread back after a full buffer, so other tasks are not starved
+                if (dispatched == events.length) {
+                    break;
+                }
+
+                observer = observers[head];
+                event = events[head];
+                observers[head] = null;
+                events[head] = null;
+                head = (head + 1) % events.length;
+                size--;
+            }
+            observer.dispatch(event);
+        }
+        schedule();
+    }
+
+    private static final class Observer<E> {
+        private final Consumer<? super E> listener;
+        private final BinaryOperator<E> merge;
+        private volatile YSubscription subscription;
+
+        private Observer(Consumer<? super E> listener, BinaryOperator<E> merge) {
+            this.listener = Objects.requireNonNull(listener);
+            this.merge = merge;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void dispatch(Object event) {
+            YSubscription current = subscription;
+            if (current != null && current.isDestroyed()) {
+                return;
+            }
+
+            try {
+                listener.accept((E) event);
+            } catch (RuntimeException e) {
+                Thread thread = Thread.currentThread();
+                thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+            }
+        }
+    }
+}
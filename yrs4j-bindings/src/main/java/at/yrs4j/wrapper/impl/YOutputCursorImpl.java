@@ -0,0 +1,17 @@
+package at.yrs4j.wrapper.impl;
+
+import at.yrs4j.wrapper.interfaces.YOutputCursor;
+import at.yrs4j.yrslib.YrsOutput;
+
+public class YOutputCursorImpl extends YOutputImpl implements YOutputCursor {
+
+    public YOutputCursorImpl() {
+        super(null);
+    }
+
+    @Override
+    public YOutputCursor moveTo(YrsOutput output) {
+        this.output = output;
+        return output == null ? null : this;
+    }
+}
@@ -3,6 +3,7 @@ package at.yrs4j.wrapper.impl;
 import at.yrs4j.api.Yrs4J;
 import at.yrs4j.utils.JNAUtils;
 import at.yrs4j.wrapper.AbstractJNAWrapper;
+import at.yrs4j.wrapper.JNAWrapper;
 import at.yrs4j.wrapper.interfaces.*;
 import at.yrs4j.yrslib.YrsDoc;
 import at.yrs4j.yrslib.YrsOutput;
@@ -10,25 +11,33 @@ import com.sun.jna.Pointer;
 
 public class YOutputImpl extends AbstractJNAWrapper<YrsOutput> implements YOutput {
 
+    YrsOutput output;
+
     public YOutputImpl(YrsOutput wrappedObject) {
         super(wrappedObject);
+        this.output = wrappedObject;
+    }
+
+    @Override
+    public YrsOutput getWrappedObject() {
+        return output;
     }
 
     @Override
     public ValueType getTagValueType() {
-        return ValueType.findByValue(super.wrappedObject.tag);
+        return ValueType.findByValue(output.tag);
     }
 
     @Override
     public YDoc readYDoc() {
-        YrsDoc doc = Yrs4J.YRS_INSTANCE.youtput_read_ydoc(super.wrappedObject);
-        return YDoc.wrap(doc);
+        YrsDoc doc = Yrs4J.YRS_INSTANCE.youtput_read_ydoc(output);
+        return ownedBy(YDoc.wrap(doc), this);
     }
 
     @Override
     public Boolean readBool() {
         if (getTagValueType() == ValueType.Y_JSON_BOOL) {
-            byte flag = Yrs4J.YRS_INSTANCE.youtput_read_bool(super.wrappedObject).getByte(0);
+            byte flag = Yrs4J.YRS_INSTANCE.youtput_read_bool(output).getByte(0);
 
             return flag != 0;
         }
@@ -40,7 +49,7 @@ public class YOutputImpl extends AbstractJNAWrapper<YrsOutput> implements YOutpu
     public Double readFloat() {
         if (getTagValueType() == ValueType.Y_JSON_NUM) {
 
-            return Yrs4J.YRS_INSTANCE.youtput_read_float(super.wrappedObject).getValue();
+            return Yrs4J.YRS_INSTANCE.youtput_read_float(output).getValue();
         }
 
         return null;
@@ -50,7 +59,7 @@ public class YOutputImpl extends AbstractJNAWrapper<YrsOutput> implements YOutpu
     public Long readLong() {
         if (getTagValueType() == ValueType.Y_JSON_INT) {
 
-            return Yrs4J.YRS_INSTANCE.youtput_read_long(super.wrappedObject).getValue();
+            return Yrs4J.YRS_INSTANCE.youtput_read_long(output).getValue();
         }
 
         return null;
@@ -60,7 +69,7 @@ public class YOutputImpl extends AbstractJNAWrapper<YrsOutput> implements YOutpu
     public String readString() {
         if (getTagValueType() == ValueType.Y_JSON_STR) {
 
-            return Yrs4J.YRS_INSTANCE.youtput_read_string(super.wrappedObject).getString(0);
+            return Yrs4J.YRS_INSTANCE.youtput_read_string(output).getString(0);
         }
 
         return null;
@@ -69,8 +78,8 @@ public class YOutputImpl extends AbstractJNAWrapper<YrsOutput> implements YOutpu
     @Override
     public byte[] readBinary() {
         if (getTagValueType() == ValueType.Y_JSON_BUF) {
-            Pointer buff = Yrs4J.YRS_INSTANCE.youtput_read_binary(super.wrappedObject);
-            return JNAUtils.readByteArrayFromPointer(buff, wrappedObject.len);
+            Pointer buff = Yrs4J.YRS_INSTANCE.youtput_read_binary(output);
+            return JNAUtils.readByteArrayFromPointer(buff, output.len);
         }
 
         return null;
@@ -79,7 +88,7 @@ public class YOutputImpl extends AbstractJNAWrapper<YrsOutput> implements YOutpu
     @Override
     public YOutput readJsonArray() {
         if (getTagValueType() == ValueType.Y_JSON_ARR) {
-            return YOutput.wrap(Yrs4J.YRS_INSTANCE.youtput_read_json_array(super.wrappedObject));
+            return ownedBy(YOutput.wrap(Yrs4J.YRS_INSTANCE.youtput_read_json_array(output)), this);
         }
 
         return null;
@@ -88,7 +97,7 @@ public class YOutputImpl extends AbstractJNAWrapper<YrsOutput> implements YOutpu
     @Override
     public YMapEntry readJsonMap() {
         if (getTagValueType() == ValueType.Y_JSON_MAP) {
-            return YMapEntry.wrap(Yrs4J.YRS_INSTANCE.youtput_read_json_map(super.wrappedObject));
+            return ownedBy(new YMapEntryImpl(Yrs4J.YRS_INSTANCE.youtput_read_json_map(output), false), this);
         }
 
         return null;
@@ -97,7 +106,7 @@ public class YOutputImpl extends AbstractJNAWrapper<YrsOutput> implements YOutpu
     @Override
     public YMap readYMap() {
         if (getTagValueType() == ValueType.Y_MAP) {
-            return YMap.wrap(Yrs4J.YRS_INSTANCE.youtput_read_ymap(super.wrappedObject));
+            return ownedBy(YMap.wrap(Yrs4J.YRS_INSTANCE.youtput_read_ymap(output)), this);
         }
 
         return null;
@@ -106,12 +115,29 @@ public class YOutputImpl extends AbstractJNAWrapper<YrsOutput> implements YOutpu
     @Override
     public YText readYText() {
         if (getTagValueType() == ValueType.Y_TEXT) {
-            return YText.wrap(Yrs4J.YRS_INSTANCE.youtput_read_ytext(super.wrappedObject));
+            return ownedBy(YText.wrap(Yrs4J.YRS_INSTANCE.youtput_read_ytext(output)), this);
         }
 
         return null;
     }
 
+    @Override
+    public Object toJava() {
+        return OutputReader.read(output.getPointer(), (type, value) -> ownedBy(OutputReader.WRAPPERS.convert(type, value), this));
+    }
+
+    @Override
+    public void accept(YOutputVisitor visitor) {
+        OutputReader.accept(output.getPointer(), visitor);
+    }
+
+    /**
+     * @return a borrowed wrapper for a shared type found in an output
+     */
+    public static JNAWrapper<?> wrapSharedType(ValueType type, Pointer handle) {
+        return (JNAWrapper<?>) OutputReader.WRAPPERS.convert(type, handle);
+    }
+
     @Override
     public YWeakRef readYWeakRef() {
         return null;
@@ -120,7 +146,7 @@ public class YOutputImpl extends AbstractJNAWrapper<YrsOutput> implements YOutpu
     @Override
     public YArray readYArray() {
         if (getTagValueType() == ValueType.Y_ARRAY) {
-            return YArray.wrap(Yrs4J.YRS_INSTANCE.youtput_read_yarray(super.wrappedObject));
+            return ownedBy(YArray.wrap(Yrs4J.YRS_INSTANCE.youtput_read_yarray(output)), this);
         }
 
         return null;
@@ -129,7 +155,7 @@ public class YOutputImpl extends AbstractJNAWrapper<YrsOutput> implements YOutpu
     @Override
     public YXmlElement readYXmlElement() {
         if (getTagValueType() == ValueType.Y_XML_ELEM) {
-            return YXmlElement.wrap(Yrs4J.YRS_INSTANCE.youtput_read_yxmlelem(super.wrappedObject));
+            return ownedBy(YXmlElement.wrap(Yrs4J.YRS_INSTANCE.youtput_read_yxmlelem(output)), this);
         }
 
         return null;
@@ -138,7 +164,7 @@ public class YOutputImpl extends AbstractJNAWrapper<YrsOutput> implements YOutpu
     @Override
     public YXmlText readYXmlText() {
         if (getTagValueType() == ValueType.Y_XML_TEXT) {
-            return YXmlText.wrap(Yrs4J.YRS_INSTANCE.youtput_read_yxmltext(super.wrappedObject));
+            return ownedBy(YXmlText.wrap(Yrs4J.YRS_INSTANCE.youtput_read_yxmltext(output)), this);
         }
 
         return null;
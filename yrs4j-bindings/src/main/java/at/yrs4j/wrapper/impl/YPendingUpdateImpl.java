@@ -9,14 +9,9 @@ import at.yrs4j.yrslib.YrsStateVector;
 
 public class YPendingUpdateImpl extends AbstractDestroyableJNAWrapper<YrsPendingUpdate> implements YPendingUpdate {
     public YPendingUpdateImpl(YrsPendingUpdate wrappedObject) {
-        super(wrappedObject);
+        super(wrappedObject, Yrs4J.YRS_INSTANCE::ypending_update_destroy);
     }
 
-    @Override
-    public void destroy() {
-        Yrs4J.YRS_INSTANCE.ypending_update_destroy(super.wrappedObject);
-        super.destroy();
-    }
 
     @Override
     public YrsStateVector getMissing() {
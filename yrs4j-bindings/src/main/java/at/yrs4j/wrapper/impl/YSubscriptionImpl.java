@@ -0,0 +1,47 @@
+package at.yrs4j.wrapper.impl;
+
+import at.yrs4j.api.Yrs4J;
+import at.yrs4j.wrapper.AbstractJNAWrapper;
+import at.yrs4j.wrapper.interfaces.YSubscription;
+import at.yrs4j.yrslib.YrsSubscription;
+import com.sun.jna.Callback;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Not registered with {@link at.yrs4j.wrapper.NativeResource}: callbacks usually reference the wrapper owning the
+ * subscription, a cleaner could never run, and unsubscribing at an arbitrary garbage collection would silently drop
+ * observers. Active subscriptions are kept reachable until they are destroyed (or by {@link Yrs4J#cleanup()}).
+ */
+public class YSubscriptionImpl extends AbstractJNAWrapper<YrsSubscription> implements YSubscription {
+    private static final Set<YSubscriptionImpl> ACTIVE = ConcurrentHashMap.newKeySet();
+
+    // JNA only references callbacks weakly
+    private final Callback callback;
+    private final AtomicBoolean destroyed = new AtomicBoolean();
+
+    /**
+     * @param callback callback passed to the observe function, kept until the observer is unsubscribed
+     */
+    public YSubscriptionImpl(YrsSubscription wrappedObject, Callback callback) {
+        super(wrappedObject);
+        this.callback = callback;
+        ACTIVE.add(this);
+        Yrs4J.registerDestroyable(this);
+    }
+
+    @Override
+    public void destroy() {
+        if (destroyed.compareAndSet(false, true)) {
+            ACTIVE.remove(this);
+            Yrs4J.YRS_INSTANCE.yunobserve(wrappedObject);
+        }
+    }
+
+    @Override
+    public boolean isDestroyed() {
+        return destroyed.get();
+    }
+}
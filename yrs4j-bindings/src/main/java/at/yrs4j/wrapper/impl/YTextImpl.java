@@ -1,11 +1,16 @@
 package at.yrs4j.wrapper.impl;
 
 import at.yrs4j.api.Yrs4J;
+import at.yrs4j.utils.EditScript;
 import at.yrs4j.utils.JNAUtils;
+import at.yrs4j.utils.ScratchArena;
 import at.yrs4j.wrapper.AbstractJNAWrapper;
+import at.yrs4j.wrapper.interfaces.EncodingType;
 import at.yrs4j.wrapper.interfaces.YChunk;
 import at.yrs4j.wrapper.interfaces.YDoc;
 import at.yrs4j.wrapper.interfaces.YText;
+import at.yrs4j.wrapper.interfaces.YTextMirror;
+import at.yrs4j.wrapper.interfaces.YTextOffsetIndex;
 import at.yrs4j.wrapper.interfaces.YTransaction;
 import at.yrs4j.yrslib.YrsBranch;
 import at.yrs4j.yrslib.YrsChunk;
@@ -13,7 +18,10 @@ import at.yrs4j.yrslib.YrsInput;
 import at.yrs4j.yrslib.YrsTransaction;
 import com.sun.jna.Pointer;
 
+import java.io.IOException;
+import java.io.Reader;
 import java.nio.IntBuffer;
+import java.nio.channels.ReadableByteChannel;
 
 public class YTextImpl extends AbstractJNAWrapper<YrsBranch> implements YText {
 
@@ -37,7 +45,9 @@ public class YTextImpl extends AbstractJNAWrapper<YrsBranch> implements YText {
 
     @Override
     public void insert(YTransaction transaction, int index, String value, YrsInput attrs) {
-        Yrs4J.YRS_INSTANCE.ytext_insert(super.wrappedObject, transaction.getWrappedObject(), index, value, attrs);
+        try (ScratchArena arena = ScratchArena.open()) {
+            Yrs4J.YRS_INSTANCE.ytext_insert(super.wrappedObject, transaction.getWrappedObject(), index, arena.utf8(value), attrs);
+        }
     }
 
     @Override
@@ -56,6 +66,31 @@ public class YTextImpl extends AbstractJNAWrapper<YrsBranch> implements YText {
         Yrs4J.YRS_INSTANCE.ytext_remove_range(super.wrappedObject, transaction.getWrappedObject(), index, length);
     }
 
+    @Override
+    public void applyEdits(YTransaction transaction, EditScript script) {
+        script.apply(wrappedObject, transaction.getWrappedObject());
+    }
+
+    @Override
+    public long insertFrom(YTransaction transaction, int index, Reader reader, EncodingType encoding) throws IOException {
+        return TextLoader.insert(wrappedObject, transaction.getWrappedObject(), index, reader, encoding);
+    }
+
+    @Override
+    public long insertFrom(YTransaction transaction, int index, ReadableByteChannel channel, EncodingType encoding) throws IOException {
+        return TextLoader.insert(wrappedObject, transaction.getWrappedObject(), index, channel, encoding);
+    }
+
+    @Override
+    public YTextOffsetIndex offsetIndex(YTransaction transaction, EncodingType encoding) {
+        return new YTextOffsetIndexImpl(wrappedObject, string(transaction), encoding);
+    }
+
+    @Override
+    public YTextMirror mirror(YTransaction transaction, EncodingType encoding) {
+        return new YTextMirrorImpl(wrappedObject, string(transaction), encoding);
+    }
+
     @Override
     public YChunk chunks(YTransaction transaction) {
         IntBuffer buffer = IntBuffer.allocate(1);
@@ -63,10 +98,6 @@ public class YTextImpl extends AbstractJNAWrapper<YrsBranch> implements YText {
 
         YrsChunk chunkNative = Yrs4J.YRS_INSTANCE.ytext_chunks(wrappedObject, txn, buffer);
 
-        YChunk chunk = YChunk.wrap(chunkNative);
-        ((YChunkImpl)chunk).setLength(buffer.get(0));
-        return YChunk.wrap(chunkNative);
-
-
+        return ownedBy(YChunk.wrap(chunkNative, buffer.get(0)), this);
     }
 }
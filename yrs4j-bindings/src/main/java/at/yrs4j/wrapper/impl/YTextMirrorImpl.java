@@ -0,0 +1,72 @@
+package at.yrs4j.wrapper.impl;
+
+import at.yrs4j.api.Yrs4J;
+import at.yrs4j.api.YrsLibNativeInterface;
+import at.yrs4j.wrapper.interfaces.EncodingType;
+import at.yrs4j.wrapper.interfaces.YSubscription;
+import at.yrs4j.wrapper.interfaces.YTextMirror;
+import at.yrs4j.wrapper.interfaces.YTextOffsetIndex.Unit;
+import at.yrs4j.yrslib.YrsBranch;
+import at.yrs4j.yrslib.YrsTextEvent;
+
+public class YTextMirrorImpl implements YTextMirror {
+    private final TextRope rope;
+    private final Unit documentUnit;
+    private final YSubscription subscription;
+
+    /**
+     * @param text     current content of the text
+     * @param encoding offset encoding of the document, the events count in it
+     */
+    public YTextMirrorImpl(YrsBranch branch, String text, EncodingType encoding) {
+        this.documentUnit = Unit.of(encoding);
+        this.rope = new TextRope(text, documentUnit);
+
+        YrsLibNativeInterface.ytext_observe_cb_callback callback = (state, event) -> applyEvent(event);
+        this.subscription = new YSubscriptionImpl(Yrs4J.YRS_INSTANCE.ytext_observe(branch, null, callback), callback);
+    }
+
+    @Override
+    public synchronized String string() {
+        return rope.toString();
+    }
+
+    @Override
+    public synchronized String substring(int from, int to) {
+        return rope.substring(from, to);
+    }
+
+    @Override
+    public synchronized int len() {
+        return (int) rope.length();
+    }
+
+    @Override
+    public void destroy() {
+        subscription.destroy();
+    }
+
+    @Override
+    public boolean isDestroyed() {
+        return subscription.isDestroyed();
+    }
+
+    private synchronized void applyEvent(YrsTextEvent event) {
+        TextDeltas.replay(event, documentUnit, new TextDeltas.Edits() {
+            @Override
+            public void insert(long index, String text) {
+                rope.insert(index, text);
+            }
+
+            @Override
+            public void insertEmbed(long index) {
+                rope.insertEmbed(index);
+            }
+
+            @Override
+            public void delete(long index, long length) {
+                rope.delete(index, length);
+            }
+        });
+    }
+}
@@ -0,0 +1,66 @@
+package at.yrs4j.wrapper.impl;
+
+import at.yrs4j.api.Yrs4J;
+import at.yrs4j.api.YrsLibNativeInterface;
+import at.yrs4j.wrapper.interfaces.EncodingType;
+import at.yrs4j.wrapper.interfaces.YSubscription;
+import at.yrs4j.wrapper.interfaces.YTextOffsetIndex;
+import at.yrs4j.yrslib.YrsBranch;
+import at.yrs4j.yrslib.YrsTextEvent;
+
+public class YTextOffsetIndexImpl implements YTextOffsetIndex {
+    private final Unit documentUnit;
+    private final OffsetTree tree;
+    private final YSubscription subscription;
+
+    /**
+     * @param text    current content of the text
+     * @param encoding offset encoding of the document, the events count in it
+     */
+    public YTextOffsetIndexImpl(YrsBranch branch, String text, EncodingType encoding) {
+        this.documentUnit = Unit.of(encoding);
+        this.tree = new OffsetTree(text);
+
+        YrsLibNativeInterface.ytext_observe_cb_callback callback = (state, event) -> applyEvent(event);
+        this.subscription = new YSubscriptionImpl(Yrs4J.YRS_INSTANCE.ytext_observe(branch, null, callback), callback);
+    }
+
+    @Override
+    public synchronized long convert(long offset, Unit from, Unit to) {
+        return tree.convert(offset, from, to);
+    }
+
+    @Override
+    public synchronized long length(Unit unit) {
+        return tree.length(unit);
+    }
+
+    @Override
+    public void destroy() {
+        subscription.destroy();
+    }
+
+    @Override
+    public boolean isDestroyed() {
+        return subscription.isDestroyed();
+    }
+
+    private synchronized void applyEvent(YrsTextEvent event) {
+        TextDeltas.replay(event, documentUnit, new TextDeltas.Edits() {
+            @Override
+            public void insert(long index, String text) {
+                tree.insert(index, documentUnit, text);
+            }
+
+            @Override
+            public void insertEmbed(long index) {
+                tree.insertEmbed(index, documentUnit);
+            }
+
+            @Override
+            public void delete(long index, long length) {
+                tree.delete(index, documentUnit, length);
+            }
+        });
+    }
+}
@@ -1,7 +1,12 @@
 package at.yrs4j.wrapper.impl;
 
 import at.yrs4j.api.Yrs4J;
+import at.yrs4j.utils.JNAUtils;
+import at.yrs4j.utils.ScratchArena;
 import at.yrs4j.wrapper.AbstractJNAWrapper;
+import at.yrs4j.wrapper.BufferTooSmallException;
+import at.yrs4j.wrapper.TransactionTracker;
+import at.yrs4j.wrapper.interfaces.YBinary;
 import at.yrs4j.wrapper.interfaces.YTransaction;
 import at.yrs4j.yrslib.YrsDeleteSet;
 import at.yrs4j.yrslib.YrsDoc;
@@ -10,14 +15,30 @@ import at.yrs4j.yrslib.YrsTransaction;
 import com.sun.jna.Pointer;
 import com.sun.jna.ptr.IntByReference;
 
+import java.nio.ByteBuffer;
 import java.nio.IntBuffer;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 public class YTransactionImpl extends AbstractJNAWrapper<YrsTransaction> implements YTransaction {
 
+    private final TransactionTracker.Site site;
+    private final Runnable onClose;
+    // commit may race with a commit of another thread, only one of them may release the gate permits
+    private final AtomicBoolean closed = new AtomicBoolean();
+
     YTransactionImpl(YrsTransaction wrappedObject) {
+        this(wrappedObject, null);
+    }
+
+    /**
+     * @param onClose run after the transaction has been committed, e.g. to release the permits of a managed transaction
+     */
+    YTransactionImpl(YrsTransaction wrappedObject, Runnable onClose) {
         super(wrappedObject);
+        this.onClose = onClose;
+        this.site = wrappedObject == null ? null : TransactionTracker.opened(this);
     }
 
     @Override
@@ -35,7 +56,27 @@ public class YTransactionImpl extends AbstractJNAWrapper<YrsTransaction> impleme
 
     @Override
     public void commit() {
-        Yrs4J.YRS_INSTANCE.ytransaction_commit(super.wrappedObject);
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+
+        if (site != null) {
+            site.ended();
+        }
+        try {
+            if (super.wrappedObject != null) {
+                Yrs4J.YRS_INSTANCE.ytransaction_commit(super.wrappedObject);
+            }
+        } finally {
+            if (onClose != null) {
+                onClose.run();
+            }
+        }
+    }
+
+    @Override
+    public boolean isClosed() {
+        return closed.get();
     }
 
     @Override
@@ -114,6 +155,87 @@ public class YTransactionImpl extends AbstractJNAWrapper<YrsTransaction> impleme
         return binaryData;
     }
 
+    @Override
+    public byte apply(ByteBuffer diff) {
+        try (ScratchArena arena = ScratchArena.open()) {
+            return Yrs4J.YRS_INSTANCE.ytransaction_apply(super.wrappedObject, JNAUtils.bufferToPointer(arena, diff), diff.remaining());
+        }
+    }
+
+    @Override
+    public byte applyV2(ByteBuffer diff) {
+        try (ScratchArena arena = ScratchArena.open()) {
+            return Yrs4J.YRS_INSTANCE.ytransaction_apply_v2(super.wrappedObject, JNAUtils.bufferToPointer(arena, diff), diff.remaining());
+        }
+    }
+
+    @Override
+    public int stateVectorV1(ByteBuffer dst) {
+        IntByReference len = new IntByReference();
+        Pointer binaryData = Yrs4J.YRS_INSTANCE.ytransaction_state_vector_v1(super.wrappedObject, len);
+        return putBytes(len, binaryData, dst);
+    }
+
+    @Override
+    public int stateDiffV1(ByteBuffer stateVector, ByteBuffer dst) {
+        IntByReference len = new IntByReference();
+        Pointer binaryData;
+        try (ScratchArena arena = ScratchArena.open()) {
+            binaryData = Yrs4J.YRS_INSTANCE.ytransaction_state_diff_v1(super.wrappedObject, JNAUtils.bufferToPointer(arena, stateVector), stateVector.remaining(), len);
+        }
+        return putBytes(len, binaryData, dst);
+    }
+
+    @Override
+    public int stateDiffV2(ByteBuffer stateVector, ByteBuffer dst) {
+        IntByReference len = new IntByReference();
+        Pointer binaryData;
+        try (ScratchArena arena = ScratchArena.open()) {
+            binaryData = Yrs4J.YRS_INSTANCE.ytransaction_state_diff_v2(super.wrappedObject, JNAUtils.bufferToPointer(arena, stateVector), stateVector.remaining(), len);
+        }
+        return putBytes(len, binaryData, dst);
+    }
+
+    @Override
+    public YBinary stateVectorV1Binary() {
+        IntByReference len = new IntByReference();
+        Pointer binaryData = Yrs4J.YRS_INSTANCE.ytransaction_state_vector_v1(super.wrappedObject, len);
+        return YBinary.wrap(binaryData, len.getValue());
+    }
+
+    @Override
+    public YBinary stateDiffV1Binary(ByteBuffer stateVector) {
+        IntByReference len = new IntByReference();
+        Pointer binaryData;
+        try (ScratchArena arena = ScratchArena.open()) {
+            binaryData = Yrs4J.YRS_INSTANCE.ytransaction_state_diff_v1(super.wrappedObject, JNAUtils.bufferToPointer(arena, stateVector), stateVector.remaining(), len);
+        }
+        return YBinary.wrap(binaryData, len.getValue());
+    }
+
+    @Override
+    public YBinary stateDiffV2Binary(ByteBuffer stateVector) {
+        IntByReference len = new IntByReference();
+        Pointer binaryData;
+        try (ScratchArena arena = ScratchArena.open()) {
+            binaryData = Yrs4J.YRS_INSTANCE.ytransaction_state_diff_v2(super.wrappedObject, JNAUtils.bufferToPointer(arena, stateVector), stateVector.remaining(), len);
+        }
+        return YBinary.wrap(binaryData, len.getValue());
+    }
+
+    private int putBytes(IntByReference len, Pointer binaryData, ByteBuffer dst) {
+        try {
+            int length = len.getValue();
+            if (dst.remaining() < length) {
+                throw new BufferTooSmallException(length, dst.remaining());
+            }
+            dst.put(binaryData.getByteBuffer(0, length));
+            return length;
+        } finally {
+            Yrs4J.YRS_INSTANCE.ybinary_destroy(binaryData, len.getValue());
+        }
+    }
+
     private byte[] getBytes(IntByReference len, Pointer binaryData) {
         byte[] data;
 
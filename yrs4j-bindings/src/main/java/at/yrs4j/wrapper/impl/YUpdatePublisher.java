@@ -0,0 +1,246 @@
+package at.yrs4j.wrapper.impl;
+
+import at.yrs4j.api.Yrs4J;
+import at.yrs4j.api.YrsLibNativeInterface;
+import at.yrs4j.wrapper.interfaces.EncodingVersion;
+import at.yrs4j.wrapper.interfaces.YDoc;
+import at.yrs4j.wrapper.interfaces.YSubscription;
+import at.yrs4j.wrapper.interfaces.YTransaction;
+import at.yrs4j.yrslib.YrsSubscription;
+import com.sun.jna.Callback;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Publishes the updates of a document, every subscriber gets its own native update observer. <br>
+ * While a subscriber has demand it gets the updates as libyrs raised them. Once more than one update waits, the
+ * waiting updates are not kept: the subscriber gets a single diff to the state vector it was last in sync with
+ * instead, so a lagging subscriber costs constant memory. <br>
+ * The state vector is taken in the managed read transaction every delivery runs in, the executor must therefore not
+ * run its tasks on the calling thread: if that thread holds a write transaction of the document the subscriber gets
+ * an {@link IllegalStateException}.
+ */
+public class YUpdatePublisher implements Flow.Publisher<ByteBuffer> {
+    private final YDoc doc;
+    private final EncodingVersion version;
+    private final Executor executor;
+
+    public YUpdatePublisher(YDoc doc, EncodingVersion version, Executor executor) {
+        this.doc = Objects.requireNonNull(doc);
+        this.version = Objects.requireNonNull(version);
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    /**
+     * Has to be called outside of transactions of the document, the subscriber gets all updates committed afterwards
+     */
+    @Override
+    public void subscribe(Flow.Subscriber<? super ByteBuffer> subscriber) {
+        Objects.requireNonNull(subscriber);
+        UpdateSubscription subscription = new UpdateSubscription(subscriber);
+        try {
+            subscription.start();
+        } catch (RuntimeException e) {
+            subscription.cancel();
+            subscriber.onSubscribe(subscription);
+            subscriber.onError(e);
+            return;
+        }
+        subscriber.onSubscribe(subscription);
+    }
+
+    private final class UpdateSubscription implements Flow.Subscription {
+        private final Flow.Subscriber<? super ByteBuffer> subscriber;
+        private volatile YSubscription observer;
+
+        // guarded by this
+        private byte[] update;
+        private boolean stale;
+        private long demand;
+        private boolean scheduled;
+        private boolean cancelled;
+        private Throwable error;
+
+        // state vector the subscriber is in sync with, only used inside read transactions
+        private volatile byte[] base;
+
+        private UpdateSubscription(Flow.Subscriber<? super ByteBuffer> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        private void start() {
+            Callback callback;
+            YrsSubscription subscription;
+            if (version == EncodingVersion.V1) {
+                YrsLibNativeInterface.ydoc_observe_updates_v1_cb_callback cb = (state, len, data) -> enqueue(data.getByteArray(0, len));
+                subscription = Yrs4J.YRS_INSTANCE.ydoc_observe_updates_v1(doc.getWrappedObject(), null, cb);
+                callback = cb;
+            } else {
+                YrsLibNativeInterface.ydoc_observe_updates_v2_cb_callback cb = (state, len, data) -> enqueue(data.getByteArray(0, len));
+                subscription = Yrs4J.YRS_INSTANCE.ydoc_observe_updates_v2(doc.getWrappedObject(), null, cb);
+                callback = cb;
+            }
+            observer = new YSubscriptionImpl(subscription, callback);
+
+            doc.read(txn -> {
+                // updates committed before are part of the base state
+                base = txn.stateVectorV1();
+                synchronized (this) {
+                    update = null;
+                    stale = false;
+                }
+                return null;
+            });
+        }
+
+        @Override
+        public void request(long n) {
+            synchronized (this) {
+                if (cancelled) {
+                    return;
+                }
+                if (n <= 0) {
+                    error = new IllegalArgumentException("Non-positive request: " + n);
+                } else {
+                    demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+                }
+                if (scheduled || error == null && !pending()) {
+                    return;
+                }
+                scheduled = true;
+            }
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            synchronized (this) {
+                cancelled = true;
+                update = null;
+            }
+            release();
+        }
+
+        private void release() {
+            YSubscription current = observer;
+            if (current != null) {
+                current.destroy();
+            }
+        }
+
+        /**
+         * Called on the native callback thread, must not block
+         */
+        private void enqueue(byte[] data) {
+            synchronized (this) {
+                if (cancelled) {
+                    return;
+                }
+
+                // more than one update is replaced by a diff, the waiting bytes are not needed anymore
+                if (update == null && !stale) {
+                    update = data;
+                } else {
+                    update = null;
+                    stale = true;
+                }
+                if (scheduled || demand == 0) {
+                    return;
+                }
+                scheduled = true;
+            }
+            schedule();
+        }
+
+        private boolean pending() {
+            return update != null || stale;
+        }
+
+        private void schedule() {
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                // the update stays waiting, the next update or request tries again
+                synchronized (this) {
+                    scheduled = false;
+                }
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                synchronized (this) {
+                    if (cancelled) {
+                        scheduled = false;
+                        return;
+                    }
+                    if (error != null) {
+                        cancelled = true;
+                    } else if (demand == 0 || !pending()) {
+                        scheduled = false;
+                        return;
+                    } else if (demand != Long.MAX_VALUE) {
+                        demand--;
+                    }
+                }
+
+                if (error != null) {
+                    release();
+                    subscriber.onError(error);
+                    return;
+                }
+
+                byte[] next;
+                try {
+                    next = doc.read(this::next);
+                } catch (RuntimeException e) {
+                    cancel();
+                    subscriber.onError(e);
+                    return;
+                }
+                if (next == null) {
+                    // nothing was waiting anymore, the demand is kept
+                    synchronized (this) {
+                        demand = demand == Long.MAX_VALUE ? demand : demand + 1;
+                    }
+                    continue;
+                }
+
+                try {
+                    subscriber.onNext(ByteBuffer.wrap(next));
+                } catch (RuntimeException e) {
+                    // a subscriber must not throw, it is treated as cancelled
+                    cancel();
+                    Thread thread = Thread.currentThread();
+                    thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Takes the waiting update, the read transaction makes sure no further update is raised meanwhile
+         */
+        private byte[] next(YTransaction txn) {
+            byte[] raw;
+            boolean merge;
+            synchronized (this) {
+                raw = update;
+                merge = stale;
+                update = null;
+                stale = false;
+            }
+            if (raw == null && !merge) {
+                return null;
+            }
+
+            byte[] next = !merge ? raw : version == EncodingVersion.V1 ? txn.stateDiffV1(base) : txn.stateDiffV2(base);
+            base = txn.stateVectorV1();
+            return next;
+        }
+    }
+}
@@ -8,7 +8,7 @@ import at.yrs4j.yrslib.YrsXmlAttr;
 
 public class YXmlAttrImpl extends AbstractDestroyableJNAWrapper<YrsXmlAttr> implements YXmlAttr {
     public YXmlAttrImpl(YrsXmlAttr wrappedObject) {
-        super(wrappedObject);
+        super(wrappedObject, Yrs4J.YRS_INSTANCE::yxmlattr_destroy);
     }
 
     @Override
@@ -21,9 +21,4 @@ public class YXmlAttrImpl extends AbstractDestroyableJNAWrapper<YrsXmlAttr> impl
         return wrappedObject.value.getString(0);
     }
 
-    @Override
-    public void destroy() {
-        Yrs4J.YRS_INSTANCE.yxmlattr_destroy(wrappedObject);
-        super.destroy();
-    }
 }
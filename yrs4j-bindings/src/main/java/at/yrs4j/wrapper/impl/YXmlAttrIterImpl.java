@@ -11,14 +11,9 @@ import at.yrs4j.yrslib.YrsXmlTreeWalker;
 
 public class YXmlAttrIterImpl extends AbstractDestroyableJNAWrapper<YrsXmlAttrIter> implements YXmlAttrIter {
     public YXmlAttrIterImpl(YrsXmlAttrIter wrappedObject) {
-        super(wrappedObject);
+        super(wrappedObject, Yrs4J.YRS_INSTANCE::yxmlattr_iter_destroy);
     }
 
-    @Override
-    public void destroy() {
-        Yrs4J.YRS_INSTANCE.yxmlattr_iter_destroy(wrappedObject);
-        super.destroy();
-    }
 
     @Override
     public YXmlAttr next() {
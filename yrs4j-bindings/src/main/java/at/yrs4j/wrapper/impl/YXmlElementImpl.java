@@ -2,6 +2,7 @@ package at.yrs4j.wrapper.impl;
 
 import at.yrs4j.api.Yrs4J;
 import at.yrs4j.utils.JNAUtils;
+import at.yrs4j.utils.YKey;
 import at.yrs4j.wrapper.AbstractJNAWrapper;
 import at.yrs4j.wrapper.interfaces.*;
 import at.yrs4j.yrslib.YrsBranch;
@@ -26,7 +27,7 @@ public class YXmlElementImpl extends AbstractJNAWrapper<YrsBranch> implements YX
         YrsTransaction txn = transaction.getWrappedObject();
         YrsOutput out = Yrs4J.YRS_INSTANCE.yxml_next_sibling(wrappedObject, txn);
 
-        return out == null ? Optional.empty() : Optional.of(YOutput.wrap(out));
+        return out == null ? Optional.empty() : Optional.of(ownedBy(YOutput.wrap(out), this));
     }
 
     @Override
@@ -34,7 +35,7 @@ public class YXmlElementImpl extends AbstractJNAWrapper<YrsBranch> implements YX
         YrsTransaction txn = transaction.getWrappedObject();
         YrsOutput out = Yrs4J.YRS_INSTANCE.yxml_prev_sibling(wrappedObject, txn);
 
-        return out == null ? Optional.empty() : Optional.of(YOutput.wrap(out));
+        return out == null ? Optional.empty() : Optional.of(ownedBy(YOutput.wrap(out), this));
     }
 
     @Override
@@ -68,6 +69,28 @@ public class YXmlElementImpl extends AbstractJNAWrapper<YrsBranch> implements YX
         Yrs4J.YRS_INSTANCE.yxmlelem_remove_attr(wrappedObject, txn, attrName);
     }
 
+    @Override
+    public String getAttr(YTransaction transaction, YKey attrName) {
+        YrsTransaction txn = transaction.getWrappedObject();
+        return JNAUtils.getYrsString(Yrs4J.YRS_INSTANCE.yxmlelem_get_attr(wrappedObject, txn, attrName.pointer()));
+    }
+
+    @Override
+    public void insertAttr(YTransaction transaction, YKey attrName, String attrValue) {
+        Objects.requireNonNull(attrValue);
+
+        YrsTransaction txn = transaction.getWrappedObject();
+
+        Yrs4J.YRS_INSTANCE.yxmlelem_insert_attr(wrappedObject, txn, attrName.pointer(), attrValue);
+    }
+
+    @Override
+    public void removeAttr(YTransaction transaction, YKey attrName) {
+        YrsTransaction txn = transaction.getWrappedObject();
+
+        Yrs4J.YRS_INSTANCE.yxmlelem_remove_attr(wrappedObject, txn, attrName.pointer());
+    }
+
     @Override
     public void removeRange(YTransaction transaction, int index, int len) {
         YrsTransaction txn = transaction.getWrappedObject();
@@ -77,7 +100,7 @@ public class YXmlElementImpl extends AbstractJNAWrapper<YrsBranch> implements YX
 
     @Override
     public YXmlAttrIter attrIter(YTransaction transaction) {
-        return YXmlAttrIter.wrap(Yrs4J.YRS_INSTANCE.yxmlelem_attr_iter(wrappedObject, transaction.getWrappedObject()));
+        return ownedBy(YXmlAttrIter.wrap(Yrs4J.YRS_INSTANCE.yxmlelem_attr_iter(wrappedObject, transaction.getWrappedObject())), this);
     }
 
     @Override
@@ -89,7 +112,7 @@ public class YXmlElementImpl extends AbstractJNAWrapper<YrsBranch> implements YX
     public Optional<YXmlElement> parent() {
         YrsBranch elem = Yrs4J.YRS_INSTANCE.yxmlelem_parent(wrappedObject);
         if (elem != null) {
-            return Optional.of(YXmlElement.wrap(elem));
+            return Optional.of(ownedBy(YXmlElement.wrap(elem), this));
         }
 
         return Optional.empty();
@@ -105,14 +128,14 @@ public class YXmlElementImpl extends AbstractJNAWrapper<YrsBranch> implements YX
     @Override
     public Optional<YOutput> firstChild() {
         YrsOutput out = Yrs4J.YRS_INSTANCE.yxmlelem_first_child(wrappedObject);
-        return out == null ? Optional.empty() : Optional.of(YOutput.wrap(out));
+        return out == null ? Optional.empty() : Optional.of(ownedBy(YOutput.wrap(out), this));
     }
 
     @Override
     public YXmlTreeWalker treeWalker(YTransaction transaction) {
         YrsTransaction txn = transaction.getWrappedObject();
 
-        return YXmlTreeWalker.wrap(Yrs4J.YRS_INSTANCE.yxmlelem_tree_walker(wrappedObject, txn));
+        return ownedBy(YXmlTreeWalker.wrap(Yrs4J.YRS_INSTANCE.yxmlelem_tree_walker(wrappedObject, txn)), this);
     }
 
     @Override
@@ -122,7 +145,7 @@ public class YXmlElementImpl extends AbstractJNAWrapper<YrsBranch> implements YX
 
         YrsTransaction txn = transaction.getWrappedObject();
 
-        return YXmlElement.wrap(Yrs4J.YRS_INSTANCE.yxmlelem_insert_elem(wrappedObject, txn, index, name));
+        return ownedBy(YXmlElement.wrap(Yrs4J.YRS_INSTANCE.yxmlelem_insert_elem(wrappedObject, txn, index, name)), this);
     }
 
     @Override
@@ -132,7 +155,7 @@ public class YXmlElementImpl extends AbstractJNAWrapper<YrsBranch> implements YX
 
         YrsTransaction txn = transaction.getWrappedObject();
 
-        return YXmlText.wrap(Yrs4J.YRS_INSTANCE.yxmlelem_insert_text(wrappedObject, txn, index));
+        return ownedBy(YXmlText.wrap(Yrs4J.YRS_INSTANCE.yxmlelem_insert_text(wrappedObject, txn, index)), this);
     }
 
     @Override
@@ -142,7 +165,7 @@ public class YXmlElementImpl extends AbstractJNAWrapper<YrsBranch> implements YX
 
         YrsTransaction txn = transaction.getWrappedObject();
 
-        return YOutput.wrap(Yrs4J.YRS_INSTANCE.yxmlelem_get(wrappedObject, txn, index));
+        return ownedBy(YOutput.wrap(Yrs4J.YRS_INSTANCE.yxmlelem_get(wrappedObject, txn, index)), this);
     }
 
 
@@ -150,21 +173,27 @@ public class YXmlElementImpl extends AbstractJNAWrapper<YrsBranch> implements YX
     public YXmlTreeWalker iter(YTransaction transaction) {
         YrsTransaction txn = transaction.getWrappedObject();
 
-        YXmlTreeWalker iter = YXmlTreeWalker.wrap(Yrs4J.YRS_INSTANCE.yxmlelem_tree_walker(wrappedObject, txn));
+        YXmlTreeWalker iter = ownedBy(YXmlTreeWalker.wrap(Yrs4J.YRS_INSTANCE.yxmlelem_tree_walker(wrappedObject, txn)), this);
         registerDestroyable(iter);
         return iter;
     }
 
     @Override
+    @Deprecated
     public void setTransaction(YTransaction transaction) {
         this.transaction = transaction;
     }
 
+    @Override
+    public Spliterator<YOutput> spliterator(YTransaction transaction, int chunkSize) {
+        return new ChunkedSpliterator<>(iter(transaction), -1, Spliterator.ORDERED | Spliterator.NONNULL, chunkSize);
+    }
+
     @Override
     public Iterator<YOutput> iterator() {
         if (this.transaction == null) throw new RuntimeException(new IllegalStateException("Transaction is not set"));
 
-        return new YIteratorImpl<>(iter(transaction));
+        return iterator(transaction);
     }
 
     @Override
@@ -2,6 +2,7 @@ package at.yrs4j.wrapper.impl;
 
 import at.yrs4j.api.Yrs4J;
 import at.yrs4j.utils.JNAUtils;
+import at.yrs4j.utils.YKey;
 import at.yrs4j.wrapper.AbstractJNAWrapper;
 import at.yrs4j.wrapper.interfaces.*;
 import at.yrs4j.yrslib.YrsBranch;
@@ -27,7 +28,7 @@ public class YXmlTextImpl extends AbstractJNAWrapper<YrsBranch> implements YXmlT
         YrsTransaction txn = transaction.getWrappedObject();
         YrsOutput out = Yrs4J.YRS_INSTANCE.yxml_next_sibling(wrappedObject, txn);
 
-        return out == null ? Optional.empty() : Optional.of(YOutput.wrap(out));
+        return out == null ? Optional.empty() : Optional.of(ownedBy(YOutput.wrap(out), this));
     }
 
     @Override
@@ -35,7 +36,7 @@ public class YXmlTextImpl extends AbstractJNAWrapper<YrsBranch> implements YXmlT
         YrsTransaction txn = transaction.getWrappedObject();
         YrsOutput out = Yrs4J.YRS_INSTANCE.yxml_prev_sibling(wrappedObject, txn);
 
-        return out == null ? Optional.empty() : Optional.of(YOutput.wrap(out));
+        return out == null ? Optional.empty() : Optional.of(ownedBy(YOutput.wrap(out), this));
     }
 
     @Override
@@ -69,6 +70,28 @@ public class YXmlTextImpl extends AbstractJNAWrapper<YrsBranch> implements YXmlT
         Yrs4J.YRS_INSTANCE.yxmltext_remove_attr(wrappedObject, txn, attrName);
     }
 
+    @Override
+    public String getAttr(YTransaction transaction, YKey attrName) {
+        YrsTransaction txn = transaction.getWrappedObject();
+        return JNAUtils.getYrsString(Yrs4J.YRS_INSTANCE.yxmltext_get_attr(wrappedObject, txn, attrName.pointer()));
+    }
+
+    @Override
+    public void insertAttr(YTransaction transaction, YKey attrName, String attrValue) {
+        Objects.requireNonNull(attrValue);
+
+        YrsTransaction txn = transaction.getWrappedObject();
+
+        Yrs4J.YRS_INSTANCE.yxmltext_insert_attr(wrappedObject, txn, attrName.pointer(), attrValue);
+    }
+
+    @Override
+    public void removeAttr(YTransaction transaction, YKey attrName) {
+        YrsTransaction txn = transaction.getWrappedObject();
+
+        Yrs4J.YRS_INSTANCE.yxmltext_remove_attr(wrappedObject, txn, attrName.pointer());
+    }
+
     @Override
     public void removeRange(YTransaction transaction, int index, int len) {
         YrsTransaction txn = transaction.getWrappedObject();
@@ -78,7 +101,7 @@ public class YXmlTextImpl extends AbstractJNAWrapper<YrsBranch> implements YXmlT
 
     @Override
     public YXmlAttrIter attrIter(YTransaction transaction) {
-        return YXmlAttrIter.wrap(Yrs4J.YRS_INSTANCE.yxmltext_attr_iter(wrappedObject, transaction.getWrappedObject()));
+        return ownedBy(YXmlAttrIter.wrap(Yrs4J.YRS_INSTANCE.yxmltext_attr_iter(wrappedObject, transaction.getWrappedObject())), this);
     }
 
     @Override
@@ -120,21 +143,27 @@ public class YXmlTextImpl extends AbstractJNAWrapper<YrsBranch> implements YXmlT
     public YXmlTreeWalker iter(YTransaction transaction) {
         YrsTransaction txn = transaction.getWrappedObject();
 
-        YXmlTreeWalker iter = YXmlTreeWalker.wrap(Yrs4J.YRS_INSTANCE.yxmlelem_tree_walker(wrappedObject, txn));
+        YXmlTreeWalker iter = ownedBy(YXmlTreeWalker.wrap(Yrs4J.YRS_INSTANCE.yxmlelem_tree_walker(wrappedObject, txn)), this);
         registerDestroyable(iter);
         return iter;
     }
 
     @Override
+    @Deprecated
     public void setTransaction(YTransaction transaction) {
         this.transaction = transaction;
     }
 
+    @Override
+    public Spliterator<YOutput> spliterator(YTransaction transaction, int chunkSize) {
+        return new ChunkedSpliterator<>(iter(transaction), -1, Spliterator.ORDERED | Spliterator.NONNULL, chunkSize);
+    }
+
     @Override
     public Iterator<YOutput> iterator() {
         if (this.transaction == null) throw new RuntimeException(new IllegalStateException("Transaction is not set"));
 
-        return new YIteratorImpl<>(iter(transaction));
+        return iterator(transaction);
     }
 
     @Override
@@ -12,21 +12,16 @@ import at.yrs4j.yrslib.YrsXmlTreeWalker;
 public class YXmlTreeWalkerImpl extends AbstractDestroyableJNAWrapper<YrsXmlTreeWalker> implements YXmlTreeWalker {
 
     public YXmlTreeWalkerImpl(YrsXmlTreeWalker wrappedObject) {
-        super(wrappedObject);
+        super(wrappedObject, Yrs4J.YRS_INSTANCE::yxmlelem_tree_walker_destroy);
     }
 
-    @Override
-    public void destroy() {
-        Yrs4J.YRS_INSTANCE.yxmlelem_tree_walker_destroy(wrappedObject);
-        super.destroy();
-    }
 
     @Override
     public YOutput next() {
         YrsOutput o = Yrs4J.YRS_INSTANCE.yxmlelem_tree_walker_next(wrappedObject);
 
         if (o != null) {
-            return YOutput.wrap(o);
+            return ownedBy(YOutput.wrap(o), this);
         }
 
         return null;
@@ -0,0 +1,9 @@
+package at.yrs4j.wrapper.interfaces;
+
+/**
+ * Encoding of updates, see {@link YTransaction#stateDiffV1(byte[])} and {@link YTransaction#stateDiffV2(byte[])}
+ */
+public enum EncodingVersion {
+    V1,
+    V2
+}
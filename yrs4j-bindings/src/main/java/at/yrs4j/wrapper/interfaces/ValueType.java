@@ -18,6 +18,15 @@ public enum ValueType {
         Y_XML_ELEM(4),
         Y_XML_TEXT(5);
 
+        private static final int OFFSET = 8;
+        private static final ValueType[] BY_VALUE = new ValueType[17];
+
+        static {
+            for (ValueType type : values()) {
+                BY_VALUE[type.value + OFFSET] = type;
+            }
+        }
+
         private final int value;
 
     ValueType(int value) {
@@ -29,10 +38,9 @@ public enum ValueType {
         }
 
         public static ValueType findByValue(int value) {
-            for (ValueType type : ValueType.values()) {
-                if (type.getValue() == value) {
-                    return type;
-                }
+            int index = value + OFFSET;
+            if (index >= 0 && index < BY_VALUE.length && BY_VALUE[index] != null) {
+                return BY_VALUE[index];
             }
             throw new IllegalArgumentException("No constant with value " + value + " found");
         }
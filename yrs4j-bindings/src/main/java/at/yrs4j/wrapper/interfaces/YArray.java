@@ -1,22 +1,102 @@
 package at.yrs4j.wrapper.interfaces;
 
+import at.yrs4j.wrapper.AbstractJNAWrapper;
 import at.yrs4j.wrapper.JNAWrapper;
 import at.yrs4j.wrapper.impl.YArrayImpl;
 import at.yrs4j.yrslib.YrsBranch;
 
+import java.util.List;
+
 public interface YArray extends YIterable<YOutput>, JNAWrapper<YrsBranch> {
     int len();
     YOutput get(YTransaction transaction, int index);
+
+    /**
+     * Reads the value at index into the given cursor instead of allocating a new wrapper
+     *
+     * @return the moved cursor, or null if there is no value at index
+     */
+    YOutput get(YTransaction transaction, int index, YOutputCursor cursor);
     void insertRange(YTransaction transaction, int index, YInput[] items);
+
+    /**
+     * Inserts the values as json integers with a single native call
+     */
+    void insertLongs(YTransaction transaction, int index, long[] values);
+
+    /**
+     * Inserts the values as json numbers with a single native call
+     */
+    void insertDoubles(YTransaction transaction, int index, double[] values);
+
+    /**
+     * Inserts the values as json booleans with a single native call
+     */
+    void insertBooleans(YTransaction transaction, int index, boolean[] values);
+
+    /**
+     * Inserts the values as json strings with a single native call, null elements are inserted as json null
+     */
+    void insertStrings(YTransaction transaction, int index, String[] values);
+    /**
+     * Reads json integers into {@code dst}, see {@link #getLongs(YTransaction, int, int, long[], boolean)}
+     */
+    default int getLongs(YTransaction transaction, int from, int len, long[] dst) {
+        return getLongs(transaction, from, len, dst, false);
+    }
+
+    /**
+     * Reads {@code len} elements starting at {@code from} into {@code dst} in a single pass over the array, without
+     * creating an output wrapper per element.
+     *
+     * @param lenient also accept json numbers, which are truncated
+     * @return number of elements read, less than {@code len} if the array ends before
+     * @throws IllegalStateException if an element has another type
+     */
+    int getLongs(YTransaction transaction, int from, int len, long[] dst, boolean lenient);
+
+    default int getDoubles(YTransaction transaction, int from, int len, double[] dst) {
+        return getDoubles(transaction, from, len, dst, false);
+    }
+
+    /**
+     * Like {@link #getLongs(YTransaction, int, int, long[], boolean)} for json numbers
+     *
+     * @param lenient also accept json integers
+     */
+    int getDoubles(YTransaction transaction, int from, int len, double[] dst, boolean lenient);
+
+    default int getStrings(YTransaction transaction, int from, int len, String[] dst) {
+        return getStrings(transaction, from, len, dst, false);
+    }
+
+    /**
+     * Like {@link #getLongs(YTransaction, int, int, long[], boolean)} for json strings
+     *
+     * @param lenient also accept json null as {@code null} and json integers, numbers and booleans as their string
+     *                representation
+     */
+    int getStrings(YTransaction transaction, int from, int len, String[] dst, boolean lenient);
     void removeRange(YTransaction transaction, int index, int len);
     void move(YTransaction transaction, int source, int target);
     YArrayIter iter(YTransaction transaction);
+
+    /**
+     * Reads the whole array into plain Java objects, nested shared types included (see {@link YOutput#toJava()}).
+     * Texts and xml nodes are returned as strings. The native outputs are freed right after reading.
+     */
+    List<Object> toJava(YTransaction transaction);
     static YArray wrap(YrsBranch branch) {
         return new YArrayImpl(branch);
     }
     static YArray createWithDocAndName(YDoc doc, String name) {
-        return new YArrayImpl(doc, name);
+        return AbstractJNAWrapper.ownedBy(new YArrayImpl(doc, name), doc);
     }
+    /**
+     * @deprecated the transaction is shared by all threads using this wrapper, use the iteration methods taking the
+     * transaction instead
+     */
+    @Deprecated
     void setTransaction(YTransaction transaction);
 
 }
@@ -9,4 +9,11 @@ public interface YArrayIter extends YIterator<YOutput>, JNAWrapper<YrsArrayIter>
     static YArrayIter wrap(YrsArrayIter yarrayIter) {
         return new YArrayIterImpl(yarrayIter);
     }
+
+    /**
+     * Moves the given cursor to the next value instead of allocating a new wrapper
+     *
+     * @return the moved cursor, or null if the iterator is exhausted
+     */
+    YOutput next(YOutputCursor cursor);
 }
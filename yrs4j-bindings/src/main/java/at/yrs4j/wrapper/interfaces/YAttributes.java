@@ -0,0 +1,32 @@
+package at.yrs4j.wrapper.interfaces;
+
+import at.yrs4j.wrapper.Destroyable;
+import at.yrs4j.wrapper.impl.YAttributesImpl;
+
+import java.util.Map;
+
+/**
+ * Immutable formatting attributes (for example {@code {"bold": true}}) kept as a native json map input. It is built
+ * once and can be passed as {@code attrs} to any number of text inserts and formats, in any transaction and document.
+ * <br>
+ * Instances are interned: {@link #of(Map)} returns the same instance for equal maps and counts how often it was
+ * handed out, {@link #destroy()} gives one reference back and the native memory is freed with the last one. An
+ * instance that is never destroyed stays interned, which is what the fixed attributes of an editor (held in
+ * constants) want. Using an instance after it was freed throws an {@link IllegalStateException}.
+ */
+public interface YAttributes extends YInput, Destroyable {
+
+    /**
+     * @param attributes values may be strings, booleans, integral or floating point numbers and {@code null}, which
+     *                   removes the attribute when formatting
+     * @throws IllegalArgumentException for values of other types
+     */
+    static YAttributes of(Map<String, ?> attributes) {
+        return YAttributesImpl.of(attributes);
+    }
+
+    /**
+     * @return the attributes, integral numbers as {@link Long} and floating point numbers as {@link Double}
+     */
+    Map<String, Object> attributes();
+}
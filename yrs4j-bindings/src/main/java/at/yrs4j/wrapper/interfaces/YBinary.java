@@ -0,0 +1,31 @@
+package at.yrs4j.wrapper.interfaces;
+
+import at.yrs4j.wrapper.Destroyable;
+import at.yrs4j.wrapper.JNAWrapper;
+import at.yrs4j.wrapper.impl.YBinaryImpl;
+import com.sun.jna.Pointer;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Binary payload allocated by yrs (encoded updates, state vectors...), accessed in place without copying it to the
+ * heap. <br>
+ * The memory is released with {@link #close()}, views returned by {@link #asByteBuffer()} must not be used afterwards.
+ */
+public interface YBinary extends Destroyable, AutoCloseable, JNAWrapper<Pointer> {
+    static YBinary wrap(Pointer data, int length) {
+        return new YBinaryImpl(data, length);
+    }
+
+    int length();
+
+    /**
+     * @return read-only direct buffer over the native memory
+     */
+    ByteBuffer asByteBuffer();
+
+    byte[] toByteArray();
+
+    @Override
+    void close();
+}
@@ -6,9 +6,8 @@ import at.yrs4j.wrapper.impl.YChunkImpl;
 import at.yrs4j.yrslib.YrsChunk;
 
 public interface YChunk extends Destroyable, JNAWrapper<YrsChunk> {
-    static YChunk wrap(YrsChunk chunkNative) {
-
-        return new YChunkImpl(chunkNative);
+    static YChunk wrap(YrsChunk chunkNative, int length) {
+        return new YChunkImpl(chunkNative, length);
     }
 
     YOutput getData();
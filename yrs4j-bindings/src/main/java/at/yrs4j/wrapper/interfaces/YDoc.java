@@ -8,6 +8,14 @@ import at.yrs4j.yrslib.YrsDoc;
 import at.yrs4j.yrslib.YrsOptions;
 import at.yrs4j.yrslib.YrsTransaction;
 
+import java.nio.ByteBuffer;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
 public interface YDoc extends Destroyable, JNAWrapper<YrsDoc> {
     YDoc clone(YDoc YDoc);
     long id();
@@ -21,6 +29,95 @@ public interface YDoc extends Destroyable, JNAWrapper<YrsDoc> {
     YTransaction writeTransaction(Integer origin_len, String origin);
     YTransaction writeTransaction();
 
+
+    /**
+     * Managed read transaction, waits until all managed write transactions of this document are closed. <br>
+     * Waiting writers are served first in arrival order, waiting threads are parked. The plain
+     * {@link #readTransaction()}/{@link #writeTransaction()} bypass the queue, if one of them is open opening is
+     * retried with backoff. <br>
+     * Managed transactions are not reentrant: a read nested in a read of the same thread is served, waiting for a
+     * transaction that is blocked by one the calling thread holds itself throws an {@link IllegalStateException}.
+     */
+    YTransaction acquireReadTransaction() throws InterruptedException;
+
+    /**
+     * Managed write transaction, waits until all other managed transactions of this document are closed
+     *
+     * @see #acquireReadTransaction()
+     */
+    YTransaction acquireWriteTransaction() throws InterruptedException;
+
+    /**
+     * Same as {@link #acquireReadTransaction()} but gives up after the timeout
+     *
+     * @return the transaction or null if it could not be acquired in time
+     */
+    YTransaction tryReadTransaction(long timeout, TimeUnit unit) throws InterruptedException;
+
+    /**
+     * Same as {@link #acquireWriteTransaction()} but gives up after the timeout
+     *
+     * @return the transaction or null if it could not be acquired in time
+     */
+    YTransaction tryWriteTransaction(long timeout, TimeUnit unit) throws InterruptedException;
+
+    /**
+     * @return a managed read transaction, or null if it is not available right now
+     */
+    YTransaction tryReadTransaction();
+
+    /**
+     * @return a managed write transaction, or null if it is not available right now
+     */
+    YTransaction tryWriteTransaction();
+
+    /**
+     * @return wait time, contention and timeout counters of the managed transactions of this document
+     */
+    YTransactionMetrics transactionMetrics();
+
+    /**
+     * Runs {@code function} in a managed read transaction which is released afterwards, also if {@code function} throws
+     *
+     * @throws IllegalStateException if interrupted while waiting for the transaction or if the calling thread holds a
+     *                               transaction of this document blocking it
+     */
+    <T> T read(Function<YTransaction, T> function);
+
+    /**
+     * Runs {@code action} in a managed write transaction which is committed afterwards, also if {@code action} throws
+     *
+     * @throws IllegalStateException if interrupted while waiting for the transaction or if the calling thread holds a
+     *                               transaction of this document blocking it
+     */
+    void write(Consumer<YTransaction> action);
+
+    /**
+     * Same as {@link #updates(EncodingVersion, Executor)}, delivering on the common fork join pool
+     */
+    default Flow.Publisher<ByteBuffer> updates(EncodingVersion version) {
+        return updates(version, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Publishes the updates committed to this document after a subscription, for persistence or replication
+     * pipelines. <br>
+     * Subscriber backpressure is honoured by merging: while a subscriber has no demand, the updates waiting for it are
+     * replaced by one diff to the last state it got. Cancelling a subscription unobserves the document.
+     *
+     * @param executor runs the deliveries, must not run them on the calling thread
+     */
+    Flow.Publisher<ByteBuffer> updates(EncodingVersion version, Executor executor);
+
+    /**
+     * Calls {@code listener} after every committed write transaction with its state vectors and delete set, so
+     * incremental consumers can tell what changed without diffing the document. <br>
+     * The listener runs in the native callback while the transaction is still held: it must not open transactions
+     * of this document, hand longer work to another thread. The listener stays registered until the returned
+     * subscription is destroyed, see {@link YSubscription}.
+     */
+    YSubscription observeAfterTransaction(Consumer<? super YTransactionChange> listener);
+
     // Factory method for default YDoc
     static YDoc create() {
         return new YDocImpl();
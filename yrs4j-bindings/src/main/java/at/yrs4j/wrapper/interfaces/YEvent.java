@@ -0,0 +1,55 @@
+package at.yrs4j.wrapper.interfaces;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Change event of a shared type, copied out of native memory so it can be used after the transaction that raised it.
+ * Values are plain Java objects like {@link YArray#toJava(YTransaction)} returns them, shared types are borrowed
+ * wrappers. See {@link YObserverHub}.
+ */
+public sealed interface YEvent permits YEvent.TextEvent, YEvent.ArrayEvent, YEvent.MapEvent, YEvent.XmlEvent, YEvent.XmlTextEvent {
+
+    /**
+     * Step of a delta walking the sequence from its start
+     *
+     * @param len        number of retained or deleted elements (offset units for texts), for inserts the number of
+     *                   values
+     * @param values     inserted values (strings and embeds for texts), empty for retains and deletes
+     * @param attributes formatting applied by the insert or retain, a {@code null} value removes an attribute
+     */
+    record Change(Kind kind, int len, List<Object> values, Map<String, Object> attributes) {
+        public enum Kind {
+            INSERT, DELETE, RETAIN
+        }
+    }
+
+    /**
+     * Change of a map entry or an attribute, {@code oldValue} is {@code null} for inserts and {@code newValue} for
+     * deletes
+     */
+    record KeyChange(Kind kind, Object oldValue, Object newValue) {
+        public enum Kind {
+            INSERT, DELETE, UPDATE
+        }
+    }
+
+    record TextEvent(YText target, List<Change> delta) implements YEvent {
+    }
+
+    record ArrayEvent(YArray target, List<Change> delta) implements YEvent {
+    }
+
+    record MapEvent(YMap target, Map<String, KeyChange> keys) implements YEvent {
+    }
+
+    /**
+     * @param delta      changes of the children
+     * @param attributes changes of the attributes
+     */
+    record XmlEvent(YXmlElement target, List<Change> delta, Map<String, KeyChange> attributes) implements YEvent {
+    }
+
+    record XmlTextEvent(YXmlText target, List<Change> delta, Map<String, KeyChange> attributes) implements YEvent {
+    }
+}
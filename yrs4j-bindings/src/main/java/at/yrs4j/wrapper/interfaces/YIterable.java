@@ -1,5 +1,47 @@
 package at.yrs4j.wrapper.interfaces;
 
+import at.yrs4j.wrapper.Destroyable;
+
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Shared types that can be iterated within a transaction. <br>
+ * Prefer the methods taking the transaction explicitly over {@link #iterator()}, which depends on a transaction set
+ * beforehand on the shared type.
+ */
 public interface YIterable<T> extends Iterable<T> {
+    int DEFAULT_CHUNK_SIZE = 64;
+
     YIterator<T> iter(YTransaction transaction);
+
+    /**
+     * Iterates in chunks, see {@link #spliterator(YTransaction, int)}
+     */
+    default Spliterator<T> spliterator(YTransaction transaction) {
+        return spliterator(transaction, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Fetches {@code chunkSize} elements at a time from the native iterator into a reusable buffer. The spliterator is
+     * sized where the length is known, splitting hands off the elements already fetched. The native iterator is
+     * destroyed once the spliterator is exhausted.
+     */
+    Spliterator<T> spliterator(YTransaction transaction, int chunkSize);
+
+    default Iterator<T> iterator(YTransaction transaction) {
+        return Spliterators.iterator(spliterator(transaction));
+    }
+
+    /**
+     * Closing the stream destroys the native iterator even if it was not consumed to the end
+     */
+    default Stream<T> stream(YTransaction transaction) {
+        Spliterator<T> spliterator = spliterator(transaction);
+        Stream<T> stream = StreamSupport.stream(spliterator, false);
+        return spliterator instanceof Destroyable destroyable ? stream.onClose(destroyable::destroy) : stream;
+    }
 }
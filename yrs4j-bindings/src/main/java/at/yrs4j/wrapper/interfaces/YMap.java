@@ -1,12 +1,18 @@
 package at.yrs4j.wrapper.interfaces;
 
 import at.yrs4j.api.Yrs4J;
+import at.yrs4j.utils.YKey;
+import at.yrs4j.wrapper.AbstractJNAWrapper;
 import at.yrs4j.wrapper.JNAWrapper;
 import at.yrs4j.wrapper.impl.YDocImpl;
 import at.yrs4j.wrapper.impl.YMapImpl;
 import at.yrs4j.yrslib.YrsBranch;
 import at.yrs4j.yrslib.YrsDoc;
 
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
 public interface YMap extends YIterable<YMapEntry>, JNAWrapper<YrsBranch> {
     static YMap wrap(YrsBranch branch) {
         return new YMapImpl(branch);
@@ -15,15 +21,89 @@ public interface YMap extends YIterable<YMapEntry>, JNAWrapper<YrsBranch> {
     static YMap createWithDocAndName(YDoc doc, String name) {
         YrsDoc yrsDoc = doc.getWrappedObject();
 
-        return YMap.wrap(Yrs4J.YRS_INSTANCE.ymap(yrsDoc, name));
+        return AbstractJNAWrapper.ownedBy(YMap.wrap(Yrs4J.YRS_INSTANCE.ymap(yrsDoc, name)), doc);
     }
 
     int len(YTransaction transaction);
     void insert(YTransaction transaction, String key, YInput input);
+
+    /**
+     * Inserts with the pre-encoded key, see {@link YKey}
+     */
+    void insert(YTransaction transaction, YKey key, YInput input);
+
+    /**
+     * Inserts all entries in one pass: keys and values are encoded into one native block up front, then inserted
+     * without further conversions. See {@link at.yrs4j.utils.YrsInputArray#values} for the supported value types.
+     *
+     * @throws IllegalArgumentException if a value has an unsupported type, nothing is inserted in that case
+     */
+    void putAll(YTransaction transaction, Map<String, ?> entries);
+
     void remove(YTransaction transaction, String key);
+    void remove(YTransaction transaction, YKey key);
+
+    /**
+     * @return the value, or null if the key is not present
+     */
     YOutput get(YTransaction transaction, String key);
+
+    /**
+     * Reads the value with the pre-encoded key, see {@link YKey}
+     *
+     * @return the value, or null if the key is not present
+     */
+    YOutput get(YTransaction transaction, YKey key);
+
+    /**
+     * Reads the value of key into the given cursor instead of allocating a new wrapper
+     *
+     * @return the moved cursor, or null if the key is not present
+     */
+    YOutput get(YTransaction transaction, String key, YOutputCursor cursor);
+
+    /**
+     * Reads the value with the pre-encoded key into the given cursor
+     *
+     * @return the moved cursor, or null if the key is not present
+     */
+    YOutput get(YTransaction transaction, YKey key, YOutputCursor cursor);
+
+    /**
+     * Reads the values of all keys with the keys encoded up front
+     *
+     * @return the values in the iteration order of {@code keys}, keys which are not present are left out
+     */
+    Map<String, YOutput> getAll(YTransaction transaction, Collection<String> keys);
     void removeAll(YTransaction transaction);
     YMapIter iter(YTransaction txn);
 
+    /**
+     * Reads the whole map into plain Java objects, see {@link YArray#toJava(YTransaction)}
+     */
+    Map<String, Object> toJava(YTransaction transaction);
+
+    /**
+     * Creates a read-through cache over this map, see {@link YMapView}
+     *
+     * @param doc        document of the map, used to read missing keys
+     * @param maxEntries maximum number of cached keys
+     */
+    YMapView cachedView(YDoc doc, int maxEntries);
+
+    /**
+     * Creates a read-through cache over this map bounded by the total weight of the cached keys, see {@link YMapView}
+     *
+     * @param doc       document of the map, used to read missing keys
+     * @param maxWeight maximum total weight, for example in bytes with {@link YMapView#estimatedSize(Object)}
+     * @param weigher   weight of a materialized value ({@code null} for an absent key), must not be negative
+     */
+    YMapView cachedView(YDoc doc, long maxWeight, ToLongFunction<Object> weigher);
+
+    /**
+     * @deprecated the transaction is shared by all threads using this wrapper, use the iteration methods taking the
+     * transaction instead
+     */
+    @Deprecated
     void setTransaction(YTransaction transaction);
 }
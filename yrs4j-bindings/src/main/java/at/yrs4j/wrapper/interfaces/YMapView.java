@@ -0,0 +1,81 @@
+package at.yrs4j.wrapper.interfaces;
+
+import at.yrs4j.wrapper.Destroyable;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+/**
+ * Read-through cache over a {@link YMap}. <br>
+ * Values are read into plain Java objects on first access (see {@link YOutput#toJava()}) and served from the cache
+ * afterwards, without a transaction or native call. The view observes the map and drops exactly the keys changed by a
+ * committed transaction. Absent keys are cached as well. <br>
+ * Every cached key has a weight, the least recently used keys are evicted while the total weight exceeds the maximum.
+ * {@link YMap#cachedView(YDoc, long, ToLongFunction)} bounds the memory with {@link #estimatedSize(Object)} as weigher,
+ * {@link YMap#cachedView(YDoc, int)} weighs every key 1 and bounds the number of keys. <br>
+ * <br>
+ * Json values are cached as copies, which are shared by all readers and must not be modified. Shared types (nested
+ * maps, arrays, texts...) are cached as wrappers, changes inside them do not touch the parent map and are visible
+ * through the wrapper. Destroying the view unsubscribes it.
+ */
+public interface YMapView extends Destroyable {
+    /**
+     * Reads missing keys in a read transaction of the document. Must not be called while the calling thread holds a
+     * write transaction of the document, use {@link #get(YTransaction, String)} then.
+     *
+     * @return the value, {@code null} if the key is not present
+     */
+    Object get(String key);
+
+    /**
+     * Reads missing keys in the given transaction. A write transaction bypasses the cache, so it reads its own
+     * uncommitted changes, and its reads are not cached.
+     */
+    Object get(YTransaction transaction, String key);
+
+    void invalidate(String key);
+
+    void invalidateAll();
+
+    /**
+     * @return number of cached keys
+     */
+    int size();
+
+    /**
+     * @return total weight of the cached keys
+     */
+    long weight();
+
+    long hits();
+
+    long misses();
+
+    /**
+     * Rough estimate of the heap bytes a materialized value takes on a 64 bit JVM, made for the weigher of
+     * {@link YMap#cachedView(YDoc, long, ToLongFunction)}. Wrappers of shared types count as a small object, the shared
+     * content stays in native memory.
+     */
+    static long estimatedSize(Object value) {
+        if (value instanceof String str) {
+            return 40 + 2L * str.length();
+        } else if (value instanceof byte[] bytes) {
+            return 16 + bytes.length;
+        } else if (value instanceof Map<?, ?> map) {
+            long size = 48 + 16L * map.size();
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                size += 40 + estimatedSize(entry.getKey()) + estimatedSize(entry.getValue());
+            }
+            return size;
+        } else if (value instanceof Collection<?> collection) {
+            long size = 40;
+            for (Object element : collection) {
+                size += 8 + estimatedSize(element);
+            }
+            return size;
+        }
+        // boxed primitives, wrappers and absent keys
+        return 32;
+    }
+}
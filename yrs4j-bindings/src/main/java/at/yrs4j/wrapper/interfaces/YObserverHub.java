@@ -0,0 +1,69 @@
+package at.yrs4j.wrapper.interfaces;
+
+import at.yrs4j.wrapper.Destroyable;
+import at.yrs4j.wrapper.JNAWrapper;
+import at.yrs4j.wrapper.impl.YObserverHubImpl;
+import at.yrs4j.yrslib.YrsBranch;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+/**
+ * Observes shared types and runs the listeners on an executor instead of the native callback. <br>
+ * The callbacks of libyrs run while the committing transaction is still held, so they only copy the event data
+ * (deltas, key changes, values) into {@link YEvent} records and put them into a bounded ring buffer. The executor
+ * then runs the listeners one event at a time, in the order the events were raised. <br>
+ * With coalescing an event that is still waiting absorbs the next event of the same subscription if it directly
+ * follows it: deltas are composed and key changes merged, so a lagging listener gets the net change in one event. <br>
+ * <br>
+ * If the buffer is full the new event is dropped and counted in {@link #dropped()}, so size the buffer for the bursts
+ * of the application or enable coalescing. Destroying the hub unsubscribes all of its observers.
+ */
+public interface YObserverHub extends Destroyable {
+    int DEFAULT_CAPACITY = 1024;
+
+    static YObserverHub create(Executor executor) {
+        return create(executor, DEFAULT_CAPACITY, false);
+    }
+
+    /**
+     * @param capacity number of events the buffer holds
+     * @param coalesce merge consecutive events of the same subscription while they wait for dispatch
+     */
+    static YObserverHub create(Executor executor, int capacity, boolean coalesce) {
+        return new YObserverHubImpl(executor, capacity, coalesce);
+    }
+
+    /**
+     * @param encoding offset encoding of the document, used to compose deltas
+     */
+    YSubscription observe(YText text, EncodingType encoding, Consumer<? super YEvent.TextEvent> listener);
+
+    YSubscription observe(YArray array, Consumer<? super YEvent.ArrayEvent> listener);
+
+    YSubscription observe(YMap map, Consumer<? super YEvent.MapEvent> listener);
+
+    YSubscription observe(YXmlElement xml, Consumer<? super YEvent.XmlEvent> listener);
+
+    /**
+     * @param encoding offset encoding of the document, used to compose deltas
+     */
+    YSubscription observe(YXmlText xml, EncodingType encoding, Consumer<? super YEvent.XmlTextEvent> listener);
+
+    /**
+     * Observes the shared type and everything nested in it, the listener gets the events of one transaction at once
+     * (coalesced batches are concatenated)
+     */
+    YSubscription observeDeep(JNAWrapper<YrsBranch> branch, Consumer<? super List<YEvent>> listener);
+
+    /**
+     * @return number of events dropped because the buffer was full
+     */
+    long dropped();
+
+    /**
+     * @return number of events waiting for dispatch
+     */
+    int pending();
+}
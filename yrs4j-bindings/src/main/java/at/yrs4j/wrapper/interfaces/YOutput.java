@@ -25,4 +25,16 @@ public interface YOutput extends JNAWrapper<YrsOutput> {
     YWeakRef readYWeakRef();
     YArray readYArray();
 
+    /**
+     * Reads the whole value into plain Java objects in one pass: json maps become {@link java.util.Map}s, json arrays
+     * {@link java.util.List}s, numbers {@link Long}/{@link Double}, binaries {@code byte[]} and json null/undefined
+     * {@code null}. Shared types are returned as wrappers.
+     */
+    Object toJava();
+
+    /**
+     * Walks the value depth first without creating wrappers, see {@link YOutputVisitor}
+     */
+    void accept(YOutputVisitor visitor);
+
 }
@@ -0,0 +1,24 @@
+package at.yrs4j.wrapper.interfaces;
+
+import at.yrs4j.wrapper.impl.YOutputCursorImpl;
+import at.yrs4j.yrslib.YrsOutput;
+
+/**
+ * Reusable {@link YOutput}. <br>
+ * Passing a cursor to {@link YArray#get(YTransaction, int, YOutputCursor)}, {@link YMap#get(YTransaction, String, YOutputCursor)}
+ * or {@link YArrayIter#next(YOutputCursor)} moves it to the read value instead of allocating a new wrapper per value.
+ * The values read before are not valid anymore after the cursor moved, so a cursor must not be shared between threads
+ * or kept as result.
+ */
+public interface YOutputCursor extends YOutput {
+    static YOutputCursor create() {
+        return new YOutputCursorImpl();
+    }
+
+    /**
+     * Points the cursor to another output
+     *
+     * @return this cursor, or null if output is null
+     */
+    YOutputCursor moveTo(YrsOutput output);
+}
@@ -0,0 +1,74 @@
+package at.yrs4j.wrapper.interfaces;
+
+import at.yrs4j.wrapper.JNAWrapper;
+import at.yrs4j.wrapper.impl.YOutputImpl;
+import com.sun.jna.Pointer;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Callbacks for walking a {@link YOutput} with {@link YOutput#accept(YOutputVisitor)}. <br>
+ * The walk reads the native memory directly, no wrappers or intermediate objects are created besides the strings
+ * passed to the callbacks. Nested values are reported depth first: {@link #startMap(int)}, then {@link #onKey(String)}
+ * followed by the value for every entry, then {@link #endMap()}. Arrays the same way without keys. <br>
+ * All callbacks do nothing by default.
+ */
+public interface YOutputVisitor {
+    default void onNull() {
+    }
+
+    /**
+     * Json undefined, reported as {@link #onNull()} by default
+     */
+    default void onUndefined() {
+        onNull();
+    }
+
+    default void onBool(boolean value) {
+    }
+
+    default void onLong(long value) {
+    }
+
+    default void onDouble(double value) {
+    }
+
+    default void onString(String value) {
+    }
+
+    /**
+     * @param value read-only view of the native bytes, only valid during the call
+     */
+    default void onBinary(ByteBuffer value) {
+    }
+
+    default void startArray(int size) {
+    }
+
+    default void endArray() {
+    }
+
+    default void startMap(int size) {
+    }
+
+    default void onKey(String key) {
+    }
+
+    default void endMap() {
+    }
+
+    /**
+     * A shared type (text, array, map, xml node or document), its content is not walked
+     *
+     * @param handle native branch or document, see {@link #wrap(ValueType, Pointer)}
+     */
+    default void onSharedType(ValueType type, Pointer handle) {
+    }
+
+    /**
+     * @return a wrapper for a shared type reported by {@link #onSharedType(ValueType, Pointer)}
+     */
+    static JNAWrapper<?> wrap(ValueType type, Pointer handle) {
+        return YOutputImpl.wrapSharedType(type, handle);
+    }
+}
@@ -0,0 +1,14 @@
+package at.yrs4j.wrapper.interfaces;
+
+import at.yrs4j.wrapper.Destroyable;
+import at.yrs4j.wrapper.JNAWrapper;
+import at.yrs4j.yrslib.YrsSubscription;
+
+/**
+ * Subscription of an observer, destroying it unsubscribes the observer. <br>
+ * Subscriptions are never released by the garbage collector: the observer (and everything its callback references)
+ * stays registered until the subscription is destroyed, so it has to be destroyed explicitly even if it is not kept.
+ * Views built on observers (offset indexes, mirrors, cached map views...) have to be destroyed for the same reason.
+ */
+public interface YSubscription extends Destroyable, JNAWrapper<YrsSubscription> {
+}
@@ -1,10 +1,16 @@
 package at.yrs4j.wrapper.interfaces;
 
+import at.yrs4j.utils.EditScript;
+import at.yrs4j.wrapper.AbstractJNAWrapper;
 import at.yrs4j.wrapper.JNAWrapper;
 import at.yrs4j.wrapper.impl.YTextImpl;
 import at.yrs4j.yrslib.YrsBranch;
 import at.yrs4j.yrslib.YrsInput;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.channels.ReadableByteChannel;
+
 public interface YText extends YBranch, JNAWrapper<YrsBranch> {
 
     int len(YTransaction YTransaction);
@@ -19,14 +25,65 @@ public interface YText extends YBranch, JNAWrapper<YrsBranch> {
 
     void removeRange(YTransaction YTransaction, int index, int length);
 
+    /**
+     * Applies all edits of the script, see {@link EditScript}
+     */
+    void applyEdits(YTransaction transaction, EditScript script);
+
     YChunk chunks(YTransaction transaction);
 
+    /**
+     * Creates an index converting offsets between bytes, UTF-16 units and code points, which is kept up to date by
+     * observing the text. Changes made before the transaction is committed are not seen by the index.
+     *
+     * @param encoding offset encoding of the document
+     */
+    YTextOffsetIndex offsetIndex(YTransaction transaction, EncodingType encoding);
+
+    /**
+     * Creates a Java copy of the text which serves reads without transactions or native calls and is kept up to date
+     * by observing the text, see {@link YTextMirror}
+     *
+     * @param encoding offset encoding of the document
+     */
+    YTextMirror mirror(YTransaction transaction, EncodingType encoding);
+
+    /**
+     * Inserts the text read from {@code reader} at {@code index}, see
+     * {@link #insertFrom(YTransaction, int, Reader, EncodingType)}
+     */
+    default long insertFrom(YTransaction transaction, int index, Reader reader) throws IOException {
+        return insertFrom(transaction, index, reader, EncodingType.Y_OFFSET_BYTES);
+    }
+
+    /**
+     * Streams the text into the document in bounded chunks through a reused native buffer, the text is never held in
+     * memory as a whole. The reader is not closed.
+     *
+     * @param encoding offset encoding of the document
+     * @return length of the inserted text in the offset encoding
+     * @throws IllegalArgumentException if the text contains NUL characters
+     */
+    long insertFrom(YTransaction transaction, int index, Reader reader, EncodingType encoding) throws IOException;
+
+    default long insertFrom(YTransaction transaction, int index, ReadableByteChannel channel) throws IOException {
+        return insertFrom(transaction, index, channel, EncodingType.Y_OFFSET_BYTES);
+    }
+
+    /**
+     * Like {@link #insertFrom(YTransaction, int, Reader, EncodingType)} for a blocking channel delivering UTF-8, which
+     * is passed on without decoding
+     *
+     * @throws java.nio.charset.MalformedInputException if the channel does not deliver valid UTF-8
+     */
+    long insertFrom(YTransaction transaction, int index, ReadableByteChannel channel, EncodingType encoding) throws IOException;
+
     static YText wrap(YrsBranch wrappedObject) {
         return new YTextImpl(wrappedObject);
     }
 
     static YText createFromDoc(YDoc YDoc, String name) {
-        return new YTextImpl(YDoc, name);
+        return AbstractJNAWrapper.ownedBy(new YTextImpl(YDoc, name), YDoc);
     }
 
 }
@@ -0,0 +1,20 @@
+package at.yrs4j.wrapper.interfaces;
+
+import at.yrs4j.wrapper.Destroyable;
+
+/**
+ * Java copy of a {@link YText}, kept in sync by observing the text. <br>
+ * Reads need neither a transaction nor a native call, the string is only rebuilt after the text changed. The mirror
+ * reflects the text as of the last committed transaction. Offsets and lengths are counted in the offset encoding of the
+ * document, embedded content is one unit long but not part of the strings. Destroying the mirror unsubscribes it.
+ */
+public interface YTextMirror extends Destroyable {
+    String string();
+
+    /**
+     * @throws IndexOutOfBoundsException if the range is outside of the text
+     */
+    String substring(int from, int to);
+
+    int len();
+}
@@ -0,0 +1,31 @@
+package at.yrs4j.wrapper.interfaces;
+
+import at.yrs4j.wrapper.Destroyable;
+
+/**
+ * Converts offsets of a {@link YText} between UTF-8 bytes, UTF-16 units and code points in O(log n). <br>
+ * The index observes the text and is updated from its change events, so it stays valid across transactions without
+ * reading the text again. Destroying the index unsubscribes it. Offsets inside a code point are rounded down to its
+ * start, embedded content counts as one unit in every encoding.
+ */
+public interface YTextOffsetIndex extends Destroyable {
+    enum Unit {
+        BYTES,
+        UTF16,
+        CODE_POINTS;
+
+        /**
+         * @return the unit offsets of a document with the given encoding are counted in
+         */
+        public static Unit of(EncodingType encoding) {
+            return encoding == EncodingType.Y_OFFSET_UTF16 ? UTF16 : BYTES;
+        }
+    }
+
+    /**
+     * @throws IndexOutOfBoundsException if the offset is outside of the text
+     */
+    long convert(long offset, Unit from, Unit to);
+
+    long length(Unit unit);
+}
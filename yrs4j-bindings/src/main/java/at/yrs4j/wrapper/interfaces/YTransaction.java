@@ -1,16 +1,43 @@
 package at.yrs4j.wrapper.interfaces;
 
+import at.yrs4j.wrapper.BufferTooSmallException;
 import at.yrs4j.wrapper.JNAWrapper;
 import at.yrs4j.wrapper.impl.YDocImpl;
 import at.yrs4j.yrslib.YrsDeleteSet;
 import at.yrs4j.yrslib.YrsPendingUpdate;
 import at.yrs4j.yrslib.YrsTransaction;
 
+import java.nio.ByteBuffer;
 import java.util.List;
 
-public interface YTransaction extends JNAWrapper<YrsTransaction> {
+/**
+ * Read or write transaction of a document. <br>
+ * A transaction has to be ended with {@link #commit()} or {@link #close()}: an open read transaction blocks all write
+ * transactions of the document, an open write transaction blocks every other transaction.
+ * Prefer {@link YDoc#read(java.util.function.Function)}/{@link YDoc#write(java.util.function.Consumer)} or
+ * try-with-resources.
+ */
+public interface YTransaction extends JNAWrapper<YrsTransaction>, AutoCloseable {
     List<YDocImpl> subdocs();
+
+    /**
+     * Commits a write transaction or releases a read transaction. The transaction must not be used afterwards,
+     * subsequent calls do nothing.
+     */
     void commit();
+
+    /**
+     * Same as {@link #commit()}
+     */
+    @Override
+    default void close() {
+        commit();
+    }
+
+    /**
+     * @return true if the transaction has been committed/closed
+     */
+    boolean isClosed();
     boolean writeable();
     byte[] stateVectorV1();
     byte[] stateDiffV1(byte[] stateVector);
@@ -51,4 +78,53 @@ public interface YTransaction extends JNAWrapper<YrsTransaction> {
      */
     byte applyV2(byte[] diff);
 
+    /**
+     * Same as {@link #apply(byte[])} for the remaining bytes of the buffer, its position is not changed.
+     * Direct buffers are passed to yrs without copying.
+     */
+    byte apply(ByteBuffer diff);
+
+    /**
+     * Same as {@link #applyV2(byte[])} for the remaining bytes of the buffer, its position is not changed.
+     * Direct buffers are passed to yrs without copying.
+     */
+    byte applyV2(ByteBuffer diff);
+
+    /**
+     * Writes the state vector into {@code dst}, advancing its position.
+     * @return number of bytes written
+     * @throws BufferTooSmallException if {@code dst} has not enough space left, {@code dst} is left unchanged and
+     *                                 {@link BufferTooSmallException#requiredLength()} tells the space needed
+     */
+    int stateVectorV1(ByteBuffer dst);
+
+    /**
+     * Writes the diff to the remaining bytes of {@code stateVector} into {@code dst}, advancing its position.
+     * @return number of bytes written
+     * @throws BufferTooSmallException if {@code dst} has not enough space left, {@code dst} is left unchanged and
+     *                                 {@link BufferTooSmallException#requiredLength()} tells the space needed
+     */
+    int stateDiffV1(ByteBuffer stateVector, ByteBuffer dst);
+
+    /**
+     * V2 encoded variant of {@link #stateDiffV1(ByteBuffer, ByteBuffer)}
+     * @throws BufferTooSmallException if {@code dst} has not enough space left
+     */
+    int stateDiffV2(ByteBuffer stateVector, ByteBuffer dst);
+
+    /**
+     * @return the state vector in native memory, has to be closed by the caller
+     */
+    YBinary stateVectorV1Binary();
+
+    /**
+     * @return the diff to the remaining bytes of {@code stateVector} in native memory, has to be closed by the caller
+     */
+    YBinary stateDiffV1Binary(ByteBuffer stateVector);
+
+    /**
+     * V2 encoded variant of {@link #stateDiffV1Binary(ByteBuffer)}
+     */
+    YBinary stateDiffV2Binary(ByteBuffer stateVector);
+
 }
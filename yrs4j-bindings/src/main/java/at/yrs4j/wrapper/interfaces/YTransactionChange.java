@@ -0,0 +1,117 @@
+package at.yrs4j.wrapper.interfaces;
+
+import java.util.Arrays;
+
+/**
+ * What a committed transaction changed, copied out of the after transaction event of libyrs into primitive arrays. <br>
+ * Clocks are unsigned 32 bit values of libyrs stored in {@code int}s.
+ *
+ * @param before    state vector of the document before the transaction
+ * @param after     state vector of the document after the transaction
+ * @param deleteSet items deleted by the transaction
+ */
+public record YTransactionChange(StateVector before, StateVector after, DeleteSet deleteSet) {
+
+    /**
+     * @return number of clock values (characters, array elements, ...) the transaction added for the client
+     */
+    public int inserted(long client) {
+        return after.clock(client) - before.clock(client);
+    }
+
+    /**
+     * @return true if the transaction neither inserted nor deleted anything
+     */
+    public boolean isEmpty() {
+        return before.equals(after) && deleteSet.isEmpty();
+    }
+
+    /**
+     * Next expected clock per client, {@code clocks[i]} belongs to {@code clients[i]}
+     */
+    public record StateVector(long[] clients, int[] clocks) {
+
+        /**
+         * @return the next expected clock of the client, 0 if the client is not known
+         */
+        public int clock(long client) {
+            for (int i = 0; i < clients.length; i++) {
+                if (clients[i] == client) {
+                    return clocks[i];
+                }
+            }
+            return 0;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof StateVector other) || other.clients.length != clients.length) {
+                return false;
+            }
+            for (int i = 0; i < clients.length; i++) {
+                if (clock(clients[i]) != other.clock(clients[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            // order independent like equals
+            int hash = 0;
+            for (int i = 0; i < clients.length; i++) {
+                hash += Long.hashCode(clients[i]) ^ clocks[i];
+            }
+            return hash;
+        }
+
+        @Override
+        public String toString() {
+            return "StateVector[clients=" + Arrays.toString(clients) + ", clocks=" + Arrays.toString(clocks) + "]";
+        }
+    }
+
+    /**
+     * Deleted clock ranges per client. The ranges of {@code clients[i]} are the pairs {@code ranges[2 * k]} (start,
+     * inclusive) and {@code ranges[2 * k + 1]} (end, exclusive) for {@code offsets[i] <= k < offsets[i + 1]},
+     * {@code offsets} has one entry more than {@code clients}.
+     */
+    public record DeleteSet(long[] clients, int[] offsets, int[] ranges) {
+
+        public boolean isEmpty() {
+            return ranges.length == 0;
+        }
+
+        public boolean contains(long client, int clock) {
+            for (int i = 0; i < clients.length; i++) {
+                if (clients[i] != client) {
+                    continue;
+                }
+                for (int k = offsets[i]; k < offsets[i + 1]; k++) {
+                    if (Integer.compareUnsigned(clock, ranges[2 * k]) >= 0 && Integer.compareUnsigned(clock, ranges[2 * k + 1]) < 0) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof DeleteSet other && Arrays.equals(clients, other.clients)
+                    && Arrays.equals(offsets, other.offsets) && Arrays.equals(ranges, other.ranges);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * Arrays.hashCode(clients) + Arrays.hashCode(offsets)) + Arrays.hashCode(ranges);
+        }
+
+        @Override
+        public String toString() {
+            return "DeleteSet[clients=" + Arrays.toString(clients) + ", offsets=" + Arrays.toString(offsets)
+                    + ", ranges=" + Arrays.toString(ranges) + "]";
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package at.yrs4j.wrapper.interfaces;
+
+/**
+ * Counters of the managed transaction acquisition of a document (see {@link YDoc#acquireWriteTransaction()})
+ */
+public interface YTransactionMetrics {
+    /**
+     * @return number of transactions handed out
+     */
+    long acquisitions();
+
+    /**
+     * @return number of acquisitions that had to wait for another transaction
+     */
+    long contended();
+
+    /**
+     * @return number of timed or try acquisitions that gave up
+     */
+    long timeouts();
+
+    /**
+     * @return accumulated time spent waiting for transactions
+     */
+    long totalWaitNanos();
+
+    /**
+     * @return longest time a single acquisition waited
+     */
+    long maxWaitNanos();
+
+    /**
+     * @return estimated number of threads currently waiting for a transaction
+     */
+    int queueLength();
+}
@@ -1,5 +1,6 @@
 package at.yrs4j.wrapper.interfaces;
 
+import at.yrs4j.utils.YKey;
 import at.yrs4j.wrapper.JNAWrapper;
 
 import java.util.Optional;
@@ -11,6 +12,14 @@ public interface YXml extends YIterable<YOutput> {
     String getAttr(YTransaction transaction, String attrName);
     void insertAttr(YTransaction transaction, String attrName, String attrValue);
     void removeAttr(YTransaction transaction, String attrName);
+
+    /**
+     * Attribute access with a pre-encoded name, see {@link YKey}. {@code getAttr} returns null for a missing
+     * attribute.
+     */
+    String getAttr(YTransaction transaction, YKey attrName);
+    void insertAttr(YTransaction transaction, YKey attrName, String attrValue);
+    void removeAttr(YTransaction transaction, YKey attrName);
     void removeRange(YTransaction transaction, int index, int len);
 
     YXmlAttrIter attrIter(YTransaction transaction);
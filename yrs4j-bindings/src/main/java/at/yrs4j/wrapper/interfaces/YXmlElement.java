@@ -1,6 +1,7 @@
 package at.yrs4j.wrapper.interfaces;
 
 import at.yrs4j.api.Yrs4J;
+import at.yrs4j.wrapper.AbstractJNAWrapper;
 import at.yrs4j.wrapper.JNAWrapper;
 import at.yrs4j.wrapper.impl.YDocImpl;
 import at.yrs4j.wrapper.impl.YXmlElementImpl;
@@ -19,6 +20,11 @@ public interface YXmlElement extends YXml, JNAWrapper<YrsBranch> {
     YXmlElement insertElem(YTransaction transaction, int index, String name);
     YXmlText insertText(YTransaction transaction, int index);
     YOutput get(YTransaction transaction, int index);
+    /**
+     * @deprecated the transaction is shared by all threads using this wrapper, use the iteration methods taking the
+     * transaction instead
+     */
+    @Deprecated
     void setTransaction(YTransaction transaction);
     static YXmlElement wrap(YrsBranch element) {
         return new YXmlElementImpl(element);
@@ -28,6 +34,6 @@ public interface YXmlElement extends YXml, JNAWrapper<YrsBranch> {
         YrsDoc docNative = doc.getWrappedObject();
         YrsBranch element = Yrs4J.YRS_INSTANCE.yxmlfragment(docNative, name);
 
-        return new YXmlElementImpl(element);
+        return AbstractJNAWrapper.ownedBy(new YXmlElementImpl(element), doc);
     }
 }
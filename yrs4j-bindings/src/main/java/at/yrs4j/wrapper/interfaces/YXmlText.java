@@ -14,5 +14,10 @@ public interface YXmlText extends YXml, JNAWrapper<YrsBranch> {
     void insertEmbed(YBranch txt, YTransaction transaction, int index, YInput content, YInput attrs);
     void format(YTransaction transaction, int index, int len, YInput attrs);
 
+    /**
+     * @deprecated the transaction is shared by all threads using this wrapper, use the iteration methods taking the
+     * transaction instead
+     */
+    @Deprecated
     void setTransaction(YTransaction transaction);
 }
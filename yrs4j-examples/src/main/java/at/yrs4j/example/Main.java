@@ -5,6 +5,9 @@ import at.yrs4j.libnative.windows.WindowsLibLoader;
 import at.yrs4j.wrapper.interfaces.EncodingType;
 import at.yrs4j.wrapper.interfaces.*;
 
+import java.util.Iterator;
+import java.util.stream.Stream;
+
 public class Main {
     public static void main(String[] args) {
         Yrs4J.init(WindowsLibLoader.create());
@@ -141,27 +144,29 @@ public class Main {
         arr.removeRange(txn, 1, 1);
 
         System.out.println(arr.len() == 2);
-        arr.setTransaction(txn);
-        arr.forEach(cur -> {
-            switch (cur.getTagValueType()) {
-                case Y_ARRAY -> {
-                    YArray a = cur.readYArray();
-                    System.out.println(a.len() == 2);
-                }
-                case Y_JSON_NUM -> {
-                    System.out.println(cur.readLong() == 123);
+        // closing the stream destroys the native iterator
+        try (Stream<YOutput> outputs = arr.stream(txn)) {
+            outputs.forEach(cur -> {
+                switch (cur.getTagValueType()) {
+                    case Y_ARRAY -> {
+                        YArray a = cur.readYArray();
+                        System.out.println(a.len() == 2);
+                    }
+                    case Y_JSON_NUM -> {
+                        System.out.println(cur.readLong() == 123);
+                    }
                 }
-            }
-        });
+            });
+        }
 
-        arr.iterator();
-        arr.iterator();
+        // an iterator destroys the native iterator once it is exhausted
+        Iterator<YOutput> it = arr.iterator(txn);
+        while (it.hasNext()) {
+            System.out.println(it.next().getTagValueType());
+        }
 
         arr.cleanup();
 
-        arr.iterator();
-        arr.iterator();
-
         txn.commit();
 
         Yrs4J.cleanup();
@@ -187,9 +192,8 @@ public class Main {
         System.out.println(map.len(txn));
 
         YMapIter i = map.iter(txn);
-        map.setTransaction(txn);
 
-        map.forEach(e -> System.out.println(e.getKey()));
+        map.iterator(txn).forEachRemaining(e -> System.out.println(e.getKey()));
         YMapEntry cur = i.next();
     }
 
@@ -0,0 +1,37 @@
+package at.yrs4j.foreign;
+
+import at.yrs4j.api.LibLoader;
+import at.yrs4j.api.YrsLibNativeInterface;
+
+/**
+ * {@link LibLoader} switching an existing JNA based loader to the {@code java.lang.foreign} backend. <br>
+ * <br>
+ * Usage: {@code Yrs4J.init(ForeignLibLoader.create(LinuxLibLoader.create()))}
+ */
+public class ForeignLibLoader implements LibLoader {
+    private static volatile YrsLibNativeInterface yrsInstance;
+    private final LibLoader jnaLoader;
+
+    private ForeignLibLoader(LibLoader jnaLoader) {
+        this.jnaLoader = jnaLoader;
+    }
+
+    /**
+     * @param jnaLoader platform loader extracting and loading libyrs, e.g. {@code LinuxLibLoader.create()}
+     */
+    public static ForeignLibLoader create(LibLoader jnaLoader) {
+        return new ForeignLibLoader(jnaLoader);
+    }
+
+    @Override
+    public YrsLibNativeInterface get() {
+        return load(jnaLoader);
+    }
+
+    private static synchronized YrsLibNativeInterface load(LibLoader jnaLoader) {
+        if (yrsInstance == null) {
+            yrsInstance = new ForeignYrsLib(jnaLoader.get());
+        }
+        return yrsInstance;
+    }
+}
@@ -0,0 +1,2190 @@
+package at.yrs4j.foreign;
+
+import at.yrs4j.api.DelegatingYrsLib;
+import at.yrs4j.api.YrsLibNativeInterface;
+import at.yrs4j.utils.JNAUtils;
+import at.yrs4j.yrslib.*;
+import com.sun.jna.Memory;
+import com.sun.jna.NativeLibrary;
+import com.sun.jna.Pointer;
+import com.sun.jna.PointerType;
+import com.sun.jna.Structure;
+import com.sun.jna.ptr.DoubleByReference;
+import com.sun.jna.ptr.IntByReference;
+import com.sun.jna.ptr.LongByReference;
+
+import java.lang.foreign.*;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.nio.IntBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import static java.lang.foreign.ValueLayout.*;
+
+/**
+ * Backend binding the libyrs symbols through {@code java.lang.foreign} downcall handles instead of the JNA proxy.
+ * <br>
+ * Arguments are passed as raw addresses: opaque handles ({@link YrsDoc}, {@link YrsBranch}, iterators...) are neither
+ * read nor written, input structures ({@link YrsInput} and friends) are written before the call and returned
+ * structures are read once, just like JNA would. Strings and byte arrays are copied into a confined arena that is
+ * released when the call returns.
+ * <br>
+ * <br>
+ * Functions taking callbacks, arrays of structures or structures by value (except the {@code yinput_*} constructors)
+ * are not bound here and keep going through the JNA delegate, which is also used to look up the symbols, so both
+ * paths always talk to the same loaded library.
+ * <br>
+ * <br>
+ * Requires {@code --enable-preview} on Java 21 and should be granted {@code --enable-native-access=yrs4j.foreign}.
+ */
+public class ForeignYrsLib extends DelegatingYrsLib {
+    private static final Linker LINKER = Linker.nativeLinker();
+
+    /**
+     * Layout of the {@code YrsInput} cell returned by value from the {@code yinput_*} constructors
+     */
+    private static final MemoryLayout INPUT = MemoryLayout.structLayout(
+            JAVA_BYTE.withName("tag"),
+            MemoryLayout.paddingLayout(3),
+            JAVA_INT.withName("len"),
+            MemoryLayout.unionLayout(
+                    JAVA_BYTE.withName("flag"),
+                    JAVA_DOUBLE.withName("num"),
+                    JAVA_LONG.withName("integer"),
+                    ADDRESS.withName("str"),
+                    MemoryLayout.structLayout(ADDRESS.withName("keys"), ADDRESS.withName("values")).withName("map")
+            ).withName("value"));
+
+    private static volatile SymbolLookup symbols;
+
+    /**
+     * @param delegate JNA proxy of libyrs, used to resolve symbols and for all functions not bound by this class
+     */
+    public ForeignYrsLib(YrsLibNativeInterface delegate) {
+        super(delegate);
+        bind(JNAUtils.getNativeLibrary(delegate));
+    }
+
+    private static synchronized void bind(NativeLibrary library) {
+        if (symbols == null) {
+            symbols = name -> {
+                try {
+                    return Optional.of(MemorySegment.ofAddress(Pointer.nativeValue(library.getFunction(name))));
+                } catch (UnsatisfiedLinkError e) {
+                    return Optional.empty();
+                }
+            };
+        }
+    }
+
+    /**
+     * Creates a downcall handle for the given symbol. A symbol missing from the loaded library yields a handle throwing
+     * {@link UnsatisfiedLinkError} when invoked, the same way JNA fails on the first call and not on load.
+     */
+    private static MethodHandle downcall(String name, FunctionDescriptor descriptor) {
+        Optional<MemorySegment> symbol = symbols.find(name);
+        if (symbol.isPresent()) {
+            return LINKER.downcallHandle(symbol.get(), descriptor);
+        }
+
+        MethodType type = LINKER.downcallHandle(descriptor).type().dropParameterTypes(0, 1);
+        MethodHandle thrower = MethodHandles.throwException(type.returnType(), UnsatisfiedLinkError.class)
+                .bindTo(new UnsatisfiedLinkError("Error looking up function '" + name + "'"));
+        return MethodHandles.dropArguments(thrower, 0, type.parameterList());
+    }
+
+    private static RuntimeException rethrow(Throwable t) {
+        if (t instanceof RuntimeException e) throw e;
+        if (t instanceof Error e) throw e;
+        return new IllegalStateException(t);
+    }
+
+    private static MemorySegment address(Pointer pointer) {
+        return pointer == null ? MemorySegment.NULL : MemorySegment.ofAddress(Pointer.nativeValue(pointer));
+    }
+
+    private static MemorySegment address(PointerType pointer) {
+        return pointer == null ? MemorySegment.NULL : address(pointer.getPointer());
+    }
+
+    private static MemorySegment address(Structure structure) {
+        return structure == null ? MemorySegment.NULL : address(structure.getPointer());
+    }
+
+    private static MemorySegment write(Structure structure) {
+        if (structure == null) return MemorySegment.NULL;
+
+        structure.autoWrite();
+        return address(structure.getPointer());
+    }
+
+    private static MemorySegment string(Arena arena, String str) {
+        return str == null ? MemorySegment.NULL : arena.allocateUtf8String(str);
+    }
+
+    private static MemorySegment bytes(Arena arena, byte[] bytes) {
+        return bytes == null ? MemorySegment.NULL : arena.allocateArray(JAVA_BYTE, bytes);
+    }
+
+    private static MemorySegment ints(Arena arena, IntBuffer buffer) {
+        if (buffer == null) return MemorySegment.NULL;
+
+        MemorySegment view = MemorySegment.ofBuffer(buffer);
+        return buffer.isDirect() ? view : arena.allocate(view.byteSize(), Integer.BYTES).copyFrom(view);
+    }
+
+    private static void copyBack(MemorySegment segment, IntBuffer buffer) {
+        if (buffer != null && !buffer.isDirect()) {
+            MemorySegment.ofBuffer(buffer).copyFrom(segment);
+        }
+    }
+
+    private static Pointer pointer(MemorySegment segment) {
+        return segment.address() == 0 ? null : new Pointer(segment.address());
+    }
+
+    private static YrsTransaction transaction(MemorySegment segment) {
+        return segment.address() == 0 ? null : new YrsTransaction(new Pointer(segment.address()));
+    }
+
+    private static LongByReference longReference(MemorySegment segment) {
+        if (segment.address() == 0) return null;
+
+        LongByReference reference = new LongByReference();
+        reference.setPointer(new Pointer(segment.address()));
+        return reference;
+    }
+
+    private static DoubleByReference doubleReference(MemorySegment segment) {
+        if (segment.address() == 0) return null;
+
+        DoubleByReference reference = new DoubleByReference();
+        reference.setPointer(new Pointer(segment.address()));
+        return reference;
+    }
+
+    /**
+     * Wraps an opaque pointer without reading anything from it
+     */
+    private static <T extends Structure> T handle(Class<T> type, MemorySegment segment) {
+        return segment.address() == 0 ? null : Structure.newInstance(type, new Pointer(segment.address()));
+    }
+
+    private static <T extends Structure> T struct(Class<T> type, MemorySegment segment) {
+        T structure = handle(type, segment);
+        if (structure != null) {
+            structure.autoRead();
+        }
+        return structure;
+    }
+
+    /**
+     * Lets a by-value {@code YrsInput} be returned straight into the memory of a JNA structure
+     */
+    private static SegmentAllocator into(YrsInput.ByValue input) {
+        return (byteSize, byteAlignment) -> address(input.getPointer()).reinterpret(byteSize);
+    }
+
+    private static Memory copy(byte[] bytes, int len, boolean terminate) {
+        Memory memory = new Memory(terminate ? len + 1 : Math.max(len, 1));
+        memory.write(0, bytes, 0, len);
+        if (terminate) {
+            memory.setByte(len, (byte) 0);
+        }
+        return memory;
+    }
+
+    /**
+     * The constructors below keep the passed pointer inside the returned cell. The copied argument is stored in the
+     * cell's union, so the memory stays reachable exactly as long as the returned {@link YrsInput} does.
+     */
+    private static YrsInput.ByValue pinned(MethodHandle constructor, String str) {
+        byte[] bytes = str == null ? null : str.getBytes(StandardCharsets.UTF_8);
+        Memory memory = bytes == null ? null : copy(bytes, bytes.length, true);
+        YrsInput.ByValue input = new YrsInput.ByValue();
+        try {
+            MemorySegment result = (MemorySegment) constructor.invokeExact(into(input), address(memory));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+        input.autoRead();
+        input.value.str = input.value.buf = memory;
+        return input;
+    }
+
+    @Override
+    public YrsInput.ByValue yinput_string(String str) {
+        return pinned(Handles.yinput_string, str);
+    }
+
+    @Override
+    public YrsInput.ByValue yinput_ytext(String str) {
+        return pinned(Handles.yinput_ytext, str);
+    }
+
+    @Override
+    public YrsInput.ByValue yinput_yxmlelem(String name) {
+        return pinned(Handles.yinput_yxmlelem, name);
+    }
+
+    @Override
+    public YrsInput.ByValue yinput_yxmltext(String str) {
+        return pinned(Handles.yinput_yxmltext, str);
+    }
+
+    @Override
+    public YrsInput.ByValue yinput_binary(byte[] buf, int len) {
+        Memory memory = buf == null ? null : copy(buf, len, false);
+        YrsInput.ByValue input = new YrsInput.ByValue();
+        try {
+            MemorySegment result = (MemorySegment) Handles.yinput_binary.invokeExact(into(input), address(memory), len);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+        input.autoRead();
+        input.value.str = input.value.buf = memory;
+        return input;
+    }
+
+    @Override
+    public void ydoc_destroy(YrsDoc value) {
+        try {
+            Handles.ydoc_destroy.invokeExact(address(value));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public void ymap_entry_destroy(YrsMapEntry value) {
+        try {
+            Handles.ymap_entry_destroy.invokeExact(address(value));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public void yxmlattr_destroy(YrsXmlAttr attr) {
+        try {
+            Handles.yxmlattr_destroy.invokeExact(address(attr));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public void ystring_destroy(Pointer str) {
+        try {
+            Handles.ystring_destroy.invokeExact(address(str));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public void ybinary_destroy(Pointer ptr, int len) {
+        try {
+            Handles.ybinary_destroy.invokeExact(address(ptr), len);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public YrsDoc ydoc_new() {
+        try {
+            return handle(YrsDoc.class, (MemorySegment) Handles.ydoc_new.invokeExact());
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public YrsDoc ydoc_clone(YrsDoc doc) {
+        try {
+            return handle(YrsDoc.class, (MemorySegment) Handles.ydoc_clone.invokeExact(address(doc)));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public long ydoc_id(YrsDoc doc) {
+        try {
+            return (long) Handles.ydoc_id.invokeExact(address(doc));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public Pointer ydoc_guid(YrsDoc doc) {
+        try {
+            return pointer((MemorySegment) Handles.ydoc_guid.invokeExact(address(doc)));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public Pointer ydoc_collection_id(YrsDoc doc) {
+        try {
+            return pointer((MemorySegment) Handles.ydoc_collection_id.invokeExact(address(doc)));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public byte ydoc_should_load(YrsDoc doc) {
+        try {
+            return (byte) Handles.ydoc_should_load.invokeExact(address(doc));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public byte ydoc_auto_load(YrsDoc doc) {
+        try {
+            return (byte) Handles.ydoc_auto_load.invokeExact(address(doc));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public void ydoc_load(YrsDoc doc, YrsTransaction parent_txn) {
+        try {
+            Handles.ydoc_load.invokeExact(address(doc), address(parent_txn));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public void ydoc_clear(YrsDoc doc, YrsTransaction parent_txn) {
+        try {
+            Handles.ydoc_clear.invokeExact(address(doc), address(parent_txn));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public YrsTransaction ydoc_read_transaction(YrsDoc doc) {
+        try {
+            return transaction((MemorySegment) Handles.ydoc_read_transaction.invokeExact(address(doc)));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public YrsTransaction ydoc_write_transaction(YrsDoc doc, int origin_len, String origin) {
+        try (Arena arena = Arena.ofConfined()) {
+            return transaction((MemorySegment) Handles.ydoc_write_transaction.invokeExact(address(doc), origin_len, string(arena, origin)));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public void ytransaction_commit(YrsTransaction txn) {
+        try {
+            Handles.ytransaction_commit.invokeExact(address(txn));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public byte ytransaction_writeable(YrsTransaction txn) {
+        try {
+            return (byte) Handles.ytransaction_writeable.invokeExact(address(txn));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public YrsBranch ytype_get(YrsTransaction txn, String name) {
+        try (Arena arena = Arena.ofConfined()) {
+            return handle(YrsBranch.class, (MemorySegment) Handles.ytype_get.invokeExact(address(txn), string(arena, name)));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public YrsBranch ytype_get(YrsTransaction txn, Pointer name) {
+        try {
+            return handle(YrsBranch.class, (MemorySegment) Handles.ytype_get.invokeExact(address(txn), address(name)));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public YrsBranch ytext(YrsDoc doc, String name) {
+        try (Arena arena = Arena.ofConfined()) {
+            return handle(YrsBranch.class, (MemorySegment) Handles.ytext.invokeExact(address(doc), string(arena, name)));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public YrsBranch yarray(YrsDoc doc, String name) {
+        try (Arena arena = Arena.ofConfined()) {
+            return handle(YrsBranch.class, (MemorySegment) Handles.yarray.invokeExact(address(doc), string(arena, name)));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public YrsBranch ymap(YrsDoc doc, String name) {
+        try (Arena arena = Arena.ofConfined()) {
+            return handle(YrsBranch.class, (MemorySegment) Handles.ymap.invokeExact(address(doc), string(arena, name)));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public YrsBranch yxmlfragment(YrsDoc doc, String name) {
+        try (Arena arena = Arena.ofConfined()) {
+            return handle(YrsBranch.class, (MemorySegment) Handles.yxmlfragment.invokeExact(address(doc), string(arena, name)));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public Pointer ytransaction_state_vector_v1(YrsTransaction txn, IntBuffer len) {
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment lenSegment = ints(arena, len);
+            MemorySegment result = (MemorySegment) Handles.ytransaction_state_vector_v1.invokeExact(address(txn), lenSegment);
+            copyBack(lenSegment, len);
+            return pointer(result);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public Pointer ytransaction_state_vector_v1(YrsTransaction txn, IntByReference len) {
+        try {
+            return pointer((MemorySegment) Handles.ytransaction_state_vector_v1.invokeExact(address(txn), address(len)));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public Pointer ytransaction_state_diff_v1(YrsTransaction txn, String sv, int sv_len, IntBuffer len) {
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment lenSegment = ints(arena, len);
+            MemorySegment result = (MemorySegment) Handles.ytransaction_state_diff_v1.invokeExact(address(txn), string(arena, sv), sv_len, lenSegment);
+            copyBack(lenSegment, len);
+            return pointer(result);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public Pointer ytransaction_state_diff_v1(YrsTransaction txn, byte[] sv, int sv_len, IntByReference len) {
+        try (Arena arena = Arena.ofConfined()) {
+            return pointer((MemorySegment) Handles.ytransaction_state_diff_v1.invokeExact(address(txn), bytes(arena, sv), sv_len, address(len)));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public Pointer ytransaction_state_diff_v1(YrsTransaction txn, Pointer sv, int sv_len, IntByReference len) {
+        try {
+            return pointer((MemorySegment) Handles.ytransaction_state_diff_v1.invokeExact(address(txn), address(sv), sv_len, address(len)));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public Pointer ytransaction_state_diff_v2(YrsTransaction txn, String sv, int sv_len, IntBuffer len) {
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment lenSegment = ints(arena, len);
+            MemorySegment result = (MemorySegment) Handles.ytransaction_state_diff_v2.invokeExact(address(txn), string(arena, sv), sv_len, lenSegment);
+            copyBack(lenSegment, len);
+            return pointer(result);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public Pointer ytransaction_state_diff_v2(YrsTransaction txn, byte[] sv, int sv_len, IntByReference len) {
+        try (Arena arena = Arena.ofConfined()) {
+            return pointer((MemorySegment) Handles.ytransaction_state_diff_v2.invokeExact(address(txn), bytes(arena, sv), sv_len, address(len)));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public Pointer ytransaction_state_diff_v2(YrsTransaction txn, Pointer sv, int sv_len, IntByReference len) {
+        try {
+            return pointer((MemorySegment) Handles.ytransaction_state_diff_v2.invokeExact(address(txn), address(sv), sv_len, address(len)));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public Pointer ytransaction_snapshot(YrsTransaction txn, IntBuffer len) {
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment lenSegment = ints(arena, len);
+            MemorySegment result = (MemorySegment) Handles.ytransaction_snapshot.invokeExact(address(txn), lenSegment);
+            copyBack(lenSegment, len);
+            return pointer(result);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public Pointer ytransaction_snapshot(YrsTransaction txn, IntByReference len) {
+        try {
+            return pointer((MemorySegment) Handles.ytransaction_snapshot.invokeExact(address(txn), address(len)));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public Pointer ytransaction_encode_state_from_snapshot_v1(YrsTransaction txn, String snapshot, int snapshot_len, IntBuffer len) {
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment lenSegment = ints(arena, len);
+            MemorySegment result = (MemorySegment) Handles.ytransaction_encode_state_from_snapshot_v1.invokeExact(address(txn), string(arena, snapshot), snapshot_len, lenSegment);
+            copyBack(lenSegment, len);
+            return pointer(result);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public Pointer ytransaction_encode_state_from_snapshot_v1(YrsTransaction txn, byte[] snapshot, int snapshot_len, IntByReference len) {
+        try (Arena arena = Arena.ofConfined()) {
+            return pointer((MemorySegment) Handles.ytransaction_encode_state_from_snapshot_v1.invokeExact(address(txn), bytes(arena, snapshot), snapshot_len, address(len)));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public Pointer ytransaction_encode_state_from_snapshot_v2(YrsTransaction txn, String snapshot, int snapshot_len, IntBuffer len) {
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment lenSegment = ints(arena, len);
+            MemorySegment result = (MemorySegment) Handles.ytransaction_encode_state_from_snapshot_v2.invokeExact(address(txn), string(arena, snapshot), snapshot_len, lenSegment);
+            copyBack(lenSegment, len);
+            return pointer(result);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public Pointer ytransaction_encode_state_from_snapshot_v2(YrsTransaction txn, byte[] snapshot, int snapshot_len, IntByReference len) {
+        try (Arena arena = Arena.ofConfined()) {
+            return pointer((MemorySegment) Handles.ytransaction_encode_state_from_snapshot_v2.invokeExact(address(txn), bytes(arena, snapshot), snapshot_len, address(len)));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public YrsDeleteSet ytransaction_pending_ds(YrsTransaction txn) {
+        try {
+            return struct(YrsDeleteSet.class, (MemorySegment) Handles.ytransaction_pending_ds.invokeExact(address(txn)));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public void ydelete_set_destroy(YrsDeleteSet ds) {
+        try {
+            Handles.ydelete_set_destroy.invokeExact(address(ds));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public YrsPendingUpdate ytransaction_pending_update(YrsTransaction txn) {
+        try {
+            return struct(YrsPendingUpdate.class, (MemorySegment) Handles.ytransaction_pending_update.invokeExact(address(txn)));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public void ypending_update_destroy(YrsPendingUpdate update) {
+        try {
+            Handles.ypending_update_destroy.invokeExact(address(update));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public Pointer yupdate_debug_v1(Pointer update, int update_len) {
+        try {
+            return pointer((MemorySegment) Handles.yupdate_debug_v1.invokeExact(address(update), update_len));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public Pointer yupdate_debug_v2(Pointer update, int update_len) {
+        try {
+            return pointer((MemorySegment) Handles.yupdate_debug_v2.invokeExact(address(update), update_len));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public byte ytransaction_apply(YrsTransaction txn, byte[] diff, int diff_len) {
+        try (Arena arena = Arena.ofConfined()) {
+            return (byte) Handles.ytransaction_apply.invokeExact(address(txn), bytes(arena, diff), diff_len);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public byte ytransaction_apply(YrsTransaction txn, Pointer diff, int diff_len) {
+        try {
+            return (byte) Handles.ytransaction_apply.invokeExact(address(txn), address(diff), diff_len);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public byte ytransaction_apply_v2(YrsTransaction txn, byte[] diff, int diff_len) {
+        try (Arena arena = Arena.ofConfined()) {
+            return (byte) Handles.ytransaction_apply_v2.invokeExact(address(txn), bytes(arena, diff), diff_len);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public byte ytransaction_apply_v2(YrsTransaction txn, Pointer diff, int diff_len) {
+        try {
+            return (byte) Handles.ytransaction_apply_v2.invokeExact(address(txn), address(diff), diff_len);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public int ytext_len(YrsBranch txt, YrsTransaction txn) {
+        try {
+            return (int) Handles.ytext_len.invokeExact(address(txt), address(txn));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public Pointer ytext_string(YrsBranch txt, YrsTransaction txn) {
+        try {
+            return pointer((MemorySegment) Handles.ytext_string.invokeExact(address(txt), address(txn)));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public void ytext_insert(YrsBranch txt, YrsTransaction txn, int index, String value, YrsInput attrs) {
+        try (Arena arena = Arena.ofConfined()) {
+            Handles.ytext_insert.invokeExact(address(txt), address(txn), index, string(arena, value), write(attrs));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public void ytext_insert(YrsBranch txt, YrsTransaction txn, int index, Pointer value, YrsInput attrs) {
+        try {
+            Handles.ytext_insert.invokeExact(address(txt), address(txn), index, address(value), write(attrs));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public void ytext_format(YrsBranch txt, YrsTransaction txn, int index, int len, YrsInput attrs) {
+        try {
+            Handles.ytext_format.invokeExact(address(txt), address(txn), index, len, write(attrs));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public void ytext_insert_embed(YrsBranch txt, YrsTransaction txn, int index, YrsInput content, YrsInput attrs) {
+        try {
+            Handles.ytext_insert_embed.invokeExact(address(txt), address(txn), index, write(content), write(attrs));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public void ytext_remove_range(YrsBranch txt, YrsTransaction txn, int index, int length) {
+        try {
+            Handles.ytext_remove_range.invokeExact(address(txt), address(txn), index, length);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public int yarray_len(YrsBranch array) {
+        try {
+            return (int) Handles.yarray_len.invokeExact(address(array));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public YrsOutput yarray_get(YrsBranch array, YrsTransaction txn, int index) {
+        try {
+            return struct(YrsOutput.class, (MemorySegment) Handles.yarray_get.invokeExact(address(array), address(txn), index));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public void yarray_insert_range(YrsBranch array, YrsTransaction txn, int index, Pointer items, int items_len) {
+        try {
+            Handles.yarray_insert_range.invokeExact(address(array), address(txn), index, address(items), items_len);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public void yarray_remove_range(YrsBranch array, YrsTransaction txn, int index, int len) {
+        try {
+            Handles.yarray_remove_range.invokeExact(address(array), address(txn), index, len);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public void yarray_move(YrsBranch array, YrsTransaction txn, int source, int target) {
+        try {
+            Handles.yarray_move.invokeExact(address(array), address(txn), source, target);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public YrsArrayIter yarray_iter(YrsBranch array, YrsTransaction txn) {
+        try {
+            return handle(YrsArrayIter.class, (MemorySegment) Handles.yarray_iter.invokeExact(address(array), address(txn)));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public void yarray_iter_destroy(YrsArrayIter iter) {
+        try {
+            Handles.yarray_iter_destroy.invokeExact(address(iter));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public YrsOutput yarray_iter_next(YrsArrayIter iterator) {
+        try {
+            return struct(YrsOutput.class, (MemorySegment) Handles.yarray_iter_next.invokeExact(address(iterator)));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public YrsMapIter ymap_iter(YrsBranch map, YrsTransaction txn) {
+        try {
+            return handle(YrsMapIter.class, (MemorySegment) Handles.ymap_iter.invokeExact(address(map), address(txn)));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public void ymap_iter_destroy(YrsMapIter iter) {
+        try {
+            Handles.ymap_iter_destroy.invokeExact(address(iter));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public YrsMapEntry ymap_iter_next(YrsMapIter iter) {
+        try {
+            return struct(YrsMapEntry.class, (MemorySegment) Handles.ymap_iter_next.invokeExact(address(iter)));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public int ymap_len(YrsBranch map, YrsTransaction txn) {
+        try {
+            return (int) Handles.ymap_len.invokeExact(address(map), address(txn));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public void ymap_insert(YrsBranch map, YrsTransaction txn, String key, YrsInput value) {
+        try (Arena arena = Arena.ofConfined()) {
+            Handles.ymap_insert.invokeExact(address(map), address(txn), string(arena, key), write(value));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public void ymap_insert(YrsBranch map, YrsTransaction txn, Pointer key, YrsInput value) {
+        try {
+            Handles.ymap_insert.invokeExact(address(map), address(txn), address(key), write(value));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public void ymap_insert(YrsBranch map, YrsTransaction txn, Pointer key, Pointer value) {
+        try {
+            Handles.ymap_insert.invokeExact(address(map), address(txn), address(key), address(value));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public byte ymap_remove(YrsBranch map, YrsTransaction txn, String key) {
+        try (Arena arena = Arena.ofConfined()) {
+            return (byte) Handles.ymap_remove.invokeExact(address(map), address(txn), string(arena, key));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public byte ymap_remove(YrsBranch map, YrsTransaction txn, Pointer key) {
+        try {
+            return (byte) Handles.ymap_remove.invokeExact(address(map), address(txn), address(key));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public YrsOutput ymap_get(YrsBranch map, YrsTransaction txn, String key) {
+        try (Arena arena = Arena.ofConfined()) {
+            return struct(YrsOutput.class, (MemorySegment) Handles.ymap_get.invokeExact(address(map), address(txn), string(arena, key)));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public YrsOutput ymap_get(YrsBranch map, YrsTransaction txn, Pointer key) {
+        try {
+            return struct(YrsOutput.class, (MemorySegment) Handles.ymap_get.invokeExact(address(map), address(txn), address(key)));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public void ymap_remove_all(YrsBranch map, YrsTransaction txn) {
+        try {
+            Handles.ymap_remove_all.invokeExact(address(map), address(txn));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public Pointer yxmlelem_tag(YrsBranch xml) {
+        try {
+            return pointer((MemorySegment) Handles.yxmlelem_tag.invokeExact(address(xml)));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public Pointer yxmlelem_string(YrsBranch xml, YrsTransaction txn) {
+        try {
+            return pointer((MemorySegment) Handles.yxmlelem_string.invokeExact(address(xml), address(txn)));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public void yxmlelem_insert_attr(YrsBranch xml, YrsTransaction txn, String attr_name, String attr_value) {
+        try (Arena arena = Arena.ofConfined()) {
+            Handles.yxmlelem_insert_attr.invokeExact(address(xml), address(txn), string(arena, attr_name), string(arena, attr_value));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public void yxmlelem_insert_attr(YrsBranch xml, YrsTransaction txn, Pointer attr_name, String attr_value) {
+        try (Arena arena = Arena.ofConfined()) {
+            Handles.yxmlelem_insert_attr.invokeExact(address(xml), address(txn), address(attr_name), string(arena, attr_value));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public void yxmlelem_remove_attr(YrsBranch xml, YrsTransaction txn, String attr_name) {
+        try (Arena arena = Arena.ofConfined()) {
+            Handles.yxmlelem_remove_attr.invokeExact(address(xml), address(txn), string(arena, attr_name));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public void yxmlelem_remove_attr(YrsBranch xml, YrsTransaction txn, Pointer attr_name) {
+        try {
+            Handles.yxmlelem_remove_attr.invokeExact(address(xml), address(txn), address(attr_name));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public Pointer yxmlelem_get_attr(YrsBranch xml, YrsTransaction txn, String attr_name) {
+        try (Arena arena = Arena.ofConfined()) {
+            return pointer((MemorySegment) Handles.yxmlelem_get_attr.invokeExact(address(xml), address(txn), string(arena, attr_name)));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public Pointer yxmlelem_get_attr(YrsBranch xml, YrsTransaction txn, Pointer attr_name) {
+        try {
+            return pointer((MemorySegment) Handles.yxmlelem_get_attr.invokeExact(address(xml), address(txn), address(attr_name)));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public YrsXmlAttrIter yxmlelem_attr_iter(YrsBranch xml, YrsTransaction txn) {
+        try {
+            return handle(YrsXmlAttrIter.class, (MemorySegment) Handles.yxmlelem_attr_iter.invokeExact(address(xml), address(txn)));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public YrsXmlAttrIter yxmltext_attr_iter(YrsBranch xml, YrsTransaction txn) {
+        try {
+            return handle(YrsXmlAttrIter.class, (MemorySegment) Handles.yxmltext_attr_iter.invokeExact(address(xml), address(txn)));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public void yxmlattr_iter_destroy(YrsXmlAttrIter iterator) {
+        try {
+            Handles.yxmlattr_iter_destroy.invokeExact(address(iterator));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public YrsXmlAttr yxmlattr_iter_next(YrsXmlAttrIter iterator) {
+        try {
+            return struct(YrsXmlAttr.class, (MemorySegment) Handles.yxmlattr_iter_next.invokeExact(address(iterator)));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public YrsOutput yxml_next_sibling(YrsBranch xml, YrsTransaction txn) {
+        try {
+            return struct(YrsOutput.class, (MemorySegment) Handles.yxml_next_sibling.invokeExact(address(xml), address(txn)));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public YrsOutput yxml_prev_sibling(YrsBranch xml, YrsTransaction txn) {
+        try {
+            return struct(YrsOutput.class, (MemorySegment) Handles.yxml_prev_sibling.invokeExact(address(xml), address(txn)));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public YrsBranch yxmlelem_parent(YrsBranch xml) {
+        try {
+            return handle(YrsBranch.class, (MemorySegment) Handles.yxmlelem_parent.invokeExact(address(xml)));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public int yxmlelem_child_len(YrsBranch xml, YrsTransaction txn) {
+        try {
+            return (int) Handles.yxmlelem_child_len.invokeExact(address(xml), address(txn));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public YrsOutput yxmlelem_first_child(YrsBranch xml) {
+        try {
+            return struct(YrsOutput.class, (MemorySegment) Handles.yxmlelem_first_child.invokeExact(address(xml)));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public YrsXmlTreeWalker yxmlelem_tree_walker(YrsBranch xml, YrsTransaction txn) {
+        try {
+            return handle(YrsXmlTreeWalker.class, (MemorySegment) Handles.yxmlelem_tree_walker.invokeExact(address(xml), address(txn)));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public void yxmlelem_tree_walker_destroy(YrsXmlTreeWalker iter) {
+        try {
+            Handles.yxmlelem_tree_walker_destroy.invokeExact(address(iter));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public YrsOutput yxmlelem_tree_walker_next(YrsXmlTreeWalker iterator) {
+        try {
+            return struct(YrsOutput.class, (MemorySegment) Handles.yxmlelem_tree_walker_next.invokeExact(address(iterator)));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public YrsBranch yxmlelem_insert_elem(YrsBranch xml, YrsTransaction txn, int index, String name) {
+        try (Arena arena = Arena.ofConfined()) {
+            return handle(YrsBranch.class, (MemorySegment) Handles.yxmlelem_insert_elem.invokeExact(address(xml), address(txn), index, string(arena, name)));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public YrsBranch yxmlelem_insert_text(YrsBranch xml, YrsTransaction txn, int index) {
+        try {
+            return handle(YrsBranch.class, (MemorySegment) Handles.yxmlelem_insert_text.invokeExact(address(xml), address(txn), index));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public void yxmlelem_remove_range(YrsBranch xml, YrsTransaction txn, int index, int len) {
+        try {
+            Handles.yxmlelem_remove_range.invokeExact(address(xml), address(txn), index, len);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public YrsOutput yxmlelem_get(YrsBranch xml, YrsTransaction txn, int index) {
+        try {
+            return struct(YrsOutput.class, (MemorySegment) Handles.yxmlelem_get.invokeExact(address(xml), address(txn), index));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public int yxmltext_len(YrsBranch txt, YrsTransaction txn) {
+        try {
+            return (int) Handles.yxmltext_len.invokeExact(address(txt), address(txn));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public Pointer yxmltext_string(YrsBranch txt, YrsTransaction txn) {
+        try {
+            return pointer((MemorySegment) Handles.yxmltext_string.invokeExact(address(txt), address(txn)));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public void yxmltext_insert(YrsBranch txt, YrsTransaction txn, int index, String str, YrsInput attrs) {
+        try (Arena arena = Arena.ofConfined()) {
+            Handles.yxmltext_insert.invokeExact(address(txt), address(txn), index, string(arena, str), write(attrs));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public void yxmltext_insert_embed(YrsBranch txt, YrsTransaction txn, int index, YrsInput content, YrsInput attrs) {
+        try {
+            Handles.yxmltext_insert_embed.invokeExact(address(txt), address(txn), index, write(content), write(attrs));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public void yxmltext_format(YrsBranch txt, YrsTransaction txn, int index, int len, YrsInput attrs) {
+        try {
+            Handles.yxmltext_format.invokeExact(address(txt), address(txn), index, len, write(attrs));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public void yxmltext_remove_range(YrsBranch txt, YrsTransaction txn, int idx, int len) {
+        try {
+            Handles.yxmltext_remove_range.invokeExact(address(txt), address(txn), idx, len);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public void yxmltext_insert_attr(YrsBranch txt, YrsTransaction txn, String attr_name, String attr_value) {
+        try (Arena arena = Arena.ofConfined()) {
+            Handles.yxmltext_insert_attr.invokeExact(address(txt), address(txn), string(arena, attr_name), string(arena, attr_value));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public void yxmltext_insert_attr(YrsBranch txt, YrsTransaction txn, Pointer attr_name, String attr_value) {
+        try (Arena arena = Arena.ofConfined()) {
+            Handles.yxmltext_insert_attr.invokeExact(address(txt), address(txn), address(attr_name), string(arena, attr_value));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public void yxmltext_remove_attr(YrsBranch txt, YrsTransaction txn, String attr_name) {
+        try (Arena arena = Arena.ofConfined()) {
+            Handles.yxmltext_remove_attr.invokeExact(address(txt), address(txn), string(arena, attr_name));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public void yxmltext_remove_attr(YrsBranch txt, YrsTransaction txn, Pointer attr_name) {
+        try {
+            Handles.yxmltext_remove_attr.invokeExact(address(txt), address(txn), address(attr_name));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public Pointer yxmltext_get_attr(YrsBranch txt, YrsTransaction txn, String attr_name) {
+        try (Arena arena = Arena.ofConfined()) {
+            return pointer((MemorySegment) Handles.yxmltext_get_attr.invokeExact(address(txt), address(txn), string(arena, attr_name)));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public Pointer yxmltext_get_attr(YrsBranch txt, YrsTransaction txn, Pointer attr_name) {
+        try {
+            return pointer((MemorySegment) Handles.yxmltext_get_attr.invokeExact(address(txt), address(txn), address(attr_name)));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public YrsChunk ytext_chunks(YrsBranch txt, YrsTransaction txn, IntBuffer chunks_len) {
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment chunks_lenSegment = ints(arena, chunks_len);
+            MemorySegment result = (MemorySegment) Handles.ytext_chunks.invokeExact(address(txt), address(txn), chunks_lenSegment);
+            copyBack(chunks_lenSegment, chunks_len);
+            return struct(YrsChunk.class, result);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public void ychunks_destroy(YrsChunk chunks, int len) {
+        try {
+            Handles.ychunks_destroy.invokeExact(address(chunks), len);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public void youtput_destroy(YrsOutput val) {
+        try {
+            Handles.youtput_destroy.invokeExact(address(val));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public YrsInput.ByValue yinput_null() {
+        YrsInput.ByValue input = new YrsInput.ByValue();
+        try {
+            MemorySegment result = (MemorySegment) Handles.yinput_null.invokeExact(into(input));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+        input.autoRead();
+        return input;
+    }
+
+    @Override
+    public YrsInput.ByValue yinput_undefined() {
+        YrsInput.ByValue input = new YrsInput.ByValue();
+        try {
+            MemorySegment result = (MemorySegment) Handles.yinput_undefined.invokeExact(into(input));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+        input.autoRead();
+        return input;
+    }
+
+    @Override
+    public YrsInput.ByValue yinput_bool(byte flag) {
+        YrsInput.ByValue input = new YrsInput.ByValue();
+        try {
+            MemorySegment result = (MemorySegment) Handles.yinput_bool.invokeExact(into(input), flag);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+        input.autoRead();
+        return input;
+    }
+
+    @Override
+    public YrsInput.ByValue yinput_float(double num) {
+        YrsInput.ByValue input = new YrsInput.ByValue();
+        try {
+            MemorySegment result = (MemorySegment) Handles.yinput_float.invokeExact(into(input), num);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+        input.autoRead();
+        return input;
+    }
+
+    @Override
+    public YrsInput.ByValue yinput_long(long integer) {
+        YrsInput.ByValue input = new YrsInput.ByValue();
+        try {
+            MemorySegment result = (MemorySegment) Handles.yinput_long.invokeExact(into(input), integer);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+        input.autoRead();
+        return input;
+    }
+
+    @Override
+    public YrsInput.ByValue yinput_ydoc(YrsDoc doc) {
+        YrsInput.ByValue input = new YrsInput.ByValue();
+        try {
+            MemorySegment result = (MemorySegment) Handles.yinput_ydoc.invokeExact(into(input), address(doc));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+        input.autoRead();
+        return input;
+    }
+
+    @Override
+    public YrsInput.ByValue yinput_weak(YrsLinkSource weak) {
+        YrsInput.ByValue input = new YrsInput.ByValue();
+        try {
+            MemorySegment result = (MemorySegment) Handles.yinput_weak.invokeExact(into(input), address(weak));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+        input.autoRead();
+        return input;
+    }
+
+    @Override
+    public YrsDoc youtput_read_ydoc(YrsOutput val) {
+        try {
+            return handle(YrsDoc.class, (MemorySegment) Handles.youtput_read_ydoc.invokeExact(address(val)));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public Pointer youtput_read_bool(YrsOutput val) {
+        try {
+            return pointer((MemorySegment) Handles.youtput_read_bool.invokeExact(address(val)));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public DoubleByReference youtput_read_float(YrsOutput val) {
+        try {
+            return doubleReference((MemorySegment) Handles.youtput_read_float.invokeExact(address(val)));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public LongByReference youtput_read_long(YrsOutput val) {
+        try {
+            return longReference((MemorySegment) Handles.youtput_read_long.invokeExact(address(val)));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public Pointer youtput_read_string(YrsOutput val) {
+        try {
+            return pointer((MemorySegment) Handles.youtput_read_string.invokeExact(address(val)));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public Pointer youtput_read_binary(YrsOutput val) {
+        try {
+            return pointer((MemorySegment) Handles.youtput_read_binary.invokeExact(address(val)));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public YrsOutput youtput_read_json_array(YrsOutput val) {
+        try {
+            return struct(YrsOutput.class, (MemorySegment) Handles.youtput_read_json_array.invokeExact(address(val)));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public YrsMapEntry youtput_read_json_map(YrsOutput val) {
+        try {
+            return struct(YrsMapEntry.class, (MemorySegment) Handles.youtput_read_json_map.invokeExact(address(val)));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public YrsBranch youtput_read_yarray(YrsOutput val) {
+        try {
+            return handle(YrsBranch.class, (MemorySegment) Handles.youtput_read_yarray.invokeExact(address(val)));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public YrsBranch youtput_read_yxmlelem(YrsOutput val) {
+        try {
+            return handle(YrsBranch.class, (MemorySegment) Handles.youtput_read_yxmlelem.invokeExact(address(val)));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public YrsBranch youtput_read_ymap(YrsOutput val) {
+        try {
+            return handle(YrsBranch.class, (MemorySegment) Handles.youtput_read_ymap.invokeExact(address(val)));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public YrsBranch youtput_read_ytext(YrsOutput val) {
+        try {
+            return handle(YrsBranch.class, (MemorySegment) Handles.youtput_read_ytext.invokeExact(address(val)));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public YrsBranch youtput_read_yxmltext(YrsOutput val) {
+        try {
+            return handle(YrsBranch.class, (MemorySegment) Handles.youtput_read_yxmltext.invokeExact(address(val)));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public YrsBranch youtput_read_yweak(YrsOutput val) {
+        try {
+            return handle(YrsBranch.class, (MemorySegment) Handles.youtput_read_yweak.invokeExact(address(val)));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public void yunobserve(YrsSubscription subscription) {
+        try {
+            Handles.yunobserve.invokeExact(address(subscription));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public YrsBranch ytext_event_target(YrsTextEvent e) {
+        try {
+            return handle(YrsBranch.class, (MemorySegment) Handles.ytext_event_target.invokeExact(address(e)));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public YrsBranch yarray_event_target(YrsArrayEvent e) {
+        try {
+            return handle(YrsBranch.class, (MemorySegment) Handles.yarray_event_target.invokeExact(address(e)));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public YrsBranch ymap_event_target(YrsMapEvent e) {
+        try {
+            return handle(YrsBranch.class, (MemorySegment) Handles.ymap_event_target.invokeExact(address(e)));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public YrsBranch yxmlelem_event_target(YrsXmlEvent e) {
+        try {
+            return handle(YrsBranch.class, (MemorySegment) Handles.yxmlelem_event_target.invokeExact(address(e)));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public YrsBranch yxmltext_event_target(YrsXmlTextEvent e) {
+        try {
+            return handle(YrsBranch.class, (MemorySegment) Handles.yxmltext_event_target.invokeExact(address(e)));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public YrsPathSegment ytext_event_path(YrsTextEvent e, IntBuffer len) {
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment lenSegment = ints(arena, len);
+            MemorySegment result = (MemorySegment) Handles.ytext_event_path.invokeExact(address(e), lenSegment);
+            copyBack(lenSegment, len);
+            return struct(YrsPathSegment.class, result);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public YrsPathSegment ymap_event_path(YrsMapEvent e, IntBuffer len) {
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment lenSegment = ints(arena, len);
+            MemorySegment result = (MemorySegment) Handles.ymap_event_path.invokeExact(address(e), lenSegment);
+            copyBack(lenSegment, len);
+            return struct(YrsPathSegment.class, result);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public YrsPathSegment yxmlelem_event_path(YrsXmlEvent e, IntBuffer len) {
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment lenSegment = ints(arena, len);
+            MemorySegment result = (MemorySegment) Handles.yxmlelem_event_path.invokeExact(address(e), lenSegment);
+            copyBack(lenSegment, len);
+            return struct(YrsPathSegment.class, result);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public YrsPathSegment yxmltext_event_path(YrsXmlTextEvent e, IntBuffer len) {
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment lenSegment = ints(arena, len);
+            MemorySegment result = (MemorySegment) Handles.yxmltext_event_path.invokeExact(address(e), lenSegment);
+            copyBack(lenSegment, len);
+            return struct(YrsPathSegment.class, result);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public YrsPathSegment yarray_event_path(YrsArrayEvent e, IntBuffer len) {
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment lenSegment = ints(arena, len);
+            MemorySegment result = (MemorySegment) Handles.yarray_event_path.invokeExact(address(e), lenSegment);
+            copyBack(lenSegment, len);
+            return struct(YrsPathSegment.class, result);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public void ypath_destroy(YrsPathSegment path, int len) {
+        try {
+            Handles.ypath_destroy.invokeExact(address(path), len);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public YrsDelta ytext_event_delta(YrsTextEvent e, IntBuffer len) {
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment lenSegment = ints(arena, len);
+            MemorySegment result = (MemorySegment) Handles.ytext_event_delta.invokeExact(address(e), lenSegment);
+            copyBack(lenSegment, len);
+            return struct(YrsDelta.class, result);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public YrsDelta yxmltext_event_delta(YrsXmlTextEvent e, IntBuffer len) {
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment lenSegment = ints(arena, len);
+            MemorySegment result = (MemorySegment) Handles.yxmltext_event_delta.invokeExact(address(e), lenSegment);
+            copyBack(lenSegment, len);
+            return struct(YrsDelta.class, result);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public YrsEventChange yarray_event_delta(YrsArrayEvent e, IntBuffer len) {
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment lenSegment = ints(arena, len);
+            MemorySegment result = (MemorySegment) Handles.yarray_event_delta.invokeExact(address(e), lenSegment);
+            copyBack(lenSegment, len);
+            return struct(YrsEventChange.class, result);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public YrsEventChange yxmlelem_event_delta(YrsXmlEvent e, IntBuffer len) {
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment lenSegment = ints(arena, len);
+            MemorySegment result = (MemorySegment) Handles.yxmlelem_event_delta.invokeExact(address(e), lenSegment);
+            copyBack(lenSegment, len);
+            return struct(YrsEventChange.class, result);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public void ytext_delta_destroy(YrsDelta delta, int len) {
+        try {
+            Handles.ytext_delta_destroy.invokeExact(address(delta), len);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public void yevent_delta_destroy(YrsEventChange delta, int len) {
+        try {
+            Handles.yevent_delta_destroy.invokeExact(address(delta), len);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public YrsEventKeyChange ymap_event_keys(YrsMapEvent e, IntBuffer len) {
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment lenSegment = ints(arena, len);
+            MemorySegment result = (MemorySegment) Handles.ymap_event_keys.invokeExact(address(e), lenSegment);
+            copyBack(lenSegment, len);
+            return struct(YrsEventKeyChange.class, result);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public YrsEventKeyChange yxmlelem_event_keys(YrsXmlEvent e, IntBuffer len) {
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment lenSegment = ints(arena, len);
+            MemorySegment result = (MemorySegment) Handles.yxmlelem_event_keys.invokeExact(address(e), lenSegment);
+            copyBack(lenSegment, len);
+            return struct(YrsEventKeyChange.class, result);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public YrsEventKeyChange yxmltext_event_keys(YrsXmlTextEvent e, IntBuffer len) {
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment lenSegment = ints(arena, len);
+            MemorySegment result = (MemorySegment) Handles.yxmltext_event_keys.invokeExact(address(e), lenSegment);
+            copyBack(lenSegment, len);
+            return struct(YrsEventKeyChange.class, result);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public void yevent_keys_destroy(YrsEventKeyChange keys, int len) {
+        try {
+            Handles.yevent_keys_destroy.invokeExact(address(keys), len);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public YrsUndoManager yundo_manager(YrsDoc doc, YrsBranch ytype, YrsUndoManagerOptions options) {
+        try {
+            return handle(YrsUndoManager.class, (MemorySegment) Handles.yundo_manager.invokeExact(address(doc), address(ytype), write(options)));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public void yundo_manager_destroy(YrsUndoManager mgr) {
+        try {
+            Handles.yundo_manager_destroy.invokeExact(address(mgr));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public void yundo_manager_add_origin(YrsUndoManager mgr, int origin_len, String origin) {
+        try (Arena arena = Arena.ofConfined()) {
+            Handles.yundo_manager_add_origin.invokeExact(address(mgr), origin_len, string(arena, origin));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public void yundo_manager_remove_origin(YrsUndoManager mgr, int origin_len, String origin) {
+        try (Arena arena = Arena.ofConfined()) {
+            Handles.yundo_manager_remove_origin.invokeExact(address(mgr), origin_len, string(arena, origin));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public void yundo_manager_add_scope(YrsUndoManager mgr, YrsBranch ytype) {
+        try {
+            Handles.yundo_manager_add_scope.invokeExact(address(mgr), address(ytype));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public byte yundo_manager_clear(YrsUndoManager mgr) {
+        try {
+            return (byte) Handles.yundo_manager_clear.invokeExact(address(mgr));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public void yundo_manager_stop(YrsUndoManager mgr) {
+        try {
+            Handles.yundo_manager_stop.invokeExact(address(mgr));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public byte yundo_manager_undo(YrsUndoManager mgr) {
+        try {
+            return (byte) Handles.yundo_manager_undo.invokeExact(address(mgr));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public byte yundo_manager_redo(YrsUndoManager mgr) {
+        try {
+            return (byte) Handles.yundo_manager_redo.invokeExact(address(mgr));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public byte yundo_manager_can_undo(YrsUndoManager mgr) {
+        try {
+            return (byte) Handles.yundo_manager_can_undo.invokeExact(address(mgr));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public byte yundo_manager_can_redo(YrsUndoManager mgr) {
+        try {
+            return (byte) Handles.yundo_manager_can_redo.invokeExact(address(mgr));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public byte ytype_kind(YrsBranch yrsBranch) {
+        try {
+            return (byte) Handles.ytype_kind.invokeExact(address(yrsBranch));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public void ysticky_index_destroy(YrsStickyIndex pos) {
+        try {
+            Handles.ysticky_index_destroy.invokeExact(address(pos));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public byte ysticky_index_assoc(YrsStickyIndex pos) {
+        try {
+            return (byte) Handles.ysticky_index_assoc.invokeExact(address(pos));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public YrsStickyIndex ysticky_index_from_index(YrsBranch yrsBranch, YrsTransaction txn, int index, byte assoc) {
+        try {
+            return handle(YrsStickyIndex.class, (MemorySegment) Handles.ysticky_index_from_index.invokeExact(address(yrsBranch), address(txn), index, assoc));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public Pointer ysticky_index_encode(YrsStickyIndex pos, IntBuffer len) {
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment lenSegment = ints(arena, len);
+            MemorySegment result = (MemorySegment) Handles.ysticky_index_encode.invokeExact(address(pos), lenSegment);
+            copyBack(lenSegment, len);
+            return pointer(result);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public YrsStickyIndex ysticky_index_decode(String binary, int len) {
+        try (Arena arena = Arena.ofConfined()) {
+            return handle(YrsStickyIndex.class, (MemorySegment) Handles.ysticky_index_decode.invokeExact(string(arena, binary), len));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public void yweak_destroy(YrsLinkSource weak) {
+        try {
+            Handles.yweak_destroy.invokeExact(address(weak));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public YrsOutput yweak_deref(YrsBranch map_link, YrsTransaction txn) {
+        try {
+            return struct(YrsOutput.class, (MemorySegment) Handles.yweak_deref.invokeExact(address(map_link), address(txn)));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public YrsWeakIter yweak_iter(YrsBranch array_link, YrsTransaction txn) {
+        try {
+            return handle(YrsWeakIter.class, (MemorySegment) Handles.yweak_iter.invokeExact(address(array_link), address(txn)));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public void yweak_iter_destroy(YrsWeakIter iter) {
+        try {
+            Handles.yweak_iter_destroy.invokeExact(address(iter));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public YrsOutput yweak_iter_next(YrsWeakIter iter) {
+        try {
+            return struct(YrsOutput.class, (MemorySegment) Handles.yweak_iter_next.invokeExact(address(iter)));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public Pointer yweak_string(YrsBranch text_link, YrsTransaction txn) {
+        try {
+            return pointer((MemorySegment) Handles.yweak_string.invokeExact(address(text_link), address(txn)));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public Pointer yweak_xml_string(YrsBranch xml_text_link, YrsTransaction txn) {
+        try {
+            return pointer((MemorySegment) Handles.yweak_xml_string.invokeExact(address(xml_text_link), address(txn)));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public YrsLinkSource ymap_link(YrsBranch map, YrsTransaction txn, String key) {
+        try (Arena arena = Arena.ofConfined()) {
+            return handle(YrsLinkSource.class, (MemorySegment) Handles.ymap_link.invokeExact(address(map), address(txn), string(arena, key)));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public YrsLinkSource ymap_link(YrsBranch map, YrsTransaction txn, Pointer key) {
+        try {
+            return handle(YrsLinkSource.class, (MemorySegment) Handles.ymap_link.invokeExact(address(map), address(txn), address(key)));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public YrsLinkSource ytext_quote(YrsBranch text, YrsTransaction txn, int start_index, int end_index, byte start_exclusive, byte end_exclusive) {
+        try {
+            return handle(YrsLinkSource.class, (MemorySegment) Handles.ytext_quote.invokeExact(address(text), address(txn), start_index, end_index, start_exclusive, end_exclusive));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public YrsLinkSource yarray_quote(YrsBranch array, YrsTransaction txn, int start_index, int end_index, byte start_exclusive, byte end_exclusive) {
+        try {
+            return handle(YrsLinkSource.class, (MemorySegment) Handles.yarray_quote.invokeExact(address(array), address(txn), start_index, end_index, start_exclusive, end_exclusive));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public YrsBranch ybranch_get(YrsBranchId branch_id, YrsTransaction txn) {
+        try {
+            return handle(YrsBranch.class, (MemorySegment) Handles.ybranch_get.invokeExact(write(branch_id), address(txn)));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public byte ybranch_alive(YrsBranch yrsBranch) {
+        try {
+            return (byte) Handles.ybranch_alive.invokeExact(address(yrsBranch));
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    /**
+     * Downcall handles, resolved on first use once a library has been bound. Kept in static finals so the JIT can
+     * treat them as constants.
+     */
+    private static final class Handles {
+        static final MethodHandle ydoc_destroy = downcall("ydoc_destroy", FunctionDescriptor.ofVoid(ADDRESS));
+        static final MethodHandle ymap_entry_destroy = downcall("ymap_entry_destroy", FunctionDescriptor.ofVoid(ADDRESS));
+        static final MethodHandle yxmlattr_destroy = downcall("yxmlattr_destroy", FunctionDescriptor.ofVoid(ADDRESS));
+        static final MethodHandle ystring_destroy = downcall("ystring_destroy", FunctionDescriptor.ofVoid(ADDRESS));
+        static final MethodHandle ybinary_destroy = downcall("ybinary_destroy", FunctionDescriptor.ofVoid(ADDRESS, JAVA_INT));
+        static final MethodHandle ydoc_new = downcall("ydoc_new", FunctionDescriptor.of(ADDRESS));
+        static final MethodHandle ydoc_clone = downcall("ydoc_clone", FunctionDescriptor.of(ADDRESS, ADDRESS));
+        static final MethodHandle ydoc_id = downcall("ydoc_id", FunctionDescriptor.of(JAVA_LONG, ADDRESS));
+        static final MethodHandle ydoc_guid = downcall("ydoc_guid", FunctionDescriptor.of(ADDRESS, ADDRESS));
+        static final MethodHandle ydoc_collection_id = downcall("ydoc_collection_id", FunctionDescriptor.of(ADDRESS, ADDRESS));
+        static final MethodHandle ydoc_should_load = downcall("ydoc_should_load", FunctionDescriptor.of(JAVA_BYTE, ADDRESS));
+        static final MethodHandle ydoc_auto_load = downcall("ydoc_auto_load", FunctionDescriptor.of(JAVA_BYTE, ADDRESS));
+        static final MethodHandle ydoc_load = downcall("ydoc_load", FunctionDescriptor.ofVoid(ADDRESS, ADDRESS));
+        static final MethodHandle ydoc_clear = downcall("ydoc_clear", FunctionDescriptor.ofVoid(ADDRESS, ADDRESS));
+        static final MethodHandle ydoc_read_transaction = downcall("ydoc_read_transaction", FunctionDescriptor.of(ADDRESS, ADDRESS));
+        static final MethodHandle ydoc_write_transaction = downcall("ydoc_write_transaction", FunctionDescriptor.of(ADDRESS, ADDRESS, JAVA_INT, ADDRESS));
+        static final MethodHandle ytransaction_commit = downcall("ytransaction_commit", FunctionDescriptor.ofVoid(ADDRESS));
+        static final MethodHandle ytransaction_writeable = downcall("ytransaction_writeable", FunctionDescriptor.of(JAVA_BYTE, ADDRESS));
+        static final MethodHandle ytype_get = downcall("ytype_get", FunctionDescriptor.of(ADDRESS, ADDRESS, ADDRESS));
+        static final MethodHandle ytext = downcall("ytext", FunctionDescriptor.of(ADDRESS, ADDRESS, ADDRESS));
+        static final MethodHandle yarray = downcall("yarray", FunctionDescriptor.of(ADDRESS, ADDRESS, ADDRESS));
+        static final MethodHandle ymap = downcall("ymap", FunctionDescriptor.of(ADDRESS, ADDRESS, ADDRESS));
+        static final MethodHandle yxmlfragment = downcall("yxmlfragment", FunctionDescriptor.of(ADDRESS, ADDRESS, ADDRESS));
+        static final MethodHandle ytransaction_state_vector_v1 = downcall("ytransaction_state_vector_v1", FunctionDescriptor.of(ADDRESS, ADDRESS, ADDRESS));
+        static final MethodHandle ytransaction_state_diff_v1 = downcall("ytransaction_state_diff_v1", FunctionDescriptor.of(ADDRESS, ADDRESS, ADDRESS, JAVA_INT, ADDRESS));
+        static final MethodHandle ytransaction_state_diff_v2 = downcall("ytransaction_state_diff_v2", FunctionDescriptor.of(ADDRESS, ADDRESS, ADDRESS, JAVA_INT, ADDRESS));
+        static final MethodHandle ytransaction_snapshot = downcall("ytransaction_snapshot", FunctionDescriptor.of(ADDRESS, ADDRESS, ADDRESS));
+        static final MethodHandle ytransaction_encode_state_from_snapshot_v1 = downcall("ytransaction_encode_state_from_snapshot_v1", FunctionDescriptor.of(ADDRESS, ADDRESS, ADDRESS, JAVA_INT, ADDRESS));
+        static final MethodHandle ytransaction_encode_state_from_snapshot_v2 = downcall("ytransaction_encode_state_from_snapshot_v2", FunctionDescriptor.of(ADDRESS, ADDRESS, ADDRESS, JAVA_INT, ADDRESS));
+        static final MethodHandle ytransaction_pending_ds = downcall("ytransaction_pending_ds", FunctionDescriptor.of(ADDRESS, ADDRESS));
+        static final MethodHandle ydelete_set_destroy = downcall("ydelete_set_destroy", FunctionDescriptor.ofVoid(ADDRESS));
+        static final MethodHandle ytransaction_pending_update = downcall("ytransaction_pending_update", FunctionDescriptor.of(ADDRESS, ADDRESS));
+        static final MethodHandle ypending_update_destroy = downcall("ypending_update_destroy", FunctionDescriptor.ofVoid(ADDRESS));
+        static final MethodHandle yupdate_debug_v1 = downcall("yupdate_debug_v1", FunctionDescriptor.of(ADDRESS, ADDRESS, JAVA_INT));
+        static final MethodHandle yupdate_debug_v2 = downcall("yupdate_debug_v2", FunctionDescriptor.of(ADDRESS, ADDRESS, JAVA_INT));
+        static final MethodHandle ytransaction_apply = downcall("ytransaction_apply", FunctionDescriptor.of(JAVA_BYTE, ADDRESS, ADDRESS, JAVA_INT));
+        static final MethodHandle ytransaction_apply_v2 = downcall("ytransaction_apply_v2", FunctionDescriptor.of(JAVA_BYTE, ADDRESS, ADDRESS, JAVA_INT));
+        static final MethodHandle ytext_len = downcall("ytext_len", FunctionDescriptor.of(JAVA_INT, ADDRESS, ADDRESS));
+        static final MethodHandle ytext_string = downcall("ytext_string", FunctionDescriptor.of(ADDRESS, ADDRESS, ADDRESS));
+        static final MethodHandle ytext_insert = downcall("ytext_insert", FunctionDescriptor.ofVoid(ADDRESS, ADDRESS, JAVA_INT, ADDRESS, ADDRESS));
+        static final MethodHandle ytext_format = downcall("ytext_format", FunctionDescriptor.ofVoid(ADDRESS, ADDRESS, JAVA_INT, JAVA_INT, ADDRESS));
+        static final MethodHandle ytext_insert_embed = downcall("ytext_insert_embed", FunctionDescriptor.ofVoid(ADDRESS, ADDRESS, JAVA_INT, ADDRESS, ADDRESS));
+        static final MethodHandle ytext_remove_range = downcall("ytext_remove_range", FunctionDescriptor.ofVoid(ADDRESS, ADDRESS, JAVA_INT, JAVA_INT));
+        static final MethodHandle yarray_len = downcall("yarray_len", FunctionDescriptor.of(JAVA_INT, ADDRESS));
+        static final MethodHandle yarray_get = downcall("yarray_get", FunctionDescriptor.of(ADDRESS, ADDRESS, ADDRESS, JAVA_INT));
+        static final MethodHandle yarray_remove_range = downcall("yarray_remove_range", FunctionDescriptor.ofVoid(ADDRESS, ADDRESS, JAVA_INT, JAVA_INT));
+        static final MethodHandle yarray_insert_range = downcall("yarray_insert_range", FunctionDescriptor.ofVoid(ADDRESS, ADDRESS, JAVA_INT, ADDRESS, JAVA_INT));
+        static final MethodHandle yarray_move = downcall("yarray_move", FunctionDescriptor.ofVoid(ADDRESS, ADDRESS, JAVA_INT, JAVA_INT));
+        static final MethodHandle yarray_iter = downcall("yarray_iter", FunctionDescriptor.of(ADDRESS, ADDRESS, ADDRESS));
+        static final MethodHandle yarray_iter_destroy = downcall("yarray_iter_destroy", FunctionDescriptor.ofVoid(ADDRESS));
+        static final MethodHandle yarray_iter_next = downcall("yarray_iter_next", FunctionDescriptor.of(ADDRESS, ADDRESS));
+        static final MethodHandle ymap_iter = downcall("ymap_iter", FunctionDescriptor.of(ADDRESS, ADDRESS, ADDRESS));
+        static final MethodHandle ymap_iter_destroy = downcall("ymap_iter_destroy", FunctionDescriptor.ofVoid(ADDRESS));
+        static final MethodHandle ymap_iter_next = downcall("ymap_iter_next", FunctionDescriptor.of(ADDRESS, ADDRESS));
+        static final MethodHandle ymap_len = downcall("ymap_len", FunctionDescriptor.of(JAVA_INT, ADDRESS, ADDRESS));
+        static final MethodHandle ymap_insert = downcall("ymap_insert", FunctionDescriptor.ofVoid(ADDRESS, ADDRESS, ADDRESS, ADDRESS));
+        static final MethodHandle ymap_remove = downcall("ymap_remove", FunctionDescriptor.of(JAVA_BYTE, ADDRESS, ADDRESS, ADDRESS));
+        static final MethodHandle ymap_get = downcall("ymap_get", FunctionDescriptor.of(ADDRESS, ADDRESS, ADDRESS, ADDRESS));
+        static final MethodHandle ymap_remove_all = downcall("ymap_remove_all", FunctionDescriptor.ofVoid(ADDRESS, ADDRESS));
+        static final MethodHandle yxmlelem_tag = downcall("yxmlelem_tag", FunctionDescriptor.of(ADDRESS, ADDRESS));
+        static final MethodHandle yxmlelem_string = downcall("yxmlelem_string", FunctionDescriptor.of(ADDRESS, ADDRESS, ADDRESS));
+        static final MethodHandle yxmlelem_insert_attr = downcall("yxmlelem_insert_attr", FunctionDescriptor.ofVoid(ADDRESS, ADDRESS, ADDRESS, ADDRESS));
+        static final MethodHandle yxmlelem_remove_attr = downcall("yxmlelem_remove_attr", FunctionDescriptor.ofVoid(ADDRESS, ADDRESS, ADDRESS));
+        static final MethodHandle yxmlelem_get_attr = downcall("yxmlelem_get_attr", FunctionDescriptor.of(ADDRESS, ADDRESS, ADDRESS, ADDRESS));
+        static final MethodHandle yxmlelem_attr_iter = downcall("yxmlelem_attr_iter", FunctionDescriptor.of(ADDRESS, ADDRESS, ADDRESS));
+        static final MethodHandle yxmltext_attr_iter = downcall("yxmltext_attr_iter", FunctionDescriptor.of(ADDRESS, ADDRESS, ADDRESS));
+        static final MethodHandle yxmlattr_iter_destroy = downcall("yxmlattr_iter_destroy", FunctionDescriptor.ofVoid(ADDRESS));
+        static final MethodHandle yxmlattr_iter_next = downcall("yxmlattr_iter_next", FunctionDescriptor.of(ADDRESS, ADDRESS));
+        static final MethodHandle yxml_next_sibling = downcall("yxml_next_sibling", FunctionDescriptor.of(ADDRESS, ADDRESS, ADDRESS));
+        static final MethodHandle yxml_prev_sibling = downcall("yxml_prev_sibling", FunctionDescriptor.of(ADDRESS, ADDRESS, ADDRESS));
+        static final MethodHandle yxmlelem_parent = downcall("yxmlelem_parent", FunctionDescriptor.of(ADDRESS, ADDRESS));
+        static final MethodHandle yxmlelem_child_len = downcall("yxmlelem_child_len", FunctionDescriptor.of(JAVA_INT, ADDRESS, ADDRESS));
+        static final MethodHandle yxmlelem_first_child = downcall("yxmlelem_first_child", FunctionDescriptor.of(ADDRESS, ADDRESS));
+        static final MethodHandle yxmlelem_tree_walker = downcall("yxmlelem_tree_walker", FunctionDescriptor.of(ADDRESS, ADDRESS, ADDRESS));
+        static final MethodHandle yxmlelem_tree_walker_destroy = downcall("yxmlelem_tree_walker_destroy", FunctionDescriptor.ofVoid(ADDRESS));
+        static final MethodHandle yxmlelem_tree_walker_next = downcall("yxmlelem_tree_walker_next", FunctionDescriptor.of(ADDRESS, ADDRESS));
+        static final MethodHandle yxmlelem_insert_elem = downcall("yxmlelem_insert_elem", FunctionDescriptor.of(ADDRESS, ADDRESS, ADDRESS, JAVA_INT, ADDRESS));
+        static final MethodHandle yxmlelem_insert_text = downcall("yxmlelem_insert_text", FunctionDescriptor.of(ADDRESS, ADDRESS, ADDRESS, JAVA_INT));
+        static final MethodHandle yxmlelem_remove_range = downcall("yxmlelem_remove_range", FunctionDescriptor.ofVoid(ADDRESS, ADDRESS, JAVA_INT, JAVA_INT));
+        static final MethodHandle yxmlelem_get = downcall("yxmlelem_get", FunctionDescriptor.of(ADDRESS, ADDRESS, ADDRESS, JAVA_INT));
+        static final MethodHandle yxmltext_len = downcall("yxmltext_len", FunctionDescriptor.of(JAVA_INT, ADDRESS, ADDRESS));
+        static final MethodHandle yxmltext_string = downcall("yxmltext_string", FunctionDescriptor.of(ADDRESS, ADDRESS, ADDRESS));
+        static final MethodHandle yxmltext_insert = downcall("yxmltext_insert", FunctionDescriptor.ofVoid(ADDRESS, ADDRESS, JAVA_INT, ADDRESS, ADDRESS));
+        static final MethodHandle yxmltext_insert_embed = downcall("yxmltext_insert_embed", FunctionDescriptor.ofVoid(ADDRESS, ADDRESS, JAVA_INT, ADDRESS, ADDRESS));
+        static final MethodHandle yxmltext_format = downcall("yxmltext_format", FunctionDescriptor.ofVoid(ADDRESS, ADDRESS, JAVA_INT, JAVA_INT, ADDRESS));
+        static final MethodHandle yxmltext_remove_range = downcall("yxmltext_remove_range", FunctionDescriptor.ofVoid(ADDRESS, ADDRESS, JAVA_INT, JAVA_INT));
+        static final MethodHandle yxmltext_insert_attr = downcall("yxmltext_insert_attr", FunctionDescriptor.ofVoid(ADDRESS, ADDRESS, ADDRESS, ADDRESS));
+        static final MethodHandle yxmltext_remove_attr = downcall("yxmltext_remove_attr", FunctionDescriptor.ofVoid(ADDRESS, ADDRESS, ADDRESS));
+        static final MethodHandle yxmltext_get_attr = downcall("yxmltext_get_attr", FunctionDescriptor.of(ADDRESS, ADDRESS, ADDRESS, ADDRESS));
+        static final MethodHandle ytext_chunks = downcall("ytext_chunks", FunctionDescriptor.of(ADDRESS, ADDRESS, ADDRESS, ADDRESS));
+        static final MethodHandle ychunks_destroy = downcall("ychunks_destroy", FunctionDescriptor.ofVoid(ADDRESS, JAVA_INT));
+        static final MethodHandle youtput_destroy = downcall("youtput_destroy", FunctionDescriptor.ofVoid(ADDRESS));
+        static final MethodHandle yinput_null = downcall("yinput_null", FunctionDescriptor.of(INPUT));
+        static final MethodHandle yinput_undefined = downcall("yinput_undefined", FunctionDescriptor.of(INPUT));
+        static final MethodHandle yinput_bool = downcall("yinput_bool", FunctionDescriptor.of(INPUT, JAVA_BYTE));
+        static final MethodHandle yinput_float = downcall("yinput_float", FunctionDescriptor.of(INPUT, JAVA_DOUBLE));
+        static final MethodHandle yinput_long = downcall("yinput_long", FunctionDescriptor.of(INPUT, JAVA_LONG));
+        static final MethodHandle yinput_ydoc = downcall("yinput_ydoc", FunctionDescriptor.of(INPUT, ADDRESS));
+        static final MethodHandle yinput_weak = downcall("yinput_weak", FunctionDescriptor.of(INPUT, ADDRESS));
+        static final MethodHandle youtput_read_ydoc = downcall("youtput_read_ydoc", FunctionDescriptor.of(ADDRESS, ADDRESS));
+        static final MethodHandle youtput_read_bool = downcall("youtput_read_bool", FunctionDescriptor.of(ADDRESS, ADDRESS));
+        static final MethodHandle youtput_read_float = downcall("youtput_read_float", FunctionDescriptor.of(ADDRESS, ADDRESS));
+        static final MethodHandle youtput_read_long = downcall("youtput_read_long", FunctionDescriptor.of(ADDRESS, ADDRESS));
+        static final MethodHandle youtput_read_string = downcall("youtput_read_string", FunctionDescriptor.of(ADDRESS, ADDRESS));
+        static final MethodHandle youtput_read_binary = downcall("youtput_read_binary", FunctionDescriptor.of(ADDRESS, ADDRESS));
+        static final MethodHandle youtput_read_json_array = downcall("youtput_read_json_array", FunctionDescriptor.of(ADDRESS, ADDRESS));
+        static final MethodHandle youtput_read_json_map = downcall("youtput_read_json_map", FunctionDescriptor.of(ADDRESS, ADDRESS));
+        static final MethodHandle youtput_read_yarray = downcall("youtput_read_yarray", FunctionDescriptor.of(ADDRESS, ADDRESS));
+        static final MethodHandle youtput_read_yxmlelem = downcall("youtput_read_yxmlelem", FunctionDescriptor.of(ADDRESS, ADDRESS));
+        static final MethodHandle youtput_read_ymap = downcall("youtput_read_ymap", FunctionDescriptor.of(ADDRESS, ADDRESS));
+        static final MethodHandle youtput_read_ytext = downcall("youtput_read_ytext", FunctionDescriptor.of(ADDRESS, ADDRESS));
+        static final MethodHandle youtput_read_yxmltext = downcall("youtput_read_yxmltext", FunctionDescriptor.of(ADDRESS, ADDRESS));
+        static final MethodHandle youtput_read_yweak = downcall("youtput_read_yweak", FunctionDescriptor.of(ADDRESS, ADDRESS));
+        static final MethodHandle yunobserve = downcall("yunobserve", FunctionDescriptor.ofVoid(ADDRESS));
+        static final MethodHandle ytext_event_target = downcall("ytext_event_target", FunctionDescriptor.of(ADDRESS, ADDRESS));
+        static final MethodHandle yarray_event_target = downcall("yarray_event_target", FunctionDescriptor.of(ADDRESS, ADDRESS));
+        static final MethodHandle ymap_event_target = downcall("ymap_event_target", FunctionDescriptor.of(ADDRESS, ADDRESS));
+        static final MethodHandle yxmlelem_event_target = downcall("yxmlelem_event_target", FunctionDescriptor.of(ADDRESS, ADDRESS));
+        static final MethodHandle yxmltext_event_target = downcall("yxmltext_event_target", FunctionDescriptor.of(ADDRESS, ADDRESS));
+        static final MethodHandle ytext_event_path = downcall("ytext_event_path", FunctionDescriptor.of(ADDRESS, ADDRESS, ADDRESS));
+        static final MethodHandle ymap_event_path = downcall("ymap_event_path", FunctionDescriptor.of(ADDRESS, ADDRESS, ADDRESS));
+        static final MethodHandle yxmlelem_event_path = downcall("yxmlelem_event_path", FunctionDescriptor.of(ADDRESS, ADDRESS, ADDRESS));
+        static final MethodHandle yxmltext_event_path = downcall("yxmltext_event_path", FunctionDescriptor.of(ADDRESS, ADDRESS, ADDRESS));
+        static final MethodHandle yarray_event_path = downcall("yarray_event_path", FunctionDescriptor.of(ADDRESS, ADDRESS, ADDRESS));
+        static final MethodHandle ypath_destroy = downcall("ypath_destroy", FunctionDescriptor.ofVoid(ADDRESS, JAVA_INT));
+        static final MethodHandle ytext_event_delta = downcall("ytext_event_delta", FunctionDescriptor.of(ADDRESS, ADDRESS, ADDRESS));
+        static final MethodHandle yxmltext_event_delta = downcall("yxmltext_event_delta", FunctionDescriptor.of(ADDRESS, ADDRESS, ADDRESS));
+        static final MethodHandle yarray_event_delta = downcall("yarray_event_delta", FunctionDescriptor.of(ADDRESS, ADDRESS, ADDRESS));
+        static final MethodHandle yxmlelem_event_delta = downcall("yxmlelem_event_delta", FunctionDescriptor.of(ADDRESS, ADDRESS, ADDRESS));
+        static final MethodHandle ytext_delta_destroy = downcall("ytext_delta_destroy", FunctionDescriptor.ofVoid(ADDRESS, JAVA_INT));
+        static final MethodHandle yevent_delta_destroy = downcall("yevent_delta_destroy", FunctionDescriptor.ofVoid(ADDRESS, JAVA_INT));
+        static final MethodHandle ymap_event_keys = downcall("ymap_event_keys", FunctionDescriptor.of(ADDRESS, ADDRESS, ADDRESS));
+        static final MethodHandle yxmlelem_event_keys = downcall("yxmlelem_event_keys", FunctionDescriptor.of(ADDRESS, ADDRESS, ADDRESS));
+        static final MethodHandle yxmltext_event_keys = downcall("yxmltext_event_keys", FunctionDescriptor.of(ADDRESS, ADDRESS, ADDRESS));
+        static final MethodHandle yevent_keys_destroy = downcall("yevent_keys_destroy", FunctionDescriptor.ofVoid(ADDRESS, JAVA_INT));
+        static final MethodHandle yundo_manager = downcall("yundo_manager", FunctionDescriptor.of(ADDRESS, ADDRESS, ADDRESS, ADDRESS));
+        static final MethodHandle yundo_manager_destroy = downcall("yundo_manager_destroy", FunctionDescriptor.ofVoid(ADDRESS));
+        static final MethodHandle yundo_manager_add_origin = downcall("yundo_manager_add_origin", FunctionDescriptor.ofVoid(ADDRESS, JAVA_INT, ADDRESS));
+        static final MethodHandle yundo_manager_remove_origin = downcall("yundo_manager_remove_origin", FunctionDescriptor.ofVoid(ADDRESS, JAVA_INT, ADDRESS));
+        static final MethodHandle yundo_manager_add_scope = downcall("yundo_manager_add_scope", FunctionDescriptor.ofVoid(ADDRESS, ADDRESS));
+        static final MethodHandle yundo_manager_clear = downcall("yundo_manager_clear", FunctionDescriptor.of(JAVA_BYTE, ADDRESS));
+        static final MethodHandle yundo_manager_stop = downcall("yundo_manager_stop", FunctionDescriptor.ofVoid(ADDRESS));
+        static final MethodHandle yundo_manager_undo = downcall("yundo_manager_undo", FunctionDescriptor.of(JAVA_BYTE, ADDRESS));
+        static final MethodHandle yundo_manager_redo = downcall("yundo_manager_redo", FunctionDescriptor.of(JAVA_BYTE, ADDRESS));
+        static final MethodHandle yundo_manager_can_undo = downcall("yundo_manager_can_undo", FunctionDescriptor.of(JAVA_BYTE, ADDRESS));
+        static final MethodHandle yundo_manager_can_redo = downcall("yundo_manager_can_redo", FunctionDescriptor.of(JAVA_BYTE, ADDRESS));
+        static final MethodHandle ytype_kind = downcall("ytype_kind", FunctionDescriptor.of(JAVA_BYTE, ADDRESS));
+        static final MethodHandle ysticky_index_destroy = downcall("ysticky_index_destroy", FunctionDescriptor.ofVoid(ADDRESS));
+        static final MethodHandle ysticky_index_assoc = downcall("ysticky_index_assoc", FunctionDescriptor.of(JAVA_BYTE, ADDRESS));
+        static final MethodHandle ysticky_index_from_index = downcall("ysticky_index_from_index", FunctionDescriptor.of(ADDRESS, ADDRESS, ADDRESS, JAVA_INT, JAVA_BYTE));
+        static final MethodHandle ysticky_index_encode = downcall("ysticky_index_encode", FunctionDescriptor.of(ADDRESS, ADDRESS, ADDRESS));
+        static final MethodHandle ysticky_index_decode = downcall("ysticky_index_decode", FunctionDescriptor.of(ADDRESS, ADDRESS, JAVA_INT));
+        static final MethodHandle yweak_destroy = downcall("yweak_destroy", FunctionDescriptor.ofVoid(ADDRESS));
+        static final MethodHandle yweak_deref = downcall("yweak_deref", FunctionDescriptor.of(ADDRESS, ADDRESS, ADDRESS));
+        static final MethodHandle yweak_iter = downcall("yweak_iter", FunctionDescriptor.of(ADDRESS, ADDRESS, ADDRESS));
+        static final MethodHandle yweak_iter_destroy = downcall("yweak_iter_destroy", FunctionDescriptor.ofVoid(ADDRESS));
+        static final MethodHandle yweak_iter_next = downcall("yweak_iter_next", FunctionDescriptor.of(ADDRESS, ADDRESS));
+        static final MethodHandle yweak_string = downcall("yweak_string", FunctionDescriptor.of(ADDRESS, ADDRESS, ADDRESS));
+        static final MethodHandle yweak_xml_string = downcall("yweak_xml_string", FunctionDescriptor.of(ADDRESS, ADDRESS, ADDRESS));
+        static final MethodHandle ymap_link = downcall("ymap_link", FunctionDescriptor.of(ADDRESS, ADDRESS, ADDRESS, ADDRESS));
+        static final MethodHandle ytext_quote = downcall("ytext_quote", FunctionDescriptor.of(ADDRESS, ADDRESS, ADDRESS, JAVA_INT, JAVA_INT, JAVA_BYTE, JAVA_BYTE));
+        static final MethodHandle yarray_quote = downcall("yarray_quote", FunctionDescriptor.of(ADDRESS, ADDRESS, ADDRESS, JAVA_INT, JAVA_INT, JAVA_BYTE, JAVA_BYTE));
+        static final MethodHandle ybranch_get = downcall("ybranch_get", FunctionDescriptor.of(ADDRESS, ADDRESS, ADDRESS));
+        static final MethodHandle ybranch_alive = downcall("ybranch_alive", FunctionDescriptor.of(JAVA_BYTE, ADDRESS));
+        static final MethodHandle yinput_string = downcall("yinput_string", FunctionDescriptor.of(INPUT, ADDRESS));
+        static final MethodHandle yinput_ytext = downcall("yinput_ytext", FunctionDescriptor.of(INPUT, ADDRESS));
+        static final MethodHandle yinput_yxmlelem = downcall("yinput_yxmlelem", FunctionDescriptor.of(INPUT, ADDRESS));
+        static final MethodHandle yinput_yxmltext = downcall("yinput_yxmltext", FunctionDescriptor.of(INPUT, ADDRESS));
+        static final MethodHandle yinput_binary = downcall("yinput_binary", FunctionDescriptor.of(INPUT, ADDRESS, JAVA_INT));
+    }
+}
@@ -0,0 +1,6 @@
+module yrs4j.foreign {
+    requires yrs4j.bindings;
+    requires com.sun.jna;
+
+    exports at.yrs4j.foreign;
+}
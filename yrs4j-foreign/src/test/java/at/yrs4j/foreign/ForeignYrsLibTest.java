@@ -0,0 +1,69 @@
+package at.yrs4j.foreign;
+
+import at.yrs4j.api.Yrs4J;
+import at.yrs4j.libnative.linux.LinuxLibLoader;
+import at.yrs4j.wrapper.interfaces.*;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+public class ForeignYrsLibTest {
+
+    @BeforeAll
+    public static void setupYrs4J() {
+        Yrs4J.init(ForeignLibLoader.create(LinuxLibLoader.create()));
+    }
+
+    @Test
+    public void backendSelected() {
+        assertInstanceOf(ForeignYrsLib.class, Yrs4J.YRS_INSTANCE);
+    }
+
+    @Test
+    public void textAndMap() {
+        YDoc doc = YDoc.create();
+        YText txt = YText.createFromDoc(doc, "text");
+        YMap map = YMap.createWithDocAndName(doc, "map");
+
+        YTransaction txn = doc.writeTransaction();
+        txt.insert(txn, 0, "hello", null);
+        txt.insert(txn, 5, " wörld", null);
+        txt.removeRange(txn, 0, 6);
+        map.insert(txn, "key", YInput.createString("value"));
+        map.insert(txn, "num", YInput.createLong(42));
+
+        assertEquals("wörld", txt.string(txn));
+        assertEquals("value", map.get(txn, "key").readString());
+        assertEquals(42L, map.get(txn, "num").readLong());
+        txn.commit();
+    }
+
+    @Test
+    public void syncBetweenDocs() {
+        YDoc source = YDoc.create();
+        YText txt = YText.createFromDoc(source, "text");
+        YTransaction txn = source.writeTransaction();
+        txt.insert(txn, 0, "synced", null);
+        txn.commit();
+
+        YDoc target = YDoc.create();
+        YTransaction targetTxn = target.readTransaction();
+        byte[] stateVector = targetTxn.stateVectorV1();
+        targetTxn.commit();
+
+        txn = source.readTransaction();
+        byte[] diff = txn.stateDiffV1(stateVector);
+        txn.commit();
+
+        targetTxn = target.writeTransaction();
+        assertEquals(0, targetTxn.apply(diff));
+        targetTxn.commit();
+
+        YText targetTxt = YText.createFromDoc(target, "text");
+        targetTxn = target.readTransaction();
+        assertEquals("synced", targetTxt.string(targetTxn));
+        targetTxn.commit();
+    }
+}
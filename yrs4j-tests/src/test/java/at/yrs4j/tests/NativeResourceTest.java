@@ -0,0 +1,75 @@
+package at.yrs4j.tests;
+
+import at.yrs4j.wrapper.AbstractDestroyableJNAWrapper;
+import at.yrs4j.wrapper.AbstractJNAWrapper;
+import at.yrs4j.wrapper.NativeResource;
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class NativeResourceTest {
+
+    private static class Wrapper extends AbstractDestroyableJNAWrapper<Object> {
+        Wrapper(AtomicInteger released) {
+            super(new Object(), o -> released.incrementAndGet());
+        }
+    }
+
+    @Test
+    public void releasedOnlyOnce() {
+        AtomicInteger released = new AtomicInteger();
+        int live = NativeResource.liveCount();
+        Wrapper wrapper = new Wrapper(released);
+        assertEquals(live + 1, NativeResource.liveCount());
+
+        try (wrapper) {
+            assertFalse(wrapper.isDestroyed());
+        }
+        wrapper.destroy();
+
+        assertTrue(wrapper.isDestroyed());
+        assertEquals(1, released.get());
+        assertEquals(live, NativeResource.liveCount());
+    }
+
+    @Test
+    public void borrowedObjectsAreNotReleased() {
+        AbstractDestroyableJNAWrapper<Object> borrowed = new AbstractDestroyableJNAWrapper<>(new Object(), null) {
+        };
+        int live = NativeResource.liveCount();
+        borrowed.close();
+        assertTrue(borrowed.isDestroyed());
+        assertEquals(live, NativeResource.liveCount());
+    }
+
+    @Test
+    public void unreachableWrapperIsReleased() throws InterruptedException {
+        AtomicInteger released = new AtomicInteger();
+        WeakReference<Wrapper> ref = new WeakReference<>(new Wrapper(released));
+
+        for (int i = 0; i < 100 && released.get() == 0; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        assertNull(ref.get());
+        assertEquals(1, released.get());
+    }
+
+    @Test
+    public void ownerStaysReachableWhileChildIs() throws InterruptedException {
+        AtomicInteger released = new AtomicInteger();
+        Wrapper child = AbstractJNAWrapper.ownedBy(new Wrapper(new AtomicInteger()), new Wrapper(released));
+
+        for (int i = 0; i < 10; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        assertEquals(0, released.get());
+        child.close();
+    }
+}
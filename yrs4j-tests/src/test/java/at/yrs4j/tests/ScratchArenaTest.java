@@ -0,0 +1,60 @@
+package at.yrs4j.tests;
+
+import at.yrs4j.utils.ScratchArena;
+import com.sun.jna.Memory;
+import com.sun.jna.Pointer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ScratchArenaTest {
+
+    @Test
+    public void scopeReleasesAllocations() {
+        long first;
+        try (ScratchArena arena = ScratchArena.open()) {
+            first = Pointer.nativeValue(arena.utf8("key"));
+            assertEquals("key", arena.utf8("key").getString(0));
+        }
+        try (ScratchArena arena = ScratchArena.open()) {
+            assertEquals(first, Pointer.nativeValue(arena.utf8("other")));
+        }
+    }
+
+    @Test
+    public void nestedScopesKeepOuterAllocations() {
+        try (ScratchArena outer = ScratchArena.open()) {
+            Pointer key = outer.utf8("outer");
+            try (ScratchArena inner = ScratchArena.open()) {
+                Pointer other = inner.utf8("inner");
+                assertNotEquals(Pointer.nativeValue(key), Pointer.nativeValue(other));
+            }
+            assertEquals("outer", key.getString(0));
+        }
+    }
+
+    @Test
+    public void allocationsAreAligned() {
+        try (ScratchArena arena = ScratchArena.open()) {
+            arena.allocate(3);
+            assertEquals(0, Pointer.nativeValue(arena.allocate(8)) % 8);
+        }
+    }
+
+    @Test
+    public void oversizedAndUnscopedFallBack() {
+        try (ScratchArena arena = ScratchArena.open()) {
+            Memory big = arena.allocate(ScratchArena.CAPACITY + 1L);
+            assertEquals(ScratchArena.CAPACITY + 1L, big.size());
+        }
+
+        Memory unscoped = ScratchArena.current().bytes(new byte[]{1, 2, 3});
+        assertEquals(3, unscoped.size());
+        assertEquals(2, unscoped.getByte(1));
+    }
+
+    @Test
+    public void closeWithoutScopeFails() {
+        assertThrows(IllegalStateException.class, () -> ScratchArena.current().close());
+    }
+}
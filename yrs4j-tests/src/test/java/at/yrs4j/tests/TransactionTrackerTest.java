@@ -0,0 +1,45 @@
+package at.yrs4j.tests;
+
+import at.yrs4j.wrapper.TransactionTracker;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TransactionTrackerTest {
+
+    @Test
+    public void reportsLeakedTransactions() throws InterruptedException {
+        List<Throwable> leaked = Collections.synchronizedList(new ArrayList<>());
+        TransactionTracker.setEnabled(true);
+        TransactionTracker.setLeakHandler(leaked::add);
+        try {
+            Object closed = new Object();
+            TransactionTracker.Site site = TransactionTracker.opened(closed);
+            TransactionTracker.opened(new Object());
+            assertEquals(2, TransactionTracker.openTransactions().size());
+
+            site.ended();
+            for (int i = 0; i < 100 && leaked.isEmpty(); i++) {
+                System.gc();
+                Thread.sleep(10);
+            }
+
+            assertEquals(1, leaked.size());
+            assertEquals(getClass().getName(), leaked.get(0).getStackTrace()[1].getClassName());
+            assertTrue(TransactionTracker.openTransactions().isEmpty());
+        } finally {
+            TransactionTracker.setEnabled(false);
+            TransactionTracker.setLeakHandler(null);
+        }
+    }
+
+    @Test
+    public void disabledByDefault() {
+        assertFalse(TransactionTracker.isEnabled());
+        assertNull(TransactionTracker.opened(new Object()));
+    }
+}
@@ -4,8 +4,14 @@ import at.yrs4j.api.Yrs4J;
 import at.yrs4j.wrapper.interfaces.*;
 import org.junit.jupiter.api.Test;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
 
 public class YArrayTest extends TestsCommon {
 
@@ -47,8 +53,7 @@ public class YArrayTest extends TestsCommon {
 
         assertEquals(2, arr.len());
 
-        arr.setTransaction(txn);
-        arr.forEach(cur -> {
+        arr.iterator(txn).forEachRemaining(cur -> {
             switch (cur.getTagValueType()) {
                 case Y_ARRAY -> {
                     YArray a = cur.readYArray();
@@ -61,4 +66,217 @@ public class YArrayTest extends TestsCommon {
             }
         });
     }
+
+    @Test
+    public void yArrayCursor() {
+        YDoc doc = createYDocWithId(1);
+        YArray arr = YArray.createWithDocAndName(doc, "test");
+        YTransaction txn = doc.writeTransaction();
+
+        YInput[] args = new YInput[3];
+        args[0] = YInput.createLong(1);
+        args[1] = YInput.createLong(2);
+        args[2] = YInput.createLong(3);
+        arr.insertRange(txn, 0, args);
+
+        YOutputCursor cursor = YOutputCursor.create();
+        assertSame(cursor, arr.get(txn, 1, cursor));
+        assertEquals(2, cursor.readLong());
+        assertNull(arr.get(txn, 5, cursor));
+
+        long sum = 0;
+        YArrayIter iter = arr.iter(txn);
+        while (iter.next(cursor) != null) {
+            sum += cursor.readLong();
+        }
+        iter.destroy();
+
+        assertEquals(6, sum);
+        txn.commit();
+        doc.destroy();
+    }
+
+    @Test
+    public void yArrayBulkInsert() {
+        YDoc doc = createYDocWithId(1);
+        YArray arr = YArray.createWithDocAndName(doc, "test");
+
+        doc.write(txn -> {
+            arr.insertLongs(txn, 0, new long[]{1, 2, 3});
+            arr.insertDoubles(txn, 3, new double[]{0.5});
+            arr.insertBooleans(txn, 4, new boolean[]{true, false});
+            arr.insertStrings(txn, 6, new String[]{"hello", null, "wörld"});
+            arr.insertLongs(txn, 0, new long[0]);
+        });
+
+        assertEquals(9, arr.len());
+        doc.read(txn -> {
+            assertEquals(3, arr.get(txn, 2).readLong());
+            assertEquals(0.5, arr.get(txn, 3).readFloat());
+            assertTrue(arr.get(txn, 4).readBool());
+            assertFalse(arr.get(txn, 5).readBool());
+            assertEquals("hello", arr.get(txn, 6).readString());
+            assertEquals(ValueType.Y_JSON_NULL, arr.get(txn, 7).getTagValueType());
+            assertEquals("wörld", arr.get(txn, 8).readString());
+            return null;
+        });
+        doc.destroy();
+    }
+
+    @Test
+    public void yArrayToJava() {
+        YDoc doc = createYDocWithId(1);
+        YArray arr = YArray.createWithDocAndName(doc, "test");
+
+        doc.write(txn -> arr.insertRange(txn, 0, new YInput[]{
+                YInput.createLong(1),
+                YInput.createJsonArray(new YInput[]{YInput.createString("a"), YInput.createBool(true)}),
+                YInput.createJsonMap(new String[]{"x"}, new YInput[]{YInput.createFloat(0.5)}),
+                YInput.createNull(),
+                YInput.createYArray(new YInput[]{YInput.createLong(2)}),
+                YInput.createYText("text")
+        }));
+
+        List<Object> values = doc.read(arr::toJava);
+        assertEquals(Arrays.asList(1L, List.of("a", true), Map.of("x", 0.5), null, List.of(2L), "text"), values);
+
+        Object nested = doc.read(txn -> arr.get(txn, 1).toJava());
+        assertEquals(List.of("a", true), nested);
+        doc.destroy();
+    }
+
+    @Test
+    public void yOutputVisitor() {
+        YDoc doc = createYDocWithId(1);
+        YArray arr = YArray.createWithDocAndName(doc, "test");
+
+        doc.write(txn -> arr.insertRange(txn, 0, new YInput[]{
+                YInput.createJsonArray(new YInput[]{
+                        YInput.createLong(1),
+                        YInput.createJsonMap(new String[]{"x"}, new YInput[]{YInput.createString("a")}),
+                        YInput.createNull()
+                }),
+                YInput.createYText("text")
+        }));
+
+        StringBuilder events = new StringBuilder();
+        YOutputVisitor visitor = new YOutputVisitor() {
+            @Override
+            public void onNull() {
+                events.append("null,");
+            }
+
+            @Override
+            public void onLong(long value) {
+                events.append(value).append(',');
+            }
+
+            @Override
+            public void onString(String value) {
+                events.append(value).append(',');
+            }
+
+            @Override
+            public void startArray(int size) {
+                events.append('[').append(size).append(':');
+            }
+
+            @Override
+            public void endArray() {
+                events.append("],");
+            }
+
+            @Override
+            public void startMap(int size) {
+                events.append('{').append(size).append(':');
+            }
+
+            @Override
+            public void onKey(String key) {
+                events.append(key).append('=');
+            }
+
+            @Override
+            public void endMap() {
+                events.append("},");
+            }
+
+            @Override
+            public void onSharedType(ValueType type, com.sun.jna.Pointer handle) {
+                events.append(type).append(',');
+            }
+        };
+
+        doc.read(txn -> {
+            arr.get(txn, 0).accept(visitor);
+            arr.get(txn, 1).accept(visitor);
+            return null;
+        });
+        assertEquals("[3:1,{1:x=a,},null,],Y_TEXT,", events.toString());
+        doc.destroy();
+    }
+
+    @Test
+    public void yArrayStream() {
+        YDoc doc = createYDocWithId(1);
+        YArray arr = YArray.createWithDocAndName(doc, "test");
+        long[] values = new long[200];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i;
+        }
+        doc.write(txn -> arr.insertLongs(txn, 0, values));
+
+        doc.read(txn -> {
+            Spliterator<YOutput> spliterator = arr.spliterator(txn, 16);
+            assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+            assertEquals(values.length, spliterator.estimateSize());
+
+            try (Stream<YOutput> stream = arr.stream(txn)) {
+                assertArrayEquals(values, stream.mapToLong(YOutput::readLong).toArray());
+            }
+            try (Stream<YOutput> stream = arr.stream(txn)) {
+                assertEquals(3, stream.limit(3).count());
+            }
+
+            long sum = 0;
+            for (Iterator<YOutput> it = arr.iterator(txn); it.hasNext(); ) {
+                sum += it.next().readLong();
+            }
+            assertEquals(199 * 100, sum);
+            return null;
+        });
+        doc.destroy();
+    }
+
+    @Test
+    public void yArrayTypedRanges() {
+        YDoc doc = createYDocWithId(1);
+        YArray arr = YArray.createWithDocAndName(doc, "test");
+        doc.write(txn -> {
+            arr.insertLongs(txn, 0, new long[]{1, 2, 3});
+            arr.insertDoubles(txn, 3, new double[]{4.5});
+            arr.insertStrings(txn, 4, new String[]{"a", null});
+        });
+
+        doc.read(txn -> {
+            long[] longs = new long[3];
+            assertEquals(3, arr.getLongs(txn, 0, 3, longs));
+            assertArrayEquals(new long[]{1, 2, 3}, longs);
+            assertThrows(IllegalStateException.class, () -> arr.getLongs(txn, 2, 2, new long[2]));
+            assertEquals(2, arr.getLongs(txn, 2, 2, longs, true));
+            assertArrayEquals(new long[]{3, 4, 3}, longs);
+
+            double[] doubles = new double[4];
+            assertEquals(4, arr.getDoubles(txn, 0, 4, doubles, true));
+            assertArrayEquals(new double[]{1, 2, 3, 4.5}, doubles);
+
+            String[] strings = new String[4];
+            assertEquals(2, arr.getStrings(txn, 4, 4, strings, true));
+            assertArrayEquals(new String[]{"a", null, null, null}, strings);
+            assertThrows(IllegalStateException.class, () -> arr.getStrings(txn, 4, 2, new String[2]));
+            assertEquals(0, arr.getLongs(txn, 10, 1, longs));
+            return null;
+        });
+        doc.destroy();
+    }
 }
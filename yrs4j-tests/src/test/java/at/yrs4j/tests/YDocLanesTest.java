@@ -0,0 +1,75 @@
+package at.yrs4j.tests;
+
+import at.yrs4j.utils.YDocLanes;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class YDocLanesTest {
+
+    @Test
+    public void tasksOfOneKeyRunInOrder() {
+        try (YDocLanes lanes = new YDocLanes(4)) {
+            List<Integer> order = new ArrayList<>();
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for (int i = 0; i < 1000; i++) {
+                int n = i;
+                futures.add(lanes.execute("room", () -> order.add(n)));
+            }
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+            assertEquals(1000, order.size());
+            for (int i = 0; i < 1000; i++) {
+                assertEquals(i, order.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void keysOnDifferentLanesRunInParallel() throws Exception {
+        try (YDocLanes lanes = new YDocLanes(2)) {
+            String first = "a";
+            String second = "b";
+            // "a" and "b" hash to neighbouring values and thus to different lanes
+            assertTrue(lanes.submit(first, () -> !lanes.inLane(second)).get());
+
+            CountDownLatch latch = new CountDownLatch(1);
+            CompletableFuture<Boolean> blocked = lanes.submit(first, () -> {
+                try {
+                    return latch.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            lanes.execute(second, latch::countDown).get();
+            assertTrue(blocked.get());
+        }
+    }
+
+    @Test
+    public void nestedSubmitRunsInline() throws Exception {
+        try (YDocLanes lanes = new YDocLanes(1)) {
+            assertEquals(42, lanes.submit("room", () -> lanes.submit("room", () -> 42).join()).get());
+            assertFalse(lanes.inLane("room"));
+        }
+    }
+
+    @Test
+    public void failuresCompleteTheFuture() {
+        try (YDocLanes lanes = new YDocLanes(1)) {
+            CompletableFuture<Object> failed = lanes.submit("room", () -> {
+                throw new IllegalStateException("failed");
+            });
+            ExecutionException e = assertThrows(ExecutionException.class, failed::get);
+            assertInstanceOf(IllegalStateException.class, e.getCause());
+            assertThrows(IllegalArgumentException.class, () -> new YDocLanes(0));
+        }
+    }
+}
@@ -1,11 +1,16 @@
 package at.yrs4j.tests;
 
+import at.yrs4j.utils.YKey;
 import at.yrs4j.wrapper.interfaces.*;
 import org.junit.jupiter.api.Test;
 
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 
 
 public class YMapTest extends TestsCommon {
@@ -29,19 +34,157 @@ public class YMapTest extends TestsCommon {
 
         assertEquals(2, map.len(txn));
 
-        map.setTransaction(txn);
-
         YMapIter i = map.iter(txn);
 
         AtomicInteger iterCount = new AtomicInteger();
 
-        for (YMapEntry e: map) {
-            System.out.println("fu");
+        for (Iterator<YMapEntry> it = map.iterator(txn); it.hasNext(); ) {
+            assertNotNull(it.next().getKey());
         }
 
-        map.forEach(e -> iterCount.getAndIncrement());
+        map.stream(txn).forEach(e -> iterCount.getAndIncrement());
 
         assertEquals(2, iterCount.get());
 
     }
+
+    @Test
+    public void yMapPutAllGetAll() {
+        YDoc doc = createYDocWithId(1);
+        YMap map = YMap.createWithDocAndName(doc, "test");
+
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("name", "form");
+        fields.put("count", 3);
+        fields.put("ratio", 0.25);
+        fields.put("valid", true);
+        fields.put("empty", null);
+        fields.put("nested", YInput.createString("input"));
+        doc.write(txn -> map.putAll(txn, fields));
+
+        doc.read(txn -> {
+            assertEquals(6, map.len(txn));
+            Map<String, YOutput> values = map.getAll(txn, List.of("name", "count", "ratio", "valid", "empty", "nested", "missing"));
+            assertEquals(List.of("name", "count", "ratio", "valid", "empty", "nested"), List.copyOf(values.keySet()));
+            assertEquals("form", values.get("name").readString());
+            assertEquals(3, values.get("count").readLong());
+            assertEquals(0.25, values.get("ratio").readFloat());
+            assertTrue(values.get("valid").readBool());
+            assertEquals(ValueType.Y_JSON_NULL, values.get("empty").getTagValueType());
+            assertEquals("input", values.get("nested").readString());
+            return null;
+        });
+
+        assertThrows(IllegalArgumentException.class, () -> doc.write(txn -> map.putAll(txn, Map.of("invalid", new Object()))));
+        doc.destroy();
+    }
+
+    @Test
+    public void yMapToJava() {
+        YDoc doc = createYDocWithId(1);
+        YMap map = YMap.createWithDocAndName(doc, "test");
+
+        doc.write(txn -> {
+            map.insert(txn, "name", YInput.createString("form"));
+            map.insert(txn, "tags", YInput.createJsonArray(new YInput[]{YInput.createString("a")}));
+            map.insert(txn, "nested", YInput.createYMap(new String[]{"count"}, new YInput[]{YInput.createLong(3)}));
+        });
+
+        Map<String, Object> values = doc.read(map::toJava);
+        assertEquals(Map.of("name", "form", "tags", List.of("a"), "nested", Map.of("count", 3L)), values);
+        doc.destroy();
+    }
+
+    @Test
+    public void yMapCachedView() {
+        YDoc doc = createYDocWithId(1);
+        YMap map = YMap.createWithDocAndName(doc, "config");
+        doc.write(txn -> map.putAll(txn, Map.of("a", 1L, "b", "x", "c", true)));
+
+        try (YMapView view = map.cachedView(doc, 2)) {
+            assertEquals(1L, view.get("a"));
+            assertEquals(1L, view.get("a"));
+            assertNull(view.get("missing"));
+            assertEquals(1, view.hits());
+            assertEquals(2, view.misses());
+
+            doc.write(txn -> map.insert(txn, "a", YInput.createLong(2)));
+            assertEquals(2L, view.get("a"));
+            assertEquals(3, view.misses());
+
+            doc.write(txn -> map.insert(txn, "missing", YInput.createString("now")));
+            assertEquals("now", view.get("missing"));
+
+            assertEquals("x", view.get("b"));
+            assertEquals(2, view.size());
+        }
+
+        long maxWeight = YMapView.estimatedSize(2L) + YMapView.estimatedSize("x");
+        try (YMapView view = map.cachedView(doc, maxWeight, YMapView::estimatedSize)) {
+            assertEquals(2L, view.get("a"));
+            assertEquals("x", view.get("b"));
+            assertEquals(maxWeight, view.weight());
+
+            // the least recently used key makes room
+            assertEquals(true, view.get("c"));
+            assertEquals(2, view.size());
+            assertEquals(YMapView.estimatedSize("x") + YMapView.estimatedSize(true), view.weight());
+            assertEquals(2L, view.get("a"));
+            assertEquals(4, view.misses());
+
+            view.invalidateAll();
+            assertEquals(0, view.weight());
+        }
+
+        // a value heavier than the whole cache is not cached
+        try (YMapView view = map.cachedView(doc, 8, YMapView::estimatedSize)) {
+            assertEquals("now", view.get("missing"));
+            assertEquals(0, view.size());
+        }
+
+        byte[] blob = new byte[4096];
+        doc.write(txn -> map.insert(txn, "blob", YInput.createBinary(blob)));
+        try (YMapView view = map.cachedView(doc, 1024, YMapView::estimatedSize)) {
+            assertArrayEquals(blob, (byte[]) view.get("blob"));
+            assertEquals(0, view.size());
+            assertEquals("x", view.get("b"));
+            assertEquals(YMapView.estimatedSize("x"), view.weight());
+
+            // a write transaction reads its own changes
+            try (YTransaction txn = doc.writeTransaction()) {
+                map.insert(txn, "b", YInput.createString("y"));
+                assertEquals("y", view.get(txn, "b"));
+            }
+            assertEquals("y", view.get("b"));
+        }
+        doc.destroy();
+    }
+
+    @Test
+    public void yMapKeys() {
+        YKey title = YKey.of("title");
+        YKey umlaut = YKey.of("grüße");
+        assertSame(title, YKey.of("title"));
+        assertThrows(IllegalArgumentException.class, () -> YKey.of("a\0b"));
+
+        YDoc doc = createYDocWithId(1);
+        YMap map = YMap.createWithDocAndName(doc, "test");
+        YTransaction txn = doc.writeTransaction();
+
+        map.insert(txn, title, YInput.createString("draft"));
+        map.insert(txn, umlaut, YInput.createLong(7));
+        assertEquals("draft", map.get(txn, "title").readString());
+        assertEquals("draft", map.get(txn, title).readString());
+
+        YOutputCursor cursor = YOutputCursor.create();
+        assertSame(cursor, map.get(txn, umlaut, cursor));
+        assertEquals(7, cursor.readLong());
+
+        map.remove(txn, title);
+        assertNull(map.get(txn, title));
+        assertEquals(1, map.len(txn));
+
+        txn.commit();
+        doc.destroy();
+    }
 }
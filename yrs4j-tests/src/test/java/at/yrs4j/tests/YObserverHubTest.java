@@ -0,0 +1,79 @@
+package at.yrs4j.tests;
+
+import at.yrs4j.wrapper.interfaces.EncodingType;
+import at.yrs4j.wrapper.interfaces.YDoc;
+import at.yrs4j.wrapper.interfaces.YEvent;
+import at.yrs4j.wrapper.interfaces.YEvent.Change;
+import at.yrs4j.wrapper.interfaces.YEvent.KeyChange;
+import at.yrs4j.wrapper.interfaces.YInput;
+import at.yrs4j.wrapper.interfaces.YMap;
+import at.yrs4j.wrapper.interfaces.YObserverHub;
+import at.yrs4j.wrapper.interfaces.YSubscription;
+import at.yrs4j.wrapper.interfaces.YText;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class YObserverHubTest extends TestsCommon {
+
+    @Test
+    public void observeText() {
+        List<Runnable> tasks = new ArrayList<>();
+        List<YEvent.TextEvent> events = new ArrayList<>();
+        YDoc doc = createYDocWithId(1);
+        YText txt = YText.createFromDoc(doc, "text");
+
+        try (YObserverHub hub = YObserverHub.create(tasks::add, 16, true)) {
+            hub.observe(txt, EncodingType.Y_OFFSET_UTF16, events::add);
+            doc.write(txn -> txt.insert(txn, 0, "hello", null));
+            doc.write(txn -> txt.insert(txn, 5, " world", null));
+            doc.write(txn -> txt.removeRange(txn, 0, 6));
+
+            // nothing runs on the committing thread
+            assertTrue(events.isEmpty());
+            assertEquals(1, hub.pending());
+            tasks.forEach(Runnable::run);
+
+            assertEquals(1, events.size());
+            assertEquals(List.of(new Change(Change.Kind.INSERT, 1, List.of("world"), Map.of())), events.get(0).delta());
+        }
+        doc.destroy();
+    }
+
+    @Test
+    public void observeMap() {
+        List<Runnable> tasks = new ArrayList<>();
+        List<YEvent.MapEvent> events = new ArrayList<>();
+        List<List<YEvent>> deep = new ArrayList<>();
+        YDoc doc = createYDocWithId(1);
+        YMap map = YMap.createWithDocAndName(doc, "map");
+
+        try (YObserverHub hub = YObserverHub.create(tasks::add)) {
+            YSubscription subscription = hub.observe(map, events::add);
+            hub.observeDeep(map, deep::add);
+            doc.write(txn -> map.insert(txn, "a", YInput.createLong(1)));
+            doc.write(txn -> map.insert(txn, "a", YInput.createLong(2)));
+            tasks.forEach(Runnable::run);
+            tasks.clear();
+
+            assertEquals(2, events.size());
+            assertEquals(Map.of("a", new KeyChange(KeyChange.Kind.UPDATE, 1L, 2L)), events.get(1).keys());
+            assertEquals(2, deep.size());
+            assertInstanceOf(YEvent.MapEvent.class, deep.get(0).get(0));
+
+            subscription.destroy();
+            doc.write(txn -> map.remove(txn, "a"));
+            tasks.forEach(Runnable::run);
+            assertEquals(2, events.size());
+            assertEquals(3, deep.size());
+            assertEquals(0, hub.dropped());
+        }
+        doc.destroy();
+    }
+}
@@ -1,10 +1,30 @@
 package at.yrs4j.tests;
 
+import at.yrs4j.utils.EditScript;
+import at.yrs4j.wrapper.interfaces.EncodingType;
+import at.yrs4j.wrapper.interfaces.YAttributes;
 import at.yrs4j.wrapper.interfaces.YDoc;
+import at.yrs4j.wrapper.interfaces.YOptions;
 import at.yrs4j.wrapper.interfaces.YText;
+import at.yrs4j.wrapper.interfaces.YTextMirror;
+import at.yrs4j.wrapper.interfaces.YTextOffsetIndex;
+import at.yrs4j.wrapper.interfaces.YTextOffsetIndex.Unit;
 import at.yrs4j.wrapper.interfaces.YTransaction;
 import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class YTextTest extends TestsCommon {
 
@@ -25,4 +45,141 @@ public class YTextTest extends TestsCommon {
         txn.commit();
     }
 
+    @Test
+    public void yTextApplyEdits() {
+        YDoc doc = createYDocWithId(1);
+        YText txt = YText.createFromDoc(doc, "text");
+        doc.write(txn -> txt.insert(txn, 0, "hello world", null));
+
+        EditScript script = new EditScript()
+                .retain(2).retain(3)
+                .insert(", ").insert("dear")
+                .delete(1).delete(5)
+                .insert("!")
+                .retain(4);
+        assertEquals(5, script.size());
+
+        doc.write(txn -> txt.applyEdits(txn, script));
+        assertEquals("hello, dear!", doc.read(txt::string));
+
+        EditScript delta = EditScript.fromDelta(List.of(
+                Map.of("retain", 7),
+                Map.of("insert", "my ", "attributes", Map.of("bold", true)),
+                Map.of("delete", 4)
+        ), EncodingType.Y_OFFSET_BYTES);
+        doc.write(txn -> txt.applyEdits(txn, delta));
+        assertEquals("hello, my !", doc.read(txt::string));
+
+        // equal attribute maps of consecutive inserts are one operation
+        EditScript bold = EditScript.fromDelta(List.of(
+                Map.of("insert", "a", "attributes", Map.of("bold", true)),
+                Map.of("insert", "b", "attributes", Map.of("bold", true)),
+                Map.of("insert", "c", "attributes", Map.of("bold", false))
+        ), EncodingType.Y_OFFSET_BYTES);
+        assertEquals(2, bold.size());
+        assertThrows(IllegalArgumentException.class, () -> new EditScript().insert("a\0b"));
+        doc.destroy();
+    }
+
+    @Test
+    public void yTextInsertFrom() throws IOException {
+        YOptions options = YOptions.create();
+        options.setEncoding(EncodingType.Y_OFFSET_BYTES);
+        YDoc doc = YDoc.createWithOptions(options);
+        YText txt = YText.createFromDoc(doc, "text");
+        // several chunks, with astral characters
+        String text = "grüße 😀 ".repeat(20_000);
+        byte[] utf8 = text.getBytes(StandardCharsets.UTF_8);
+
+        YTransaction txn = doc.writeTransaction();
+        assertEquals(utf8.length, txt.insertFrom(txn, 0, new StringReader(text)));
+        assertEquals(utf8.length, txt.insertFrom(txn, utf8.length,
+                Channels.newChannel(new ByteArrayInputStream(utf8))));
+        assertEquals(text + text, txt.string(txn));
+        assertThrows(IllegalArgumentException.class, () -> txt.insertFrom(txn, 0, new StringReader("a\0b")));
+        txn.commit();
+        doc.destroy();
+
+        YDoc utf16Doc = createYDocWithId(1);
+        YText utf16Txt = YText.createFromDoc(utf16Doc, "text");
+        YTransaction utf16Txn = utf16Doc.writeTransaction();
+        assertEquals(text.length(), utf16Txt.insertFrom(utf16Txn, 0, new StringReader(text), EncodingType.Y_OFFSET_UTF16));
+        assertEquals(text.length(), utf16Txt.insertFrom(utf16Txn, text.length(),
+                Channels.newChannel(new ByteArrayInputStream(utf8)), EncodingType.Y_OFFSET_UTF16));
+        assertEquals(text + text, utf16Txt.string(utf16Txn));
+        utf16Txn.commit();
+        utf16Doc.destroy();
+    }
+
+    @Test
+    public void yTextOffsetIndex() {
+        YDoc doc = createYDocWithId(1);
+        YText txt = YText.createFromDoc(doc, "text");
+        doc.write(txn -> txt.insert(txn, 0, "a😀", null));
+
+        try (YTextOffsetIndex index = doc.read(txn -> txt.offsetIndex(txn, EncodingType.Y_OFFSET_BYTES))) {
+            assertEquals(3, index.convert(5, Unit.BYTES, Unit.UTF16));
+
+            // "aü😀b"
+            doc.write(txn -> {
+                txt.insert(txn, 1, "ü", null);
+                txt.insert(txn, 7, "b", null);
+            });
+            assertEquals(4, index.length(Unit.CODE_POINTS));
+            assertEquals(5, index.length(Unit.UTF16));
+            assertEquals(3, index.convert(4, Unit.UTF16, Unit.CODE_POINTS));
+            assertEquals(7, index.convert(3, Unit.CODE_POINTS, Unit.BYTES));
+
+            doc.write(txn -> txt.removeRange(txn, 0, 3));
+            assertEquals(2, index.length(Unit.CODE_POINTS));
+            assertEquals(4, index.convert(1, Unit.CODE_POINTS, Unit.BYTES));
+        }
+        doc.destroy();
+    }
+
+    @Test
+    public void yTextMirror() {
+        YDoc doc = createYDocWithId(1);
+        YText txt = YText.createFromDoc(doc, "text");
+        doc.write(txn -> txt.insert(txn, 0, "hello world", null));
+
+        try (YTextMirror mirror = doc.read(txn -> txt.mirror(txn, EncodingType.Y_OFFSET_BYTES))) {
+            assertEquals("hello world", mirror.string());
+
+            doc.write(txn -> {
+                txt.insert(txn, 5, ", grüße", null);
+                txt.removeRange(txn, 14, 6);
+            });
+            assertEquals("hello, grüße", mirror.string());
+            assertEquals((int) doc.read(txt::len), mirror.len());
+            assertEquals("grüße", mirror.substring(7, 14));
+        }
+        doc.destroy();
+    }
+
+    @Test
+    public void yTextAttributes() {
+        YAttributes bold = YAttributes.of(Map.of("bold", true));
+        YAttributes again = YAttributes.of(Map.of("bold", true));
+        assertSame(bold, again);
+        assertEquals(Map.of("size", 12L), YAttributes.of(Map.of("size", 12)).attributes());
+
+        for (int id = 1; id <= 2; id++) {
+            YDoc doc = createYDocWithId(id);
+            YText txt = YText.createFromDoc(doc, "text");
+            doc.write(txn -> {
+                txt.insert(txn, 0, "plain ", null);
+                txt.insert(txn, 6, "bold", bold.getWrappedObject());
+            });
+            assertEquals("plain bold", doc.read(txt::string));
+            assertEquals(2, doc.read(txt::chunks).getLength());
+            doc.destroy();
+        }
+
+        again.destroy();
+        assertFalse(bold.isDestroyed());
+        bold.destroy();
+        assertTrue(bold.isDestroyed());
+        assertThrows(IllegalStateException.class, bold::getWrappedObject);
+    }
 }
@@ -0,0 +1,52 @@
+package at.yrs4j.tests;
+
+import at.yrs4j.wrapper.interfaces.YDoc;
+import at.yrs4j.wrapper.interfaces.YSubscription;
+import at.yrs4j.wrapper.interfaces.YText;
+import at.yrs4j.wrapper.interfaces.YTransactionChange;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class YTransactionChangeTest extends TestsCommon {
+
+    @Test
+    public void afterTransaction() {
+        List<YTransactionChange> changes = new ArrayList<>();
+        YDoc doc = createYDocWithId(7);
+        YText txt = YText.createFromDoc(doc, "text");
+        YSubscription subscription = doc.observeAfterTransaction(changes::add);
+
+        doc.write(txn -> txt.insert(txn, 0, "hello", null));
+        doc.write(txn -> txt.removeRange(txn, 1, 2));
+
+        assertEquals(2, changes.size());
+        YTransactionChange insert = changes.get(0);
+        assertEquals(0, insert.before().clock(7));
+        assertArrayEquals(new long[]{7}, insert.after().clients());
+        assertArrayEquals(new int[]{5}, insert.after().clocks());
+        assertEquals(5, insert.inserted(7));
+        assertTrue(insert.deleteSet().isEmpty());
+
+        YTransactionChange delete = changes.get(1);
+        assertEquals(delete.before(), delete.after());
+        assertEquals(0, delete.inserted(7));
+        assertArrayEquals(new long[]{7}, delete.deleteSet().clients());
+        assertArrayEquals(new int[]{0, 1}, delete.deleteSet().offsets());
+        assertArrayEquals(new int[]{1, 3}, delete.deleteSet().ranges());
+        assertTrue(delete.deleteSet().contains(7, 2));
+        assertFalse(delete.deleteSet().contains(7, 3));
+        assertFalse(delete.isEmpty());
+
+        subscription.destroy();
+        doc.write(txn -> txt.insert(txn, 0, "x", null));
+        assertEquals(2, changes.size());
+        doc.destroy();
+    }
+}
@@ -0,0 +1,168 @@
+package at.yrs4j.tests;
+
+import at.yrs4j.wrapper.BufferTooSmallException;
+import at.yrs4j.wrapper.interfaces.*;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class YTransactionTest extends TestsCommon {
+
+    @Test
+    public void byteBufferSync() {
+        YDoc source = YDoc.create();
+        YText txt = YText.createFromDoc(source, "text");
+        YTransaction txn = source.writeTransaction();
+        txt.insert(txn, 0, "hello", null);
+        txn.commit();
+
+        YDoc target = YDoc.create();
+        YTransaction targetTxn = target.readTransaction();
+        ByteBuffer stateVector = ByteBuffer.allocateDirect(64);
+        int svLen = targetTxn.stateVectorV1(stateVector);
+        targetTxn.commit();
+        assertEquals(svLen, stateVector.position());
+        stateVector.flip();
+
+        ByteBuffer diff = ByteBuffer.allocateDirect(1024);
+        txn = source.readTransaction();
+        int diffLen = txn.stateDiffV1(stateVector, diff);
+        txn.commit();
+        assertEquals(0, stateVector.position());
+        assertTrue(diffLen > 0);
+        diff.flip();
+
+        targetTxn = target.writeTransaction();
+        assertEquals(0, targetTxn.apply(diff));
+        targetTxn.commit();
+        assertEquals(diffLen, diff.remaining());
+
+        YText targetTxt = YText.createFromDoc(target, "text");
+        targetTxn = target.readTransaction();
+        assertEquals("hello", targetTxt.string(targetTxn));
+        targetTxn.commit();
+    }
+
+    @Test
+    public void binaryView() {
+        YDoc doc = YDoc.create();
+        YText txt = YText.createFromDoc(doc, "text");
+        YTransaction txn = doc.writeTransaction();
+        txt.insert(txn, 0, "hello", null);
+        txn.commit();
+
+        txn = doc.readTransaction();
+        byte[] expected = txn.stateDiffV1(new byte[]{0});
+        YBinary binary = txn.stateDiffV1Binary(ByteBuffer.wrap(new byte[]{0}));
+        txn.commit();
+
+        assertEquals(expected.length, binary.length());
+        assertArrayEquals(expected, binary.toByteArray());
+        assertTrue(binary.asByteBuffer().isReadOnly());
+
+        binary.close();
+        assertTrue(binary.isDestroyed());
+        assertThrows(IllegalStateException.class, binary::asByteBuffer);
+        binary.close(); // closing twice is a no-op
+    }
+
+    @Test
+    public void destinationTooSmall() {
+        YDoc doc = YDoc.create();
+        YText txt = YText.createFromDoc(doc, "text");
+        YTransaction txn = doc.writeTransaction();
+        txt.insert(txn, 0, "hello", null);
+
+        ByteBuffer dst = ByteBuffer.allocate(1);
+        BufferTooSmallException e = assertThrows(BufferTooSmallException.class, () -> txn.stateDiffV1(ByteBuffer.wrap(new byte[]{0}), dst));
+        assertEquals(0, dst.position());
+        assertEquals(txn.stateDiffV1(new byte[]{0}).length, e.requiredLength());
+
+        ByteBuffer retry = ByteBuffer.allocate(e.requiredLength());
+        assertEquals(e.requiredLength(), txn.stateDiffV1(ByteBuffer.wrap(new byte[]{0}), retry));
+        txn.commit();
+    }
+
+    @Test
+    public void scopedTransactionsAreReleased() {
+        YDoc doc = YDoc.create();
+        YText txt = YText.createFromDoc(doc, "text");
+
+        doc.write(txn -> txt.insert(txn, 0, "hello", null));
+        assertEquals("hello", doc.read(txt::string));
+
+        // the read transaction of read() has been released, otherwise no write transaction could be opened
+        assertThrows(IllegalStateException.class, () -> doc.read(txn -> {
+            throw new IllegalStateException("failed");
+        }));
+        try (YTransaction txn = doc.writeTransaction()) {
+            assertNotNull(txn.getWrappedObject());
+            txt.insert(txn, 5, " world", null);
+        }
+
+        YTransaction reader = doc.readTransaction();
+        assertNull(doc.tryWriteTransaction());
+        reader.close();
+        reader.close();
+        assertTrue(reader.isClosed());
+
+        doc.destroy();
+    }
+
+    @Test
+    public void managedTransactionsQueueWriters() throws Exception {
+        YDoc doc = YDoc.create();
+        YText txt = YText.createFromDoc(doc, "text");
+
+        YTransaction reader = doc.acquireReadTransaction();
+        Thread writer = Thread.ofVirtual().start(() -> doc.write(txn -> txt.insert(txn, 0, "hello", null)));
+        while (doc.transactionMetrics().queueLength() == 0) {
+            Thread.sleep(1);
+        }
+
+        // the waiting writer is served before new readers
+        assertNull(doc.tryReadTransaction());
+        assertNull(doc.tryWriteTransaction(10, TimeUnit.MILLISECONDS));
+        reader.close();
+        writer.join();
+
+        assertEquals("hello", doc.read(txt::string));
+        YTransactionMetrics metrics = doc.transactionMetrics();
+        assertEquals(3, metrics.acquisitions());
+        assertEquals(2, metrics.timeouts());
+        assertTrue(metrics.contended() >= 3);
+        assertTrue(metrics.maxWaitNanos() > 0);
+
+        // transactions opened without the gate are waited for as well
+        YTransaction unmanaged = doc.readTransaction();
+        assertNull(doc.tryWriteTransaction(10, TimeUnit.MILLISECONDS));
+        unmanaged.commit();
+        try (YTransaction txn = doc.tryWriteTransaction(10, TimeUnit.MILLISECONDS)) {
+            assertNotNull(txn);
+        }
+
+        doc.destroy();
+    }
+
+    @Test
+    public void reentrantTransactionsFailFast() {
+        YDoc doc = YDoc.create();
+        YText txt = YText.createFromDoc(doc, "text");
+
+        // a read nested in a write could never be served
+        assertThrows(IllegalStateException.class, () -> doc.write(txn -> doc.read(txt::string)));
+        assertEquals("", doc.read(outer -> doc.read(txt::string)));
+
+        try (YTransaction unmanaged = doc.readTransaction()) {
+            assertNotNull(unmanaged.getWrappedObject());
+            assertThrows(IllegalStateException.class, () -> doc.write(txn -> txt.insert(txn, 0, "x", null)));
+        }
+        doc.write(txn -> txt.insert(txn, 0, "hello", null));
+        assertEquals("hello", doc.read(txt::string));
+
+        doc.destroy();
+    }
+}
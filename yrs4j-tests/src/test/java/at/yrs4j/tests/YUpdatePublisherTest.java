@@ -0,0 +1,111 @@
+package at.yrs4j.tests;
+
+import at.yrs4j.wrapper.interfaces.EncodingVersion;
+import at.yrs4j.wrapper.interfaces.YDoc;
+import at.yrs4j.wrapper.interfaces.YText;
+import at.yrs4j.wrapper.interfaces.YTransaction;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class YUpdatePublisherTest extends TestsCommon {
+
+    @Test
+    public void updatesMergedWhileLagging() {
+        List<Runnable> tasks = new ArrayList<>();
+        Collector collector = new Collector();
+        YDoc doc = createYDocWithId(1);
+        YText txt = YText.createFromDoc(doc, "text");
+        doc.write(txn -> txt.insert(txn, 0, "before", null));
+        YDoc target = createYDocWithId(2);
+        byte[] targetState = target.read(YTransaction::stateVectorV1);
+        byte[] initial = doc.read(txn -> txn.stateDiffV1(targetState));
+
+        doc.updates(EncodingVersion.V1, tasks::add).subscribe(collector);
+        collector.subscription.request(1);
+        doc.write(txn -> txt.insert(txn, 6, " one", null));
+        run(tasks);
+        assertEquals(1, collector.updates.size());
+
+        // no demand, the next three updates wait as one diff
+        doc.write(txn -> txt.insert(txn, 10, " two", null));
+        doc.write(txn -> txt.insert(txn, 14, " three", null));
+        doc.write(txn -> txt.removeRange(txn, 0, 7));
+        assertTrue(tasks.isEmpty());
+        collector.subscription.request(5);
+        run(tasks);
+        assertEquals(2, collector.updates.size());
+
+        try (YTransaction txn = target.writeTransaction()) {
+            assertEquals(0, txn.apply(initial));
+            for (byte[] update : collector.updates) {
+                assertEquals(0, txn.apply(update));
+            }
+        }
+        YText targetTxt = YText.createFromDoc(target, "text");
+        assertEquals("one two three", target.read(targetTxt::string));
+
+        collector.subscription.cancel();
+        doc.write(txn -> txt.insert(txn, 0, "after", null));
+        run(tasks);
+        assertEquals(2, collector.updates.size());
+        assertNull(collector.error);
+
+        target.destroy();
+        doc.destroy();
+    }
+
+    @Test
+    public void nonPositiveRequest() {
+        List<Runnable> tasks = new ArrayList<>();
+        Collector collector = new Collector();
+        YDoc doc = createYDocWithId(1);
+
+        doc.updates(EncodingVersion.V2, tasks::add).subscribe(collector);
+        collector.subscription.request(0);
+        run(tasks);
+        assertInstanceOf(IllegalArgumentException.class, collector.error);
+        doc.destroy();
+    }
+
+    private static void run(List<Runnable> tasks) {
+        while (!tasks.isEmpty()) {
+            tasks.remove(0).run();
+        }
+    }
+
+    private static final class Collector implements Flow.Subscriber<ByteBuffer> {
+        private final List<byte[]> updates = new ArrayList<>();
+        private Flow.Subscription subscription;
+        private Throwable error;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(ByteBuffer item) {
+            byte[] update = new byte[item.remaining()];
+            item.get(update);
+            updates.add(update);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+        }
+    }
+}
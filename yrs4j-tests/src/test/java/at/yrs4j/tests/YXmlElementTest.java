@@ -1,5 +1,6 @@
 package at.yrs4j.tests;
 
+import at.yrs4j.utils.YKey;
 import at.yrs4j.wrapper.interfaces.*;
 import org.junit.jupiter.api.Test;
 
@@ -38,6 +39,25 @@ public class YXmlElementTest extends TestsCommon{
         assertEquals("value4", d);
     }
 
+    @Test
+    public void YXmlElement_keyAttrs() {
+        YKey href = YKey.of("href");
+        YDoc doc = createYDocWithId(1);
+        YXmlElement frag = YXmlElement.createWithDocAndName(doc, "test");
+        YTransaction txn = doc.writeTransaction();
+        YXmlElement xml = frag.insertElem(txn, 0, "a");
+
+        xml.insertAttr(txn, href, "https://example.org");
+        assertEquals("https://example.org", xml.getAttr(txn, href));
+        assertEquals("https://example.org", xml.getAttr(txn, "href"));
+
+        xml.removeAttr(txn, href);
+        assertNull(xml.getAttr(txn, href));
+
+        txn.commit();
+        doc.destroy();
+    }
+
     @Test
     public void YXmlElement_iterator() {
         YDoc doc = createYDocWithId(1);
@@ -0,0 +1,49 @@
+package at.yrs4j.tests;
+
+import at.yrs4j.api.DirectMappedYrsLib;
+import at.yrs4j.api.Yrs4J;
+import at.yrs4j.wrapper.interfaces.*;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+public class Yrs4JTest extends TestsCommon {
+
+    @Test
+    public void directMappingInstalled() {
+        assertInstanceOf(DirectMappedYrsLib.class, Yrs4J.YRS_INSTANCE);
+    }
+
+    @Test
+    public void directMappedRoundTrip() {
+        YDoc source = YDoc.create();
+        YMap map = YMap.createWithDocAndName(source, "map");
+        YText txt = YText.createFromDoc(source, "text");
+        YTransaction txn = source.writeTransaction();
+        map.insert(txn, "key", YInput.createString("value"));
+        txt.insert(txn, 0, "hello world", null);
+        txt.removeRange(txn, 5, 6);
+        txn.commit();
+
+        YDoc target = YDoc.create();
+        YTransaction targetTxn = target.readTransaction();
+        byte[] stateVector = targetTxn.stateVectorV1();
+        targetTxn.commit();
+
+        txn = source.readTransaction();
+        byte[] diff = txn.stateDiffV1(stateVector);
+        txn.commit();
+
+        targetTxn = target.writeTransaction();
+        assertEquals(0, targetTxn.apply(diff));
+        targetTxn.commit();
+
+        YMap targetMap = YMap.createWithDocAndName(target, "map");
+        YText targetTxt = YText.createFromDoc(target, "text");
+        targetTxn = target.readTransaction();
+        assertEquals("value", targetMap.get(targetTxn, "key").readString());
+        assertEquals("hello", targetTxt.string(targetTxn));
+        targetTxn.commit();
+    }
+}
@@ -1,22 +1,67 @@
 package at.yrs4j.websocket;
 
+import at.yrs4j.utils.YDocLanes;
+import at.yrs4j.wrapper.interfaces.YBinary;
 import at.yrs4j.wrapper.interfaces.YDoc;
 import at.yrs4j.wrapper.interfaces.YTransaction;
 import at.yrs4j.websocket.protocol.YWebSocketMessage;
 import at.yrs4j.websocket.protocol.SyncMessageBuilder;
 import at.yrs4j.websocket.protocol.MessageType;
 
+import java.nio.ByteBuffer;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 /**
- * Manages Y-CRDT document synchronization for WebSocket connections
+ * Manages Y-CRDT document synchronization for WebSocket connections. <br>
+ * Documents are not thread-safe, work on a room's document should be submitted with {@link #submit(String, Function)},
+ * which serializes it on the lane of the room. <br>
+ * Lanes created by the manager itself are shut down by {@link #close()}, lanes passed in are left to the caller.
  */
-public class YDocumentManager {
+public class YDocumentManager implements AutoCloseable {
+    private final YDocLanes lanes;
+    private final boolean ownsLanes;
     private final Map<String, YDoc> documents = new ConcurrentHashMap<>();
     private final Map<String, String> clientToRoom = new ConcurrentHashMap<>();
     private final Map<String, Map<String, byte[]>> roomAwareness = new ConcurrentHashMap<>();
     
+    public YDocumentManager() {
+        this(new YDocLanes(), true);
+    }
+    
+    /**
+     * @param lanes lanes to run the work on the documents on, not closed by {@link #close()}
+     */
+    public YDocumentManager(YDocLanes lanes) {
+        this(lanes, false);
+    }
+    
+    private YDocumentManager(YDocLanes lanes, boolean ownsLanes) {
+        this.lanes = lanes;
+        this.ownsLanes = ownsLanes;
+    }
+    
+    /**
+     * Shuts down the lanes created by this manager, already submitted tasks still run. Lanes passed to the constructor
+     * stay open. The documents are not destroyed, use {@link #cleanup()} before.
+     */
+    @Override
+    public void close() {
+        if (ownsLanes) {
+            lanes.close();
+        }
+    }
+    
+    /**
+     * Run a task with the document of a room on the lane of the room. Tasks of one room run one after the other in
+     * submission order, tasks of different rooms may run in parallel.
+     */
+    public <T> CompletableFuture<T> submit(String roomName, Function<YDoc, T> task) {
+        return lanes.submit(roomName, () -> task.apply(getOrCreateDocument(roomName)));
+    }
+    
     /**
      * Get or create a document for a room
      */
@@ -57,27 +102,39 @@ public class YDocumentManager {
      */
     public byte[] applyUpdate(String roomName, byte[] update) {
         YDoc doc = getOrCreateDocument(roomName);
-        YTransaction txn = doc.writeTransaction();
-        try {
+        try (YTransaction txn = doc.writeTransaction()) {
             int result = txn.apply(update);
             if (result != 0) {
                 throw new RuntimeException("Failed to apply update: " + result);
             }
-            txn.commit();
             return update; // Return the same update for broadcasting
         } catch (Exception e) {
             throw new RuntimeException("Error applying update", e);
         }
     }
     
+    /**
+     * Apply the remaining bytes of the buffer as update to a document, direct buffers are passed to yrs without copying
+     */
+    public void applyUpdate(String roomName, ByteBuffer update) {
+        YDoc doc = getOrCreateDocument(roomName);
+        try (YTransaction txn = doc.writeTransaction()) {
+            int result = txn.apply(update);
+            if (result != 0) {
+                throw new RuntimeException("Failed to apply update: " + result);
+            }
+        } catch (Exception e) {
+            throw new RuntimeException("Error applying update", e);
+        }
+    }
+    
     /**
      * Get state vector for a document
      */
     public byte[] getStateVector(String roomName) {
         YDoc doc = getOrCreateDocument(roomName);
-        YTransaction txn = doc.readTransaction();
         try {
-            return txn.stateVectorV1();
+            return doc.read(YTransaction::stateVectorV1);
         } catch (Exception e) {
             throw new RuntimeException("Error getting state vector", e);
         }
@@ -88,14 +145,27 @@ public class YDocumentManager {
      */
     public byte[] getStateDiff(String roomName, byte[] stateVector) {
         YDoc doc = getOrCreateDocument(roomName);
-        YTransaction txn = doc.readTransaction();
         try {
-            return txn.stateDiffV1(stateVector);
+            return doc.read(txn -> txn.stateDiffV1(stateVector));
         } catch (Exception e) {
             throw new RuntimeException("Error getting state diff", e);
         }
     }
     
+    /**
+     * Get state vector for a document as native memory, the caller has to close it
+     */
+    public YBinary getStateVectorBinary(String roomName) {
+        return getOrCreateDocument(roomName).read(YTransaction::stateVectorV1Binary);
+    }
+    
+    /**
+     * Get state diff for the remaining bytes of the state vector as native memory, the caller has to close it
+     */
+    public YBinary getStateDiffBinary(String roomName, ByteBuffer stateVector) {
+        return getOrCreateDocument(roomName).read(txn -> txn.stateDiffV1Binary(stateVector));
+    }
+    
     /**
      * Update awareness information for a client
      */
@@ -126,13 +196,10 @@ public class YDocumentManager {
      * Cleanup all resources
      */
     public void cleanup() {
-        documents.values().forEach(doc -> {
-            try {
-                doc.destroy();
-            } catch (Exception e) {
-                // Ignore cleanup errors
-            }
-        });
+        // documents are destroyed on their lane, after the tasks already submitted for them
+        CompletableFuture.allOf(documents.entrySet().stream()
+                .map(entry -> lanes.execute(entry.getKey(), entry.getValue()::destroy).exceptionally(e -> null)) // Ignore cleanup errors
+                .toArray(CompletableFuture[]::new)).join();
         documents.clear();
         clientToRoom.clear();
         roomAwareness.clear();
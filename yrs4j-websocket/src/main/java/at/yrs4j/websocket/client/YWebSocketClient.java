@@ -193,31 +193,27 @@ public class YWebSocketClient extends WebSocketClient {
     }
     
     private byte[] getStateVector() {
-        YTransaction txn = document.readTransaction();
         try {
-            return txn.stateVectorV1();
+            return document.read(YTransaction::stateVectorV1);
         } catch (Exception e) {
             throw new RuntimeException("Error getting state vector", e);
         }
     }
     
     private byte[] getStateDiff(byte[] stateVector) {
-        YTransaction txn = document.readTransaction();
         try {
-            return txn.stateDiffV1(stateVector);
+            return document.read(txn -> txn.stateDiffV1(stateVector));
         } catch (Exception e) {
             throw new RuntimeException("Error getting state diff", e);
         }
     }
     
     private void applyUpdate(byte[] update) {
-        YTransaction txn = document.writeTransaction();
-        try {
+        try (YTransaction txn = document.writeTransaction()) {
             int result = txn.apply(update);
             if (result != 0) {
                 throw new RuntimeException("Failed to apply update: " + result);
             }
-            txn.commit();
         } catch (Exception e) {
             throw new RuntimeException("Error applying update", e);
         }
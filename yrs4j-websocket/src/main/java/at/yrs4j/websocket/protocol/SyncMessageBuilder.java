@@ -41,6 +41,17 @@ public class SyncMessageBuilder {
         return new YWebSocketMessage(MessageType.SYNC, payload);
     }
     
+    /**
+     * Encode a complete sync message (message type, sync type and data) ready to be sent, reading the remaining bytes of data
+     */
+    public static ByteBuffer encodeSyncMessage(SyncMessageType syncType, ByteBuffer data) {
+        ByteBuffer encoded = ByteBuffer.allocate(2 + data.remaining());
+        encoded.put((byte) MessageType.SYNC.getValue());
+        encoded.put((byte) syncType.getValue());
+        encoded.put(data.duplicate());
+        return encoded.flip();
+    }
+    
     /**
      * Create an awareness message
      */
@@ -3,6 +3,7 @@ package at.yrs4j.websocket.server;
 import at.yrs4j.websocket.YDocumentManager;
 import at.yrs4j.websocket.YWebSocketHandler;
 import at.yrs4j.websocket.protocol.*;
+import at.yrs4j.wrapper.interfaces.YBinary;
 import org.java_websocket.WebSocket;
 import org.java_websocket.handshake.ClientHandshake;
 import org.java_websocket.server.WebSocketServer;
@@ -51,6 +52,18 @@ public class YWebSocketServerImpl extends WebSocketServer {
         System.out.println("Y-WebSocket server started on " + getAddress());
     }
     
+    /**
+     * Stops the server and closes the document manager, {@link #stop()} and {@link #stop(int)} end up here as well
+     */
+    @Override
+    public void stop(int timeout, String closeMessage) throws InterruptedException {
+        try {
+            super.stop(timeout, closeMessage);
+        } finally {
+            documentManager.close();
+        }
+    }
+    
     @Override
     public void onClose(WebSocket conn, int code, String reason, boolean remote) {
         String clientId = connectionIds.remove(conn);
@@ -84,11 +97,16 @@ public class YWebSocketServerImpl extends WebSocketServer {
         
         try {
             byte[] data = new byte[message.remaining()];
-            message.get(data);
+            message.duplicate().get(data);
             
             YWebSocketMessage wsMessage = YWebSocketMessage.decode(data);
             
-            processMessage(clientId, wsMessage);
+            if (wsMessage.getType() == MessageType.SYNC) {
+                // The network buffer is reused once this returns, the decoded payload is owned by the message
+                submitSyncMessage(clientId, wsMessage);
+            } else {
+                processMessage(clientId, wsMessage);
+            }
             
             handler.onMessage(clientId, wsMessage);
             
@@ -115,6 +133,16 @@ public class YWebSocketServerImpl extends WebSocketServer {
         }
     }
     
+    /**
+     * Send an encoded message to a specific client
+     */
+    public void sendMessage(String clientId, ByteBuffer encoded) {
+        WebSocket conn = idToConnection.get(clientId);
+        if (conn != null && conn.isOpen()) {
+            conn.send(encoded.duplicate());
+        }
+    }
+    
     /**
      * Broadcast a message to all clients in a room
      */
@@ -127,6 +155,18 @@ public class YWebSocketServerImpl extends WebSocketServer {
         }
     }
     
+    /**
+     * Broadcast an encoded message to all clients in a room
+     */
+    public void broadcastToRoom(String roomName, ByteBuffer encoded, String excludeClientId) {
+        Map<String, String> clients = documentManager.getClientsInRoom(roomName);
+        for (String clientId : clients.keySet()) {
+            if (!clientId.equals(excludeClientId)) {
+                sendMessage(clientId, encoded);
+            }
+        }
+    }
+    
     /**
      * Join a client to a room
      */
@@ -134,9 +174,13 @@ public class YWebSocketServerImpl extends WebSocketServer {
         documentManager.joinRoom(clientId, roomName);
         
         // Send initial sync
-        byte[] stateVector = documentManager.getStateVector(roomName);
-        YWebSocketMessage syncRequest = SyncMessageBuilder.createSyncRequest(stateVector);
-        sendMessage(clientId, syncRequest);
+        documentManager.submit(roomName, doc -> {
+            sendStateVector(clientId, roomName);
+            return null;
+        }).exceptionally(e -> {
+            handler.onError(clientId, e);
+            return null;
+        });
     }
     
     /**
@@ -151,7 +195,7 @@ public class YWebSocketServerImpl extends WebSocketServer {
         
         switch (message.getType()) {
             case SYNC:
-                processSyncMessage(clientId, roomName, message);
+                submitSyncMessage(clientId, message);
                 break;
             case AWARENESS:
                 processAwarenessMessage(clientId, roomName, message);
@@ -168,35 +212,53 @@ public class YWebSocketServerImpl extends WebSocketServer {
         }
     }
     
-    private void processSyncMessage(String clientId, String roomName, YWebSocketMessage message) {
+    /**
+     * Sync messages touch the document of the room, they are processed on the lane of the room. Messages of one room
+     * are applied in arrival order, rooms are processed in parallel.
+     */
+    private void submitSyncMessage(String clientId, YWebSocketMessage message) {
+        String roomName = documentManager.getClientRoom(clientId);
+        if (roomName == null) {
+            return; // Client not in a room
+        }
+        
+        ByteBuffer payload = ByteBuffer.wrap(message.getPayload());
+        documentManager.submit(roomName, doc -> {
+            processSyncMessage(clientId, roomName, payload);
+            return null;
+        });
+    }
+    
+    private void processSyncMessage(String clientId, String roomName, ByteBuffer payload) {
         if (roomName == null) {
             return; // Client not in a room
         }
         
         try {
-            SyncMessageBuilder.SyncMessage syncMsg = SyncMessageBuilder.parseSyncMessage(message.getPayload());
+            if (!payload.hasRemaining()) {
+                throw new IllegalArgumentException("Invalid sync message payload");
+            }
+            SyncMessageType syncType = SyncMessageType.fromValue(payload.get(payload.position()) & 0xFF);
+            ByteBuffer data = payload.slice(payload.position() + 1, payload.remaining() - 1);
             
-            switch (syncMsg.getType()) {
+            switch (syncType) {
                 case SYNC_REQUEST:
                     // Send our state diff to the client
-                    byte[] stateDiff = documentManager.getStateDiff(roomName, syncMsg.getData());
-                    if (stateDiff.length > 0) {
-                        YWebSocketMessage response = SyncMessageBuilder.createSyncResponse(stateDiff);
-                        sendMessage(clientId, response);
+                    try (YBinary stateDiff = documentManager.getStateDiffBinary(roomName, data)) {
+                        if (stateDiff.length() > 0) {
+                            sendMessage(clientId, SyncMessageBuilder.encodeSyncMessage(SyncMessageType.SYNC_RESPONSE, stateDiff.asByteBuffer()));
+                        }
                     }
                     
                     // Send our state vector to get their updates
-                    byte[] ourStateVector = documentManager.getStateVector(roomName);
-                    YWebSocketMessage request = SyncMessageBuilder.createSyncRequest(ourStateVector);
-                    sendMessage(clientId, request);
+                    sendStateVector(clientId, roomName);
                     break;
                     
                 case SYNC_RESPONSE:
                 case UPDATE:
                     // Apply the update and broadcast to other clients
-                    byte[] update = documentManager.applyUpdate(roomName, syncMsg.getData());
-                    YWebSocketMessage broadcastMsg = SyncMessageBuilder.createUpdate(update);
-                    broadcastToRoom(roomName, broadcastMsg, clientId);
+                    documentManager.applyUpdate(roomName, data);
+                    broadcastToRoom(roomName, SyncMessageBuilder.encodeSyncMessage(SyncMessageType.UPDATE, data), clientId);
                     break;
             }
         } catch (Exception e) {
@@ -204,6 +266,12 @@ public class YWebSocketServerImpl extends WebSocketServer {
         }
     }
     
+    private void sendStateVector(String clientId, String roomName) {
+        try (YBinary stateVector = documentManager.getStateVectorBinary(roomName)) {
+            sendMessage(clientId, SyncMessageBuilder.encodeSyncMessage(SyncMessageType.SYNC_REQUEST, stateVector.asByteBuffer()));
+        }
+    }
+    
     private void processAwarenessMessage(String clientId, String roomName, YWebSocketMessage message) {
         if (roomName == null) {
             return; // Client not in a room
@@ -1,9 +1,14 @@
 package at.yrs4j.websocket;
 
+import at.yrs4j.utils.YDocLanes;
 import at.yrs4j.wrapper.interfaces.YDoc;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.DisabledIf;
+
+import java.util.concurrent.RejectedExecutionException;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -19,6 +24,11 @@ public class YDocumentManagerTest extends WebSocketTestBase {
         manager = new YDocumentManager();
     }
     
+    @AfterEach
+    public void tearDown() {
+        manager.close();
+    }
+    
     @Test
     public void testBasicRoomManagement() {
         manager.joinRoom("client1", "room1");
@@ -94,6 +104,17 @@ public class YDocumentManagerTest extends WebSocketTestBase {
         assertEquals(0, manager.getClientsInRoom("room1").size());
     }
     
+    @Test
+    public void testCloseShutsDownOwnLanesOnly() {
+        manager.close();
+        assertThrows(RejectedExecutionException.class, () -> manager.submit("room1", doc -> null));
+        
+        YDocLanes lanes = new YDocLanes(1);
+        new YDocumentManager(lanes).close();
+        assertEquals(1, lanes.submit("room1", () -> 1).join());
+        lanes.close();
+    }
+    
     // Tests that require native libraries are disabled for now
     // They can be enabled when running with proper native library setup
     
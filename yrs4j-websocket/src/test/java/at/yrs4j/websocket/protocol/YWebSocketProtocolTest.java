@@ -120,6 +120,19 @@ public class YWebSocketProtocolTest {
         assertArrayEquals(update, parsed.getData());
     }
     
+    @Test
+    public void testEncodeSyncMessage() {
+        byte[] update = {100, (byte) 200};
+        java.nio.ByteBuffer data = java.nio.ByteBuffer.allocateDirect(update.length).put(update).flip();
+        
+        java.nio.ByteBuffer encoded = SyncMessageBuilder.encodeSyncMessage(SyncMessageType.UPDATE, data);
+        byte[] bytes = new byte[encoded.remaining()];
+        encoded.get(bytes);
+        
+        assertArrayEquals(SyncMessageBuilder.createUpdate(update).encode(), bytes);
+        assertEquals(0, data.position()); // data buffer is left untouched
+    }
+    
     @Test
     public void testCreateAwareness() {
         byte[] awarenessData = {50, 60, 70};